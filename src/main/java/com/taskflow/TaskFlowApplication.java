@@ -2,10 +2,12 @@ package com.taskflow;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class TaskFlowApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskFlowApplication.class, args);
     }
-}
\ No newline at end of file
+}
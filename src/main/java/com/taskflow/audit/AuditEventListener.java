@@ -0,0 +1,23 @@
+package com.taskflow.audit;
+
+import com.taskflow.task.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds committed task changes into the audit log
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskflow.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AuditEventListener {
+
+    private final AuditLog auditLog;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        auditLog.append(AuditRecord.of(event, System.currentTimeMillis()));
+    }
+}
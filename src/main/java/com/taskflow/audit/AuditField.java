@@ -0,0 +1,35 @@
+package com.taskflow.audit;
+
+import com.taskflow.task.event.TaskSnapshot;
+
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Task fields tracked by the audit log.
+ *
+ * The ordinal is written to disk, so new fields must only be appended.
+ */
+public enum AuditField {
+    TITLE(TaskSnapshot::getTitle),
+    DESCRIPTION(TaskSnapshot::getDescription),
+    STATUS(snapshot -> asString(snapshot.getStatus())),
+    PRIORITY(snapshot -> asString(snapshot.getPriority())),
+    DUE_DATE(snapshot -> asString(snapshot.getDueDate())),
+    PARENT_ID(snapshot -> asString(snapshot.getParentId())),
+    TAGS(snapshot -> snapshot.getTags().isEmpty() ? null : String.join(",", new TreeSet<>(snapshot.getTags())));
+
+    private final Function<TaskSnapshot, String> extractor;
+
+    AuditField(Function<TaskSnapshot, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String valueOf(TaskSnapshot snapshot) {
+        return snapshot != null ? extractor.apply(snapshot) : null;
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,230 @@
+package com.taskflow.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit log of task changes stored in memory-mapped segment files.
+ *
+ * Callers enqueue records; a single writer thread drains the queue in
+ * batches, appends each record with its CRC and forces the segment once per
+ * batch, so the cost of an fsync is shared by every change in the batch.
+ * Readers scan the mapped segments directly, skipping segments outside the
+ * requested time range and seeking within a segment through its sparse
+ * time index.
+ *
+ * Records are queued after the task change commits, so this is a best-effort
+ * history, not a system of record: a crash between the commit and the
+ * batch's fsync loses the queued records, and each instance only logs the
+ * changes it committed itself, so with several instances a task's history
+ * is split across their logs.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskflow.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AuditLog {
+
+    private static final int MAX_BATCH = 512;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024;
+    private static final int MIN_SEGMENT_BYTES = 2 * MAX_PAYLOAD_BYTES;
+
+    private final AuditProperties properties;
+    private final BlockingQueue<AuditRecord> queue;
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong appended = new AtomicLong();
+    private final Object processedMonitor = new Object();
+    private long processed;
+
+    // Writer thread only
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_PAYLOAD_BYTES);
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public AuditLog(AuditProperties properties) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (properties.getSegmentSize().toBytes() < MIN_SEGMENT_BYTES
+                || properties.getSegmentSize().toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("taskflow.audit.segment-size must be between "
+                    + MIN_SEGMENT_BYTES + " bytes and 2GB");
+        }
+
+        Path directory = properties.getDirectory();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(".audit")).sorted().toList()) {
+                String name = file.getFileName().toString();
+                segments.add(AuditSegment.open(file, Long.parseLong(name.substring(0, name.indexOf('.')))));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(AuditSegment.create(directory, 0, segmentSize()));
+        }
+        // Continue from the newest recovered record, so timestamps stay ordered across restarts
+        for (AuditSegment segment : segments) {
+            lastTimestamp = Math.max(lastTimestamp, segment.getLastTimestamp());
+        }
+
+        running = true;
+        writer = new Thread(this::runWriter, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Audit log started in {} with {} segment(s)", directory.toAbsolutePath(), segments.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (AuditSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close audit segment {}", segment.getId(), e);
+            }
+        }
+        segments.clear();
+    }
+
+    /**
+     * Queue a record for writing; blocks while the queue is full
+     */
+    public void append(AuditRecord record) {
+        try {
+            queue.put(record);
+            appended.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while auditing change of task {}", record.taskId());
+        }
+    }
+
+    /**
+     * Wait until every record appended so far has been written and forced to disk
+     */
+    public void flush() throws InterruptedException {
+        long target = appended.get();
+        synchronized (processedMonitor) {
+            while (processed < target) {
+                processedMonitor.wait();
+            }
+        }
+    }
+
+    /**
+     * Durable records of one task with a timestamp in {@code [from, to]}, oldest first.
+     * Null bounds are open.
+     */
+    public List<AuditRecord> history(long taskId, Instant from, Instant to) {
+        long fromMillis = from != null ? from.toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = to != null ? to.toEpochMilli() : Long.MAX_VALUE;
+
+        List<AuditRecord> records = new ArrayList<>();
+        for (AuditSegment segment : segments) {
+            if (segment.overlaps(fromMillis, toMillis)) {
+                segment.scan(taskId, fromMillis, toMillis, records);
+            }
+        }
+        return records;
+    }
+
+    private void runWriter() {
+        List<AuditRecord> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} audit record(s)", batch.size(), e);
+            } finally {
+                markProcessed(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<AuditRecord> batch) {
+        AuditSegment active = segments.get(segments.size() - 1);
+        for (AuditRecord record : batch) {
+            // Timestamps never decrease within the log, which the time index relies on
+            lastTimestamp = Math.max(lastTimestamp, record.timestamp());
+            scratch.clear();
+            try {
+                record.withTimestamp(lastTimestamp).encode(scratch);
+            } catch (BufferOverflowException | IllegalArgumentException e) {
+                log.error("Audit record for task {} is too large; skipping it", record.taskId(), e);
+                continue;
+            }
+            scratch.flip();
+
+            if (!active.hasRoom(scratch.remaining())) {
+                active = roll(active);
+            }
+            active.append(lastTimestamp, scratch);
+        }
+        active.force();
+    }
+
+    private AuditSegment roll(AuditSegment active) {
+        active.force();
+        try {
+            AuditSegment next = AuditSegment.create(properties.getDirectory(), active.getId() + 1, segmentSize());
+            segments.add(next);
+            log.info("Audit log rolled to segment {}", next.getId());
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create audit segment " + (active.getId() + 1), e);
+        }
+    }
+
+    private void markProcessed(int count) {
+        synchronized (processedMonitor) {
+            processed += count;
+            processedMonitor.notifyAll();
+        }
+    }
+
+    private int segmentSize() {
+        return (int) properties.getSegmentSize().toBytes();
+    }
+}
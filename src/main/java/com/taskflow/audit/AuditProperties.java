@@ -0,0 +1,32 @@
+package com.taskflow.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for the file-based task audit log
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the memory-mapped segment files
+     */
+    private Path directory = Path.of("data", "audit");
+
+    /**
+     * Size of each segment file; a new segment is started when a record does not fit
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Records waiting for the writer thread; appends block when it is full
+     */
+    private int queueCapacity = 10_000;
+}
@@ -0,0 +1,105 @@
+package com.taskflow.audit;
+
+import com.taskflow.task.event.TaskChangedEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One audited task change.
+ *
+ * Binary payload layout (big-endian):
+ * <pre>
+ * long  taskId
+ * long  timestamp (epoch millis)
+ * byte  change type ordinal
+ * byte  number of field changes
+ * per change: byte field ordinal, string old value, string new value
+ * </pre>
+ * Strings are a signed short byte length ({@code -1} for null) followed by UTF-8 bytes.
+ * The task ID and timestamp lead the payload so readers can filter without decoding.
+ */
+public record AuditRecord(long taskId,
+                          long timestamp,
+                          TaskChangedEvent.ChangeType changeType,
+                          List<FieldChange> changes) {
+
+    static final int TASK_ID_OFFSET = 0;
+    static final int TIMESTAMP_OFFSET = 8;
+
+    public record FieldChange(AuditField field, String oldValue, String newValue) {
+    }
+
+    /**
+     * Build the record for a committed change: every set field on create,
+     * only the changed fields on update and none on delete
+     */
+    public static AuditRecord of(TaskChangedEvent event, long timestamp) {
+        List<FieldChange> changes = new ArrayList<>();
+        if (!event.isRemoval()) {
+            for (AuditField field : AuditField.values()) {
+                String oldValue = field.valueOf(event.getBefore());
+                String newValue = field.valueOf(event.getAfter());
+                if (!Objects.equals(oldValue, newValue)) {
+                    changes.add(new FieldChange(field, oldValue, newValue));
+                }
+            }
+        }
+        return new AuditRecord(event.getTaskId(), timestamp, event.getType(), changes);
+    }
+
+    AuditRecord withTimestamp(long newTimestamp) {
+        return newTimestamp == timestamp ? this : new AuditRecord(taskId, newTimestamp, changeType, changes);
+    }
+
+    void encode(ByteBuffer target) {
+        target.putLong(taskId);
+        target.putLong(timestamp);
+        target.put((byte) changeType.ordinal());
+        target.put((byte) changes.size());
+        for (FieldChange change : changes) {
+            target.put((byte) change.field().ordinal());
+            putString(target, change.oldValue());
+            putString(target, change.newValue());
+        }
+    }
+
+    static AuditRecord decode(ByteBuffer source) {
+        long taskId = source.getLong();
+        long timestamp = source.getLong();
+        TaskChangedEvent.ChangeType changeType = TaskChangedEvent.ChangeType.values()[source.get()];
+        int count = source.get();
+        List<FieldChange> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AuditField field = AuditField.values()[source.get()];
+            changes.add(new FieldChange(field, getString(source), getString(source)));
+        }
+        return new AuditRecord(taskId, timestamp, changeType, changes);
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        if (value == null) {
+            target.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Audited value too long: " + bytes.length + " bytes");
+        }
+        target.putShort((short) bytes.length);
+        target.put(bytes);
+    }
+
+    private static String getString(ByteBuffer source) {
+        int length = source.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
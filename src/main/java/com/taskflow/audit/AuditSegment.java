@@ -0,0 +1,228 @@
+package com.taskflow.audit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * One fixed-size, memory-mapped audit log file.
+ *
+ * Each record is framed as {@code int payloadLength, int crc32(payload), payload}.
+ * The file is zero-filled on creation, so a zero length marks the end of the
+ * written data. Only the writer thread appends; readers scan up to the last
+ * position made durable by {@link #force()} using absolute reads on the
+ * shared mapping, decoding only the records they return.
+ */
+@Slf4j
+final class AuditSegment implements AutoCloseable {
+
+    static final int FRAME_HEADER_BYTES = 8;
+
+    /**
+     * Every n-th record is added to the sparse time index
+     */
+    private static final int INDEX_INTERVAL = 64;
+
+    @Getter
+    private final long id;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32 writeCrc = new CRC32();
+
+    // Writer thread only
+    private int writePosition;
+    private int recordCount;
+
+    private volatile int committedPosition;
+    private volatile long firstTimestamp = Long.MAX_VALUE;
+    @Getter
+    private volatile long lastTimestamp = Long.MIN_VALUE;
+
+    // Sparse index: timestamps[i] is the timestamp of the record at offsets[i]
+    private long[] indexTimestamps = new long[16];
+    private int[] indexOffsets = new int[16];
+    private int indexSize;
+
+    private AuditSegment(long id, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static String fileName(long id) {
+        return String.format("%016d.audit", id);
+    }
+
+    static AuditSegment create(Path directory, long id, int size) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(id)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new AuditSegment(id, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    /**
+     * Map an existing segment and recover its write position, index and
+     * time range. A torn or corrupt tail left by a crash is zeroed so that
+     * new records can be appended after the last valid one.
+     */
+    static AuditSegment open(Path file, long id) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        AuditSegment segment = new AuditSegment(id, channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        segment.recover();
+        return segment;
+    }
+
+    boolean hasRoom(int payloadLength) {
+        return writePosition + FRAME_HEADER_BYTES + payloadLength <= buffer.capacity();
+    }
+
+    boolean isEmpty() {
+        return writePosition == 0;
+    }
+
+    /**
+     * Append one encoded record; {@code payload} must be flipped for reading
+     */
+    void append(long timestamp, ByteBuffer payload) {
+        int length = payload.remaining();
+        writeCrc.reset();
+        writeCrc.update(payload.duplicate());
+
+        buffer.putInt(writePosition + 4, (int) writeCrc.getValue());
+        buffer.put(writePosition + FRAME_HEADER_BYTES, payload, payload.position(), length);
+        // Length last: a record is only recognised once it is complete
+        buffer.putInt(writePosition, length);
+
+        track(writePosition, timestamp);
+        writePosition += FRAME_HEADER_BYTES + length;
+    }
+
+    /**
+     * Flush appended records to disk and make them visible to readers
+     */
+    void force() {
+        if (committedPosition != writePosition) {
+            buffer.force();
+            committedPosition = writePosition;
+        }
+    }
+
+    boolean overlaps(long from, long to) {
+        return firstTimestamp <= to && lastTimestamp >= from;
+    }
+
+    /**
+     * Collect the records of one task with {@code from <= timestamp <= to}
+     */
+    void scan(long taskId, long from, long to, List<AuditRecord> out) {
+        int end = committedPosition;
+        int position = startOffset(from);
+        CRC32 crc = new CRC32();
+
+        while (position < end) {
+            int length = buffer.getInt(position);
+            int payloadStart = position + FRAME_HEADER_BYTES;
+            long timestamp = buffer.getLong(payloadStart + AuditRecord.TIMESTAMP_OFFSET);
+            if (timestamp > to) {
+                break;
+            }
+            if (timestamp >= from && buffer.getLong(payloadStart + AuditRecord.TASK_ID_OFFSET) == taskId) {
+                ByteBuffer payload = buffer.slice(payloadStart, length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    log.error("Audit segment {} has a corrupt record at offset {}", id, position);
+                } else {
+                    out.add(AuditRecord.decode(payload));
+                }
+            }
+            position = payloadStart + length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void recover() {
+        int position = 0;
+        CRC32 crc = new CRC32();
+        while (position + FRAME_HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            int payloadStart = position + FRAME_HEADER_BYTES;
+            if (length <= 0 || payloadStart + length > buffer.capacity()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(payloadStart, length);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            track(position, buffer.getLong(payloadStart + AuditRecord.TIMESTAMP_OFFSET));
+            position = payloadStart + length;
+        }
+
+        if (position + 4 <= buffer.capacity() && buffer.getInt(position) != 0) {
+            log.warn("Audit segment {} has a torn tail at offset {}; discarding it", id, position);
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        writePosition = position;
+        committedPosition = position;
+    }
+
+    private void track(int offset, long timestamp) {
+        if (recordCount % INDEX_INTERVAL == 0) {
+            addIndexEntry(timestamp, offset);
+        }
+        recordCount++;
+        if (firstTimestamp == Long.MAX_VALUE) {
+            firstTimestamp = timestamp;
+        }
+        lastTimestamp = timestamp;
+    }
+
+    private synchronized void addIndexEntry(long timestamp, int offset) {
+        if (indexSize == indexOffsets.length) {
+            indexTimestamps = Arrays.copyOf(indexTimestamps, indexSize * 2);
+            indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+        }
+        indexTimestamps[indexSize] = timestamp;
+        indexOffsets[indexSize] = offset;
+        indexSize++;
+    }
+
+    /**
+     * Offset of the last indexed record older than {@code from}; every record
+     * before it is older too because timestamps never decrease
+     */
+    private synchronized int startOffset(long from) {
+        int low = 0;
+        int high = indexSize - 1;
+        int offset = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexTimestamps[mid] < from) {
+                offset = indexOffsets[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.audit.controller;
+
+import com.taskflow.audit.AuditLog;
+import com.taskflow.audit.dto.AuditEntryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "taskflow.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditController {
+
+    private final AuditLog auditLog;
+
+    /**
+     * Audited changes of a task, oldest first. History outlives the task, so
+     * deleted tasks can still be queried.
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<AuditEntryDto>> getTaskHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        log.info("REST request to get history of task: {} (from: {}, to: {})", id, from, to);
+        List<AuditEntryDto> history = auditLog.history(id, from, to).stream()
+                .map(AuditEntryDto::of)
+                .toList();
+        return ResponseEntity.ok(history);
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskflow.audit.dto;
+
+import com.taskflow.audit.AuditField;
+import com.taskflow.audit.AuditRecord;
+import com.taskflow.task.event.TaskChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntryDto {
+    private Long taskId;
+    private TaskChangedEvent.ChangeType changeType;
+    private Instant timestamp;
+    private List<FieldChangeDto> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldChangeDto {
+        private AuditField field;
+        private String oldValue;
+        private String newValue;
+    }
+
+    public static AuditEntryDto of(AuditRecord record) {
+        return new AuditEntryDto(
+                record.taskId(),
+                record.changeType(),
+                Instant.ofEpochMilli(record.timestamp()),
+                record.changes().stream()
+                        .map(change -> new FieldChangeDto(change.field(), change.oldValue(), change.newValue()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,239 @@
+package com.taskflow.common.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Cache bounded by the total weight (e.g. estimated bytes) of its entries,
+ * with W-TinyLFU eviction.
+ *
+ * New entries enter a small LRU window. An entry leaving the window is only
+ * admitted to the main space if it has been requested more often than the
+ * entry it would evict there, according to a {@link FrequencySketch} of all
+ * reads, misses included. The main space is a segmented LRU: entries hit again
+ * move from probation to a protected segment, so one-off scans cannot flush
+ * the popular entries.
+ *
+ * All operations take one lock; they are constant-time except eviction.
+ */
+public class WTinyLfuCache<K, V> {
+
+    // Share of the maximum weight for the admission window and, of the rest, for the protected segment
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private enum Region { WINDOW, PROBATION, PROTECTED }
+
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    // Insertion-ordered, least recently used first
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>();
+    private final FrequencySketch sketch;
+    private final ToLongBiFunction<K, V> weigher;
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maximumWeight   bound on the summed weight of all entries
+     * @param expectedEntries rough number of entries at that weight, to size the sketch
+     * @param weigher         weight of one entry; entries heavier than the bound are not kept
+     */
+    public WTinyLfuCache(long maximumWeight, int expectedEntries, ToLongBiFunction<K, V> weigher) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_SHARE));
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_SHARE);
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.weigher = weigher;
+    }
+
+    /**
+     * @return the cached value, or null on a miss
+     */
+    public synchronized V get(K key) {
+        sketch.increment(key);
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onHit(node);
+        return node.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long weight = weigher.applyAsLong(key, value);
+        Node<K, V> existing = data.get(key);
+        if (existing != null) {
+            remove(existing);
+        }
+        if (weight > maximumWeight) {
+            return;
+        }
+        Node<K, V> node = new Node<>(key, value, weight);
+        data.put(key, node);
+        append(node, Region.WINDOW);
+        evict();
+    }
+
+    public synchronized void invalidate(K key) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            remove(node);
+        }
+    }
+
+    public synchronized void clear() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    public synchronized int size() {
+        return data.size();
+    }
+
+    public synchronized long weightedSize() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void onHit(Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW -> {
+                window.remove(node.key);
+                window.put(node.key, node);
+            }
+            case PROBATION -> {
+                unlink(node);
+                append(node, Region.PROTECTED);
+                // Demoted entries get another chance in probation
+                while (protectedWeight > protectedMaximum && protectedSegment.size() > 1) {
+                    Node<K, V> demoted = first(protectedSegment);
+                    unlink(demoted);
+                    append(demoted, Region.PROBATION);
+                }
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(node.key);
+                protectedSegment.put(node.key, node);
+            }
+        }
+    }
+
+    private void evict() {
+        long mainMaximum = maximumWeight - windowMaximum;
+        while (windowWeight > windowMaximum) {
+            Node<K, V> candidate = first(window);
+            unlink(candidate);
+            admit(candidate, mainMaximum);
+        }
+    }
+
+    /**
+     * Move a window entry to probation if it is more popular than each main
+     * entry that has to make room for it; otherwise drop it
+     */
+    private void admit(Node<K, V> candidate, long mainMaximum) {
+        while (probationWeight + protectedWeight + candidate.weight > mainMaximum) {
+            Node<K, V> victim = !probation.isEmpty() ? first(probation) : first(protectedSegment);
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                data.remove(candidate.key);
+                evictions++;
+                return;
+            }
+            remove(victim);
+            evictions++;
+        }
+        append(candidate, Region.PROBATION);
+    }
+
+    private void append(Node<K, V> node, Region region) {
+        node.region = region;
+        switch (region) {
+            case WINDOW -> {
+                window.put(node.key, node);
+                windowWeight += node.weight;
+            }
+            case PROBATION -> {
+                probation.put(node.key, node);
+                probationWeight += node.weight;
+            }
+            case PROTECTED -> {
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+            }
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW -> {
+                window.remove(node.key);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(node.key);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        unlink(node);
+        data.remove(node.key);
+    }
+
+    private static <K, V> Node<K, V> first(LinkedHashMap<K, Node<K, V>> segment) {
+        Iterator<Node<K, V>> nodes = segment.values().iterator();
+        return nodes.hasNext() ? nodes.next() : null;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        Region region;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskflow.common.deadline;
+
+import com.taskflow.common.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which the current request must be done.
+ *
+ * Bound to the request thread by {@link DeadlineInterceptor}; code further
+ * down reads it from there instead of taking it as a parameter, the same way
+ * the transaction travels with the thread.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final Duration timeout;
+    private final long expiresAtNanos;
+
+    private Deadline(Duration timeout) {
+        this.timeout = timeout;
+        this.expiresAtNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(timeout);
+    }
+
+    /**
+     * Deadline of the request running on this thread, or null outside requests
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @throws DeadlineExceededException if no time is left
+     */
+    public void check() {
+        if (isExpired()) {
+            throw new DeadlineExceededException(timeout);
+        }
+    }
+
+    /**
+     * Remaining time as a JDBC query timeout, which only has whole seconds:
+     * rounded up, and at least 1 since 0 means no limit
+     */
+    public int remainingQueryTimeoutSeconds() {
+        long millis = remaining().toMillis();
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (millis + 999) / 1000));
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskflow.common.deadline;
+
+import com.taskflow.common.exception.DeadlineExceededException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Applies the current request's {@link Deadline} to database access.
+ *
+ * Waiting for a pooled connection is bounded by the remaining time instead
+ * of the pool's connection timeout, and fails at once when none is left.
+ * Every statement created on the connection gets the remaining time as its
+ * query timeout, so the driver cancels a query on the server when the
+ * request's time is up. Outside requests nothing changes.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public DeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return super.getConnection();
+        }
+        deadline.check();
+        return withStatementTimeouts(acquire(deadline));
+    }
+
+    private Connection acquire(Deadline deadline) throws SQLException {
+        // The pool only exists once the first connection has been handed out
+        if (!(obtainTargetDataSource() instanceof HikariDataSource hikari)
+                || !(hikari.getHikariPoolMXBean() instanceof HikariPool pool)) {
+            return super.getConnection();
+        }
+        long timeoutMillis = Math.min(hikari.getConnectionTimeout(), Math.max(1, deadline.remaining().toMillis()));
+        try {
+            return pool.getConnection(timeoutMillis);
+        } catch (SQLTransientConnectionException e) {
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException(deadline.getTimeout(), e);
+            }
+            throw e;
+        }
+    }
+
+    private static Connection withStatementTimeouts(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    Deadline deadline = Deadline.current();
+                    if (deadline != null && result instanceof Statement statement
+                            && STATEMENT_FACTORIES.contains(method.getName())) {
+                        if (deadline.isExpired()) {
+                            statement.close();
+                            throw new DeadlineExceededException(deadline.getTimeout());
+                        }
+                        statement.setQueryTimeout(deadline.remainingQueryTimeoutSeconds());
+                    }
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskflow.common.deadline;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Binds a {@link Deadline} to the request thread for the duration of the
+ * handler: the client's header if present, else the handler's
+ * {@link RequestDeadline}, else the configured default, capped at the
+ * configured maximum.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private final DeadlineProperties properties;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        Duration timeout = requestedTimeout(request);
+        if (timeout == null) {
+            timeout = handlerTimeout(handler);
+        }
+        if (timeout.compareTo(properties.getMaxTimeout()) > 0) {
+            timeout = properties.getMaxTimeout();
+        }
+        Deadline.set(Deadline.after(timeout));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        Deadline.clear();
+    }
+
+    private Duration requestedTimeout(HttpServletRequest request) {
+        String header = request.getHeader(properties.getHeader());
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            Duration timeout = DurationStyle.detectAndParse(header.trim());
+            return timeout.isNegative() || timeout.isZero() ? null : timeout;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring invalid {} header: {}", properties.getHeader(), header);
+            return null;
+        }
+    }
+
+    private Duration handlerTimeout(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestDeadline deadline = handlerMethod.getMethodAnnotation(RequestDeadline.class);
+            if (deadline == null) {
+                deadline = handlerMethod.getBeanType().getAnnotation(RequestDeadline.class);
+            }
+            if (deadline != null) {
+                return DurationStyle.detectAndParse(deadline.value());
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskflow.common.deadline;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for per-request deadlines
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.deadline")
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Budget of handlers without {@link RequestDeadline}
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Upper bound on any budget, including one asked for in the header
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Request header in which clients pass their own budget, e.g. {@code 1500ms}
+     */
+    private String header = "X-Request-Timeout";
+}
@@ -0,0 +1,24 @@
+package com.taskflow.common.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Default time budget of a handler method, or of every handler of a
+ * controller, in place of {@code taskflow.deadline.default-timeout}.
+ * Clients may still ask for less (or more, up to the configured maximum)
+ * with the deadline header.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestDeadline {
+
+    /**
+     * Duration such as {@code "2s"} or {@code "500ms"}
+     */
+    String value();
+}
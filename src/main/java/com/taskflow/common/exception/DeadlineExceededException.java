@@ -0,0 +1,17 @@
+package com.taskflow.common.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request runs out of its time budget before its work is done
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(Duration timeout) {
+        super("Request deadline of " + timeout.toMillis() + " ms exceeded");
+    }
+
+    public DeadlineExceededException(Duration timeout, Throwable cause) {
+        super("Request deadline of " + timeout.toMillis() + " ms exceeded", cause);
+    }
+}
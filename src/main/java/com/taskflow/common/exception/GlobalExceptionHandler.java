@@ -1,14 +1,18 @@
 package com.taskflow.common.exception;
 
+import com.taskflow.common.util.RateLimitedLogger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,6 +27,9 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    // Crawlers and stale links can produce 404s at request rate
+    private final RateLimitedLogger notFoundLog = new RateLimitedLogger(log, Duration.ofSeconds(10));
+
     /**
      * Handle task not found exceptions
      */
@@ -30,7 +37,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleTaskNotFoundException(
             TaskNotFoundException ex, WebRequest request) {
 
-        log.error("Task not found: {}", ex.getMessage());
+        notFoundLog.warn("Task not found: " + ex.getMessage());
 
         ErrorResponse errorResponse = new ErrorResponse(
                 HttpStatus.NOT_FOUND.value(),
@@ -43,6 +50,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle saved filter not found exceptions
+     */
+    @ExceptionHandler(SavedFilterNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSavedFilterNotFoundException(
+            SavedFilterNotFoundException ex, WebRequest request) {
+
+        notFoundLog.warn("Saved filter not found: " + ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Saved Filter Not Found",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
     /**
      * Handle validation errors
      */
@@ -91,6 +118,29 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle requests that ran out of time, in our code or in the database,
+     * and requests that could not get a connection at all. Retrying later
+     * may succeed, so these are 503 rather than 500.
+     */
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class,
+            CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleUnavailableException(
+            RuntimeException ex, WebRequest request) {
+
+        log.warn("Request not completed in time: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The request could not be completed in time. Please try again later.",
+                LocalDateTime.now(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle general exceptions
      */
@@ -0,0 +1,11 @@
+package com.taskflow.common.exception;
+
+/**
+ * Thrown when a saved filter does not exist
+ */
+public class SavedFilterNotFoundException extends RuntimeException {
+
+    public SavedFilterNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
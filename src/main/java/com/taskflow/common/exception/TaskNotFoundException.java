@@ -1,12 +1,15 @@
 package com.taskflow.common.exception;
 
 /**
- * Custom exception for when a task is not found
+ * Custom exception for when a task is not found.
+ *
+ * Missing IDs are an expected outcome that clients can trigger at request
+ * rate, so the exception does not capture a stack trace unless it wraps a cause.
  */
 public class TaskNotFoundException extends RuntimeException {
 
     public TaskNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public TaskNotFoundException(String message, Throwable cause) {
@@ -0,0 +1,119 @@
+package com.taskflow.common.id;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Sequence optimizer that hands out IDs from node-local blocks.
+ *
+ * Each sequence call reserves the block {@code [value, value + incrementSize)}
+ * (pooled-lo layout), so one round trip serves a whole block and inserts can
+ * be batched. Within a block an ID is one atomic increment with no lock; only
+ * the thread that finds the block used up takes a lock to fetch the next one.
+ *
+ * Blocks come from one shared sequence in increasing order, so IDs are unique
+ * across instances and follow creation order, except that an instance may
+ * still be using an older block while another has moved on: across instances
+ * ID order can lag creation order by up to one block per instance.
+ *
+ * A block is given up once it is {@link #MAX_BLOCK_AGE} old, even if IDs are
+ * left. A quiet instance therefore cannot hand out an ID from a block that was
+ * fetched long ago, which lets {@code TaskIdIndex} rule out IDs below the
+ * blocks that can still be in use.
+ *
+ * Enabled through {@code hibernate.id.optimizer.pooled.preferred}.
+ */
+public class BlockIdOptimizer implements Optimizer {
+
+    /**
+     * Longest time an instance keeps handing out IDs from one block
+     */
+    public static final Duration MAX_BLOCK_AGE = Duration.ofMinutes(5);
+
+    private final int incrementSize;
+    private final long maxBlockAgeNanos;
+    private final LongSupplier nanoTime;
+    private final ReentrantLock refill = new ReentrantLock();
+
+    private volatile Block block = new Block(0, 0, 0);
+    private volatile IntegralDataTypeHolder lastSourceValue;
+
+    public BlockIdOptimizer(Class<?> returnClass, int incrementSize) {
+        this(returnClass, incrementSize, MAX_BLOCK_AGE, System::nanoTime);
+    }
+
+    BlockIdOptimizer(Class<?> returnClass, int incrementSize, Duration maxBlockAge, LongSupplier nanoTime) {
+        if (returnClass != Long.class) {
+            throw new IllegalArgumentException("Block IDs are Long, not " + returnClass.getName());
+        }
+        if (incrementSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + incrementSize);
+        }
+        this.incrementSize = incrementSize;
+        this.maxBlockAgeNanos = maxBlockAge.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Serializable generate(AccessCallback callback) {
+        while (true) {
+            Block current = block;
+            if (nanoTime.getAsLong() - current.fetchedAt < maxBlockAgeNanos) {
+                long id = current.next.getAndIncrement();
+                if (id < current.end) {
+                    return id;
+                }
+            }
+            refill(callback, current);
+        }
+    }
+
+    @Override
+    public IntegralDataTypeHolder getLastSourceValue() {
+        return lastSourceValue;
+    }
+
+    @Override
+    public int getIncrementSize() {
+        return incrementSize;
+    }
+
+    @Override
+    public boolean applyIncrementSizeToSourceValues() {
+        return true;
+    }
+
+    private void refill(AccessCallback callback, Block exhausted) {
+        refill.lock();
+        try {
+            // Another thread may have replaced the block while this one waited
+            if (block == exhausted) {
+                IntegralDataTypeHolder value = callback.getNextValue();
+                long start = value.makeValue().longValue();
+                lastSourceValue = value;
+                block = new Block(start, start + incrementSize, nanoTime.getAsLong());
+            }
+        } finally {
+            refill.unlock();
+        }
+    }
+
+    private static final class Block {
+        final AtomicLong next;
+        final long end;
+        final long fetchedAt;
+
+        Block(long start, long end, long fetchedAt) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.taskflow.common.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps in-process caches coherent across instances.
+ *
+ * Changed keys are collected for a short window, deduplicated and sent as
+ * one numbered message per batch; more than {@code maxPendingKeys} collapse
+ * into a single flush-everything message. Receivers track the last sequence
+ * per sender, and a gap (or a sender first heard of mid-stream) makes them
+ * drop all cached state rather than serve something they were never told
+ * about. A listener that fails to apply keys is flushed as well.
+ */
+@Slf4j
+public class InvalidationBus implements InvalidationTransport.Receiver {
+
+    private final InvalidationProperties properties;
+    private final InvalidationTransport transport;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingOverflow;
+
+    private final Object sendLock = new Object();
+    private final Object receiveLock = new Object();
+
+    // Guarded by sendLock
+    private long sequence;
+
+    // Last sequence seen per sender; guarded by receiveLock
+    private final Map<String, Long> peers = new HashMap<>();
+
+    private ScheduledExecutorService sender;
+
+    public InvalidationBus(InvalidationProperties properties, InvalidationTransport transport) {
+        this.properties = properties;
+        this.transport = transport;
+    }
+
+    @PostConstruct
+    void start() {
+        transport.start(this);
+        sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = properties.getBatchWindow().toMillis();
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        sender.scheduleWithFixedDelay(() -> runSafely(this::flush), window, window, TimeUnit.MILLISECONDS);
+        sender.scheduleAtFixedRate(() -> runSafely(this::heartbeat), heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        log.info("Invalidation bus started on node {} over {}", nodeId, properties.getTransport());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        sender.shutdown();
+        if (sender.awaitTermination(5, TimeUnit.SECONDS)) {
+            // Best effort: peers still catch anything lost from the missing heartbeat
+            runSafely(this::flush);
+        }
+        transport.stop();
+    }
+
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Tell the other instances that {@code key} changed; call after commit
+     */
+    public void publish(long key) {
+        if (pending.size() >= properties.getMaxPendingKeys()) {
+            pendingOverflow = true;
+            return;
+        }
+        pending.add(key);
+    }
+
+    /**
+     * Tell the other instances to drop everything
+     */
+    public void publishAll() {
+        pendingOverflow = true;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Send the keys collected since the last call
+     */
+    void flush() {
+        synchronized (sendLock) {
+            sendPending();
+        }
+    }
+
+    void heartbeat() {
+        synchronized (sendLock) {
+            send(InvalidationMessage.heartbeat(nodeId, sequence));
+        }
+    }
+
+    @Override
+    public void receive(InvalidationMessage message) {
+        if (nodeId.equals(message.getNodeId())) {
+            return;
+        }
+        synchronized (receiveLock) {
+            receiveFromPeer(message);
+        }
+    }
+
+    @Override
+    public void resync() {
+        log.warn("Invalidation transport reconnected; flushing caches");
+        synchronized (receiveLock) {
+            invalidateAll();
+        }
+    }
+
+    private void sendPending() {
+        if (pendingOverflow) {
+            pendingOverflow = false;
+            pending.clear();
+            send(InvalidationMessage.all(nodeId, ++sequence));
+            return;
+        }
+        List<Long> batch = new ArrayList<>();
+        Iterator<Long> keys = pending.iterator();
+        while (keys.hasNext()) {
+            batch.add(keys.next());
+            keys.remove();
+            if (batch.size() == properties.getMaxBatchSize()) {
+                send(InvalidationMessage.keys(nodeId, ++sequence, batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(InvalidationMessage.keys(nodeId, ++sequence, batch));
+        }
+    }
+
+    private void receiveFromPeer(InvalidationMessage message) {
+        boolean heartbeat = message.getKind() == InvalidationMessage.Kind.HEARTBEAT;
+        Long last = peers.get(message.getNodeId());
+        long expected = last == null ? (heartbeat ? 0 : 1) : (heartbeat ? last : last + 1);
+
+        if (message.getSequence() < expected) {
+            // Duplicate, or overtaken by a later message; applying keys again is harmless
+            if (message.getKind() == InvalidationMessage.Kind.KEYS) {
+                invalidate(new HashSet<>(message.getKeys()));
+            }
+            return;
+        }
+        peers.put(message.getNodeId(), message.getSequence());
+
+        if (message.getSequence() > expected) {
+            log.warn("Missed invalidations from node {} (expected {}, got {}); flushing caches",
+                    message.getNodeId(), expected, message.getSequence());
+            invalidateAll();
+        } else if (message.getKind() == InvalidationMessage.Kind.ALL) {
+            invalidateAll();
+        } else if (!heartbeat) {
+            invalidate(new HashSet<>(message.getKeys()));
+        }
+    }
+
+    private void send(InvalidationMessage message) {
+        try {
+            transport.send(message);
+        } catch (RuntimeException e) {
+            // The sequence number is spent, so receivers see the gap and flush
+            log.error("Failed to send invalidation message {}", message.getSequence(), e);
+        }
+    }
+
+    private void invalidate(Set<Long> keys) {
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.invalidate(keys);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply invalidation of {} keys; flushing instead", keys.size(), e);
+                listener.invalidateAll();
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        for (InvalidationListener listener : listeners) {
+            listener.invalidateAll();
+        }
+    }
+
+    private static void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive
+            log.error("Invalidation bus task failed", e);
+        }
+    }
+}
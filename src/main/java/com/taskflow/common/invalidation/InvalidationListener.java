@@ -0,0 +1,19 @@
+package com.taskflow.common.invalidation;
+
+import java.util.Set;
+
+/**
+ * Cache on this instance that must drop state changed by other instances
+ */
+public interface InvalidationListener {
+
+    /**
+     * The entries for {@code keys} changed on another instance
+     */
+    void invalidate(Set<Long> keys);
+
+    /**
+     * Any entry may have changed; drop everything
+     */
+    void invalidateAll();
+}
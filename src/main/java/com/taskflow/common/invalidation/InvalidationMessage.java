@@ -0,0 +1,80 @@
+package com.taskflow.common.invalidation;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One message on the invalidation bus.
+ *
+ * Every instance numbers its messages from 1 without gaps. A heartbeat
+ * repeats the sequence of the last message sent, so a receiver also notices
+ * when the newest message was lost. Encoded as a single text line, which
+ * fits both a NOTIFY payload and a datagram.
+ */
+@Value
+public class InvalidationMessage {
+
+    public enum Kind {
+        // The listed keys changed
+        KEYS,
+        // Everything may have changed
+        ALL,
+        // Nothing new; carries the sequence of the last message
+        HEARTBEAT
+    }
+
+    private static final char SEPARATOR = '|';
+
+    String nodeId;
+    long sequence;
+    Kind kind;
+    List<Long> keys;
+
+    public static InvalidationMessage keys(String nodeId, long sequence, List<Long> keys) {
+        return new InvalidationMessage(nodeId, sequence, Kind.KEYS, List.copyOf(keys));
+    }
+
+    public static InvalidationMessage all(String nodeId, long sequence) {
+        return new InvalidationMessage(nodeId, sequence, Kind.ALL, List.of());
+    }
+
+    public static InvalidationMessage heartbeat(String nodeId, long sequence) {
+        return new InvalidationMessage(nodeId, sequence, Kind.HEARTBEAT, List.of());
+    }
+
+    /**
+     * {@code nodeId|sequence|KIND|key,key,...}
+     */
+    public String encode() {
+        StringBuilder text = new StringBuilder(nodeId.length() + 32 + keys.size() * 8)
+                .append(nodeId).append(SEPARATOR)
+                .append(sequence).append(SEPARATOR)
+                .append(kind.name()).append(SEPARATOR);
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(keys.get(i));
+        }
+        return text.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code text} is not an encoded message
+     */
+    public static InvalidationMessage decode(String text) {
+        String[] parts = text.split("\\|", -1);
+        if (parts.length != 4 || parts[0].isEmpty()) {
+            throw new IllegalArgumentException("Malformed invalidation message: " + text);
+        }
+        List<Long> keys = new ArrayList<>();
+        if (!parts[3].isEmpty()) {
+            for (String key : parts[3].split(",")) {
+                keys.add(Long.parseLong(key));
+            }
+        }
+        return new InvalidationMessage(parts[0], Long.parseLong(parts[1]), Kind.valueOf(parts[2]), List.copyOf(keys));
+    }
+}
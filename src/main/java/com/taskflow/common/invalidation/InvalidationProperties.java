@@ -0,0 +1,82 @@
+package com.taskflow.common.invalidation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the cross-instance invalidation bus
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.invalidation")
+public class InvalidationProperties {
+
+    public enum Transport {
+        POSTGRES,
+        MULTICAST,
+        // In-process only; for single instances and tests
+        LOOPBACK
+    }
+
+    private boolean enabled = true;
+
+    private Transport transport = Transport.POSTGRES;
+
+    /**
+     * How long changes are collected before they are sent as one message;
+     * repeated changes to a key within the window are sent once
+     */
+    private Duration batchWindow = Duration.ofMillis(50);
+
+    /**
+     * Keys per message; larger batches are split
+     */
+    private int maxBatchSize = 256;
+
+    /**
+     * Pending keys above which one flush-everything message is sent instead
+     */
+    private int maxPendingKeys = 10_000;
+
+    /**
+     * Interval of the messages that let other instances detect a lost last message
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+
+    private Postgres postgres = new Postgres();
+
+    private Multicast multicast = new Multicast();
+
+    @Data
+    public static class Postgres {
+
+        /**
+         * LISTEN/NOTIFY channel; lower case letters, digits and underscores
+         */
+        private String channel = "taskflow_invalidation";
+
+        /**
+         * Longest wait for notifications before the listener checks for shutdown
+         */
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /**
+         * Pause before reconnecting a lost listener connection
+         */
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Multicast {
+
+        private String group = "239.255.27.1";
+
+        private int port = 45588;
+
+        /**
+         * Router hops; 1 keeps datagrams on the local network
+         */
+        private int timeToLive = 1;
+    }
+}
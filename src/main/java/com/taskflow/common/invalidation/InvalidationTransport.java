@@ -0,0 +1,34 @@
+package com.taskflow.common.invalidation;
+
+/**
+ * Carries {@link InvalidationMessage}s between instances.
+ *
+ * Delivery is best effort: messages may be lost, duplicated or, across
+ * senders, reordered. The {@link InvalidationBus} detects losses from the
+ * sequence numbers.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Start delivering messages from every instance, including this one, to
+     * {@code receiver}
+     */
+    void start(Receiver receiver);
+
+    /**
+     * @throws RuntimeException if the message could not be handed to the transport
+     */
+    void send(InvalidationMessage message);
+
+    void stop();
+
+    interface Receiver {
+
+        void receive(InvalidationMessage message);
+
+        /**
+         * Messages may have been missed, e.g. while reconnecting
+         */
+        void resync();
+    }
+}
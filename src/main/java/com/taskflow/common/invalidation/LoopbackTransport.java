@@ -0,0 +1,48 @@
+package com.taskflow.common.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process transport. Transports created with {@link #join()} share one
+ * network and deliver every message synchronously on the sending thread, to
+ * the sender as well, like multicast loopback does.
+ */
+public class LoopbackTransport implements InvalidationTransport {
+
+    private final List<LoopbackTransport> network;
+    private volatile Receiver receiver;
+
+    public LoopbackTransport() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private LoopbackTransport(List<LoopbackTransport> network) {
+        this.network = network;
+    }
+
+    /**
+     * Another transport on the same network, standing in for another instance
+     */
+    public LoopbackTransport join() {
+        return new LoopbackTransport(network);
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        this.receiver = receiver;
+        network.add(this);
+    }
+
+    @Override
+    public void send(InvalidationMessage message) {
+        for (LoopbackTransport member : network) {
+            member.receiver.receive(message);
+        }
+    }
+
+    @Override
+    public void stop() {
+        network.remove(this);
+    }
+}
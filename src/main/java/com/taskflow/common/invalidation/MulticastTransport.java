@@ -0,0 +1,85 @@
+package com.taskflow.common.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Transport over UDP multicast, for instances on one local network without
+ * a shared database (e.g. edge deployments). Datagrams can be lost or
+ * reordered; the bus sequence numbers turn a loss into a full flush.
+ */
+@Slf4j
+public class MulticastTransport implements InvalidationTransport {
+
+    // Comfortably above a full batch of keys
+    private static final int MAX_DATAGRAM = 65_507;
+
+    private final InvalidationProperties.Multicast properties;
+
+    private MulticastSocket socket;
+    private InetSocketAddress group;
+    private Thread listener;
+
+    public MulticastTransport(InvalidationProperties.Multicast properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        try {
+            group = new InetSocketAddress(InetAddress.getByName(properties.getGroup()), properties.getPort());
+            socket = new MulticastSocket(properties.getPort());
+            socket.setTimeToLive(properties.getTimeToLive());
+            socket.joinGroup(group, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not join multicast group " + properties.getGroup(), e);
+        }
+        listener = new Thread(() -> listen(receiver), "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void send(InvalidationMessage message) {
+        byte[] payload = message.encode().getBytes(StandardCharsets.US_ASCII);
+        try {
+            socket.send(new DatagramPacket(payload, payload.length, group));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Multicast send failed", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (socket != null) {
+            // Unblocks the listener
+            socket.close();
+        }
+    }
+
+    private void listen(Receiver receiver) {
+        byte[] buffer = new byte[MAX_DATAGRAM];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                String text = new String(packet.getData(), packet.getOffset(), packet.getLength(),
+                        StandardCharsets.US_ASCII);
+                receiver.receive(InvalidationMessage.decode(text));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed invalidation datagram from {}", packet.getSocketAddress());
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Multicast receive failed", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskflow.common.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Transport over PostgreSQL LISTEN/NOTIFY.
+ *
+ * Notifications are sent through the application pool with
+ * {@code pg_notify}, outside any transaction, so they go out immediately.
+ * Listening needs one connection held open for good, so it comes from a
+ * separate unpooled DataSource rather than permanently taking a pool slot.
+ * Notifications are lost while that connection is down, so every reconnect
+ * asks the receiver to resync.
+ */
+@Slf4j
+public class PostgresNotifyTransport implements InvalidationTransport {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSource dataSource;
+    private final DataSource listenDataSource;
+    private final InvalidationProperties.Postgres properties;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresNotifyTransport(DataSource dataSource, DataSource listenDataSource,
+                                   InvalidationProperties.Postgres properties) {
+        if (!CHANNEL.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel: " + properties.getChannel());
+        }
+        this.dataSource = dataSource;
+        this.listenDataSource = listenDataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        running = true;
+        listener = new Thread(() -> listen(receiver), "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void send(InvalidationMessage message) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, properties.getChannel());
+            statement.setString(2, message.encode());
+            statement.execute();
+        } catch (SQLException e) {
+            throw new IllegalStateException("NOTIFY failed", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen(Receiver receiver) {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                if (reconnect) {
+                    receiver.resync();
+                }
+                reconnect = true;
+                poll(connection.unwrap(PGConnection.class), receiver);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener connection failed; reconnecting in {}",
+                        properties.getReconnectDelay(), e);
+                reconnect = true;
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void poll(PGConnection connection, Receiver receiver) throws SQLException {
+        int timeout = (int) properties.getPollInterval().toMillis();
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(timeout);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    receiver.receive(InvalidationMessage.decode(notification.getParameter()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring malformed invalidation notification", e);
+                }
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
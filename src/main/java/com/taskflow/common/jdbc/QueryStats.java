@@ -0,0 +1,94 @@
+package com.taskflow.common.jdbc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC work done within a scope: statements executed, rows read and time
+ * spent waiting for the driver.
+ *
+ * Scopes are bound to the thread and nest, e.g. a service call inside an
+ * HTTP request; work is added to the current scope and every scope around
+ * it. Counters are thread-safe, so a scope can also be shared with worker
+ * threads doing part of the same request. Recorded by
+ * {@link QueryStatsDataSource}.
+ */
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Start a scope nested in the current one; close it to return to that one
+     */
+    public static QueryStats open() {
+        QueryStats scope = new QueryStats(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Innermost scope on this thread, or null if none is open
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a scope opened on another thread, e.g. in a worker
+     */
+    public static void set(QueryStats scope) {
+        CURRENT.set(scope);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        for (QueryStats scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.increment();
+            scope.nanos.add(elapsedNanos);
+        }
+    }
+
+    static void recordRow() {
+        for (QueryStats scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows.increment();
+        }
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public Duration getTime() {
+        return Duration.ofNanos(nanos.sum());
+    }
+
+    @Override
+    public void close() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return statements.sum() + " statements, " + rows.sum() + " rows, " + getTime().toMillis() + " ms";
+    }
+}
@@ -0,0 +1,175 @@
+package com.taskflow.common.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Records every statement executed and row read through this DataSource in
+ * the thread's current {@link QueryStats} scopes, and captures executions
+ * slower than the threshold, with their bind values, in a
+ * {@link SlowQueryLog}. With no scope open and no slow-query log the
+ * wrappers only pass calls through.
+ */
+public class QueryStatsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> RESULT_SET_GETTERS = Set.of("getResultSet", "getGeneratedKeys");
+
+    private final SlowQueryLog slowQueries;
+
+    public QueryStatsDataSource(DataSource targetDataSource) {
+        this(targetDataSource, null);
+    }
+
+    public QueryStatsDataSource(DataSource targetDataSource, SlowQueryLog slowQueries) {
+        super(targetDataSource);
+        this.slowQueries = slowQueries;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                // Statement, PreparedStatement or CallableStatement, as declared by the factory
+                return wrapStatement(method.getReturnType(), statement, new Trace(sql));
+            }
+            return result;
+        });
+    }
+
+    private Object wrapStatement(Class<?> type, Statement statement, Trace trace) {
+        boolean captureBinds = slowQueries != null && PreparedStatement.class.isAssignableFrom(type);
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(statement, method, args, trace);
+            }
+            if (captureBinds && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                // setNull(index, sqlType) binds null, every other setter binds its second argument
+                trace.bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                trace.bindCount = 0;
+            } else if (name.equals("close")) {
+                flushSlow(trace);
+            }
+            Object result = invoke(statement, method, args);
+            return result instanceof ResultSet resultSet && RESULT_SET_GETTERS.contains(name)
+                    ? wrapResultSet(resultSet, trace) : result;
+        });
+    }
+
+    private Object execute(Statement statement, Method method, Object[] args, Trace trace) throws Throwable {
+        flushSlow(trace);
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = invoke(statement, method, args);
+            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, trace) : result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            QueryStats.recordStatement(elapsed);
+            if (slowQueries != null && slowQueries.isSlow(elapsed)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : trace.sql;
+                trace.startSlow(sql, elapsed, result instanceof Number updated ? updated.longValue() : 0);
+            }
+        }
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet, Trace trace) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                QueryStats.recordRow();
+                trace.slowRows++;
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Record a pending slow execution once its rows have been read, i.e. when
+     * the statement is closed or executed again
+     */
+    private void flushSlow(Trace trace) {
+        if (trace.slowSql != null) {
+            slowQueries.record(trace.slowSql, trace.slowBinds, trace.slowBinds.length, trace.slowNanos,
+                    trace.slowRows, trace.slowOrigin);
+            trace.slowSql = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Per-statement state: the SQL, the current bind values and the slow
+     * execution waiting for its row count. Statements are used by one thread at a time.
+     */
+    private static final class Trace {
+        private static final Object[] NO_BINDS = new Object[0];
+
+        private final String sql;
+        private Object[] binds = NO_BINDS;
+        private int bindCount;
+
+        private String slowSql;
+        private Object[] slowBinds;
+        private long slowNanos;
+        private long slowRows;
+        private String slowOrigin;
+
+        Trace(String sql) {
+            this.sql = sql;
+        }
+
+        void bind(int index, Object value) {
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value;
+            bindCount = Math.max(bindCount, index);
+        }
+
+        void startSlow(String sql, long nanos, long rows) {
+            slowSql = sql != null ? sql : "<unknown>";
+            slowBinds = Arrays.copyOf(binds, bindCount);
+            slowNanos = nanos;
+            slowRows = rows;
+            slowOrigin = SlowQueryLog.currentOrigin();
+        }
+    }
+}
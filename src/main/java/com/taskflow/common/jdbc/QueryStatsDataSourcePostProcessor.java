@@ -0,0 +1,39 @@
+package com.taskflow.common.jdbc;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps DataSource beans in a {@link QueryStatsDataSource}, capturing slow
+ * statements if a {@link SlowQueryLog} bean exists.
+ *
+ * Ordered last so the counting wrapper goes around any other DataSource
+ * decorator instead of between it and the pool.
+ */
+public class QueryStatsDataSourcePostProcessor implements BeanPostProcessor, BeanFactoryAware, Ordered {
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(@NonNull BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryStatsDataSource)) {
+            return new QueryStatsDataSource(dataSource, beanFactory.getBeanProvider(SlowQueryLog.class).getIfAvailable());
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
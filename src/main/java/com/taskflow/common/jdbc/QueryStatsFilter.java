@@ -0,0 +1,46 @@
+package com.taskflow.common.jdbc;
+
+import com.taskflow.common.util.RouteUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link QueryStats} scope per HTTP request and publishes it once
+ * the request is done.
+ *
+ * With the debug header enabled the response body is buffered, so the
+ * statement count can still be sent as a header after the handler ran.
+ */
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final QueryStatsProperties properties;
+    private final QueryStatsMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = properties.isHeaderEnabled()
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        try (QueryStats stats = QueryStats.open()) {
+            try {
+                filterChain.doFilter(request, buffered != null ? buffered : response);
+            } finally {
+                if (buffered != null) {
+                    buffered.setHeader(properties.getHeader(), Long.toString(stats.getStatements()));
+                    buffered.copyBodyToResponse();
+                }
+                metrics.record("http", RouteUtil.route(request), stats);
+            }
+        }
+    }
+}
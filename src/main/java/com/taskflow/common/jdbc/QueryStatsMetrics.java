@@ -0,0 +1,49 @@
+package com.taskflow.common.jdbc;
+
+import com.taskflow.common.util.RateLimitedLogger;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * Publishes the {@link QueryStats} of finished requests and service calls,
+ * tagged by layer ({@code http} or {@code service}) and operation, and logs
+ * operations that run suspiciously many statements
+ */
+@Slf4j
+public class QueryStatsMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final int warnStatements;
+    private final RateLimitedLogger nPlusOneLog = new RateLimitedLogger(log, Duration.ofSeconds(10));
+
+    public QueryStatsMetrics(MeterRegistry meterRegistry, QueryStatsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.warnStatements = properties.getWarnStatements();
+    }
+
+    public void record(String layer, String operation, QueryStats stats) {
+        DistributionSummary.builder("taskflow.sql.statements")
+                .description("JDBC statements executed per operation")
+                .tags("layer", layer, "operation", operation)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("taskflow.sql.rows")
+                .description("Rows read per operation")
+                .tags("layer", layer, "operation", operation)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("taskflow.sql.time")
+                .description("Time spent executing statements per operation")
+                .tags("layer", layer, "operation", operation)
+                .register(meterRegistry)
+                .record(stats.getTime());
+
+        if (stats.getStatements() > warnStatements) {
+            nPlusOneLog.warn(operation + " ran " + stats + ", possibly one query per row (N+1)");
+        }
+    }
+}
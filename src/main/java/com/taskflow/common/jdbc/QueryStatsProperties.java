@@ -0,0 +1,26 @@
+package com.taskflow.common.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-request and per-operation JDBC statistics
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.query-stats")
+public class QueryStatsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Whether responses carry the request's statement count, for debugging
+     */
+    private boolean headerEnabled = false;
+
+    private String header = "X-Query-Count";
+
+    /**
+     * Statements per request or operation above which a possible N+1 is logged
+     */
+    private int warnStatements = 20;
+}
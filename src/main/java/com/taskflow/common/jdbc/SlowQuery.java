@@ -0,0 +1,47 @@
+package com.taskflow.common.jdbc;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One statement execution that took longer than the slow-query threshold
+ */
+@Getter
+public class SlowQuery {
+
+    private final long id;
+    private final Instant executedAt;
+    // Method and route of the request that ran it, or the thread name outside requests
+    private final String origin;
+    private final String sql;
+    // Bind values as text, truncated
+    private final List<String> binds;
+    private final long durationMillis;
+    // Rows read from the result, or the update count
+    private final long rows;
+
+    // Bind values to repeat the statement under EXPLAIN; null when one was
+    // too long to keep whole or is not a plain scalar
+    @JsonIgnore
+    private final List<Object> bindValues;
+
+    // Captured on demand
+    @Setter
+    private volatile String plan;
+
+    SlowQuery(long id, Instant executedAt, String origin, String sql, List<String> binds,
+              List<Object> bindValues, long durationMillis, long rows) {
+        this.id = id;
+        this.executedAt = executedAt;
+        this.origin = origin;
+        this.sql = sql;
+        this.binds = binds;
+        this.bindValues = bindValues;
+        this.durationMillis = durationMillis;
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskflow.common.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * The {@code slowqueries} endpoint: the captured slow statements, newest first.
+ *
+ * The {@code explain} operation runs a plain EXPLAIN of a captured SELECT
+ * with its bind values and stores the plan on the entry; it is off unless
+ * {@code taskflow.slow-query.explain-enabled} is set. Plain EXPLAIN only
+ * plans the statement, it does not execute it.
+ *
+ * Entries carry SQL and bind values, so the endpoint is JMX-only and can
+ * never be exposed over HTTP.
+ */
+@JmxEndpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueries;
+    private final SlowQueryProperties properties;
+    // Absent in the edge profile, which has no database
+    private final ObjectProvider<DataSource> dataSource;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueries.snapshot();
+    }
+
+    @ReadOperation
+    public SlowQuery slowQuery(@Selector long id) {
+        return slowQueries.find(id).orElse(null);
+    }
+
+    @WriteOperation
+    public SlowQuery explain(@Selector long id) throws SQLException {
+        SlowQuery query = slowQueries.find(id).orElse(null);
+        DataSource database = dataSource.getIfAvailable();
+        if (query == null || database == null || !properties.isExplainEnabled() || query.getBindValues() == null
+                || !query.getSql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            return query;
+        }
+
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.getSql())) {
+            List<Object> values = query.getBindValues();
+            for (int i = 0; i < values.size(); i++) {
+                statement.setObject(i + 1, values.get(i));
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+            query.setPlan(plan.toString());
+        }
+        return query;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueries.clear();
+    }
+}
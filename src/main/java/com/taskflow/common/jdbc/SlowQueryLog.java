@@ -0,0 +1,125 @@
+package com.taskflow.common.jdbc;
+
+import com.taskflow.common.util.RouteUtil;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The most recent slow statements in a fixed-size ring.
+ *
+ * Writers claim a slot with one atomic increment and overwrite whatever was
+ * there, so recording never blocks or allocates beyond the record itself.
+ * Readers get a best-effort snapshot, newest first. Bind values are held
+ * only as their truncated text, plus the short scalars EXPLAIN needs when
+ * none of a statement's values had to be cut.
+ */
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final int maxBindLength;
+    private final int mask;
+    private final AtomicReferenceArray<SlowQuery> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.maxBindLength = properties.getMaxBindLength();
+        int capacity = Integer.highestOneBit(Math.max(1, properties.getCapacity() - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    void record(String sql, Object[] bindValues, int bindCount, long elapsedNanos, long rows, String origin) {
+        long id = sequence.incrementAndGet();
+        List<String> binds = new ArrayList<>(bindCount);
+        // Values are kept for EXPLAIN only while each fits whole into its text copy
+        List<Object> explainBinds = new ArrayList<>(bindCount);
+        for (int i = 0; i < bindCount; i++) {
+            Object value = bindValues[i];
+            String text = String.valueOf(value);
+            if (text.length() > maxBindLength) {
+                binds.add(text.substring(0, maxBindLength) + "...");
+                explainBinds = null;
+            } else {
+                binds.add(text);
+                if (explainBinds != null) {
+                    explainBinds = keep(value, explainBinds);
+                }
+            }
+        }
+        slots.set((int) id & mask, new SlowQuery(id, Instant.now(), origin, sql, Collections.unmodifiableList(binds),
+                explainBinds != null ? Collections.unmodifiableList(explainBinds) : null,
+                elapsedNanos / 1_000_000, rows));
+    }
+
+    /**
+     * Captured statements, newest first
+     */
+    public List<SlowQuery> snapshot() {
+        List<SlowQuery> queries = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            SlowQuery query = slots.get(i);
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        queries.sort(Comparator.comparingLong(SlowQuery::getId).reversed());
+        return queries;
+    }
+
+    public Optional<SlowQuery> find(long id) {
+        SlowQuery query = slots.get((int) id & mask);
+        return query != null && query.getId() == id ? Optional.of(query) : Optional.empty();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * Route of the HTTP request on this thread, e.g. {@code GET /tasks}
+     */
+    static String currentOrigin() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return RouteUtil.route(servletAttributes.getRequest());
+        }
+        return Thread.currentThread().getName();
+    }
+
+    /**
+     * Adds a short scalar bind to {@code kept}, or returns null for any other
+     * value (streams, LOBs, arrays), which is not held past the statement
+     */
+    private static List<Object> keep(Object value, List<Object> kept) {
+        if (value instanceof Date date) {
+            // java.sql timestamps are mutable and may be reused by the caller
+            kept.add(date.clone());
+        } else if (value == null || value instanceof String || value instanceof Number
+                || value instanceof Boolean || value instanceof Temporal || value instanceof UUID) {
+            kept.add(value);
+        } else {
+            return null;
+        }
+        return kept;
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskflow.common.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for capturing slow statements into {@link SlowQueryLog}
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Executions taking at least this long are captured
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * Captured statements kept; older ones are overwritten. Rounded up to a power of two
+     */
+    private int capacity = 256;
+
+    /**
+     * Longest bind value kept as text
+     */
+    private int maxBindLength = 100;
+
+    /**
+     * Whether the slowqueries endpoint may run EXPLAIN for a captured SELECT
+     */
+    private boolean explainEnabled;
+}
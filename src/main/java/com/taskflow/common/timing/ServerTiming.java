@@ -0,0 +1,121 @@
+package com.taskflow.common.timing;
+
+/**
+ * Time spent per {@link TimingPhase} in the request on this thread.
+ *
+ * One pair of primitive arrays per timed request and nothing per section:
+ * {@link #begin()} and {@link #end} pass the start time as a {@code long},
+ * and skip the clock entirely when the request is not being timed.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long handlerStartNanos;
+
+    private ServerTiming() {
+    }
+
+    public static ServerTiming open() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Timing of the request on this thread, or null if it is not timed
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Start of a timed section: the clock if this request is timed, else 0
+     */
+    public static long begin() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * End of a section started with {@link #begin()}
+     */
+    public static void end(TimingPhase phase, long begin) {
+        if (begin == 0) {
+            return;
+        }
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - begin);
+        }
+    }
+
+    public void add(TimingPhase phase, long elapsedNanos) {
+        add(phase, elapsedNanos, 1);
+    }
+
+    public void add(TimingPhase phase, long elapsedNanos, int count) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()] += count;
+    }
+
+    public long getNanos(TimingPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int getCount(TimingPhase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    void markHandlerStart() {
+        handlerStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Record the time since the handler was selected as binding, once the handler method is entered
+     */
+    void markHandlerInvoked(long nowNanos) {
+        if (handlerStartNanos != 0) {
+            add(TimingPhase.BIND, nowNanos - handlerStartNanos);
+            handlerStartNanos = 0;
+        }
+    }
+
+    /**
+     * Header value, e.g. {@code service;dur=4.2, repo;dur=3.1;desc="2 calls"}
+     */
+    public String toHeader() {
+        StringBuilder header = new StringBuilder(128);
+        for (TimingPhase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            long tenthsOfMillis = nanos[phase.ordinal()] / 100_000;
+            header.append(phase.getMetricName())
+                    .append(";dur=").append(tenthsOfMillis / 10).append('.').append(tenthsOfMillis % 10)
+                    .append(";desc=\"").append(phase.getDescription());
+            if (count > 1) {
+                header.append(" (").append(count).append(')');
+            }
+            header.append('"');
+        }
+        return header.toString();
+    }
+}
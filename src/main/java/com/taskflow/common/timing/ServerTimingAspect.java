@@ -0,0 +1,51 @@
+package com.taskflow.common.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Times controller, TaskService and repository calls of timed requests.
+ *
+ * Ordered ahead of the transaction advice, so service time includes the
+ * commit.
+ */
+@Aspect
+@Order(0)
+public class ServerTimingAspect {
+
+    @Around("within(com.taskflow..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        timing.markHandlerInvoked(start);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.add(TimingPhase.CONTROLLER, System.nanoTime() - start);
+        }
+    }
+
+    @Around("execution(public * com.taskflow.task.service.TaskServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(TimingPhase.SERVICE, joinPoint);
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(TimingPhase.REPOSITORY, joinPoint);
+    }
+
+    private static Object time(TimingPhase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = ServerTiming.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTiming.end(phase, start);
+        }
+    }
+}
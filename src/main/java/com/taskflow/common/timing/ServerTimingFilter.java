@@ -0,0 +1,76 @@
+package com.taskflow.common.timing;
+
+import com.taskflow.common.jdbc.QueryStats;
+import com.taskflow.common.util.RouteUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times requests that ask for it, or all of them if configured, plus a
+ * sample of the rest.
+ *
+ * Requests that get the header have their body buffered so the header can
+ * follow serialization. Sampled requests feed the per-phase metrics.
+ * Untimed requests pay for one random number.
+ */
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final ServerTimingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        boolean header = properties.isHeaderByDefault() || request.getHeader(properties.getOptInHeader()) != null;
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+        if (!header && !sampled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ServerTiming timing = ServerTiming.open();
+        ContentCachingResponseWrapper buffered = header ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            ServerTiming.clear();
+            timing.add(TimingPhase.TOTAL, timing.elapsedNanos());
+            QueryStats queryStats = QueryStats.current();
+            if (queryStats != null && queryStats.getStatements() > 0) {
+                timing.add(TimingPhase.DB, queryStats.getTime().toNanos(), (int) queryStats.getStatements());
+            }
+            if (buffered != null) {
+                buffered.setHeader(ServerTiming.HEADER, timing.toHeader());
+                buffered.copyBodyToResponse();
+            }
+            if (sampled) {
+                record(RouteUtil.route(request), timing);
+            }
+        }
+    }
+
+    private void record(String operation, ServerTiming timing) {
+        for (TimingPhase phase : TimingPhase.values()) {
+            if (timing.getCount(phase) > 0) {
+                Timer.builder("taskflow.request.phase")
+                        .description("Time per request spent in each phase, from sampled requests")
+                        .tags("phase", phase.getMetricName(), "operation", operation)
+                        .register(meterRegistry)
+                        .record(timing.getNanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
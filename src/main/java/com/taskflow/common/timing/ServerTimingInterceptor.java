@@ -0,0 +1,23 @@
+package com.taskflow.common.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks when the handler was selected, so the time until the controller
+ * method runs can be reported as argument binding
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.markHandlerStart();
+        }
+        return true;
+    }
+}
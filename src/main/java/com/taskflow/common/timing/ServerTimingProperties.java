@@ -0,0 +1,33 @@
+package com.taskflow.common.timing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-request timing breakdowns
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Whether the timing instrumentation is installed at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether every response carries the Server-Timing header; otherwise only
+     * requests sending the opt-in header get it
+     */
+    private boolean headerByDefault = false;
+
+    /**
+     * Request header asking for the Server-Timing breakdown of that request
+     */
+    private String optInHeader = "X-Server-Timing";
+
+    /**
+     * Share of requests timed into the taskflow.request.phase metrics
+     */
+    private double sampleRate = 0.01;
+}
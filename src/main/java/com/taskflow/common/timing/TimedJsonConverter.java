@@ -0,0 +1,31 @@
+package com.taskflow.common.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * The JSON converter, with writing timed as {@link TimingPhase#SERIALIZE}
+ */
+public class TimedJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = ServerTiming.begin();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.end(TimingPhase.SERIALIZE, start);
+        }
+    }
+}
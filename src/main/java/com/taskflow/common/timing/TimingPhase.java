@@ -0,0 +1,33 @@
+package com.taskflow.common.timing;
+
+/**
+ * Parts of a request reported in the {@code Server-Timing} header. Phases
+ * nest (the service runs inside the controller, repositories inside the
+ * service), so durations overlap rather than add up to the total.
+ */
+public enum TimingPhase {
+    BIND("bind", "Argument binding and validation"),
+    CONTROLLER("controller", "Controller method"),
+    SERVICE("service", "TaskService calls"),
+    REPOSITORY("repo", "Repository calls"),
+    DB("db", "JDBC statements"),
+    MAPPING("mapping", "Entity to DTO mapping"),
+    SERIALIZE("serialize", "JSON serialization"),
+    TOTAL("total", "Whole request");
+
+    private final String metricName;
+    private final String description;
+
+    TimingPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
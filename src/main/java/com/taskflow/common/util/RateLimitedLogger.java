@@ -0,0 +1,39 @@
+package com.taskflow.common.util;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs at most one warning per interval and counts the rest, for messages
+ * that clients can trigger at request rate
+ */
+public class RateLimitedLogger {
+
+    private final Logger log;
+    private final long intervalNanos;
+    private final AtomicLong nextAllowed = new AtomicLong(System.nanoTime());
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitedLogger(Logger log, Duration interval) {
+        this.log = log;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void warn(String message) {
+        long now = System.nanoTime();
+        long allowed = nextAllowed.get();
+        if (now - allowed < 0 || !nextAllowed.compareAndSet(allowed, now + intervalNanos)) {
+            suppressed.increment();
+            return;
+        }
+        long skipped = suppressed.sumThenReset();
+        if (skipped > 0) {
+            log.warn("{} ({} similar messages suppressed)", message, skipped);
+        } else {
+            log.warn(message);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Utility class for naming requests by route
+ */
+public class RouteUtil {
+
+    private RouteUtil() {
+        // Utility class
+    }
+
+    /**
+     * Method and matched route pattern, e.g. {@code GET /tasks/{id}}, so that
+     * metric tags stay bounded; {@code unmatched} before or without a handler
+     */
+    public static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskflow.common.util;
+
+import com.taskflow.common.deadline.Deadline;
+import com.taskflow.common.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one computation per key at a time; concurrent callers with an
+ * equal key wait for that computation and share its result.
+ *
+ * A result stays reusable for {@code resultTtl} after it completes, and only
+ * while the data version it started at is still current: a computation that
+ * started before a write is never handed to a caller that arrives after it.
+ * Failures are shared with the callers already waiting but never reused.
+ * A waiting caller gives up when its own request {@link Deadline} passes.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final LongSupplier version;
+    private final long resultTtlNanos;
+    private final int maxEntries;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    public SingleFlight(LongSupplier version, Duration resultTtl, int maxEntries) {
+        this.version = version;
+        this.resultTtlNanos = resultTtl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public V get(K key, Supplier<V> computation) {
+        long currentVersion = version.getAsLong();
+        long now = System.nanoTime();
+        Flight<V> ours = new Flight<>(currentVersion);
+        Flight<V> flight = flights.compute(key,
+                (k, existing) -> existing != null && existing.reusable(currentVersion, now, resultTtlNanos)
+                        ? existing : ours);
+
+        if (flight != ours) {
+            (flight.future.isDone() ? reused : joined).increment();
+            return flight.await();
+        }
+
+        executed.increment();
+        if (flights.size() > maxEntries) {
+            evictStale(currentVersion, now);
+        }
+        try {
+            V value = computation.get();
+            ours.complete(value);
+            if (resultTtlNanos <= 0) {
+                flights.remove(key, ours);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            ours.future.completeExceptionally(e);
+            flights.remove(key, ours);
+            throw e;
+        }
+    }
+
+    /**
+     * Calls that ran the computation themselves
+     */
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    /**
+     * Calls that waited for a computation another caller had started
+     */
+    public long getJoined() {
+        return joined.sum();
+    }
+
+    /**
+     * Calls answered from a completed result within its TTL
+     */
+    public long getReused() {
+        return reused.sum();
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private void evictStale(long currentVersion, long now) {
+        flights.values().removeIf(flight -> !flight.reusable(currentVersion, now, resultTtlNanos));
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final long version;
+        private volatile long completedAt;
+
+        Flight(long version) {
+            this.version = version;
+        }
+
+        void complete(V value) {
+            completedAt = System.nanoTime();
+            future.complete(value);
+        }
+
+        boolean reusable(long currentVersion, long now, long ttlNanos) {
+            if (version != currentVersion || future.isCompletedExceptionally()) {
+                return false;
+            }
+            return !future.isDone() || now - completedAt < ttlNanos;
+        }
+
+        /**
+         * Wait for the result, for no longer than the caller's own deadline
+         */
+        V await() {
+            Deadline deadline = Deadline.current();
+            try {
+                return deadline == null
+                        ? future.get()
+                        : future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new DeadlineExceededException(deadline.getTimeout(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a shared result", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.common.util;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Utility class for task tag handling
+ */
+public class TagUtil {
+
+    public static final int MAX_TAG_LENGTH = 50;
+
+    private TagUtil() {
+        // Utility class
+    }
+
+    /**
+     * Trim and lower-case tags, dropping blanks and duplicates
+     */
+    public static Set<String> normalize(Collection<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags == null) {
+            return normalized;
+        }
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                continue;
+            }
+            String value = tag.trim().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_TAG_LENGTH) {
+                throw new IllegalArgumentException(
+                        "Tag must not exceed " + MAX_TAG_LENGTH + " characters: " + value);
+            }
+            normalized.add(value);
+        }
+        return normalized;
+    }
+}
@@ -14,6 +14,7 @@ import jakarta.annotation.PreDestroy;
 import java.util.Optional;
 
 @Configuration
+@Profile("!edge")
 @EnableJpaRepositories(basePackages = "com.taskflow.task.repository")
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
 @EnableTransactionManagement
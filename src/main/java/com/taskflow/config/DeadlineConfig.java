@@ -0,0 +1,62 @@
+package com.taskflow.config;
+
+import com.taskflow.common.deadline.DeadlineDataSource;
+import com.taskflow.common.deadline.DeadlineInterceptor;
+import com.taskflow.common.deadline.DeadlineProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request deadlines: bound to each handler call and enforced on
+ * connection checkout and every JDBC statement
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(DeadlineProperties.class)
+@RequiredArgsConstructor
+public class DeadlineConfig implements WebMvcConfigurer {
+
+    private final DeadlineProperties properties;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new DeadlineInterceptor(properties));
+    }
+
+    // Static so that wrapping the DataSource does not instantiate this configuration early
+    @Bean
+    public static DeadlineDataSourcePostProcessor deadlineDataSourcePostProcessor() {
+        return new DeadlineDataSourcePostProcessor();
+    }
+
+    /**
+     * Ordered first so the deadline wrapper sits directly on the pool and can
+     * bound its checkout, inside any other DataSource decorator. The bean
+     * method declares this type so the order is known before it is created.
+     */
+    static class DeadlineDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineDataSource)) {
+                return new DeadlineDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskflow.config;
+
+import com.taskflow.storage.LogStructuredTaskStore;
+import com.taskflow.storage.StorageProperties;
+import com.taskflow.storage.StoreTransactionManager;
+import com.taskflow.task.repository.TaskClosureRepository;
+import com.taskflow.task.repository.TaskRepository;
+import com.taskflow.task.repository.edge.LogStructuredTaskClosureRepository;
+import com.taskflow.task.repository.edge.LogStructuredTaskRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import java.io.IOException;
+
+/**
+ * Edge deployments: tasks live in the embedded log-structured store and no
+ * database is configured. Replaces {@link DatabaseConfig}.
+ */
+@Configuration
+@Profile("edge")
+@EnableTransactionManagement
+public class EdgeStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public LogStructuredTaskStore taskStore(StorageProperties properties) throws IOException {
+        LogStructuredTaskStore store = new LogStructuredTaskStore(properties);
+        store.open();
+        return store;
+    }
+
+    @Bean
+    public TaskRepository taskRepository(LogStructuredTaskStore taskStore) {
+        return new LogStructuredTaskRepository(taskStore);
+    }
+
+    @Bean
+    public TaskClosureRepository taskClosureRepository(LogStructuredTaskStore taskStore) {
+        return new LogStructuredTaskClosureRepository(taskStore);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(LogStructuredTaskStore taskStore) {
+        return new StoreTransactionManager(taskStore);
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskflow.config;
+
+import com.taskflow.common.invalidation.InvalidationBus;
+import com.taskflow.common.invalidation.InvalidationProperties;
+import com.taskflow.common.invalidation.InvalidationTransport;
+import com.taskflow.common.invalidation.LoopbackTransport;
+import com.taskflow.common.invalidation.MulticastTransport;
+import com.taskflow.common.invalidation.PostgresNotifyTransport;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Cross-instance invalidation of in-process task caches, over the transport
+ * selected by {@code taskflow.invalidation.transport}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(InvalidationProperties properties,
+                                                       ObjectProvider<DataSource> dataSource,
+                                                       ObjectProvider<DataSourceProperties> dataSourceProperties) {
+        return switch (properties.getTransport()) {
+            case POSTGRES -> new PostgresNotifyTransport(dataSource.getObject(),
+                    dataSourceProperties.getObject().initializeDataSourceBuilder()
+                            .type(SimpleDriverDataSource.class).build(),
+                    properties.getPostgres());
+            case MULTICAST -> new MulticastTransport(properties.getMulticast());
+            case LOOPBACK -> new LoopbackTransport();
+        };
+    }
+
+    @Bean
+    public InvalidationBus invalidationBus(InvalidationProperties properties, InvalidationTransport transport) {
+        return new InvalidationBus(properties, transport);
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.config;
+
+import com.taskflow.common.jdbc.QueryStatsDataSourcePostProcessor;
+import com.taskflow.common.jdbc.QueryStatsFilter;
+import com.taskflow.common.jdbc.QueryStatsMetrics;
+import com.taskflow.common.jdbc.QueryStatsProperties;
+import com.taskflow.task.service.TaskServiceQueryStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * JDBC statement, row and time accounting per HTTP request and per
+ * TaskService call
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(QueryStatsProperties.class)
+public class QueryStatsConfig {
+
+    // Static so that wrapping the DataSource does not instantiate this configuration early
+    @Bean
+    public static QueryStatsDataSourcePostProcessor queryStatsDataSourcePostProcessor() {
+        return new QueryStatsDataSourcePostProcessor();
+    }
+
+    @Bean
+    public QueryStatsMetrics queryStatsMetrics(MeterRegistry meterRegistry, QueryStatsProperties properties) {
+        return new QueryStatsMetrics(meterRegistry, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(QueryStatsProperties properties,
+                                                                     QueryStatsMetrics metrics) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(properties, metrics));
+        // Outermost, so the header is added after everything else has written the response
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public TaskServiceQueryStats taskServiceQueryStats(QueryStatsMetrics metrics) {
+        return new TaskServiceQueryStats(metrics);
+    }
+}
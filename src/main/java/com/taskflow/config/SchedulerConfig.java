@@ -0,0 +1,84 @@
+package com.taskflow.config;
+
+import com.taskflow.scheduling.AdvisoryLockJobLeaseProvider;
+import com.taskflow.scheduling.ClusterJob;
+import com.taskflow.scheduling.ClusterScheduler;
+import com.taskflow.scheduling.JobLeaseProvider;
+import com.taskflow.scheduling.LeaseTableJobLeaseProvider;
+import com.taskflow.scheduling.LocalJobLeaseProvider;
+import com.taskflow.scheduling.SchedulerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.DatabaseMetaData;
+import java.util.UUID;
+
+/**
+ * Background jobs run once across all instances, coordinated through the
+ * lease provider selected by {@code taskflow.scheduler.leases}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.scheduler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SchedulerProperties.class)
+public class SchedulerConfig {
+
+    @Bean
+    public JobLeaseProvider jobLeaseProvider(SchedulerProperties properties,
+                                             ObjectProvider<DataSource> dataSource,
+                                             ObjectProvider<DataSourceProperties> dataSourceProperties) {
+        DataSource database = dataSource.getIfAvailable();
+        return switch (resolve(properties.getLeases(), database)) {
+            case ADVISORY_LOCK -> new AdvisoryLockJobLeaseProvider(database,
+                    dataSourceProperties.getObject().initializeDataSourceBuilder()
+                            .type(SimpleDriverDataSource.class).build(),
+                    owner());
+            case LEASE_TABLE -> new LeaseTableJobLeaseProvider(database, owner(), properties.getLeaseTime());
+            case LOCAL, AUTO -> new LocalJobLeaseProvider();
+        };
+    }
+
+    @Bean
+    public ClusterScheduler clusterScheduler(ObjectProvider<ClusterJob> jobs, JobLeaseProvider jobLeaseProvider,
+                                             SchedulerProperties properties, MeterRegistry meterRegistry) {
+        return new ClusterScheduler(jobs.orderedStream().toList(), jobLeaseProvider, properties, meterRegistry);
+    }
+
+    private static SchedulerProperties.Leases resolve(SchedulerProperties.Leases leases, DataSource database) {
+        if (leases != SchedulerProperties.Leases.AUTO) {
+            return leases;
+        }
+        if (database == null) {
+            return SchedulerProperties.Leases.LOCAL;
+        }
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(database, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product)
+                    ? SchedulerProperties.Leases.ADVISORY_LOCK
+                    : SchedulerProperties.Leases.LEASE_TABLE;
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not detect the database for job leases", e);
+        }
+    }
+
+    private static String owner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String owner = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return owner.length() <= 64 ? owner : owner.substring(owner.length() - 64);
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskflow.config;
+
+import com.taskflow.common.timing.ServerTimingAspect;
+import com.taskflow.common.timing.ServerTimingFilter;
+import com.taskflow.common.timing.ServerTimingInterceptor;
+import com.taskflow.common.timing.ServerTimingProperties;
+import com.taskflow.common.timing.TimedJsonConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Server-Timing breakdown of requests into binding, controller, service,
+ * repository, JDBC, mapping and serialization time
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties,
+                                                                         MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties, meterRegistry));
+        // Just inside the query statistics filter, whose request totals become the db entry
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    @Bean
+    public WebMvcConfigurer serverTimingWebMvcConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry registry) {
+                registry.addInterceptor(new ServerTimingInterceptor());
+            }
+
+            @Override
+            public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+                converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter json
+                        && !(converter instanceof TimedJsonConverter)
+                        ? new TimedJsonConverter(json.getObjectMapper()) : converter);
+            }
+        };
+    }
+}
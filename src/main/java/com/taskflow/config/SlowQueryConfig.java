@@ -0,0 +1,33 @@
+package com.taskflow.config;
+
+import com.taskflow.common.jdbc.SlowQueryEndpoint;
+import com.taskflow.common.jdbc.SlowQueryLog;
+import com.taskflow.common.jdbc.SlowQueryProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Capture of slow statements, recorded by the query statistics DataSource
+ * wrapper from {@link QueryStatsConfig}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SlowQueryProperties.class)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog, SlowQueryProperties properties,
+                                               ObjectProvider<DataSource> dataSource) {
+        return new SlowQueryEndpoint(slowQueryLog, properties, dataSource);
+    }
+}
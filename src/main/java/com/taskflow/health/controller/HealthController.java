@@ -1,12 +1,25 @@
 package com.taskflow.health.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
+
+    private final ApplicationAvailability applicationAvailability;
+
     @GetMapping("/health")
-    public String health() {
-        return "UP";
+    public ResponseEntity<String> health() {
+        // Stays unavailable until startup, including warmup, has completed
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARMING_UP");
+        }
+        return ResponseEntity.ok("UP");
     }
 }
@@ -0,0 +1,102 @@
+package com.taskflow.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Leases as PostgreSQL session advisory locks.
+ *
+ * The lock is held for the length of the run on its own connection from an
+ * unpooled DataSource, so it takes no pool slot and closing the connection
+ * really ends the session: the database drops the lock if the instance
+ * dies or a release fails, and no lease timeout is needed.
+ * {@code scheduled_jobs} only records when each shard last ran.
+ */
+@Slf4j
+public class AdvisoryLockJobLeaseProvider implements JobLeaseProvider {
+
+    // First key of every job lock ("TFJB"), keeping them apart from other advisory locks
+    private static final int LOCK_NAMESPACE = 0x54464A42;
+
+    private final DataSource lockDataSource;
+    private final ScheduledJobTable table;
+    private final String owner;
+
+    public AdvisoryLockJobLeaseProvider(DataSource dataSource, DataSource lockDataSource, String owner) {
+        this.lockDataSource = lockDataSource;
+        this.table = new ScheduledJobTable(dataSource);
+        this.owner = owner;
+    }
+
+    @Override
+    public Optional<JobLease> tryClaim(String job, JobShard shard, Duration interval, Instant now) {
+        Instant lastStarted = table.lastStarted(job, shard.index());
+        Instant dueAt = lastStarted != null ? lastStarted.plus(interval) : now;
+        if (dueAt.isAfter(now)) {
+            return Optional.empty();
+        }
+
+        int key = (job + "#" + shard.index()).hashCode();
+        Connection connection = null;
+        try {
+            connection = lockDataSource.getConnection();
+            if (!tryLock(connection, key)) {
+                connection.close();
+                return Optional.empty();
+            }
+            // Re-checked under the lock: the shard may have run since the read above
+            if (!table.claim(job, shard.index(), owner, now, now.minus(interval), null)) {
+                connection.close();
+                return Optional.empty();
+            }
+            Connection held = connection;
+            return Optional.of(JobLease.of(dueAt, () -> release(job, shard, held)));
+        } catch (SQLException e) {
+            // Ending the session also drops a lock it may hold
+            closeQuietly(connection);
+            throw new DataAccessResourceFailureException("Advisory lock for " + job + " failed", e);
+        } catch (RuntimeException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    private void release(String job, JobShard shard, Connection connection) {
+        try {
+            table.finish(job, shard.index(), owner, Instant.now());
+        } finally {
+            // Ending the session releases the lock
+            closeQuietly(connection);
+        }
+    }
+
+    private static boolean tryLock(Connection connection, int key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?, ?)")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setInt(2, key);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close lock connection", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.scheduling;
+
+import java.time.Duration;
+
+/**
+ * Periodic background work that runs once per interval across all
+ * instances rather than on each of them.
+ *
+ * A job with several shards is split into that many partitions, each
+ * claimed separately, so different instances can work on them at the same
+ * time.
+ */
+public interface ClusterJob {
+
+    /**
+     * Stable name; identifies the job's lease across instances and restarts
+     */
+    String getName();
+
+    /**
+     * Time from the start of one run of a shard to the start of the next
+     */
+    Duration getInterval();
+
+    default int getShards() {
+        return 1;
+    }
+
+    /**
+     * Process the given partition; called while its lease is held
+     */
+    void run(JobShard shard);
+}
@@ -0,0 +1,126 @@
+package com.taskflow.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link ClusterJob}s so each shard runs once per interval across all
+ * instances.
+ *
+ * Every instance polls every job and claims whichever due shards nobody else
+ * holds, starting from a random shard so concurrent instances tend to pick
+ * different ones. A failed run is not retried before the next interval.
+ *
+ * Metrics, tagged by job: {@code taskflow.job.runtime} (also by outcome) and
+ * {@code taskflow.job.lag}, the delay between a shard becoming due and its
+ * run starting.
+ */
+@Slf4j
+public class ClusterScheduler {
+
+    private final List<ClusterJob> jobs;
+    private final JobLeaseProvider leases;
+    private final SchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService executor;
+
+    public ClusterScheduler(List<ClusterJob> jobs, JobLeaseProvider leases, SchedulerProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.jobs = jobs;
+        this.leases = leases;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "cluster-scheduler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        for (ClusterJob job : jobs) {
+            long poll = Math.min(job.getInterval().toMillis(), properties.getPollInterval().toMillis());
+            // Spread the instances' polls over the period
+            long initialDelay = ThreadLocalRandom.current().nextLong(poll) + 1;
+            executor.scheduleWithFixedDelay(() -> runDueShards(job), initialDelay, poll, TimeUnit.MILLISECONDS);
+            log.info("Scheduled job {} every {} in {} shards", job.getName(), job.getInterval(), job.getShards());
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Run each shard of {@code job} that is due and not held by another instance
+     *
+     * @return the number of shards run
+     */
+    public int runDueShards(ClusterJob job) {
+        int shards = job.getShards();
+        int first = ThreadLocalRandom.current().nextInt(shards);
+        int ran = 0;
+        for (int i = 0; i < shards; i++) {
+            JobShard shard = new JobShard((first + i) % shards, shards);
+            try {
+                if (runIfDue(job, shard)) {
+                    ran++;
+                }
+            } catch (RuntimeException e) {
+                // Keep the schedule alive; the shard is retried at the next poll or interval
+                log.error("Job {} shard {} failed", job.getName(), shard.index(), e);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return ran;
+    }
+
+    private boolean runIfDue(ClusterJob job, JobShard shard) {
+        Instant now = Instant.now();
+        Optional<JobLease> claimed = leases.tryClaim(job.getName(), shard, job.getInterval(), now);
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        try (JobLease lease = claimed.get()) {
+            Timer.builder("taskflow.job.lag")
+                    .tag("job", job.getName())
+                    .register(meterRegistry)
+                    .record(Duration.between(lease.getDueAt(), now));
+
+            long start = System.nanoTime();
+            String outcome = "failure";
+            try {
+                job.run(shard);
+                outcome = "success";
+            } finally {
+                Timer.builder("taskflow.job.runtime")
+                        .tag("job", job.getName())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskflow.scheduling;
+
+import java.time.Instant;
+
+/**
+ * Exclusive right to run one shard of a job now. Closing it records the end
+ * of the run and lets the next interval's run be claimed.
+ */
+public interface JobLease extends AutoCloseable {
+
+    /**
+     * When this run became due; the difference to its start is the run's lag
+     */
+    Instant getDueAt();
+
+    @Override
+    void close();
+
+    static JobLease of(Instant dueAt, Runnable release) {
+        return new JobLease() {
+            @Override
+            public Instant getDueAt() {
+                return dueAt;
+            }
+
+            @Override
+            public void close() {
+                release.run();
+            }
+        };
+    }
+}
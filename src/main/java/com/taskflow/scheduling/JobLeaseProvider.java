@@ -0,0 +1,20 @@
+package com.taskflow.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Hands out {@link JobLease}s so each shard of a job runs at most once per
+ * interval and never on two instances at once
+ */
+public interface JobLeaseProvider {
+
+    /**
+     * Claim {@code shard} of {@code job} if its last run started at least
+     * {@code interval} before {@code now} and nobody is running it
+     *
+     * @return the lease, or empty if the shard is not due or held elsewhere
+     */
+    Optional<JobLease> tryClaim(String job, JobShard shard, Duration interval, Instant now);
+}
@@ -0,0 +1,20 @@
+package com.taskflow.scheduling;
+
+/**
+ * Partition {@code index} of {@code count} of a job's work. Rows are
+ * assigned by {@code id % count}.
+ */
+public record JobShard(int index, int count) {
+
+    public static final JobShard ALL = new JobShard(0, 1);
+
+    public JobShard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+    }
+
+    public boolean contains(long id) {
+        return Math.floorMod(id, count) == index;
+    }
+}
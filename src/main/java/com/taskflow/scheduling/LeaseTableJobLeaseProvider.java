@@ -0,0 +1,36 @@
+package com.taskflow.scheduling;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Leases kept in {@code scheduled_jobs} itself, for databases without
+ * advisory locks. A claim is one conditional update; the lease lapses after
+ * {@code leaseTime}, so a shard whose owner died is picked up again, and a
+ * run must finish within that time.
+ */
+public class LeaseTableJobLeaseProvider implements JobLeaseProvider {
+
+    private final ScheduledJobTable table;
+    private final String owner;
+    private final Duration leaseTime;
+
+    public LeaseTableJobLeaseProvider(DataSource dataSource, String owner, Duration leaseTime) {
+        this.table = new ScheduledJobTable(dataSource);
+        this.owner = owner;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public Optional<JobLease> tryClaim(String job, JobShard shard, Duration interval, Instant now) {
+        Instant lastStarted = table.lastStarted(job, shard.index());
+        Instant dueAt = lastStarted != null ? lastStarted.plus(interval) : now;
+        if (dueAt.isAfter(now)
+                || !table.claim(job, shard.index(), owner, now, now.minus(interval), now.plus(leaseTime))) {
+            return Optional.empty();
+        }
+        return Optional.of(JobLease.of(dueAt, () -> table.finish(job, shard.index(), owner, Instant.now())));
+    }
+}
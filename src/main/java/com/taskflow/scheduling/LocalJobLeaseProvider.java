@@ -0,0 +1,36 @@
+package com.taskflow.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Leases within this instance only, for deployments without a shared
+ * database (each edge instance owns its data, so its jobs run locally)
+ */
+public class LocalJobLeaseProvider implements JobLeaseProvider {
+
+    private final Map<String, Instant> lastStarted = new HashMap<>();
+    private final Set<String> running = new HashSet<>();
+
+    @Override
+    public synchronized Optional<JobLease> tryClaim(String job, JobShard shard, Duration interval, Instant now) {
+        String key = job + "#" + shard.index();
+        Instant last = lastStarted.get(key);
+        Instant dueAt = last != null ? last.plus(interval) : now;
+        if (running.contains(key) || dueAt.isAfter(now)) {
+            return Optional.empty();
+        }
+        lastStarted.put(key, now);
+        running.add(key);
+        return Optional.of(JobLease.of(dueAt, () -> release(key)));
+    }
+
+    private synchronized void release(String key) {
+        running.remove(key);
+    }
+}
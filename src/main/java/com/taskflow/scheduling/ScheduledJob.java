@@ -0,0 +1,38 @@
+package com.taskflow.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Run bookkeeping of one shard of a {@link ClusterJob}, shared by all
+ * instances. Only read and written with conditional JDBC updates by the
+ * lease providers; mapped so the schema is validated with the rest.
+ */
+@Entity
+@Table(name = "scheduled_jobs")
+@Data
+@NoArgsConstructor
+public class ScheduledJob {
+    @EmbeddedId
+    private ScheduledJobId id;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+
+    // Instance running the shard, if any
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    // Lease table only: when a crashed owner's claim lapses
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,68 @@
+package com.taskflow.scheduling;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC access to {@code scheduled_jobs} for the database-backed lease providers
+ */
+class ScheduledJobTable {
+
+    private final JdbcTemplate jdbc;
+
+    ScheduledJobTable(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Start of the shard's last run, or null if it never ran; creates the
+     * shard's row on first use
+     */
+    Instant lastStarted(String job, int shard) {
+        List<Timestamp> rows = jdbc.queryForList(
+                "SELECT last_started_at FROM scheduled_jobs WHERE job_name = ? AND shard = ?",
+                Timestamp.class, job, shard);
+        if (rows.isEmpty()) {
+            try {
+                jdbc.update("INSERT INTO scheduled_jobs (job_name, shard) VALUES (?, ?)", job, shard);
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created it first
+            }
+            return null;
+        }
+        Timestamp lastStarted = rows.get(0);
+        return lastStarted != null ? lastStarted.toInstant() : null;
+    }
+
+    /**
+     * Mark the shard as started by {@code owner} if no run started after
+     * {@code startedBefore} and, when {@code leaseUntil} is given, no other
+     * lease is current
+     *
+     * @return whether this call claimed the shard
+     */
+    boolean claim(String job, int shard, String owner, Instant now, Instant startedBefore, Instant leaseUntil) {
+        String sql = "UPDATE scheduled_jobs SET lease_owner = ?, lease_until = ?, last_started_at = ? " +
+                "WHERE job_name = ? AND shard = ? AND (last_started_at IS NULL OR last_started_at <= ?)";
+        if (leaseUntil == null) {
+            return jdbc.update(sql, owner, null, timestamp(now), job, shard, timestamp(startedBefore)) == 1;
+        }
+        return jdbc.update(sql + " AND (lease_until IS NULL OR lease_until < ?)",
+                owner, timestamp(leaseUntil), timestamp(now), job, shard, timestamp(startedBefore),
+                timestamp(now)) == 1;
+    }
+
+    void finish(String job, int shard, String owner, Instant finishedAt) {
+        jdbc.update("UPDATE scheduled_jobs SET lease_owner = NULL, lease_until = NULL, last_finished_at = ? " +
+                "WHERE job_name = ? AND shard = ? AND lease_owner = ?", timestamp(finishedAt), job, shard, owner);
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return Timestamp.from(instant);
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.scheduling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for running {@link ClusterJob}s once across all instances
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.scheduler")
+public class SchedulerProperties {
+
+    public enum Leases {
+        // Advisory locks on PostgreSQL, the lease table on other databases, local without a database
+        AUTO,
+        ADVISORY_LOCK,
+        LEASE_TABLE,
+        LOCAL
+    }
+
+    private boolean enabled = true;
+
+    private Leases leases = Leases.AUTO;
+
+    /**
+     * How often each instance checks whether a job shard is due; jobs with a
+     * shorter interval are checked at their interval
+     */
+    private Duration pollInterval = Duration.ofSeconds(30);
+
+    /**
+     * Lease table only: longest a run may take before another instance may
+     * claim the same shard
+     */
+    private Duration leaseTime = Duration.ofMinutes(30);
+
+    /**
+     * Job shards run concurrently on this instance
+     */
+    private int threads = 2;
+}
@@ -0,0 +1,787 @@
+package com.taskflow.storage;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Embedded task storage engine for deployments without a database.
+ *
+ * Every write is appended to a memory-mapped {@link WriteAheadLog} and then
+ * applied to in-memory state: a primary index by ID plus secondary indexes
+ * on status, priority, due date and parent. A compactor periodically writes
+ * a {@link SnapshotFile} and drops the log segments it covers; on startup the
+ * latest snapshot is loaded and the remaining log replayed.
+ *
+ * The log is forced after every write, or once at commit when the write
+ * runs inside a {@link StoreTransactionManager} transaction. Such a
+ * transaction's records are framed by BEGIN and COMMIT markers and replayed
+ * only if the COMMIT was written; a rollback restores the tasks it replaced
+ * and writes an ABORT marker instead. Stored tasks are never handed out;
+ * readers get copies.
+ */
+@Slf4j
+public class LogStructuredTaskStore implements AutoCloseable {
+
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    private final StorageProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object compactionMonitor = new Object();
+
+    private final NavigableMap<Long, Task> tasks = new TreeMap<>();
+    private final Map<TaskStatus, Set<Long>> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, Set<Long>> byPriority = new EnumMap<>(TaskPriority.class);
+    private final NavigableMap<LocalDate, Set<Long>> byDueDate = new TreeMap<>();
+    private final Map<Long, Set<Long>> children = new HashMap<>();
+
+    // Guarded by the write lock
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_BYTES);
+    private long nextId = 1;
+    private WriteAheadLog wal;
+    // Tasks replaced by the open exclusive transaction, oldest first; null outside one
+    private List<Undo> undoLog;
+
+    // Records of a transaction being replayed whose COMMIT has not been read yet
+    private List<TaskCodec.Entry> pendingReplay;
+
+    private ScheduledExecutorService compactor;
+
+    public LogStructuredTaskStore(StorageProperties properties) {
+        this.properties = properties;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new HashSet<>());
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, new HashSet<>());
+        }
+    }
+
+    /**
+     * Recover state from the latest snapshot and the log, then start the compactor
+     */
+    public void open() throws IOException {
+        Path directory = properties.getDirectory();
+        Files.createDirectories(directory);
+
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(directory)) {
+            snapshots = files.filter(SnapshotFile::isSnapshot).sorted().toList();
+        }
+        long firstSegment = 0;
+        if (!snapshots.isEmpty()) {
+            Path latest = snapshots.get(snapshots.size() - 1);
+            SnapshotFile.Contents contents = SnapshotFile.read(latest);
+            contents.tasks().forEach(this::apply);
+            nextId = contents.nextId();
+            firstSegment = SnapshotFile.segmentId(latest);
+        }
+
+        int[] replayed = {0};
+        wal = WriteAheadLog.open(directory, segmentSize(), firstSegment, payload -> {
+            replay(TaskCodec.decode(payload));
+            replayed[0]++;
+        });
+        if (pendingReplay != null) {
+            // Interrupted by a crash before its commit; close it so later records apply as usual
+            log.warn("Discarding {} log record(s) of an uncommitted transaction", pendingReplay.size());
+            pendingReplay = null;
+            appendMarker(TaskCodec.ABORT);
+        }
+        log.info("Task store opened in {}: {} tasks, {} log records replayed from segment {}",
+                directory.toAbsolutePath(), tasks.size(), replayed[0], firstSegment);
+
+        long interval = properties.getCompactionInterval().toMillis();
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        lock.writeLock().lock();
+        try {
+            if (wal != null) {
+                wal.close();
+                wal = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Reads
+
+    public Optional<Task> findById(long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(tasks.get(id)).map(LogStructuredTaskStore::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try {
+            return tasks.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(TaskCriteria criteria) {
+        // A lone status or priority filter is answered by its index
+        boolean onlyEnums = criteria.search() == null && criteria.ids() == null && !criteria.hasDueRange();
+        if (onlyEnums && (criteria.status() == null) != (criteria.priority() == null)) {
+            lock.readLock().lock();
+            try {
+                Set<Long> ids = criteria.status() != null
+                        ? byStatus.get(criteria.status())
+                        : byPriority.get(criteria.priority());
+                return ids.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        long[] count = {0};
+        forEach(criteria, task -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Copies of the matching tasks in {@code sort} order
+     */
+    public List<Task> find(TaskCriteria criteria, Sort sort) {
+        return project(criteria, sort, LogStructuredTaskStore::copy);
+    }
+
+    /**
+     * One page of copies of the matching tasks; only the page is copied
+     */
+    public Page<Task> find(TaskCriteria criteria, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            List<Task> matches = project(criteria, pageable.getSort(), Function.identity());
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(copyAll(matches), pageable, matches.size());
+            }
+            int from = (int) Math.min(pageable.getOffset(), matches.size());
+            int to = Math.min(from + pageable.getPageSize(), matches.size());
+            return new PageImpl<>(copyAll(matches.subList(from, to)), pageable, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit each matching task in no particular order, without copying it.
+     * The action must not retain or modify the task.
+     */
+    public void forEach(TaskCriteria criteria, Consumer<Task> action) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = idSet(criteria);
+            for (Long id : candidates(criteria, ids)) {
+                Task task = tasks.get(id);
+                if (task != null && matches(task, criteria, ids)) {
+                    action.accept(task);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Map each matching task, in {@code sort} order, without copying it.
+     * The mapper must not retain or modify the task.
+     */
+    public <R> List<R> project(TaskCriteria criteria, Sort sort, Function<Task, R> mapper) {
+        lock.readLock().lock();
+        try {
+            List<Task> matches = new ArrayList<>();
+            forEach(criteria, matches::add);
+            matches.sort(comparator(sort));
+            List<R> result = new ArrayList<>(matches.size());
+            for (Task task : matches) {
+                result.add(mapper.apply(task));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of a task's ancestors, nearest first
+     */
+    public List<Long> ancestorIds(long id) {
+        lock.readLock().lock();
+        try {
+            List<Long> ancestors = new ArrayList<>();
+            Task task = tasks.get(id);
+            while (task != null && task.getParentId() != null) {
+                ancestors.add(task.getParentId());
+                task = tasks.get(task.getParentId());
+            }
+            return ancestors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of a task's descendants by depth: element 0 holds the children,
+     * each level sorted by ID. A null {@code maxDepth} walks the whole subtree.
+     */
+    public List<List<Long>> descendantLevels(long id, Integer maxDepth) {
+        lock.readLock().lock();
+        try {
+            List<List<Long>> levels = new ArrayList<>();
+            List<Long> level = childrenOf(List.of(id));
+            while (!level.isEmpty() && (maxDepth == null || levels.size() < maxDepth)) {
+                levels.add(level);
+                level = childrenOf(level);
+            }
+            return levels;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Writes
+
+    /**
+     * Insert or update a task. The passed task receives its generated ID and
+     * timestamps; created_at and the subtree counters of an existing task are
+     * kept, matching their non-updatable JPA mapping.
+     */
+    public Task save(Task task) {
+        lock.writeLock().lock();
+        try {
+            Task stored = task.getId() != null ? tasks.get(task.getId()) : null;
+            LocalDateTime now = LocalDateTime.now();
+            if (stored == null) {
+                if (task.getId() == null) {
+                    task.setId(nextId);
+                }
+                beforeWrite(task.getId());
+                if (task.getCreatedAt() == null) {
+                    task.setCreatedAt(now);
+                }
+                if (task.getUpdatedAt() == null) {
+                    task.setUpdatedAt(now);
+                }
+                task.setSubtreeSize(1);
+                task.setSubtreeCompleted(task.isCompleted() ? 1 : 0);
+            } else {
+                beforeWrite(task.getId());
+                task.setCreatedAt(stored.getCreatedAt());
+                task.setUpdatedAt(now);
+                task.setSubtreeSize(stored.getSubtreeSize());
+                task.setSubtreeCompleted(stored.getSubtreeCompleted());
+            }
+            write(copy(task));
+            return task;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean delete(long id) {
+        lock.writeLock().lock();
+        try {
+            if (!tasks.containsKey(id)) {
+                return false;
+            }
+            beforeWrite(id);
+            scratch.clear();
+            TaskCodec.encodeDelete(id, scratch);
+            append();
+            remove(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setParent(long id, Long parentId) {
+        lock.writeLock().lock();
+        try {
+            Task task = tasks.get(id);
+            if (task != null) {
+                beforeWrite(id);
+                Task updated = copy(task);
+                updated.setParentId(parentId);
+                write(updated);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void adjustCounters(long id, int sizeDelta, int completedDelta) {
+        lock.writeLock().lock();
+        try {
+            Task task = tasks.get(id);
+            if (task != null) {
+                beforeWrite(id);
+                Task updated = copy(task);
+                updated.setSubtreeSize(task.getSubtreeSize() + sizeDelta);
+                updated.setSubtreeCompleted(task.getSubtreeCompleted() + completedDelta);
+                write(updated);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Force every appended record to disk
+     */
+    public void sync() {
+        lock.writeLock().lock();
+        try {
+            wal.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Start a transaction that blocks all other readers and writers until
+     * {@link #endExclusive()}, so none of them sees its writes before it
+     * completes; the holder may still read
+     */
+    void beginExclusive() {
+        lock.writeLock().lock();
+        undoLog = new ArrayList<>();
+    }
+
+    /**
+     * Mark the transaction's writes committed and force them to disk
+     */
+    void commitExclusive() {
+        if (!undoLog.isEmpty()) {
+            appendMarker(TaskCodec.COMMIT);
+        }
+        wal.force();
+        undoLog.clear();
+    }
+
+    /**
+     * Restore every task the transaction replaced and mark its records aborted
+     */
+    void rollbackExclusive() {
+        if (undoLog.isEmpty()) {
+            return;
+        }
+        for (int i = undoLog.size() - 1; i >= 0; i--) {
+            Undo undo = undoLog.get(i);
+            if (undo.previous() != null) {
+                apply(undo.previous());
+            } else {
+                remove(undo.id());
+            }
+        }
+        undoLog.clear();
+        appendMarker(TaskCodec.ABORT);
+        wal.force();
+    }
+
+    void endExclusive() {
+        undoLog = null;
+        lock.writeLock().unlock();
+    }
+
+    /**
+     * Snapshot the current state and drop the log segments it covers.
+     * Writers are only blocked while the log is rolled and the task map copied.
+     */
+    public void compact() throws IOException {
+        synchronized (compactionMonitor) {
+            long segmentId;
+            long snapshotNextId;
+            List<Task> snapshot;
+            lock.writeLock().lock();
+            try {
+                wal.force();
+                segmentId = wal.roll();
+                // Stored tasks are replaced, never modified, so a shallow copy is stable
+                snapshot = new ArrayList<>(tasks.values());
+                snapshotNextId = nextId;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Path directory = properties.getDirectory();
+            SnapshotFile.write(directory, segmentId, snapshotNextId, snapshot, ByteBuffer.allocate(MAX_RECORD_BYTES));
+
+            lock.writeLock().lock();
+            try {
+                wal.deleteSegmentsBefore(segmentId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(SnapshotFile::isSnapshot).toList()) {
+                    if (SnapshotFile.segmentId(file) < segmentId) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+            log.info("Task store compacted: snapshot of {} tasks before segment {}", snapshot.size(), segmentId);
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            long logSize;
+            lock.writeLock().lock();
+            try {
+                logSize = wal.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (logSize >= properties.getCompactionLogSize().toBytes()) {
+                compact();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Task store compaction failed", e);
+        }
+    }
+
+    // Internals
+
+    /**
+     * Remember the current version of a task the open transaction is about to
+     * replace; the first write of a transaction also logs its BEGIN marker
+     */
+    private void beforeWrite(long id) {
+        if (undoLog == null) {
+            return;
+        }
+        if (undoLog.isEmpty()) {
+            appendMarker(TaskCodec.BEGIN);
+        }
+        undoLog.add(new Undo(id, tasks.get(id)));
+    }
+
+    private void appendMarker(byte type) {
+        scratch.clear();
+        TaskCodec.encodeMarker(type, scratch);
+        append();
+    }
+
+    private void write(Task task) {
+        scratch.clear();
+        TaskCodec.encodePut(task, scratch);
+        append();
+        apply(task);
+    }
+
+    private void append() {
+        scratch.flip();
+        try {
+            wal.append(scratch);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to the task store log", e);
+        }
+        // Inside a store transaction the log is forced once at commit
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            wal.force();
+        }
+    }
+
+    private void replay(TaskCodec.Entry entry) {
+        switch (entry.type()) {
+            case TaskCodec.BEGIN -> pendingReplay = new ArrayList<>();
+            case TaskCodec.COMMIT -> {
+                if (pendingReplay != null) {
+                    pendingReplay.forEach(this::replayChange);
+                    pendingReplay = null;
+                }
+            }
+            case TaskCodec.ABORT -> pendingReplay = null;
+            default -> {
+                if (pendingReplay != null) {
+                    pendingReplay.add(entry);
+                } else {
+                    replayChange(entry);
+                }
+            }
+        }
+    }
+
+    private void replayChange(TaskCodec.Entry entry) {
+        if (entry.isDelete()) {
+            remove(entry.id());
+        } else {
+            apply(entry.task());
+        }
+    }
+
+    private void apply(Task task) {
+        Task previous = tasks.put(task.getId(), task);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(task);
+        nextId = Math.max(nextId, task.getId() + 1);
+    }
+
+    private void remove(long id) {
+        Task previous = tasks.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void index(Task task) {
+        byStatus.get(task.getStatus()).add(task.getId());
+        byPriority.get(task.getPriority()).add(task.getId());
+        if (task.getDueDate() != null) {
+            byDueDate.computeIfAbsent(task.getDueDate(), date -> new HashSet<>()).add(task.getId());
+        }
+        if (task.getParentId() != null) {
+            children.computeIfAbsent(task.getParentId(), parent -> new TreeSet<>()).add(task.getId());
+        }
+    }
+
+    private void unindex(Task task) {
+        byStatus.get(task.getStatus()).remove(task.getId());
+        byPriority.get(task.getPriority()).remove(task.getId());
+        if (task.getDueDate() != null) {
+            removeFrom(byDueDate, task.getDueDate(), task.getId());
+        }
+        if (task.getParentId() != null) {
+            removeFrom(children, task.getParentId(), task.getId());
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Long>> index, K key, Long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private List<Long> childrenOf(List<Long> parents) {
+        List<Long> result = new ArrayList<>();
+        for (Long parent : parents) {
+            result.addAll(children.getOrDefault(parent, Collections.emptySet()));
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private static Set<Long> idSet(TaskCriteria criteria) {
+        return criteria.ids() != null ? new LinkedHashSet<>(criteria.ids()) : null;
+    }
+
+    /**
+     * The smallest index entry that covers the criteria; the full predicate
+     * is still applied to every candidate
+     */
+    private Collection<Long> candidates(TaskCriteria criteria, Set<Long> ids) {
+        Collection<Long> best = ids;
+        if (criteria.status() != null) {
+            best = smaller(best, byStatus.get(criteria.status()));
+        }
+        if (criteria.priority() != null) {
+            best = smaller(best, byPriority.get(criteria.priority()));
+        }
+        if (best == null && criteria.hasDueRange()) {
+            best = dueDateCandidates(criteria);
+        }
+        return best != null ? best : tasks.keySet();
+    }
+
+    private Collection<Long> dueDateCandidates(TaskCriteria criteria) {
+        NavigableMap<LocalDate, Set<Long>> range = byDueDate;
+        if (criteria.dueFrom() != null) {
+            range = range.tailMap(criteria.dueFrom(), true);
+        }
+        if (criteria.dueTo() != null) {
+            range = range.headMap(criteria.dueTo(), true);
+        }
+        if (criteria.dueBefore() != null) {
+            range = range.headMap(criteria.dueBefore(), false);
+        }
+        List<Long> ids = new ArrayList<>();
+        range.values().forEach(ids::addAll);
+        return ids;
+    }
+
+    private static Collection<Long> smaller(Collection<Long> current, Collection<Long> candidate) {
+        return current == null || candidate.size() < current.size() ? candidate : current;
+    }
+
+    private static boolean matches(Task task, TaskCriteria criteria, Set<Long> ids) {
+        if (ids != null && !ids.contains(task.getId())) {
+            return false;
+        }
+        if (criteria.status() != null && task.getStatus() != criteria.status()) {
+            return false;
+        }
+        if (criteria.priority() != null && task.getPriority() != criteria.priority()) {
+            return false;
+        }
+        LocalDate dueDate = task.getDueDate();
+        if (criteria.hasDueRange() && dueDate == null) {
+            return false;
+        }
+        if (criteria.dueFrom() != null && dueDate.isBefore(criteria.dueFrom())) {
+            return false;
+        }
+        if (criteria.dueTo() != null && dueDate.isAfter(criteria.dueTo())) {
+            return false;
+        }
+        if (criteria.dueBefore() != null && !dueDate.isBefore(criteria.dueBefore())) {
+            return false;
+        }
+        if (criteria.search() != null) {
+            String search = criteria.search().toLowerCase();
+            return containsIgnoreCase(task.getTitle(), search) || containsIgnoreCase(task.getDescription(), search);
+        }
+        return true;
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerCaseSearch) {
+        return value != null && value.toLowerCase().contains(lowerCaseSearch);
+    }
+
+    /**
+     * Comparator for a Spring Data sort over task properties. Nulls sort as
+     * the largest value, as in PostgreSQL, unless the order says otherwise.
+     */
+    static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> result = null;
+        for (Sort.Order order : sort) {
+            Function<Task, Comparable<Object>> key = sortKey(order.getProperty());
+            boolean nullsFirst = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> true;
+                case NULLS_LAST -> false;
+                case NATIVE -> order.isDescending();
+            };
+            Comparator<Comparable<Object>> values = order.isAscending()
+                    ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            Comparator<Task> next = Comparator.comparing(key,
+                    nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values));
+            result = result == null ? next : result.thenComparing(next);
+        }
+        // ID breaks ties, so unsorted and partially sorted results are deterministic
+        Comparator<Task> byId = Comparator.comparing(Task::getId);
+        return result != null ? result.thenComparing(byId) : byId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Task, Comparable<Object>> sortKey(String property) {
+        Function<Task, ? extends Comparable<?>> key = switch (property) {
+            case "id" -> Task::getId;
+            case "title" -> Task::getTitle;
+            case "description" -> Task::getDescription;
+            case "status" -> task -> task.getStatus().name();
+            case "priority" -> task -> task.getPriority().getOrderValue();
+            case "dueDate" -> Task::getDueDate;
+            case "parentId" -> Task::getParentId;
+            case "createdAt" -> Task::getCreatedAt;
+            case "updatedAt" -> Task::getUpdatedAt;
+            default -> throw new IllegalArgumentException("Unknown task sort property: " + property);
+        };
+        return (Function<Task, Comparable<Object>>) key;
+    }
+
+    private static List<Task> copyAll(List<Task> source) {
+        List<Task> copies = new ArrayList<>(source.size());
+        source.forEach(task -> copies.add(copy(task)));
+        return copies;
+    }
+
+    private static Task copy(Task task) {
+        Task copy = new Task();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setPriority(task.getPriority());
+        copy.setDueDate(task.getDueDate());
+        copy.setParentId(task.getParentId());
+        copy.setSubtreeSize(task.getSubtreeSize());
+        copy.setSubtreeCompleted(task.getSubtreeCompleted());
+        copy.setTags(new HashSet<>(task.getTags()));
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setUpdatedAt(task.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * A task as it was before a transaction's write; null if it did not exist
+     */
+    private record Undo(long id, Task previous) {
+    }
+
+    private int segmentSize() {
+        long size = properties.getSegmentSize().toBytes();
+        if (size < 2 * MAX_RECORD_BYTES || size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("taskflow.storage.segment-size must be between "
+                    + 2 * MAX_RECORD_BYTES + " bytes and 2GB");
+        }
+        return (int) size;
+    }
+}
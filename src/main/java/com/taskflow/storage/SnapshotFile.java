@@ -0,0 +1,120 @@
+package com.taskflow.storage;
+
+import com.taskflow.task.entity.Task;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Point-in-time copy of every live task, named after the first WAL segment
+ * it does not cover.
+ *
+ * Uses the WAL framing: a header frame {@code long nextId, int taskCount}
+ * followed by one frame per task. Written to a temporary file, forced and
+ * atomically renamed, so a crash never leaves a partial snapshot behind.
+ */
+final class SnapshotFile {
+
+    static final String PREFIX = "snapshot-";
+    static final String SUFFIX = ".snap";
+
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private SnapshotFile() {
+    }
+
+    record Contents(long nextId, List<Task> tasks) {
+    }
+
+    static Path path(Path directory, long segmentId) {
+        return directory.resolve(PREFIX + String.format("%016d", segmentId) + SUFFIX);
+    }
+
+    static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    static boolean isSnapshot(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    static Path write(Path directory, long segmentId, long nextId, Collection<Task> tasks,
+                      ByteBuffer scratch) throws IOException {
+        Path target = path(directory, segmentId);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            scratch.clear();
+            scratch.putLong(nextId).putInt(tasks.size()).flip();
+            writeFrame(channel, out, scratch, crc);
+            for (Task task : tasks) {
+                scratch.clear();
+                TaskCodec.encodeTask(task, scratch);
+                scratch.flip();
+                writeFrame(channel, out, scratch, crc);
+            }
+            drain(channel, out);
+            channel.force(true);
+        }
+        return Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Contents read(Path file) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        CRC32 crc = new CRC32();
+
+        ByteBuffer header = readFrame(data, crc, file);
+        long nextId = header.getLong();
+        int count = header.getInt();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(TaskCodec.decodeTask(readFrame(data, crc, file)));
+        }
+        return new Contents(nextId, tasks);
+    }
+
+    private static void writeFrame(FileChannel channel, ByteBuffer out, ByteBuffer payload,
+                                   CRC32 crc) throws IOException {
+        crc.reset();
+        crc.update(payload.duplicate());
+        if (out.remaining() < WalSegment.FRAME_HEADER_BYTES + payload.remaining()) {
+            drain(channel, out);
+        }
+        out.putInt(payload.remaining()).putInt((int) crc.getValue()).put(payload);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    private static ByteBuffer readFrame(ByteBuffer data, CRC32 crc, Path file) {
+        int length = data.getInt();
+        int expectedCrc = data.getInt();
+        ByteBuffer payload = data.slice(data.position(), length);
+        data.position(data.position() + length);
+        crc.reset();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IllegalStateException("Snapshot " + file + " is corrupt");
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskflow.storage;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the embedded log-structured task store used by the edge profile
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.storage")
+public class StorageProperties {
+
+    /**
+     * Directory holding write-ahead log segments and snapshots
+     */
+    private Path directory = Path.of("data", "store");
+
+    /**
+     * Size of each memory-mapped write-ahead log segment
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    /**
+     * How often the compactor checks the log size
+     */
+    private Duration compactionInterval = Duration.ofMinutes(5);
+
+    /**
+     * Log size above which the compactor writes a snapshot and drops the covered segments
+     */
+    private DataSize compactionLogSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,109 @@
+package com.taskflow.storage;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction manager for {@link LogStructuredTaskStore}.
+ *
+ * A read-write transaction holds the store's exclusive lock from begin to
+ * completion, so multi-step service operations are serialised and no reader
+ * sees their writes before they commit. The log is forced once at commit
+ * instead of after every write; a rollback, including one forced by a
+ * participating call marked rollback-only, restores every task the
+ * transaction replaced. Read-only transactions take no lock of their own;
+ * each read waits for a running read-write transaction to complete.
+ */
+public class StoreTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final LogStructuredTaskStore store;
+
+    public StoreTransactionManager(LogStructuredTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new StoreTransaction((Scope) TransactionSynchronizationManager.getResource(store));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((StoreTransaction) transaction).scope != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Scope scope = new Scope(!definition.isReadOnly());
+        if (scope.exclusive) {
+            store.beginExclusive();
+        }
+        ((StoreTransaction) transaction).scope = scope;
+        TransactionSynchronizationManager.bindResource(store, scope);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        if (((StoreTransaction) status.getTransaction()).scope.exclusive) {
+            store.commitExclusive();
+        } else {
+            store.sync();
+        }
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        if (((StoreTransaction) status.getTransaction()).scope.exclusive) {
+            store.rollbackExclusive();
+        } else {
+            store.sync();
+        }
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        // Seen by the outermost transaction, which then rolls back instead of committing
+        ((StoreTransaction) status.getTransaction()).scope.rollbackOnly = true;
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResource(store);
+        if (((StoreTransaction) transaction).scope.exclusive) {
+            store.endExclusive();
+        }
+    }
+
+    /**
+     * State of one outermost transaction, shared with the calls participating in it
+     */
+    private static class Scope {
+        private final boolean exclusive;
+        private boolean rollbackOnly;
+
+        Scope(boolean exclusive) {
+            this.exclusive = exclusive;
+        }
+    }
+
+    private static class StoreTransaction implements SmartTransactionObject {
+        private Scope scope;
+
+        StoreTransaction(Scope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return scope != null && scope.rollbackOnly;
+        }
+
+        @Override
+        public void flush() {
+            // Writes are applied as they are made
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.taskflow.storage;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Binary encoding of store records (big-endian).
+ *
+ * <pre>
+ * PUT:    byte 1, long id, string title, string description, string status,
+ *         short priority orderValue, long dueDate epoch day, long parentId,
+ *         int subtreeSize, int subtreeCompleted, dateTime createdAt,
+ *         dateTime updatedAt, short tag count, string tag...
+ * DELETE: byte 2, long id
+ * BEGIN:  byte 3
+ * COMMIT: byte 4
+ * ABORT:  byte 5
+ * </pre>
+ * The records between a BEGIN and its COMMIT belong to one transaction and
+ * are only applied on replay once the COMMIT is read.
+ * Strings are an int byte length ({@code -1} for null) followed by UTF-8
+ * bytes; a date-time is epoch second and nano in UTC. Absent dates are
+ * {@link Long#MIN_VALUE} and an absent parent is 0.
+ */
+final class TaskCodec {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    static final byte BEGIN = 3;
+    static final byte COMMIT = 4;
+    static final byte ABORT = 5;
+
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    private TaskCodec() {
+    }
+
+    /**
+     * A decoded record: the task for a PUT, null otherwise; markers have no ID
+     */
+    record Entry(byte type, long id, Task task) {
+        boolean isDelete() {
+            return type == DELETE;
+        }
+    }
+
+    static void encodePut(Task task, ByteBuffer target) {
+        target.put(PUT);
+        encodeTask(task, target);
+    }
+
+    static void encodeDelete(long id, ByteBuffer target) {
+        target.put(DELETE);
+        target.putLong(id);
+    }
+
+    static void encodeMarker(byte type, ByteBuffer target) {
+        target.put(type);
+    }
+
+    static Entry decode(ByteBuffer source) {
+        byte type = source.get();
+        return switch (type) {
+            case PUT -> {
+                Task task = decodeTask(source);
+                yield new Entry(type, task.getId(), task);
+            }
+            case DELETE -> new Entry(type, source.getLong(), null);
+            case BEGIN, COMMIT, ABORT -> new Entry(type, 0, null);
+            default -> throw new IllegalStateException("Unknown store record type " + type);
+        };
+    }
+
+    static void encodeTask(Task task, ByteBuffer target) {
+        target.putLong(task.getId());
+        putString(target, task.getTitle());
+        putString(target, task.getDescription());
+        putString(target, task.getStatus().name());
+        target.putShort((short) task.getPriority().getOrderValue());
+        target.putLong(task.getDueDate() != null ? task.getDueDate().toEpochDay() : ABSENT);
+        target.putLong(task.getParentId() != null ? task.getParentId() : 0L);
+        target.putInt(task.getSubtreeSize());
+        target.putInt(task.getSubtreeCompleted());
+        putDateTime(target, task.getCreatedAt());
+        putDateTime(target, task.getUpdatedAt());
+        target.putShort((short) task.getTags().size());
+        for (String tag : task.getTags()) {
+            putString(target, tag);
+        }
+    }
+
+    static Task decodeTask(ByteBuffer source) {
+        Task task = new Task();
+        task.setId(source.getLong());
+        task.setTitle(getString(source));
+        task.setDescription(getString(source));
+        task.setStatus(TaskStatus.valueOf(getString(source)));
+        task.setPriority(TaskPriority.fromOrderValue(source.getShort()));
+        long dueDate = source.getLong();
+        task.setDueDate(dueDate != ABSENT ? LocalDate.ofEpochDay(dueDate) : null);
+        long parentId = source.getLong();
+        task.setParentId(parentId != 0L ? parentId : null);
+        task.setSubtreeSize(source.getInt());
+        task.setSubtreeCompleted(source.getInt());
+        task.setCreatedAt(getDateTime(source));
+        task.setUpdatedAt(getDateTime(source));
+        int tagCount = source.getShort();
+        Set<String> tags = new HashSet<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(getString(source));
+        }
+        task.setTags(tags);
+        return task;
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        if (value == null) {
+            target.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        target.putInt(bytes.length);
+        target.put(bytes);
+    }
+
+    private static String getString(ByteBuffer source) {
+        int length = source.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putDateTime(ByteBuffer target, LocalDateTime value) {
+        if (value == null) {
+            target.putLong(ABSENT);
+            target.putInt(0);
+            return;
+        }
+        target.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        target.putInt(value.getNano());
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer source) {
+        long seconds = source.getLong();
+        int nanos = source.getInt();
+        return seconds != ABSENT ? LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC) : null;
+    }
+}
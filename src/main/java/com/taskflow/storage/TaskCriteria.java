@@ -0,0 +1,41 @@
+package com.taskflow.storage;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Conjunction of optional task predicates understood by {@link LogStructuredTaskStore}.
+ * Null components match everything.
+ *
+ * @param search    case-insensitive substring of the title or description
+ * @param dueFrom   inclusive lower bound on the due date
+ * @param dueTo     inclusive upper bound on the due date
+ * @param dueBefore exclusive upper bound on the due date
+ * @param ids       restrict to these task IDs
+ */
+public record TaskCriteria(String search,
+                           TaskStatus status,
+                           TaskPriority priority,
+                           LocalDate dueFrom,
+                           LocalDate dueTo,
+                           LocalDate dueBefore,
+                           Collection<Long> ids) {
+
+    public static final TaskCriteria ALL = new TaskCriteria(null, null, null, null, null, null, null);
+
+    public static TaskCriteria filters(String search, TaskStatus status, TaskPriority priority,
+                                       LocalDate dueFrom, LocalDate dueTo) {
+        return new TaskCriteria(search, status, priority, dueFrom, dueTo, null, null);
+    }
+
+    public TaskCriteria withIds(Collection<Long> taskIds) {
+        return new TaskCriteria(search, status, priority, dueFrom, dueTo, dueBefore, taskIds);
+    }
+
+    boolean hasDueRange() {
+        return dueFrom != null || dueTo != null || dueBefore != null;
+    }
+}
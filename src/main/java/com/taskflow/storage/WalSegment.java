@@ -0,0 +1,143 @@
+package com.taskflow.storage;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * One fixed-size, memory-mapped write-ahead log file.
+ *
+ * Records are framed as {@code int payloadLength, int crc32(payload), payload}
+ * in a zero-filled file, so a zero length marks the end of the log. Callers
+ * serialise access; the segment itself is not thread-safe.
+ */
+@Slf4j
+final class WalSegment implements AutoCloseable {
+
+    static final int FRAME_HEADER_BYTES = 8;
+    static final String SUFFIX = ".wal";
+
+    @Getter
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+
+    @Getter
+    private int writePosition;
+    private int forcedPosition;
+
+    private WalSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static Path path(Path directory, long id) {
+        return directory.resolve(String.format("%016d", id) + SUFFIX);
+    }
+
+    static WalSegment create(Path directory, long id, int size) throws IOException {
+        Path path = path(directory, id);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new WalSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    /**
+     * Map an existing segment, pass every valid record to {@code replay} and
+     * position the segment after the last one. A torn or corrupt tail left
+     * by a crash is zeroed.
+     */
+    static WalSegment open(Path path, long id, Consumer<ByteBuffer> replay) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        WalSegment segment = new WalSegment(id, path, channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        segment.recover(replay);
+        return segment;
+    }
+
+    boolean hasRoom(int payloadLength) {
+        return writePosition + FRAME_HEADER_BYTES + payloadLength <= buffer.capacity();
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Append one record; {@code payload} must be flipped for reading
+     */
+    void append(ByteBuffer payload) {
+        int length = payload.remaining();
+        crc.reset();
+        crc.update(payload.duplicate());
+
+        buffer.putInt(writePosition + 4, (int) crc.getValue());
+        buffer.put(writePosition + FRAME_HEADER_BYTES, payload, payload.position(), length);
+        // Length last: a record is only recognised once it is complete
+        buffer.putInt(writePosition, length);
+        writePosition += FRAME_HEADER_BYTES + length;
+    }
+
+    /**
+     * Flush the records appended since the last force to disk
+     */
+    void force() {
+        if (forcedPosition < writePosition) {
+            buffer.force(forcedPosition, writePosition - forcedPosition);
+            forcedPosition = writePosition;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    private void recover(Consumer<ByteBuffer> replay) {
+        int position = 0;
+        while (position + FRAME_HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            int payloadStart = position + FRAME_HEADER_BYTES;
+            if (length <= 0 || payloadStart + length > buffer.capacity()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(payloadStart, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            replay.accept(payload);
+            position = payloadStart + length;
+        }
+
+        if (position + 4 <= buffer.capacity() && buffer.getInt(position) != 0) {
+            log.warn("WAL segment {} has a torn tail at offset {}; discarding it", id, position);
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        writePosition = position;
+        forcedPosition = position;
+    }
+}
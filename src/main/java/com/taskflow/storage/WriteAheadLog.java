@@ -0,0 +1,122 @@
+package com.taskflow.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log made of memory-mapped {@link WalSegment}s.
+ *
+ * Only the newest segment is mapped for writing; older segments are kept
+ * on disk until a snapshot covers them. Not thread-safe: the owning store
+ * serialises every call.
+ */
+@Slf4j
+final class WriteAheadLog implements AutoCloseable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<Long> sealedSegments = new ArrayList<>();
+    private WalSegment active;
+
+    private WriteAheadLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Open the log, replaying every record of segments numbered
+     * {@code firstSegment} or later in order. Older segments are already
+     * covered by a snapshot and are deleted.
+     */
+    static WriteAheadLog open(Path directory, int segmentSize, long firstSegment,
+                              Consumer<ByteBuffer> replay) throws IOException {
+        WriteAheadLog log = new WriteAheadLog(directory, segmentSize);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(f -> f.getFileName().toString().endsWith(WalSegment.SUFFIX)).sorted().toList();
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long id = Long.parseLong(name.substring(0, name.length() - WalSegment.SUFFIX.length()));
+            if (id < firstSegment) {
+                Files.delete(file);
+                continue;
+            }
+            if (log.active != null) {
+                log.sealedSegments.add(log.active.getId());
+                log.active.close();
+            }
+            log.active = WalSegment.open(file, id, replay);
+        }
+
+        if (log.active == null) {
+            log.active = WalSegment.create(directory, firstSegment, segmentSize);
+        }
+        return log;
+    }
+
+    /**
+     * Append one record; {@code payload} must be flipped for reading
+     */
+    void append(ByteBuffer payload) throws IOException {
+        if (WalSegment.FRAME_HEADER_BYTES + payload.remaining() > segmentSize) {
+            throw new IllegalArgumentException("WAL record of " + payload.remaining() + " bytes exceeds the segment size");
+        }
+        if (!active.hasRoom(payload.remaining())) {
+            roll();
+        }
+        active.append(payload);
+    }
+
+    void force() {
+        active.force();
+    }
+
+    /**
+     * Seal the active segment and start a new one
+     *
+     * @return the ID of the new active segment
+     */
+    long roll() throws IOException {
+        WalSegment next = WalSegment.create(directory, active.getId() + 1, segmentSize);
+        active.close();
+        sealedSegments.add(active.getId());
+        active = next;
+        return active.getId();
+    }
+
+    /**
+     * Delete sealed segments with an ID lower than {@code segmentId}
+     */
+    void deleteSegmentsBefore(long segmentId) throws IOException {
+        var iterator = sealedSegments.iterator();
+        while (iterator.hasNext()) {
+            long id = iterator.next();
+            if (id < segmentId) {
+                Files.deleteIfExists(WalSegment.path(directory, id));
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Bytes of log that a restart would have to replay
+     */
+    long size() {
+        return (long) sealedSegments.size() * segmentSize + active.getWritePosition();
+    }
+
+    @Override
+    public void close() throws IOException {
+        active.close();
+    }
+}
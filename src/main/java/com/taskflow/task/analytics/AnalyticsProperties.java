@@ -0,0 +1,24 @@
+package com.taskflow.task.analytics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Period;
+
+/**
+ * Configuration for the task trend rollups
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Rebuild the rollups from the task tables at startup when they are empty
+     */
+    private boolean backfillOnStartup = true;
+
+    /**
+     * Longest date range one trend request may cover
+     */
+    private Period maxRange = Period.ofYears(2);
+}
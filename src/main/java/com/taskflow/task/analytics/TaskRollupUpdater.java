@@ -0,0 +1,105 @@
+package com.taskflow.task.analytics;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskDailyRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps {@code task_daily_rollup} current.
+ *
+ * Listens synchronously, so the increments run in the transaction of the
+ * change itself and roll back with it. A missing (day, priority) row is
+ * first inserted empty in the same transaction with an insert that skips an
+ * existing row, so two writers racing to create it neither fail nor need a
+ * second connection.
+ */
+@Component
+@Profile("!edge")
+@Slf4j
+public class TaskRollupUpdater {
+
+    private final TaskDailyRollupRepository rollupRepository;
+    // INSERT ... ON CONFLICT on PostgreSQL, MERGE elsewhere
+    private final boolean onConflictSupported;
+
+    public TaskRollupUpdater(TaskDailyRollupRepository rollupRepository, DataSource dataSource) {
+        this.rollupRepository = rollupRepository;
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            this.onConflictSupported = "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not detect the database for task rollups", e);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot before = event.getBefore();
+        TaskSnapshot after = event.getAfter();
+        switch (event.getType()) {
+            case CREATED -> increment(dayOf(after.getCreatedAt()), after.getPriority(), 1,
+                    after.getStatus() == TaskStatus.COMPLETED ? 1 : 0, 0, 0, 0);
+            case UPDATED -> {
+                // The snapshot's updatedAt is only refreshed on flush, so the change time is now
+                LocalDateTime now = LocalDateTime.now();
+                if (before.getStatus() != TaskStatus.COMPLETED && after.getStatus() == TaskStatus.COMPLETED) {
+                    increment(now.toLocalDate(), after.getPriority(), 0, 1, 0, 0,
+                            secondsBetween(after.getCreatedAt(), now));
+                } else if (before.getStatus() == TaskStatus.COMPLETED && after.getStatus() != TaskStatus.COMPLETED) {
+                    increment(now.toLocalDate(), after.getPriority(), 0, 0, 1, 0, 0);
+                }
+            }
+            case DELETED -> {
+                // Deletions published without a snapshot carry no priority
+                if (before != null) {
+                    increment(LocalDate.now(), before.getPriority(), 0, 0, 0, 1, 0);
+                }
+            }
+            case ARCHIVED -> {
+                // Still part of the history, just stored elsewhere
+            }
+        }
+    }
+
+    void increment(LocalDate day, TaskPriority priority, long created, long completed,
+                   long reopened, long deleted, long completionSeconds) {
+        if (rollupRepository.increment(day, priority, created, completed, reopened, deleted, completionSeconds) > 0) {
+            return;
+        }
+        short priorityValue = (short) priority.getOrderValue();
+        int inserted = onConflictSupported
+                ? rollupRepository.insertEmptyIfAbsent(day, priorityValue)
+                : rollupRepository.mergeEmpty(day, priorityValue);
+        if (inserted == 0) {
+            log.debug("Rollup row for {} {} created concurrently", day, priority);
+        }
+        rollupRepository.increment(day, priority, created, completed, reopened, deleted, completionSeconds);
+    }
+
+    private static LocalDate dayOf(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toLocalDate() : LocalDate.now();
+    }
+
+    static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(from, to).getSeconds());
+    }
+}
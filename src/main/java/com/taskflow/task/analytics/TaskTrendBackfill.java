@@ -0,0 +1,34 @@
+package com.taskflow.task.analytics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the trend rollups from existing tasks the first time the application
+ * starts with an empty rollup table. Runs before the application reports
+ * ready, so no writes race with it.
+ */
+@Component
+@Profile("!edge")
+@ConditionalOnProperty(prefix = "taskflow.analytics", name = "backfill-on-startup", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TaskTrendBackfill implements ApplicationRunner {
+
+    private final TaskTrendService trendService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (trendService.hasRollups()) {
+            log.debug("Task rollups present, skipping backfill");
+            return;
+        }
+        trendService.backfill();
+    }
+}
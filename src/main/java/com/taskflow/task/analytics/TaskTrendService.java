@@ -0,0 +1,124 @@
+package com.taskflow.task.analytics;
+
+import com.taskflow.task.dto.TaskTrendDto;
+import com.taskflow.task.entity.TaskDailyRollup;
+import com.taskflow.task.entity.TaskDailyRollupId;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.enums.TrendGranularity;
+import com.taskflow.task.repository.TaskDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created, completed, reopened and deleted task counts over time, answered
+ * from the per-day rollups maintained by {@link TaskRollupUpdater}. A range
+ * costs one row per day and priority, however many tasks it covers.
+ */
+@Service
+@Profile("!edge")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskTrendService {
+
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final TaskDailyRollupRepository rollupRepository;
+    private final AnalyticsProperties properties;
+
+    @Transactional(readOnly = true)
+    public TaskTrendDto getTrends(LocalDate from, LocalDate to, TrendGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Trend range start must not be after its end");
+        }
+        if (from.plus(properties.getMaxRange()).isBefore(to)) {
+            throw new IllegalArgumentException("Trend range must not exceed " + properties.getMaxRange());
+        }
+
+        Map<LocalDate, TaskTrendDto.Bucket> buckets = new LinkedHashMap<>();
+        for (LocalDate start = granularity.bucketStart(from); !start.isAfter(to); start = granularity.nextBucket(start)) {
+            buckets.put(start, new TaskTrendDto.Bucket(start, 0, 0, 0, 0));
+        }
+        Map<TaskPriority, long[]> completions = new EnumMap<>(TaskPriority.class);
+
+        for (TaskDailyRollup rollup : rollupRepository.findByIdDayBetween(from, to)) {
+            TaskTrendDto.Bucket bucket = buckets.get(granularity.bucketStart(rollup.getId().getDay()));
+            bucket.setCreated(bucket.getCreated() + rollup.getCreatedCount());
+            bucket.setCompleted(bucket.getCompleted() + rollup.getCompletedCount());
+            bucket.setReopened(bucket.getReopened() + rollup.getReopenedCount());
+            bucket.setDeleted(bucket.getDeleted() + rollup.getDeletedCount());
+
+            long[] totals = completions.computeIfAbsent(rollup.getId().getPriority(), priority -> new long[2]);
+            totals[0] += rollup.getCompletedCount();
+            totals[1] += rollup.getCompletionSeconds();
+        }
+
+        Map<TaskPriority, Double> averageHours = new EnumMap<>(TaskPriority.class);
+        completions.forEach((priority, totals) -> {
+            if (totals[0] > 0) {
+                averageHours.put(priority, Math.round(totals[1] / SECONDS_PER_HOUR / totals[0] * 10) / 10.0);
+            }
+        });
+        return new TaskTrendDto(from, to, granularity, new ArrayList<>(buckets.values()), averageHours);
+    }
+
+    /**
+     * Rebuild every rollup row from the active and archived tasks.
+     *
+     * Completed tasks count as completed on the day of their last change and
+     * deletions that happened before the rollups existed are unknown, so this
+     * is meant for seeding history, not for running alongside writes.
+     *
+     * @return the number of rollup rows written
+     */
+    @Transactional
+    public int backfill() {
+        Map<TaskDailyRollupId, TaskDailyRollup> rollups = new HashMap<>();
+        accumulate(rollups, rollupRepository.findActiveTaskHistory());
+        accumulate(rollups, rollupRepository.findArchivedTaskHistory());
+
+        rollupRepository.deleteAllInBatch();
+        rollupRepository.saveAll(rollups.values());
+        log.info("Backfilled {} task rollup rows", rollups.size());
+        return rollups.size();
+    }
+
+    public boolean hasRollups() {
+        return rollupRepository.count() > 0;
+    }
+
+    private static void accumulate(Map<TaskDailyRollupId, TaskDailyRollup> rollups, List<Object[]> history) {
+        for (Object[] row : history) {
+            TaskPriority priority = (TaskPriority) row[0];
+            LocalDateTime createdAt = (LocalDateTime) row[1];
+            TaskStatus status = (TaskStatus) row[2];
+            LocalDateTime updatedAt = (LocalDateTime) row[3];
+
+            TaskDailyRollup created = rollup(rollups, createdAt.toLocalDate(), priority);
+            created.setCreatedCount(created.getCreatedCount() + 1);
+            if (status == TaskStatus.COMPLETED) {
+                TaskDailyRollup completed = rollup(rollups, updatedAt.toLocalDate(), priority);
+                completed.setCompletedCount(completed.getCompletedCount() + 1);
+                completed.setCompletionSeconds(completed.getCompletionSeconds()
+                        + TaskRollupUpdater.secondsBetween(createdAt, updatedAt));
+            }
+        }
+    }
+
+    private static TaskDailyRollup rollup(Map<TaskDailyRollupId, TaskDailyRollup> rollups,
+                                          LocalDate day, TaskPriority priority) {
+        return rollups.computeIfAbsent(new TaskDailyRollupId(day, priority), TaskDailyRollup::new);
+    }
+}
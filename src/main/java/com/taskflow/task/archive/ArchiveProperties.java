@@ -0,0 +1,53 @@
+package com.taskflow.task.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for moving old completed tasks into the archive table
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a completed task stays in the active table after its last change
+     */
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * Time between archival runs
+     */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /**
+     * Partitions of the task table, archived independently so several
+     * instances can share a run
+     */
+    private int shards = 1;
+
+    /**
+     * Tasks moved per transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on batches per run; the rest waits for the next run
+     */
+    private int maxBatchesPerRun = 100;
+
+    /**
+     * Pause between batches of one run
+     */
+    private Duration batchPause = Duration.ofMillis(250);
+
+    /**
+     * Fraction of the connection pool foreground requests may use before a
+     * run stops early and yields to them
+     */
+    private double maxPoolUsage = 0.5;
+}
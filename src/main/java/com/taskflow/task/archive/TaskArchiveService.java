@@ -0,0 +1,111 @@
+package com.taskflow.task.archive;
+
+import com.taskflow.scheduling.JobShard;
+import com.taskflow.task.entity.ArchivedTask;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.repository.ArchivedTaskRepository;
+import com.taskflow.task.repository.TaskClosureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves completed tasks between the active and archive tables and reads
+ * the archive.
+ *
+ * Only standalone tasks (no parent, no subtasks) are archived, so the
+ * closure table and rolled-up counters of remaining tasks never change.
+ */
+@Service
+@Profile("!edge")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiveService {
+
+    // Bound in place of an empty tag set; normalized tags are never blank
+    private static final Set<String> NO_TAGS = Set.of("");
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Move up to {@code batchSize} tasks completed and last changed before
+     * {@code cutoff} from {@code shard} into the archive, in one transaction
+     *
+     * @return the number of tasks archived
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize, JobShard shard) {
+        List<Long> ids = archivedTaskRepository.findArchivableTaskIds(cutoff, shard.count(), shard.index(),
+                batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedTaskRepository.copyToArchive(ids, LocalDateTime.now());
+        archivedTaskRepository.copyTagsToArchive(ids);
+        archivedTaskRepository.deleteActiveTags(ids);
+        taskClosureRepository.deleteByDescendantIds(ids);
+        archivedTaskRepository.deleteActiveTasks(ids);
+
+        ids.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.archived(id)));
+        log.debug("Archived {} tasks completed before {}", ids.size(), cutoff);
+        return ids.size();
+    }
+
+    /**
+     * Archived tasks matching the same filters as the active task list
+     */
+    @Transactional(readOnly = true)
+    public Page<ArchivedTask> findArchived(String search, TaskStatus status, TaskPriority priority,
+                                           LocalDate dueDateFrom, LocalDate dueDateTo,
+                                           Set<String> allTags, Set<String> anyTags, Set<String> notTags,
+                                           Pageable pageable) {
+        return archivedTaskRepository.findArchivedWithFilters(
+                search, status, priority, dueDateFrom, dueDateTo,
+                orPlaceholder(allTags), size(allTags),
+                orPlaceholder(anyTags), size(anyTags),
+                orPlaceholder(notTags), size(notTags),
+                pageable
+        );
+    }
+
+    /**
+     * Facet rows of the archived tasks {@link #findArchived} would return, as
+     * {@code [TaskStatus, TaskPriority, Integer bucket, Long count]}
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> countArchivedFacets(String search, TaskStatus status, TaskPriority priority,
+                                              LocalDate dueDateFrom, LocalDate dueDateTo,
+                                              Set<String> allTags, Set<String> anyTags, Set<String> notTags,
+                                              LocalDate today, LocalDate upcomingEnd) {
+        return archivedTaskRepository.countArchivedFacets(
+                search, status, priority, dueDateFrom, dueDateTo,
+                orPlaceholder(allTags), size(allTags),
+                orPlaceholder(anyTags), size(anyTags),
+                orPlaceholder(notTags), size(notTags),
+                today, upcomingEnd
+        );
+    }
+
+    private static Set<String> orPlaceholder(Set<String> tags) {
+        return tags == null || tags.isEmpty() ? NO_TAGS : tags;
+    }
+
+    private static long size(Set<String> tags) {
+        return tags == null ? 0 : tags.size();
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskflow.task.archive;
+
+import com.taskflow.scheduling.ClusterJob;
+import com.taskflow.scheduling.JobShard;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Background job that periodically archives old completed tasks.
+ *
+ * Each run moves bounded batches with a pause in between, and stops early
+ * when foreground requests are using more than the configured share of the
+ * connection pool or are waiting for a connection. Runs once per interval
+ * across all instances; with several shards, instances archive disjoint
+ * ID ranges side by side.
+ */
+@Component
+@Profile("!edge")
+@ConditionalOnProperty(prefix = "taskflow.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiver implements ClusterJob {
+
+    private final TaskArchiveService archiveService;
+    private final ArchiveProperties properties;
+    private final DataSource dataSource;
+
+    @Override
+    public String getName() {
+        return "task-archive";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return properties.getInterval();
+    }
+
+    @Override
+    public int getShards() {
+        return properties.getShards();
+    }
+
+    @Override
+    public void run(JobShard shard) {
+        archiveCompletedTasks(shard);
+    }
+
+    /**
+     * Archive tasks completed longer than the retention period ago, until none
+     * are left, the batch budget is spent or the pool gets busy
+     *
+     * @return the number of tasks archived
+     */
+    public int archiveCompletedTasks() {
+        return archiveCompletedTasks(JobShard.ALL);
+    }
+
+    /**
+     * Same as {@link #archiveCompletedTasks()}, limited to the tasks in {@code shard}
+     */
+    public int archiveCompletedTasks(JobShard shard) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int archived = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            if (poolBusy()) {
+                log.debug("Connection pool busy, deferring archival after {} tasks", archived);
+                break;
+            }
+            int moved = archiveService.archiveBatch(cutoff, properties.getBatchSize(), shard);
+            archived += moved;
+            if (moved < properties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} tasks completed before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean poolBusy() {
+        HikariDataSource hikari = hikari();
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return false;
+        }
+        int limit = Math.max(1, (int) (hikari.getMaximumPoolSize() * properties.getMaxPoolUsage()));
+        return pool.getThreadsAwaitingConnection() > 0 || pool.getActiveConnections() >= limit;
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
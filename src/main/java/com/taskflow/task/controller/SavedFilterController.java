@@ -0,0 +1,68 @@
+package com.taskflow.task.controller;
+
+import com.taskflow.task.dto.SavedFilterDto;
+import com.taskflow.task.dto.SavedFilterRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskField;
+import com.taskflow.task.service.SavedFilterService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/saved-filters")
+@Profile("!edge")
+@RequiredArgsConstructor
+@Slf4j
+public class SavedFilterController {
+
+    private final SavedFilterService savedFilterService;
+
+    @PostMapping
+    public ResponseEntity<SavedFilterDto> createFilter(@Valid @RequestBody SavedFilterRequestDto request) {
+        log.info("REST request to create saved filter: {}", request.getName());
+        return new ResponseEntity<>(savedFilterService.createFilter(request), HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedFilterDto>> getFilters() {
+        log.info("REST request to get saved filters");
+        return ResponseEntity.ok(savedFilterService.getFilters());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteFilter(@PathVariable Long id) {
+        log.info("REST request to delete saved filter: {}", id);
+        savedFilterService.deleteFilter(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * A page of the filter's tasks in its saved sort order. With {@code fields},
+     * only those fields are returned (plus the ID), as for {@code GET /tasks}.
+     */
+    @GetMapping("/{id}/tasks")
+    public ResponseEntity<Page<?>> getTasks(@PathVariable Long id,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size,
+                                            @RequestParam(required = false) List<String> fields) {
+        log.info("REST request to get tasks of saved filter: {}", id);
+        Set<TaskField> fieldSet = TaskField.parse(fields);
+        Page<TaskResponseDto> results = savedFilterService.getTasks(id, page, size, fieldSet);
+        Page<?> tasks = fieldSet != null ? results.map(task -> TaskField.select(task, fieldSet)) : results;
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(tasks.getTotalElements()))
+                .header("X-Page-Number", String.valueOf(tasks.getNumber()))
+                .header("X-Page-Size", String.valueOf(tasks.getSize()))
+                .body(tasks);
+    }
+}
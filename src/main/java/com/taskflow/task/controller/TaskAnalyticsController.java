@@ -0,0 +1,43 @@
+package com.taskflow.task.controller;
+
+import com.taskflow.task.analytics.TaskTrendService;
+import com.taskflow.task.dto.TaskTrendDto;
+import com.taskflow.task.enums.TrendGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/tasks/analytics")
+@Profile("!edge")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskAnalyticsController {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final TaskTrendService trendService;
+
+    /**
+     * Created versus completed tasks per day or week, and mean time to
+     * complete by priority. Defaults to the last 30 days.
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<TaskTrendDto> getTrends(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        log.info("REST request to get task trends from {} to {} by {}", from, to, granularity);
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(trendService.getTrends(start, end, TrendGranularity.fromString(granularity)));
+    }
+}
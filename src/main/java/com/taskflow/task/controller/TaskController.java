@@ -1,10 +1,21 @@
 package com.taskflow.task.controller;
 
+import com.taskflow.common.deadline.RequestDeadline;
+import com.taskflow.common.util.TagUtil;
+import com.taskflow.task.dto.FacetedPage;
+import com.taskflow.task.dto.TaskBatchRequestDto;
+import com.taskflow.task.dto.TaskBatchResponseDto;
+import com.taskflow.task.dto.TaskClaimDto;
+import com.taskflow.task.dto.TaskDashboardDto;
 import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskProgressDto;
 import com.taskflow.task.dto.TaskRequestDto;
 import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskField;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.service.TaskDashboardService;
 import com.taskflow.task.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,8 +26,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/tasks")
@@ -25,6 +40,7 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskDashboardService dashboardService;
 
     @PostMapping
     public ResponseEntity<TaskResponseDto> createTask(@Valid @RequestBody TaskRequestDto taskRequestDto) {
@@ -34,12 +50,26 @@ public class TaskController {
     }
 
     @GetMapping("/{id}")
+    @RequestDeadline("2s")
     public ResponseEntity<TaskResponseDto> getTask(@PathVariable Long id) {
         log.info("REST request to get task: {}", id);
         TaskResponseDto task = taskService.getTaskById(id);
         return ResponseEntity.ok(task);
     }
 
+    @GetMapping("/batch")
+    @RequestDeadline("2s")
+    public ResponseEntity<TaskBatchResponseDto> getTasksByIds(@RequestParam List<Long> ids) {
+        log.info("REST request to get {} tasks by ID", ids.size());
+        return ResponseEntity.ok(taskService.getTasksByIds(ids));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponseDto> getTasksByIds(@Valid @RequestBody TaskBatchRequestDto request) {
+        log.info("REST request to get {} tasks by ID", request.getIds().size());
+        return ResponseEntity.ok(taskService.getTasksByIds(request.getIds()));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id,
                                                       @Valid @RequestBody TaskRequestDto taskRequestDto) {
@@ -55,8 +85,14 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Filtered, sorted page of tasks. With {@code fields}, only those fields
+     * are read and returned (plus the ID), e.g. {@code fields=title,status}.
+     * For the createdAt sort, {@code afterId} (the last ID of the previous
+     * page) reads the next page by ID instead of by offset.
+     */
     @GetMapping
-    public ResponseEntity<Page<TaskResponseDto>> getTasks(
+    public ResponseEntity<Page<?>> getTasks(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
@@ -67,15 +103,31 @@ public class TaskController {
             @RequestParam(defaultValue = "desc") String sortDirection,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
-            @RequestParam(defaultValue = "all") String filter) {
-
-        log.info("REST request to get tasks with filters - search: {}, status: {}, priority: {}, filter: {}",
-                search, status, priority, filter);
+            @RequestParam(defaultValue = "all") String filter,
+            @RequestParam(required = false) Set<String> tags,
+            @RequestParam(required = false) Set<String> anyTags,
+            @RequestParam(required = false) Set<String> notTags,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) List<String> facets,
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false) Long afterId) {
+
+        log.info("REST request to get tasks with filters - search: {}, status: {}, priority: {}, filter: {}, tags: {}",
+                search, status, priority, filter, tags);
 
         TaskFilterDto filterDto = new TaskFilterDto(search, status, priority, dueDateFrom,
-                dueDateTo, overdue, sortBy, sortDirection, page, size, filter);
+                dueDateTo, overdue, sortBy, sortDirection, page, size, filter,
+                TagUtil.normalize(tags), TagUtil.normalize(anyTags), TagUtil.normalize(notTags),
+                includeArchived, TaskField.parse(fields), afterId);
+
+        Page<TaskResponseDto> results = taskService.getTasks(filterDto);
+        Page<?> tasks = filterDto.getFields() != null ? selectFields(results, filterDto.getFields()) : results;
 
-        Page<TaskResponseDto> tasks = taskService.getTasks(filterDto);
+        if (facets != null && !facets.isEmpty()) {
+            Set<TaskFacet> requestedFacets = EnumSet.noneOf(TaskFacet.class);
+            facets.forEach(facet -> requestedFacets.add(TaskFacet.fromString(facet.trim())));
+            tasks = new FacetedPage<>(tasks, taskService.getTaskFacets(filterDto, requestedFacets));
+        }
 
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(tasks.getTotalElements()))
@@ -91,20 +143,89 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    @GetMapping("/{id}/subtasks")
+    public ResponseEntity<List<TaskResponseDto>> getSubtasks(@PathVariable Long id,
+                                                             @RequestParam(required = false) Integer maxDepth) {
+        log.info("REST request to get subtasks of task: {} (maxDepth: {})", id, maxDepth);
+        List<TaskResponseDto> subtasks = taskService.getSubtasks(id, maxDepth);
+        return ResponseEntity.ok(subtasks);
+    }
+
+    @GetMapping("/{id}/progress")
+    @RequestDeadline("2s")
+    public ResponseEntity<TaskProgressDto> getTaskProgress(@PathVariable Long id) {
+        log.info("REST request to get progress of task: {}", id);
+        TaskProgressDto progress = taskService.getTaskProgress(id);
+        return ResponseEntity.ok(progress);
+    }
+
+    @PatchMapping("/{id}/parent")
+    public ResponseEntity<TaskResponseDto> moveTask(@PathVariable Long id,
+                                                    @RequestParam(required = false) Long parentId) {
+        log.info("REST request to move task: {} under parent: {}", id, parentId);
+        TaskResponseDto task = taskService.moveTask(id, parentId);
+        return ResponseEntity.ok(task);
+    }
+
     @GetMapping("/overdue")
-    public ResponseEntity<List<TaskResponseDto>> getOverdueTasks() {
+    @RequestDeadline("3s")
+    public ResponseEntity<List<?>> getOverdueTasks(@RequestParam(required = false) List<String> fields) {
         log.info("REST request to get overdue tasks");
-        List<TaskResponseDto> overdueTasks = taskService.getOverdueTasks();
-        return ResponseEntity.ok(overdueTasks);
+        Set<TaskField> fieldSet = TaskField.parse(fields);
+        if (fieldSet == null) {
+            return ResponseEntity.ok(taskService.getOverdueTasks());
+        }
+        List<TaskResponseDto> overdueTasks = taskService.getOverdueTasks(Integer.MAX_VALUE, fieldSet);
+        return ResponseEntity.ok(overdueTasks.stream().map(task -> TaskField.select(task, fieldSet)).toList());
+    }
+
+    /**
+     * Pending tasks in work order: priority, then due date, then age.
+     * Tasks currently claimed by a worker are skipped.
+     */
+    @GetMapping("/next")
+    @RequestDeadline("2s")
+    public ResponseEntity<List<TaskResponseDto>> getNextTasks(@RequestParam(defaultValue = "10") int n) {
+        log.info("REST request to get next {} tasks", n);
+        return ResponseEntity.ok(taskService.getNextTasks(n));
+    }
+
+    @PostMapping("/next/claim")
+    public ResponseEntity<List<TaskClaimDto>> claimNextTasks(@RequestParam(defaultValue = "1") int n,
+                                                             @RequestParam String worker,
+                                                             @RequestParam(defaultValue = "PT5M") Duration lease) {
+        log.info("REST request from worker {} to claim next {} tasks", worker, n);
+        return ResponseEntity.ok(taskService.claimNextTasks(n, worker, lease));
+    }
+
+    @DeleteMapping("/{id}/claim")
+    public ResponseEntity<Void> releaseTaskClaim(@PathVariable Long id, @RequestParam String worker) {
+        log.info("REST request from worker {} to release task: {}", worker, id);
+        return taskService.releaseTaskClaim(id, worker)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
     @GetMapping("/statistics")
+    @RequestDeadline("2s")
     public ResponseEntity<TaskService.TaskStatisticsDto> getTaskStatistics() {
         log.info("REST request to get task statistics");
         TaskService.TaskStatisticsDto statistics = taskService.getTaskStatistics();
         return ResponseEntity.ok(statistics);
     }
 
+    @GetMapping("/dashboard")
+    @RequestDeadline("2s")
+    public ResponseEntity<TaskDashboardDto> getDashboard(@RequestParam(defaultValue = "5") int limit) {
+        log.info("REST request to get dashboard");
+        TaskDashboardDto dashboard = dashboardService.getDashboard(limit);
+        return ResponseEntity.ok(dashboard);
+    }
+
+    private static Page<Map<String, Object>> selectFields(Page<TaskResponseDto> tasks, Set<TaskField> fields) {
+        return tasks.map(task -> TaskField.select(task, fields));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("TaskFlow API is running!");
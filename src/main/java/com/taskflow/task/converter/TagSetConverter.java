@@ -0,0 +1,32 @@
+package com.taskflow.task.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Persists a small set of normalized tags as one comma-separated column,
+ * for tag criteria that are stored but never queried by tag
+ */
+@Converter
+public class TagSetConverter implements AttributeConverter<Set<String>, String> {
+
+    public static final String SEPARATOR = ",";
+
+    @Override
+    public String convertToDatabaseColumn(Set<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+    }
+
+    @Override
+    public Set<String> convertToEntityAttribute(String column) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (column != null && !column.isEmpty()) {
+            tags.addAll(Arrays.asList(column.split(SEPARATOR)));
+        }
+        return tags;
+    }
+}
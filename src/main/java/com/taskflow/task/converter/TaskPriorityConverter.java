@@ -0,0 +1,23 @@
+package com.taskflow.task.converter;
+
+import com.taskflow.task.enums.TaskPriority;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Persists {@link TaskPriority} as its {@code orderValue} so that sorting and
+ * range scans on the priority column follow LOW &lt; MEDIUM &lt; HIGH
+ */
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority priority) {
+        return priority != null ? (short) priority.getOrderValue() : null;
+    }
+
+    @Override
+    public TaskPriority convertToEntityAttribute(Short orderValue) {
+        return orderValue != null ? TaskPriority.fromOrderValue(orderValue) : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.task.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A page of results that also carries facet counts for the whole filtered set
+ */
+public class FacetedPage<T> extends PageImpl<T> {
+
+    private final TaskFacetsDto facets;
+
+    public FacetedPage(Page<T> page, TaskFacetsDto facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    public TaskFacetsDto getFacets() {
+        return facets;
+    }
+}
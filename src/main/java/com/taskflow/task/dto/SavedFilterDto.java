@@ -0,0 +1,30 @@
+package com.taskflow.task.dto;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+public class SavedFilterDto {
+    private Long id;
+    private String name;
+    private String search;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDate dueDateFrom;
+    private LocalDate dueDateTo;
+    private Integer dueWithinDays;
+    private boolean overdue;
+    private Set<String> tags;
+    private Set<String> anyTags;
+    private Set<String> notTags;
+    private String sortBy;
+    private String sortDirection;
+    private LocalDateTime createdAt;
+}
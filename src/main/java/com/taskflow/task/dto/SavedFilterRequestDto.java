@@ -0,0 +1,57 @@
+package com.taskflow.task.dto;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterRequestDto {
+    @NotBlank(message = "Filter name is required")
+    @Size(max = 100, message = "Filter name must not exceed 100 characters")
+    private String name;
+
+    @Size(max = 255, message = "Search must not exceed 255 characters")
+    private String search;
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    private LocalDate dueDateFrom;
+
+    private LocalDate dueDateTo;
+
+    // Due between today and this many days ahead
+    @Min(value = 0, message = "Due within days must not be negative")
+    @Max(value = 366, message = "Due within days must not exceed 366")
+    private Integer dueWithinDays;
+
+    // Pending and due before today
+    private boolean overdue;
+
+    @Size(max = 20, message = "A filter can have at most 20 tags")
+    private Set<String> tags;
+
+    @Size(max = 20, message = "A filter can have at most 20 tags")
+    private Set<String> anyTags;
+
+    @Size(max = 20, message = "A filter can have at most 20 tags")
+    private Set<String> notTags;
+
+    private String sortBy;
+
+    @Pattern(regexp = "(?i)asc|desc", message = "Sort direction must be asc or desc")
+    private String sortDirection;
+}
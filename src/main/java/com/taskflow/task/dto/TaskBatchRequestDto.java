@@ -0,0 +1,21 @@
+package com.taskflow.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /tasks/batch}, for ID lists too long for a query string
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequestDto {
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = TaskBatchResponseDto.MAX_IDS, message = "At most " + TaskBatchResponseDto.MAX_IDS + " task IDs per request")
+    private List<Long> ids;
+}
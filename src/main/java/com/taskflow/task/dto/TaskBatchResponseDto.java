@@ -0,0 +1,21 @@
+package com.taskflow.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Tasks found for a multi-get, in request order, plus the requested IDs
+ * that do not exist
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponseDto {
+    public static final int MAX_IDS = 1000;
+
+    private List<TaskResponseDto> tasks;
+    private List<Long> missingIds;
+}
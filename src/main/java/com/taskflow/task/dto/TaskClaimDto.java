@@ -0,0 +1,22 @@
+package com.taskflow.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A task leased to one worker; nobody else is handed it until the lease
+ * expires or is released
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskClaimDto {
+    public static final int MAX_TASKS = 100;
+
+    private TaskResponseDto task;
+    private String worker;
+    private Instant leaseExpiresAt;
+}
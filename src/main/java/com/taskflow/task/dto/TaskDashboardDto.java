@@ -0,0 +1,34 @@
+package com.taskflow.task.dto;
+
+import com.taskflow.task.service.TaskService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the home screen shows, fetched in one request.
+ *
+ * A part that was not ready within the request's budget is left empty and
+ * named in {@code incompleteParts}, so the client can fetch it separately.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDashboardDto {
+    public static final String STATISTICS = "statistics";
+    public static final String OVERDUE = "overdueTasks";
+    public static final String HIGH_PRIORITY = "highPriorityTasks";
+    public static final String RECENT = "recentTasks";
+
+    private TaskService.TaskStatisticsDto statistics;
+    // Most overdue first
+    private List<TaskResponseDto> overdueTasks = new ArrayList<>();
+    // Pending high-priority tasks, earliest due first
+    private List<TaskResponseDto> highPriorityTasks = new ArrayList<>();
+    // Most recently changed first
+    private List<TaskResponseDto> recentTasks = new ArrayList<>();
+    private List<String> incompleteParts = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package com.taskflow.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Task counts per facet value for a filter predicate.
+ * Facets that were not requested are left null and omitted from the JSON.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskFacetsDto {
+    private Map<TaskStatus, Long> status;
+    private Map<TaskPriority, Long> priority;
+    private Map<DueBucket, Long> due;
+}
@@ -1,5 +1,6 @@
 package com.taskflow.task.dto;
 
+import com.taskflow.task.enums.TaskField;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -23,6 +25,14 @@ public class TaskFilterDto {
     private Integer page;
     private Integer size;
     private String currentFilter;
+    private Set<String> tags;
+    private Set<String> anyTags;
+    private Set<String> notTags;
+    private boolean includeArchived;
+    // Fields to return; null returns every field
+    private Set<TaskField> fields;
+    // Keyset cursor for the createdAt sort: the ID of the last task of the previous page
+    private Long afterId;
 
     // Default values
     public String getSortBy() {
@@ -44,4 +54,10 @@ public class TaskFilterDto {
     public String getCurrentFilter() {
         return currentFilter != null ? currentFilter : "all";
     }
+
+    public boolean hasTagFilters() {
+        return (tags != null && !tags.isEmpty()) ||
+                (anyTags != null && !anyTags.isEmpty()) ||
+                (notTags != null && !notTags.isEmpty());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.taskflow.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Completion of a task and all of its descendants, read from the rolled-up counters
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskProgressDto {
+    private Long taskId;
+    private int totalTasks;
+    private int completedTasks;
+    private double percentComplete;
+
+    public static TaskProgressDto of(Long taskId, int totalTasks, int completedTasks) {
+        double percent = totalTasks == 0 ? 0.0 : Math.round(completedTasks * 1000.0 / totalTasks) / 10.0;
+        return new TaskProgressDto(taskId, totalTasks, completedTasks, percent);
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -29,4 +30,10 @@ public class TaskRequestDto {
     private TaskPriority priority;
 
     private LocalDate dueDate;
+
+    @Size(max = 20, message = "A task can have at most 20 tags")
+    private Set<String> tags;
+
+    // Only applied on create; use PATCH /tasks/{id}/parent to move a task
+    private Long parentId;
 }
\ No newline at end of file
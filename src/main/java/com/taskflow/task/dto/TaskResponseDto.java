@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -19,10 +20,15 @@ public class TaskResponseDto {
     private TaskStatus status;
     private TaskPriority priority;
     private LocalDate dueDate;
+    private Set<String> tags;
+    private Long parentId;
+    private int subtreeSize;
+    private int subtreeCompleted;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean overdue;
     private boolean completed;
+    private boolean archived;
 
     // Constructor with minimal fields
     public TaskResponseDto(Long id, String title, String description, TaskStatus status, TaskPriority priority) {
@@ -0,0 +1,38 @@
+package com.taskflow.task.dto;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TrendGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task activity over a date range, summed from the daily rollups
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTrendDto {
+    private LocalDate from;
+    private LocalDate to;
+    private TrendGranularity granularity;
+    // One entry per day or week in the range, including empty ones
+    private List<Bucket> buckets;
+    // Mean hours from creation to completion of the tasks completed in the range
+    private Map<TaskPriority, Double> averageHoursToComplete;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDate start;
+        private long created;
+        private long completed;
+        private long reopened;
+        private long deleted;
+    }
+}
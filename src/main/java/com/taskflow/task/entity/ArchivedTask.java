@@ -0,0 +1,61 @@
+package com.taskflow.task.entity;
+
+import com.taskflow.common.util.TagUtil;
+import com.taskflow.task.converter.TaskPriorityConverter;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A completed task moved out of {@code tasks} by the archival job. Rows are
+ * only ever written by set-based copies from {@code tasks} and keep the
+ * original task ID.
+ */
+@Entity
+@Table(name = "tasks_archive")
+@Data
+@NoArgsConstructor
+public class ArchivedTask {
+    @Id
+    private Long id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TaskStatus status;
+
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(name = "priority", nullable = false)
+    private TaskPriority priority;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @ElementCollection
+    @CollectionTable(name = "tasks_archive_tags", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "tag", nullable = false, length = TagUtil.MAX_TAG_LENGTH)
+    @BatchSize(size = 50)
+    private Set<String> tags = new HashSet<>();
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
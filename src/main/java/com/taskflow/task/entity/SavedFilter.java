@@ -0,0 +1,89 @@
+package com.taskflow.task.entity;
+
+import com.taskflow.task.converter.TagSetConverter;
+import com.taskflow.task.converter.TaskPriorityConverter;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A named task list filter kept server-side. Besides the fixed criteria of
+ * {@code GET /tasks}, it can select by due date relative to the current day
+ * ({@link #overdue}, {@link #dueWithinDays}).
+ */
+@Entity
+@Table(name = "saved_filters")
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+public class SavedFilter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "search")
+    private String search;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private TaskStatus status;
+
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(name = "priority")
+    private TaskPriority priority;
+
+    @Column(name = "due_date_from")
+    private LocalDate dueDateFrom;
+
+    @Column(name = "due_date_to")
+    private LocalDate dueDateTo;
+
+    // Due between today and today + dueWithinDays, inclusive
+    @Column(name = "due_within_days")
+    private Integer dueWithinDays;
+
+    // Pending and due before today
+    @Column(name = "overdue", nullable = false)
+    private boolean overdue;
+
+    @Convert(converter = TagSetConverter.class)
+    @Column(name = "tags", length = 1000)
+    private Set<String> tags = new LinkedHashSet<>();
+
+    @Convert(converter = TagSetConverter.class)
+    @Column(name = "any_tags", length = 1000)
+    private Set<String> anyTags = new LinkedHashSet<>();
+
+    @Convert(converter = TagSetConverter.class)
+    @Column(name = "not_tags", length = 1000)
+    private Set<String> notTags = new LinkedHashSet<>();
+
+    @Column(name = "sort_by", nullable = false, length = 20)
+    private String sortBy = "createdAt";
+
+    @Column(name = "sort_direction", nullable = false, length = 4)
+    private String sortDirection = "desc";
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Whether the matching tasks change with the current date alone
+     */
+    public boolean isDateDependent() {
+        return overdue || dueWithinDays != null;
+    }
+}
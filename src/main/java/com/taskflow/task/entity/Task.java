@@ -1,5 +1,7 @@
 package com.taskflow.task.entity;
 
+import com.taskflow.common.util.TagUtil;
+import com.taskflow.task.converter.TaskPriorityConverter;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
 import jakarta.persistence.*;
@@ -9,12 +11,16 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "tasks")
@@ -23,8 +29,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
+    // Allocated from node-local blocks of the shared sequence, see BlockIdOptimizer
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id")
+    @SequenceGenerator(name = "task_id", sequenceName = "task_id_blocks", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title is required")
@@ -32,7 +40,10 @@ public class Task {
     @Column(name = "title", nullable = false)
     private String title;
 
+    // Lazy (bytecode enhancement): response queries fetch it with the row through
+    // an entity graph, other loads such as index refreshes skip the TEXT column
     @Size(max = 1000, message = "Task description must not exceed 1000 characters")
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -42,13 +53,40 @@ public class Task {
     private TaskStatus status = TaskStatus.PENDING;
 
     @NotNull(message = "Task priority is required")
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TaskPriorityConverter.class)
     @Column(name = "priority", nullable = false)
     private TaskPriority priority = TaskPriority.MEDIUM;
 
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // Rolled-up counts for this task and all of its descendants. They are only
+    // ever changed by set-based updates along the closure table, never by an
+    // entity flush, so concurrent updates to different nodes cannot clobber them.
+    @Column(name = "subtree_size", nullable = false, updatable = false)
+    private int subtreeSize = 1;
+
+    @Column(name = "subtree_completed", nullable = false, updatable = false)
+    private int subtreeCompleted;
+
+    // Worker lease on a pending task. Set and cleared only by conditional
+    // updates in TaskRepository, so an entity flush never overwrites a claim
+    // another instance has just made.
+    @Column(name = "claimed_by", length = 64, insertable = false, updatable = false)
+    private String claimedBy;
+
+    @Column(name = "claimed_until", insertable = false, updatable = false)
+    private Instant claimedUntil;
+
+    @ElementCollection
+    @CollectionTable(name = "task_tags", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "tag", nullable = false, length = TagUtil.MAX_TAG_LENGTH)
+    @BatchSize(size = 50)
+    private Set<String> tags = new HashSet<>();
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -66,6 +104,9 @@ public class Task {
         if (updatedAt == null) {
             updatedAt = LocalDateTime.now();
         }
+        // A new task is a leaf: its subtree is just itself
+        subtreeSize = 1;
+        subtreeCompleted = isCompleted() ? 1 : 0;
     }
 
     @PreUpdate
@@ -0,0 +1,26 @@
+package com.taskflow.task.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One ancestor/descendant pair of the task hierarchy, including the
+ * depth-0 row every task has for itself.
+ */
+@Entity
+@Table(name = "task_closure")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskClosure {
+    @EmbeddedId
+    private TaskClosureId id;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
@@ -0,0 +1,44 @@
+package com.taskflow.task.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Task activity of one priority on one day. Counters are only ever changed
+ * by set-based increments in the transaction of the change they count, so
+ * concurrent writers never overwrite each other.
+ */
+@Entity
+@Table(name = "task_daily_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollup {
+    @EmbeddedId
+    private TaskDailyRollupId id;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "reopened_count", nullable = false)
+    private long reopenedCount;
+
+    @Column(name = "deleted_count", nullable = false)
+    private long deletedCount;
+
+    // Sum of created-to-completed times of the tasks completed that day
+    @Column(name = "completion_seconds", nullable = false)
+    private long completionSeconds;
+
+    public TaskDailyRollup(TaskDailyRollupId id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.task.entity;
+
+import com.taskflow.task.converter.TaskPriorityConverter;
+import com.taskflow.task.enums.TaskPriority;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollupId implements Serializable {
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate day;
+
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(name = "priority", nullable = false)
+    private TaskPriority priority;
+}
@@ -0,0 +1,42 @@
+package com.taskflow.task.enums;
+
+import java.time.LocalDate;
+
+/**
+ * Due-date ranges used for faceted counts, relative to the current date
+ */
+public enum DueBucket {
+    NO_DUE_DATE("No due date"),
+    PAST_DUE("Past due"),
+    TODAY("Today"),
+    NEXT_7_DAYS("Next 7 days"),
+    LATER("Later");
+
+    /**
+     * Last day, counted from today, that still falls into {@link #NEXT_7_DAYS}
+     */
+    public static final int UPCOMING_DAYS = 7;
+
+    private final String displayName;
+
+    DueBucket(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static DueBucket of(LocalDate dueDate, LocalDate today) {
+        if (dueDate == null) {
+            return NO_DUE_DATE;
+        }
+        if (dueDate.isBefore(today)) {
+            return PAST_DUE;
+        }
+        if (dueDate.isEqual(today)) {
+            return TODAY;
+        }
+        return dueDate.isAfter(today.plusDays(UPCOMING_DAYS)) ? LATER : NEXT_7_DAYS;
+    }
+}
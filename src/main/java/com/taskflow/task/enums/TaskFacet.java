@@ -0,0 +1,26 @@
+package com.taskflow.task.enums;
+
+public enum TaskFacet {
+    STATUS("status"),
+    PRIORITY("priority"),
+    DUE("due");
+
+    private final String parameterName;
+
+    TaskFacet(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static TaskFacet fromString(String facet) {
+        for (TaskFacet taskFacet : TaskFacet.values()) {
+            if (taskFacet.parameterName.equalsIgnoreCase(facet) || taskFacet.name().equalsIgnoreCase(facet)) {
+                return taskFacet;
+            }
+        }
+        throw new IllegalArgumentException("Invalid task facet: " + facet);
+    }
+}
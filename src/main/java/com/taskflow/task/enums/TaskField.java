@@ -0,0 +1,104 @@
+package com.taskflow.task.enums;
+
+import com.taskflow.task.dto.TaskResponseDto;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Fields of {@link TaskResponseDto} that can be requested with {@code fields=}
+ */
+public enum TaskField {
+    ID("id", TaskResponseDto::getId, "id"),
+    TITLE("title", TaskResponseDto::getTitle, "title"),
+    DESCRIPTION("description", TaskResponseDto::getDescription, "description"),
+    STATUS("status", TaskResponseDto::getStatus, "status"),
+    PRIORITY("priority", TaskResponseDto::getPriority, "priority"),
+    DUE_DATE("dueDate", TaskResponseDto::getDueDate, "dueDate"),
+    // Read from the tag table, not the task row
+    TAGS("tags", TaskResponseDto::getTags),
+    PARENT_ID("parentId", TaskResponseDto::getParentId, "parentId"),
+    SUBTREE_SIZE("subtreeSize", TaskResponseDto::getSubtreeSize, "subtreeSize"),
+    SUBTREE_COMPLETED("subtreeCompleted", TaskResponseDto::getSubtreeCompleted, "subtreeCompleted"),
+    CREATED_AT("createdAt", TaskResponseDto::getCreatedAt, "createdAt"),
+    UPDATED_AT("updatedAt", TaskResponseDto::getUpdatedAt, "updatedAt"),
+    OVERDUE("overdue", TaskResponseDto::isOverdue, "dueDate", "status"),
+    COMPLETED("completed", TaskResponseDto::isCompleted, "status"),
+    ARCHIVED("archived", TaskResponseDto::isArchived);
+
+    private final String parameterName;
+    private final Function<TaskResponseDto, Object> accessor;
+    private final List<String> attributes;
+
+    TaskField(String parameterName, Function<TaskResponseDto, Object> accessor, String... attributes) {
+        this.parameterName = parameterName;
+        this.accessor = accessor;
+        this.attributes = List.of(attributes);
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Task entity attributes the field is computed from
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    public static TaskField fromString(String field) {
+        for (TaskField taskField : TaskField.values()) {
+            if (taskField.parameterName.equalsIgnoreCase(field) || taskField.name().equalsIgnoreCase(field)) {
+                return taskField;
+            }
+        }
+        throw new IllegalArgumentException("Invalid task field: " + field);
+    }
+
+    /**
+     * The requested fields, or null (every field) when none are given. The
+     * ID is always included so rows can be told apart.
+     */
+    public static Set<TaskField> parse(Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        Set<TaskField> parsed = EnumSet.of(ID);
+        fields.forEach(field -> parsed.add(fromString(field.trim())));
+        return parsed;
+    }
+
+    /**
+     * Whether {@code field} is part of {@code fields}, where null means every field
+     */
+    public static boolean includes(Set<TaskField> fields, TaskField field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * The selected fields of {@code task} by JSON name, in declaration order
+     */
+    public static Map<String, Object> select(TaskResponseDto task, Set<TaskField> fields) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            selected.put(field.parameterName, field.accessor.apply(task));
+        }
+        return selected;
+    }
+
+    /**
+     * Task entity attributes to select for {@code fields}, ID first
+     */
+    public static List<String> attributesOf(Set<TaskField> fields) {
+        Set<String> attributes = new LinkedHashSet<>(ID.attributes);
+        fields.forEach(field -> attributes.addAll(field.attributes));
+        return List.copyOf(attributes);
+    }
+}
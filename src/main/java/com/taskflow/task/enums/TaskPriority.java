@@ -29,4 +29,13 @@ public enum TaskPriority {
         }
         throw new IllegalArgumentException("Invalid task priority: " + priority);
     }
+
+    public static TaskPriority fromOrderValue(int orderValue) {
+        for (TaskPriority taskPriority : TaskPriority.values()) {
+            if (taskPriority.orderValue == orderValue) {
+                return taskPriority;
+            }
+        }
+        throw new IllegalArgumentException("Invalid task priority order value: " + orderValue);
+    }
 }
\ No newline at end of file
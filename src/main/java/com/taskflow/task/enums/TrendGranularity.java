@@ -0,0 +1,30 @@
+package com.taskflow.task.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum TrendGranularity {
+    DAY,
+    // ISO weeks, starting on Monday
+    WEEK;
+
+    /**
+     * First day of the bucket containing {@code day}
+     */
+    public LocalDate bucketStart(LocalDate day) {
+        return this == WEEK ? day.with(DayOfWeek.MONDAY) : day;
+    }
+
+    public LocalDate nextBucket(LocalDate bucketStart) {
+        return this == WEEK ? bucketStart.plusWeeks(1) : bucketStart.plusDays(1);
+    }
+
+    public static TrendGranularity fromString(String granularity) {
+        for (TrendGranularity value : TrendGranularity.values()) {
+            if (value.name().equalsIgnoreCase(granularity)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid trend granularity: " + granularity);
+    }
+}
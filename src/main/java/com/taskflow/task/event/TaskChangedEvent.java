@@ -0,0 +1,50 @@
+package com.taskflow.task.event;
+
+import lombok.Value;
+
+/**
+ * Published by the task service for every task mutation.
+ *
+ * In-memory structures derived from the tasks table listen for this after
+ * the surrounding transaction commits.
+ */
+@Value
+public class TaskChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        // Moved to the archive table; gone from tasks like a deletion
+        ARCHIVED
+    }
+
+    ChangeType type;
+    Long taskId;
+    TaskSnapshot before;
+    TaskSnapshot after;
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(ChangeType.CREATED, after.getId(), null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(ChangeType.UPDATED, after.getId(), before, after);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(ChangeType.DELETED, taskId, null, null);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(ChangeType.DELETED, before.getId(), before, null);
+    }
+
+    public static TaskChangedEvent archived(Long taskId) {
+        return new TaskChangedEvent(ChangeType.ARCHIVED, taskId, null, null);
+    }
+
+    public boolean isRemoval() {
+        return type == ChangeType.DELETED || type == ChangeType.ARCHIVED;
+    }
+}
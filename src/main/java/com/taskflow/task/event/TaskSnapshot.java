@@ -0,0 +1,57 @@
+package com.taskflow.task.event;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Immutable copy of a task's state at the time of a change
+ */
+@Value
+public class TaskSnapshot {
+    Long id;
+    String title;
+    String description;
+    TaskStatus status;
+    TaskPriority priority;
+    LocalDate dueDate;
+    Long parentId;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Set<String> tags;
+
+    public static TaskSnapshot of(Task task) {
+        return of(task, task.getDescription());
+    }
+
+    /**
+     * Snapshot without the lazy description, for deletions whose consumers
+     * never read it; avoids loading it row by row
+     */
+    public static TaskSnapshot withoutDescription(Task task) {
+        return of(task, null);
+    }
+
+    /**
+     * Snapshot with a description read separately, e.g. in bulk for many tasks
+     */
+    public static TaskSnapshot of(Task task, String description) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getTitle(),
+                description,
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getParentId(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getTags() != null ? Set.copyOf(task.getTags()) : Set.of()
+        );
+    }
+}
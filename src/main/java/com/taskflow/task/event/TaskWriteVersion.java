@@ -0,0 +1,75 @@
+package com.taskflow.task.event;
+
+import com.taskflow.task.enums.TaskStatus;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter that advances once per committed task change, for read caches that
+ * must not serve results computed before a write.
+ *
+ * Runs after the other change listeners, so by the time the version moves the
+ * in-memory indexes already reflect the change.
+ *
+ * Each status also has its own version, moved only by changes to tasks with
+ * that status before or after the change, so results limited to one status
+ * survive writes to tasks with other statuses.
+ */
+@Component
+public class TaskWriteVersion {
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLongArray versionByStatus = new AtomicLongArray(TaskStatus.values().length);
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Version of the tasks with {@code status}; null means all tasks
+     */
+    public long current(TaskStatus status) {
+        return status != null ? versionByStatus.get(status.ordinal()) : current();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskStatus before = event.getBefore() != null ? event.getBefore().getStatus() : null;
+        TaskStatus after = event.getAfter() != null ? event.getAfter().getStatus() : null;
+        boolean statusKnown = switch (event.getType()) {
+            case CREATED -> after != null;
+            case UPDATED -> before != null && after != null;
+            case DELETED -> before != null;
+            // The archive event carries no snapshot
+            case ARCHIVED -> false;
+        };
+        if (!statusKnown) {
+            advance();
+            return;
+        }
+        if (before != null) {
+            versionByStatus.incrementAndGet(before.ordinal());
+        }
+        if (after != null && after != before) {
+            versionByStatus.incrementAndGet(after.ordinal());
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Move every version for a change not published as an event here, e.g.
+     * one committed by another instance
+     */
+    public void advance() {
+        for (int i = 0; i < versionByStatus.length(); i++) {
+            versionByStatus.incrementAndGet(i);
+        }
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,189 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.event.TaskChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Base class for in-memory structures derived from the tasks table.
+ *
+ * The structure is loaded from the database on first use and then kept in
+ * sync from committed {@link TaskChangedEvent}s. Changes committed while a
+ * load is running are buffered and replayed on top of the loaded snapshot,
+ * so a change is never lost between the load query and installation.
+ *
+ * @param <S> snapshot type produced by {@link #loadSnapshot()}
+ */
+public abstract class AbstractTaskIndex<S> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object loadMonitor = new Object();
+
+    private volatile boolean loaded;
+    private List<TaskChangedEvent> pendingChanges;
+    // IDs changed on this instance since beginRefresh(), while a refresh is running
+    private Set<Long> changedDuringRefresh;
+
+    /**
+     * Read the source data; called without holding the index lock
+     */
+    protected abstract S loadSnapshot();
+
+    /**
+     * Replace the index contents with a freshly loaded snapshot
+     */
+    protected abstract void install(S snapshot);
+
+    /**
+     * Apply one committed change; must be idempotent
+     */
+    protected abstract void apply(TaskChangedEvent event);
+
+    /**
+     * Drop the index contents
+     */
+    protected abstract void clear();
+
+    // Before TaskWriteVersion, so readers that see a new version also see the change
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRefresh != null) {
+                changedDuringRefresh.add(event.getTaskId());
+            }
+            applyOrBuffer(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Start a refresh of tasks changed by another instance; their current
+     * state is read after this call and passed to {@link #completeRefresh}
+     */
+    void beginRefresh() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRefresh = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply the state read since {@link #beginRefresh()}. A task also changed
+     * on this instance meanwhile is skipped, since the read may predate the
+     * local change that was already applied.
+     *
+     * @return the skipped IDs, to be read and refreshed again
+     */
+    Set<Long> completeRefresh(List<TaskChangedEvent> currentState) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> skipped = new HashSet<>();
+            for (TaskChangedEvent event : currentState) {
+                if (changedDuringRefresh.contains(event.getTaskId())) {
+                    skipped.add(event.getTaskId());
+                } else {
+                    applyOrBuffer(event);
+                }
+            }
+            changedDuringRefresh = null;
+            return skipped;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discard the current contents; the next read reloads from the database
+     */
+    public void reset() {
+        synchronized (loadMonitor) {
+            lock.writeLock().lock();
+            try {
+                loaded = false;
+                clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    protected final <T> T read(Supplier<T> reader) {
+        while (true) {
+            ensureLoaded();
+            lock.readLock().lock();
+            try {
+                // A concurrent reset may have cleared the index since ensureLoaded()
+                if (loaded) {
+                    return reader.get();
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    protected final void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadMonitor) {
+            if (loaded) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            S snapshot;
+            try {
+                snapshot = loadSnapshot();
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                install(snapshot);
+                pendingChanges.forEach(this::apply);
+                pendingChanges = null;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void applyOrBuffer(TaskChangedEvent event) {
+        if (pendingChanges != null) {
+            pendingChanges.add(event);
+        } else if (loaded) {
+            apply(event);
+        }
+        // Not loaded yet: the next load reads the committed state
+    }
+}
@@ -0,0 +1,302 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Read-optimized columnar mirror of the tasks table for reporting queries.
+ *
+ * Each column is a primitive array indexed by row (struct of arrays): IDs
+ * and timestamps as {@code long[]}, due dates as epoch days in an
+ * {@code int[]}, status and priority ordinals as {@code byte[]}. Deleting a
+ * task moves the last row into its slot, so rows stay dense. Scans are
+ * straight loops over the arrays and are split across the common fork-join
+ * pool once the table is large enough.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ColumnarTaskIndex extends AbstractTaskIndex<List<Object[]>> {
+
+    /**
+     * Epoch day stored for tasks without a due date; sorts before every real date
+     */
+    static final int NO_DUE_DATE = Integer.MIN_VALUE;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    private final TaskRepository taskRepository;
+
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] dueDays = new int[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private byte[] priorities = new byte[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private long[] updatedAt = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Counts of all tasks per (status, priority, due bucket)
+     */
+    public TaskCounts count(LocalDate today) {
+        return count(null, null, null, null, today);
+    }
+
+    /**
+     * Counts per (status, priority, due bucket) of the tasks matching the
+     * filters, with the same semantics as {@code TaskRepository.countFacets}:
+     * null filters match everything and a due-date bound excludes tasks
+     * without a due date.
+     */
+    public TaskCounts count(TaskStatus status, TaskPriority priority,
+                            LocalDate dueDateFrom, LocalDate dueDateTo, LocalDate today) {
+        int statusFilter = status != null ? status.ordinal() : -1;
+        int priorityFilter = priority != null ? priority.ordinal() : -1;
+        boolean dueFiltered = dueDateFrom != null || dueDateTo != null;
+        int lowDay = dueDateFrom != null ? epochDay(dueDateFrom) : dueFiltered ? NO_DUE_DATE + 1 : NO_DUE_DATE;
+        int highDay = dueDateTo != null ? epochDay(dueDateTo) : Integer.MAX_VALUE;
+        int todayDay = epochDay(today);
+        int upcomingEndDay = todayDay + DueBucket.UPCOMING_DAYS;
+
+        return read(() -> new TaskCounts(scan(
+                (from, to) -> countRange(from, to, statusFilter, priorityFilter, lowDay, highDay,
+                        todayDay, upcomingEndDay),
+                ColumnarTaskIndex::addCells)));
+    }
+
+    /**
+     * IDs of pending tasks due before {@code today}, ordered by due date and then ID
+     */
+    public long[] findOverdueIds(LocalDate today) {
+        int todayDay = epochDay(today);
+        byte pending = (byte) TaskStatus.PENDING.ordinal();
+
+        return read(() -> {
+            int[] rows = scan((from, to) -> overdueRange(from, to, pending, todayDay), ColumnarTaskIndex::concat);
+            Integer[] ordered = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+            Arrays.sort(ordered, Comparator.<Integer>comparingInt(row -> dueDays[row])
+                    .thenComparingLong(row -> ids[row]));
+
+            long[] result = new long[ordered.length];
+            for (int i = 0; i < ordered.length; i++) {
+                result[i] = ids[ordered[i]];
+            }
+            return result;
+        });
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    /**
+     * Smallest row count that is split across the fork-join pool
+     */
+    void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    protected List<Object[]> loadSnapshot() {
+        return taskRepository.findAllTaskColumns();
+    }
+
+    @Override
+    protected void install(List<Object[]> snapshot) {
+        clear();
+        ensureCapacity(snapshot.size());
+        for (Object[] row : snapshot) {
+            upsert((Long) row[0], (TaskStatus) row[1], (TaskPriority) row[2], (LocalDate) row[3],
+                    (LocalDateTime) row[4], (LocalDateTime) row[5]);
+        }
+        log.info("Columnar task index loaded: {} tasks", size);
+    }
+
+    @Override
+    protected void apply(TaskChangedEvent event) {
+        if (event.isRemoval()) {
+            remove(event.getTaskId());
+            return;
+        }
+        TaskSnapshot task = event.getAfter();
+        upsert(task.getId(), task.getStatus(), task.getPriority(), task.getDueDate(),
+                task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    @Override
+    protected void clear() {
+        rowById.clear();
+        size = 0;
+    }
+
+    // Scans
+
+    private long[] countRange(int from, int to, int statusFilter, int priorityFilter,
+                              int lowDay, int highDay, int todayDay, int upcomingEndDay) {
+        long[] cells = new long[TaskCounts.CELLS];
+        for (int row = from; row < to; row++) {
+            int day = dueDays[row];
+            int status = statuses[row];
+            int priority = priorities[row];
+            // Branch-free predicate and bucket so the loop body stays straight-line
+            boolean match = (statusFilter < 0 | status == statusFilter)
+                    & (priorityFilter < 0 | priority == priorityFilter)
+                    & day >= lowDay & day <= highDay;
+            int bucket = 1 + (day >= todayDay ? 1 : 0) + (day > todayDay ? 1 : 0)
+                    + (day > upcomingEndDay ? 1 : 0) - (day == NO_DUE_DATE ? 1 : 0);
+            cells[TaskCounts.cell(status, priority, bucket)] += match ? 1 : 0;
+        }
+        return cells;
+    }
+
+    private int[] overdueRange(int from, int to, byte pending, int todayDay) {
+        int[] rows = new int[Math.min(to - from, 64)];
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            int day = dueDays[row];
+            if (statuses[row] == pending & day < todayDay & day != NO_DUE_DATE) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, Math.min(to - from, rows.length * 2));
+                }
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private <R> R scan(RangeScan<R> leaf, BinaryOperator<R> combine) {
+        if (size < parallelThreshold) {
+            return leaf.apply(0, size);
+        }
+        return ForkJoinPool.commonPool().invoke(new ScanTask<>(leaf, combine, 0, size, parallelThreshold));
+    }
+
+    private static long[] addCells(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+
+    // Row maintenance
+
+    private void upsert(Long id, TaskStatus status, TaskPriority priority, LocalDate dueDate,
+                        LocalDateTime created, LocalDateTime updated) {
+        Integer row = rowById.get(id);
+        if (row == null) {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowById.put(id, row);
+        }
+        ids[row] = id;
+        statuses[row] = (byte) status.ordinal();
+        priorities[row] = (byte) priority.ordinal();
+        dueDays[row] = dueDate != null ? epochDay(dueDate) : NO_DUE_DATE;
+        createdAt[row] = epochMillis(created);
+        updatedAt[row] = epochMillis(updated);
+    }
+
+    private void remove(Long id) {
+        Integer row = rowById.remove(id);
+        if (row == null) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            statuses[row] = statuses[last];
+            priorities[row] = priorities[last];
+            dueDays[row] = dueDays[last];
+            createdAt[row] = createdAt[last];
+            updatedAt[row] = updatedAt[last];
+            rowById.put(ids[row], row);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        statuses = Arrays.copyOf(statuses, newCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        dueDays = Arrays.copyOf(dueDays, newCapacity);
+        createdAt = Arrays.copyOf(createdAt, newCapacity);
+        updatedAt = Arrays.copyOf(updatedAt, newCapacity);
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_TIMESTAMP;
+    }
+
+    @FunctionalInterface
+    private interface RangeScan<R> {
+        R apply(int from, int to);
+    }
+
+    /**
+     * Splits a row range in halves until it is below the threshold
+     */
+    private static final class ScanTask<R> extends RecursiveTask<R> {
+        private final transient RangeScan<R> leaf;
+        private final transient BinaryOperator<R> combine;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ScanTask(RangeScan<R> leaf, BinaryOperator<R> combine, int from, int to, int threshold) {
+            this.leaf = leaf;
+            this.combine = combine;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= threshold) {
+                return leaf.apply(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask<R> left = new ScanTask<>(leaf, combine, from, middle, threshold);
+            left.fork();
+            R right = new ScanTask<>(leaf, combine, middle, to, threshold).compute();
+            return combine.apply(left.join(), right);
+        }
+    }
+}
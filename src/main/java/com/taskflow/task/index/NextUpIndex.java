@@ -0,0 +1,117 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Pending tasks in work order: highest priority first, then earliest due
+ * date (tasks without one last), then oldest.
+ *
+ * The ordered set makes "next N" a walk over the first N entries instead of
+ * a sort over every pending task. Claims are not tracked here: other
+ * instances claim tasks too, so the index only proposes candidates and the
+ * claim itself is a conditional update in the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NextUpIndex extends AbstractTaskIndex<List<Object[]>> {
+
+    private static final Comparator<Entry> WORK_ORDER = Comparator.comparingInt(Entry::priority).reversed()
+            .thenComparingLong(Entry::dueDay)
+            .thenComparingLong(Entry::createdAt)
+            .thenComparingLong(Entry::id);
+
+    private final TaskRepository taskRepository;
+
+    private final NavigableSet<Entry> queue = new TreeSet<>(WORK_ORDER);
+    private final Map<Long, Entry> entriesById = new HashMap<>();
+
+    /**
+     * IDs of the first {@code n} pending tasks not in {@code skip}
+     */
+    public List<Long> peek(int n, Set<Long> skip) {
+        return read(() -> {
+            List<Long> ids = new ArrayList<>(n);
+            for (Entry entry : queue) {
+                if (ids.size() == n) {
+                    break;
+                }
+                if (!skip.contains(entry.id())) {
+                    ids.add(entry.id());
+                }
+            }
+            return ids;
+        });
+    }
+
+    public int size() {
+        return read(queue::size);
+    }
+
+    @Override
+    protected List<Object[]> loadSnapshot() {
+        return taskRepository.findAllTaskColumns();
+    }
+
+    @Override
+    protected void install(List<Object[]> snapshot) {
+        clear();
+        for (Object[] row : snapshot) {
+            if (row[1] == TaskStatus.PENDING) {
+                add(new Entry((Long) row[0], (TaskPriority) row[2], (LocalDate) row[3], (LocalDateTime) row[4]));
+            }
+        }
+        log.info("Next-up index loaded: {} pending tasks", queue.size());
+    }
+
+    @Override
+    protected void apply(TaskChangedEvent event) {
+        Entry previous = entriesById.remove(event.getTaskId());
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        TaskSnapshot task = event.getAfter();
+        if (!event.isRemoval() && task.getStatus() == TaskStatus.PENDING) {
+            add(new Entry(task.getId(), task.getPriority(), task.getDueDate(), task.getCreatedAt()));
+        }
+    }
+
+    @Override
+    protected void clear() {
+        queue.clear();
+        entriesById.clear();
+    }
+
+    private void add(Entry entry) {
+        entriesById.put(entry.id(), entry);
+        queue.add(entry);
+    }
+
+    private record Entry(long id, int priority, long dueDay, long createdAt) {
+
+        Entry(Long id, TaskPriority priority, LocalDate dueDate, LocalDateTime createdAt) {
+            this(id, priority.getOrderValue(),
+                    dueDate != null ? dueDate.toEpochDay() : Long.MAX_VALUE,
+                    createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.entity.SavedFilter;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskSnapshot;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A saved filter resolved against one day: relative due-date criteria become
+ * an absolute range, so a task can be tested without the current date.
+ *
+ * {@link #matches} tests a changed task with the predicate of
+ * {@code TaskRepository.findSavedFilterRows} plus the tag criteria; the
+ * search is a case-insensitive literal substring on both sides.
+ */
+record SavedFilterCriteria(String search, TaskStatus status, TaskPriority priority,
+                           LocalDate dueDateFrom, LocalDate dueDateTo,
+                           Set<String> tags, Set<String> anyTags, Set<String> notTags,
+                           boolean matchesNothing) {
+
+    static SavedFilterCriteria of(SavedFilter filter, LocalDate today) {
+        TaskStatus status = filter.getStatus();
+        LocalDate from = filter.getDueDateFrom();
+        LocalDate to = filter.getDueDateTo();
+        boolean matchesNothing = false;
+
+        if (filter.getDueWithinDays() != null) {
+            from = later(from, today);
+            to = earlier(to, today.plusDays(filter.getDueWithinDays()));
+        }
+        if (filter.isOverdue()) {
+            matchesNothing = status != null && status != TaskStatus.PENDING;
+            status = TaskStatus.PENDING;
+            to = earlier(to, today.minusDays(1));
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            matchesNothing = true;
+        }
+
+        String search = filter.getSearch() != null && !filter.getSearch().isBlank()
+                ? filter.getSearch().trim().toLowerCase(Locale.ROOT) : null;
+        return new SavedFilterCriteria(search, status, filter.getPriority(), from, to,
+                filter.getTags(), filter.getAnyTags(), filter.getNotTags(), matchesNothing);
+    }
+
+    boolean hasTagFilters() {
+        return !tags.isEmpty() || !anyTags.isEmpty() || !notTags.isEmpty();
+    }
+
+    boolean matches(TaskSnapshot task) {
+        if (matchesNothing) {
+            return false;
+        }
+        if (search != null && !contains(task.getTitle()) && !contains(task.getDescription())) {
+            return false;
+        }
+        if (status != null && task.getStatus() != status) {
+            return false;
+        }
+        if (priority != null && task.getPriority() != priority) {
+            return false;
+        }
+        if (dueDateFrom != null && (task.getDueDate() == null || task.getDueDate().isBefore(dueDateFrom))) {
+            return false;
+        }
+        if (dueDateTo != null && (task.getDueDate() == null || task.getDueDate().isAfter(dueDateTo))) {
+            return false;
+        }
+        return task.getTags().containsAll(tags)
+                && (anyTags.isEmpty() || !Collections.disjoint(task.getTags(), anyTags))
+                && Collections.disjoint(task.getTags(), notTags);
+    }
+
+    private boolean contains(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(search);
+    }
+
+    private static LocalDate later(LocalDate date, LocalDate bound) {
+        return date == null || date.isBefore(bound) ? bound : date;
+    }
+
+    private static LocalDate earlier(LocalDate date, LocalDate bound) {
+        return date == null || date.isAfter(bound) ? bound : date;
+    }
+}
@@ -0,0 +1,250 @@
+package com.taskflow.task.index;
+
+import com.taskflow.common.bitmap.RoaringBitmap;
+import com.taskflow.task.entity.SavedFilter;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.SavedFilterRepository;
+import com.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Materialized, sorted task ID lists of every saved filter.
+ *
+ * Each change is tested against every saved predicate and moves the task
+ * into, out of or within the affected lists, so reading a saved filter is a
+ * slice of a precomputed array. Due-date criteria relative to today are
+ * resolved when the lists are loaded; the first read on a later day reloads
+ * them if any filter uses such criteria.
+ */
+@Component
+@Profile("!edge")
+@RequiredArgsConstructor
+@Slf4j
+public class SavedFilterIndex extends AbstractTaskIndex<SavedFilterIndex.Snapshot> {
+
+    private final SavedFilterRepository savedFilterRepository;
+    private final TaskRepository taskRepository;
+    private final TagIndex tagIndex;
+
+    private final Map<Long, View> viewsByFilterId = new HashMap<>();
+    private volatile LocalDate loadedOn;
+    private volatile boolean dateDependent;
+
+    /**
+     * Up to {@code limit} task IDs of a saved filter from {@code offset}, in
+     * the filter's sort order
+     *
+     * @return empty if the filter is not loaded, e.g. created on another instance
+     */
+    public Optional<Slice> slice(Long filterId, int offset, int limit) {
+        LocalDate today = LocalDate.now();
+        if (isLoaded() && dateDependent && !today.equals(loadedOn)) {
+            log.info("Reloading saved filters for {}", today);
+            reset();
+        }
+        return read(() -> {
+            View view = viewsByFilterId.get(filterId);
+            if (view == null) {
+                return Optional.empty();
+            }
+            long[] ids = view.ids();
+            int from = Math.min(offset, ids.length);
+            int to = (int) Math.min((long) from + limit, ids.length);
+            List<Long> page = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                page.add(ids[i]);
+            }
+            return Optional.of(new Slice(page, ids.length));
+        });
+    }
+
+    @Override
+    protected Snapshot loadSnapshot() {
+        LocalDate today = LocalDate.now();
+        List<LoadedView> views = new ArrayList<>();
+        for (SavedFilter filter : savedFilterRepository.findAll()) {
+            SavedFilterCriteria criteria = SavedFilterCriteria.of(filter, today);
+            views.add(new LoadedView(filter, criteria, findRows(criteria)));
+        }
+        return new Snapshot(today, views);
+    }
+
+    @Override
+    protected void install(Snapshot snapshot) {
+        clear();
+        boolean anyDateDependent = false;
+        for (LoadedView loaded : snapshot.views()) {
+            View view = new View(loaded.criteria(), SortKey.of(loaded.filter().getSortBy()),
+                    "asc".equalsIgnoreCase(loaded.filter().getSortDirection()));
+            loaded.rows().forEach(row -> view.put((Long) row[0], view.sortKey.fromRow(row)));
+            viewsByFilterId.put(loaded.filter().getId(), view);
+            anyDateDependent |= loaded.filter().isDateDependent();
+        }
+        loadedOn = snapshot.day();
+        dateDependent = anyDateDependent;
+        log.info("Saved filter index loaded: {} filters", viewsByFilterId.size());
+    }
+
+    @Override
+    protected void apply(TaskChangedEvent event) {
+        TaskSnapshot task = event.getAfter();
+        for (View view : viewsByFilterId.values()) {
+            view.remove(event.getTaskId());
+            if (!event.isRemoval() && view.criteria.matches(task)) {
+                view.put(task.getId(), view.sortKey.fromTask(task));
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        viewsByFilterId.clear();
+    }
+
+    private List<Object[]> findRows(SavedFilterCriteria criteria) {
+        if (criteria.matchesNothing()) {
+            return List.of();
+        }
+        List<Object[]> rows = taskRepository.findSavedFilterRows(criteria.search(), criteria.status(),
+                criteria.priority(), criteria.dueDateFrom(), criteria.dueDateTo());
+        if (!criteria.hasTagFilters()) {
+            return rows;
+        }
+        RoaringBitmap tagMatches = tagIndex.evaluate(criteria.tags(), criteria.anyTags(), criteria.notTags());
+        return rows.stream()
+                .filter(row -> tagMatches.contains(Math.toIntExact((Long) row[0])))
+                .toList();
+    }
+
+    /**
+     * Sortable properties, read from a {@code findSavedFilterRows} row or a snapshot
+     */
+    private enum SortKey {
+        TITLE(1, TaskSnapshot::getTitle),
+        STATUS(2, TaskSnapshot::getStatus),
+        PRIORITY(3, TaskSnapshot::getPriority),
+        DUE_DATE(4, TaskSnapshot::getDueDate),
+        CREATED_AT(5, TaskSnapshot::getCreatedAt),
+        UPDATED_AT(6, TaskSnapshot::getUpdatedAt);
+
+        private final int column;
+        private final Function<TaskSnapshot, Object> property;
+
+        SortKey(int column, Function<TaskSnapshot, Object> property) {
+            this.column = column;
+            this.property = property;
+        }
+
+        Comparable<?> fromTask(TaskSnapshot task) {
+            return comparable(property.apply(task));
+        }
+
+        Comparable<?> fromRow(Object[] row) {
+            return comparable(row[column]);
+        }
+
+        // Same fields and fallback as the task list sort
+        static SortKey of(String sortBy) {
+            return switch (sortBy) {
+                case "title" -> TITLE;
+                case "status" -> STATUS;
+                case "priority" -> PRIORITY;
+                case "dueDate" -> DUE_DATE;
+                case "updatedAt" -> UPDATED_AT;
+                default -> CREATED_AT;
+            };
+        }
+
+        // Statuses sort by their stored name and priorities by their stored order value
+        private static Comparable<?> comparable(Object value) {
+            if (value instanceof TaskStatus status) {
+                return status.name();
+            }
+            if (value instanceof TaskPriority priority) {
+                return priority.getOrderValue();
+            }
+            return (Comparable<?>) value;
+        }
+    }
+
+    /**
+     * One saved filter's matches. Ascending order puts tasks without a sort
+     * value last, descending order first, as the task list sort does; the ID
+     * breaks ties in the same direction.
+     */
+    private static final class View {
+        final SavedFilterCriteria criteria;
+        final SortKey sortKey;
+        final NavigableSet<Entry> entries;
+        final Map<Long, Entry> entriesById = new HashMap<>();
+        // Rebuilt on the first read after a change
+        volatile long[] ids;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        View(SavedFilterCriteria criteria, SortKey sortKey, boolean ascending) {
+            this.criteria = criteria;
+            this.sortKey = sortKey;
+            Comparator<Entry> order = Comparator.comparing(entry -> (Comparable) entry.key(),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            order = order.thenComparingLong(Entry::id);
+            this.entries = new TreeSet<>(ascending ? order : order.reversed());
+        }
+
+        void put(Long id, Comparable<?> key) {
+            Entry entry = new Entry(id, key);
+            entriesById.put(id, entry);
+            entries.add(entry);
+            ids = null;
+        }
+
+        void remove(Long id) {
+            Entry previous = entriesById.remove(id);
+            if (previous != null) {
+                entries.remove(previous);
+                ids = null;
+            }
+        }
+
+        // Called under the read lock; concurrent readers build identical arrays
+        long[] ids() {
+            long[] current = ids;
+            if (current == null) {
+                current = entries.stream().mapToLong(Entry::id).toArray();
+                ids = current;
+            }
+            return current;
+        }
+    }
+
+    private record Entry(long id, Comparable<?> key) {
+    }
+
+    /**
+     * One page of a saved filter's task IDs and the total number of matches
+     */
+    public record Slice(List<Long> ids, long total) {
+    }
+
+    private record LoadedView(SavedFilter filter, SavedFilterCriteria criteria, List<Object[]> rows) {
+    }
+
+    protected record Snapshot(LocalDate day, List<LoadedView> views) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskflow.task.index;
+
+import com.taskflow.common.bitmap.RoaringBitmap;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory bitmap index of task IDs per tag.
+ *
+ * Boolean tag filters are evaluated as bitmap AND / OR / ANDNOT, so the
+ * database only has to apply the remaining column filters to the result.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagIndex extends AbstractTaskIndex<TagIndex.Snapshot> {
+
+    private final TaskRepository taskRepository;
+
+    private final Map<String, RoaringBitmap> bitmapsByTag = new HashMap<>();
+    private final RoaringBitmap allTasks = new RoaringBitmap();
+
+    /**
+     * Evaluate {@code (all of allTags) AND (any of anyTags) AND NOT (any of notTags)}.
+     * Empty criteria are ignored; with no positive criteria the result starts
+     * from every known task.
+     */
+    public RoaringBitmap evaluate(Set<String> allTags, Set<String> anyTags, Set<String> notTags) {
+        return read(() -> {
+            RoaringBitmap result = null;
+
+            if (allTags != null) {
+                for (String tag : allTags) {
+                    RoaringBitmap bitmap = bitmapFor(tag);
+                    result = result == null ? bitmap.copy() : RoaringBitmap.and(result, bitmap);
+                    if (result.isEmpty()) {
+                        return result;
+                    }
+                }
+            }
+
+            if (anyTags != null && !anyTags.isEmpty()) {
+                RoaringBitmap union = new RoaringBitmap();
+                for (String tag : anyTags) {
+                    union = RoaringBitmap.or(union, bitmapFor(tag));
+                }
+                result = result == null ? union : RoaringBitmap.and(result, union);
+            }
+
+            if (result == null) {
+                result = allTasks.copy();
+            }
+
+            if (notTags != null) {
+                for (String tag : notTags) {
+                    result = RoaringBitmap.andNot(result, bitmapFor(tag));
+                }
+            }
+            return result;
+        });
+    }
+
+    public int tagCount() {
+        return read(bitmapsByTag::size);
+    }
+
+    @Override
+    protected Snapshot loadSnapshot() {
+        return new Snapshot(taskRepository.findAllTaskIds(), taskRepository.findAllTaskTagPairs());
+    }
+
+    @Override
+    protected void install(Snapshot snapshot) {
+        clear();
+        snapshot.taskIds().forEach(id -> allTasks.add(toIndex(id)));
+        for (Object[] pair : snapshot.taskTags()) {
+            bitmapsByTag.computeIfAbsent((String) pair[1], tag -> new RoaringBitmap())
+                    .add(toIndex((Long) pair[0]));
+        }
+        log.info("Tag index loaded: {} tasks, {} tags", snapshot.taskIds().size(), bitmapsByTag.size());
+    }
+
+    @Override
+    protected void apply(TaskChangedEvent event) {
+        int id = toIndex(event.getTaskId());
+        if (event.getBefore() != null) {
+            removeFromTags(id, event.getBefore().getTags());
+        } else {
+            // Previous tags unknown, e.g. a change made on another instance
+            removeFromAllTags(id);
+        }
+
+        if (event.isRemoval()) {
+            allTasks.remove(id);
+            return;
+        }
+        allTasks.add(id);
+        for (String tag : event.getAfter().getTags()) {
+            bitmapsByTag.computeIfAbsent(tag, t -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    @Override
+    protected void clear() {
+        bitmapsByTag.clear();
+        allTasks.clear();
+    }
+
+    private void removeFromTags(int id, Set<String> tags) {
+        for (String tag : tags) {
+            RoaringBitmap bitmap = bitmapsByTag.get(tag);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    bitmapsByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    private void removeFromAllTags(int id) {
+        bitmapsByTag.values().removeIf(bitmap -> {
+            bitmap.remove(id);
+            return bitmap.isEmpty();
+        });
+    }
+
+    private RoaringBitmap bitmapFor(String tag) {
+        RoaringBitmap bitmap = bitmapsByTag.get(tag);
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+    private static int toIndex(Long taskId) {
+        return Math.toIntExact(taskId);
+    }
+
+    protected record Snapshot(List<Long> taskIds, Collection<Object[]> taskTags) {
+    }
+}
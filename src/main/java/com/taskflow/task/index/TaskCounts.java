@@ -0,0 +1,101 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Task counts per (status, priority, due bucket) cell, as produced by one
+ * scan of the {@link ColumnarTaskIndex}. Any marginal count is a sum of cells.
+ */
+public final class TaskCounts {
+
+    static final int STATUSES = TaskStatus.values().length;
+    static final int PRIORITIES = TaskPriority.values().length;
+    static final int BUCKETS = DueBucket.values().length;
+    static final int CELLS = STATUSES * PRIORITIES * BUCKETS;
+
+    private final long[] cells;
+
+    TaskCounts(long[] cells) {
+        this.cells = cells;
+    }
+
+    static int cell(int status, int priority, int bucket) {
+        return (status * PRIORITIES + priority) * BUCKETS + bucket;
+    }
+
+    public long total() {
+        long total = 0;
+        for (long count : cells) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long count(TaskStatus status) {
+        return sum(status, null, null);
+    }
+
+    public long count(TaskPriority priority) {
+        return sum(null, priority, null);
+    }
+
+    public long count(DueBucket bucket) {
+        return sum(null, null, bucket);
+    }
+
+    public long count(TaskStatus status, DueBucket bucket) {
+        return sum(status, null, bucket);
+    }
+
+    public Map<TaskStatus, Long> byStatus() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, count(status));
+        }
+        return counts;
+    }
+
+    public Map<TaskPriority, Long> byPriority() {
+        Map<TaskPriority, Long> counts = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            counts.put(priority, count(priority));
+        }
+        return counts;
+    }
+
+    public Map<DueBucket, Long> byDueBucket() {
+        Map<DueBucket, Long> counts = new EnumMap<>(DueBucket.class);
+        for (DueBucket bucket : DueBucket.values()) {
+            counts.put(bucket, count(bucket));
+        }
+        return counts;
+    }
+
+    /**
+     * Sum of the cells matching every non-null coordinate
+     */
+    private long sum(TaskStatus status, TaskPriority priority, DueBucket bucket) {
+        long sum = 0;
+        for (int s = 0; s < STATUSES; s++) {
+            if (status != null && status.ordinal() != s) {
+                continue;
+            }
+            for (int p = 0; p < PRIORITIES; p++) {
+                if (priority != null && priority.ordinal() != p) {
+                    continue;
+                }
+                for (int b = 0; b < BUCKETS; b++) {
+                    if (bucket == null || bucket.ordinal() == b) {
+                        sum += cells[cell(s, p, b)];
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+}
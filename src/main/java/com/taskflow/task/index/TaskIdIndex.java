@@ -0,0 +1,163 @@
+package com.taskflow.task.index;
+
+import com.taskflow.common.bitmap.RoaringBitmap;
+import com.taskflow.common.id.BlockIdOptimizer;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Exact in-memory set of existing task IDs, used to answer lookups of IDs
+ * that cannot exist without a database round-trip.
+ *
+ * Unlike a Bloom filter the bitmap supports removal and has no false
+ * positives. Removed IDs are always rejected, as IDs are never reused.
+ * Other unknown IDs are rejected only at or below a watermark: every
+ * instance hands out IDs from its own block of the shared sequence, so a
+ * task committed elsewhere may have a lower ID than tasks this index already
+ * knows. The watermark is the highest ID seen {@link #SETTLE_TIME} ago. Each
+ * block at or below it was fetched before then, so by now its instance has
+ * given it up ({@link BlockIdOptimizer#MAX_BLOCK_AGE}) and the change events
+ * of its tasks have arrived.
+ */
+@Component
+@Slf4j
+public class TaskIdIndex extends AbstractTaskIndex<List<Long>> {
+
+    /**
+     * Block lifetime plus time for a task's transaction to commit and its
+     * change event to reach every instance
+     */
+    static final Duration SETTLE_TIME = BlockIdOptimizer.MAX_BLOCK_AGE.plus(Duration.ofMinutes(1));
+
+    private static final Duration MARK_INTERVAL = Duration.ofSeconds(1);
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    private final RoaringBitmap ids = new RoaringBitmap();
+    private long highestId;
+    // Facts about IDs, not derived from the database, so kept across reloads
+    private final RoaringBitmap removed = new RoaringBitmap();
+    // How the highest ID rose over time, oldest first, at most one mark per MARK_INTERVAL
+    private final Deque<Mark> marks = new ArrayDeque<>();
+
+    @Autowired
+    public TaskIdIndex(TaskRepository taskRepository) {
+        this(taskRepository, Clock.systemUTC());
+    }
+
+    TaskIdIndex(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * {@code false} only if no task with this ID exists
+     */
+    public boolean mightExist(Long id) {
+        if (id == null || id <= 0) {
+            return false;
+        }
+        if (id > Integer.MAX_VALUE) {
+            // Outside the bitmap's range; let the database decide
+            return true;
+        }
+        int value = id.intValue();
+        return read(() -> !removed.contains(value)
+                && (id > watermark(clock.instant()) || ids.contains(value)));
+    }
+
+    @Override
+    protected List<Long> loadSnapshot() {
+        return taskRepository.findAllTaskIds();
+    }
+
+    @Override
+    protected void install(List<Long> snapshot) {
+        clear();
+        snapshot.forEach(this::add);
+        log.info("Task ID index loaded: {} tasks, highest ID {}", ids.cardinality(), highestId);
+    }
+
+    @Override
+    protected void apply(TaskChangedEvent event) {
+        if (event.isRemoval()) {
+            if (event.getTaskId() <= Integer.MAX_VALUE) {
+                ids.remove(event.getTaskId().intValue());
+                removed.add(event.getTaskId().intValue());
+            }
+        } else {
+            add(event.getTaskId());
+        }
+    }
+
+    @Override
+    protected void clear() {
+        ids.clear();
+        highestId = 0;
+    }
+
+    private void add(Long id) {
+        if (id > highestId) {
+            highestId = id;
+            mark(clock.instant());
+        }
+        if (id <= Integer.MAX_VALUE) {
+            ids.add(id.intValue());
+        }
+    }
+
+    private void mark(Instant now) {
+        Mark last = marks.peekLast();
+        if (last != null && now.isBefore(last.seenBy())) {
+            // Still true: the new highest ID was seen by the end of the last mark's interval
+            marks.pollLast();
+            marks.addLast(new Mark(last.seenBy(), highestId));
+            return;
+        }
+        marks.addLast(new Mark(now.plus(MARK_INTERVAL), highestId));
+        // Only the newest settled mark is still needed
+        Instant settled = now.minus(SETTLE_TIME);
+        while (marks.size() > 1 && !secondOldest().seenBy().isAfter(settled)) {
+            marks.pollFirst();
+        }
+    }
+
+    private Mark secondOldest() {
+        Iterator<Mark> iterator = marks.iterator();
+        iterator.next();
+        return iterator.next();
+    }
+
+    /**
+     * Highest ID seen at least {@link #SETTLE_TIME} before {@code now}
+     */
+    private long watermark(Instant now) {
+        Instant settled = now.minus(SETTLE_TIME);
+        Iterator<Mark> newestFirst = marks.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Mark mark = newestFirst.next();
+            if (!mark.seenBy().isAfter(settled)) {
+                return mark.highestId();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * {@code highestId} was the highest ID seen at some point before {@code seenBy}
+     */
+    private record Mark(Instant seenBy, long highestId) {
+    }
+}
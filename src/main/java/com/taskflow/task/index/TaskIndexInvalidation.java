@@ -0,0 +1,124 @@
+package com.taskflow.task.index;
+
+import com.taskflow.common.invalidation.InvalidationBus;
+import com.taskflow.common.invalidation.InvalidationListener;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.event.TaskWriteVersion;
+import com.taskflow.task.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Connects the task indexes and {@link TaskWriteVersion} to the
+ * {@link InvalidationBus}.
+ *
+ * Every committed change on this instance is published by task ID. For IDs
+ * changed elsewhere, the indexes re-read those tasks and apply their current
+ * state; a flush resets them so they reload on the next read. Either way
+ * the write version moves afterwards, so coalesced results computed before
+ * the remote change are not served.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskflow.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TaskIndexInvalidation implements InvalidationListener {
+
+    // Tasks changed locally while being refreshed are re-read up to this often
+    private static final int MAX_REFRESH_ROUNDS = 3;
+
+    private final InvalidationBus bus;
+    private final List<AbstractTaskIndex<?>> indexes;
+    private final TaskRepository taskRepository;
+    private final TaskWriteVersion writeVersion;
+    private final TransactionTemplate readOnly;
+
+    public TaskIndexInvalidation(InvalidationBus bus, List<AbstractTaskIndex<?>> indexes,
+                                 TaskRepository taskRepository, TaskWriteVersion writeVersion,
+                                 PlatformTransactionManager transactionManager) {
+        this.bus = bus;
+        this.indexes = indexes;
+        this.taskRepository = taskRepository;
+        this.writeVersion = writeVersion;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        bus.subscribe(this);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bus.publish(event.getTaskId());
+    }
+
+    @Override
+    public void invalidate(Set<Long> taskIds) {
+        Set<Long> remaining = taskIds;
+        for (int round = 0; round < MAX_REFRESH_ROUNDS && !remaining.isEmpty(); round++) {
+            remaining = refresh(remaining);
+        }
+        if (!remaining.isEmpty()) {
+            log.debug("{} tasks kept changing locally during refresh; resetting indexes", remaining.size());
+            indexes.forEach(AbstractTaskIndex::reset);
+        }
+        writeVersion.advance();
+    }
+
+    @Override
+    public void invalidateAll() {
+        indexes.forEach(AbstractTaskIndex::reset);
+        writeVersion.advance();
+    }
+
+    /**
+     * @return IDs that could not be applied and need another round
+     */
+    private Set<Long> refresh(Set<Long> taskIds) {
+        indexes.forEach(AbstractTaskIndex::beginRefresh);
+        List<TaskChangedEvent> currentState;
+        try {
+            currentState = readOnly.execute(status -> readCurrentState(taskIds));
+        } catch (RuntimeException e) {
+            indexes.forEach(index -> index.completeRefresh(List.of()));
+            throw e;
+        }
+        Set<Long> skipped = new HashSet<>();
+        for (AbstractTaskIndex<?> index : indexes) {
+            skipped.addAll(index.completeRefresh(currentState));
+        }
+        return skipped;
+    }
+
+    private List<TaskChangedEvent> readCurrentState(Set<Long> taskIds) {
+        List<TaskChangedEvent> events = new ArrayList<>(taskIds.size());
+        Set<Long> missing = new HashSet<>(taskIds);
+        // Saved filters with a search match on the description; read it for all tasks at once
+        Map<Long, String> descriptions = new HashMap<>();
+        for (Object[] row : taskRepository.findDescriptions(taskIds)) {
+            descriptions.put((Long) row[0], (String) row[1]);
+        }
+        for (Task task : taskRepository.findAllById(taskIds)) {
+            missing.remove(task.getId());
+            events.add(TaskChangedEvent.updated(null, TaskSnapshot.of(task, descriptions.get(task.getId()))));
+        }
+        // Deleted or archived by now
+        missing.forEach(id -> events.add(TaskChangedEvent.deleted(id)));
+        return events;
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskflow.task.repository;
+
+import com.taskflow.task.entity.ArchivedTask;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Completed standalone tasks last modified before {@code cutoff} with
+     * {@code id % shards = shard}, oldest first. The rows stay locked until
+     * the batch commits; rows locked by foreground writes are skipped rather
+     * than waited for.
+     */
+    @Query(value = "SELECT id FROM tasks WHERE status = 'COMPLETED' AND updated_at < :cutoff AND " +
+            "parent_id IS NULL AND subtree_size = 1 AND MOD(id, :shards) = :shard " +
+            "ORDER BY updated_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findArchivableTaskIds(@Param("cutoff") LocalDateTime cutoff, @Param("shards") int shards,
+                                     @Param("shard") int shard, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive " +
+            "(id, title, description, status, priority, due_date, created_at, updated_at, archived_at) " +
+            "SELECT id, title, description, status, priority, due_date, created_at, updated_at, :archivedAt " +
+            "FROM tasks WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive_tags (task_id, tag) " +
+            "SELECT task_id, tag FROM task_tags WHERE task_id IN (:ids)",
+            nativeQuery = true)
+    int copyTagsToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_tags WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteActiveTags(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteActiveTasks(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Same column filters as {@code TaskRepository.findTasksWithFilters}, plus
+     * the tag filters. A tag filter applies only when its count is non-zero;
+     * its collection must still be non-empty to bind.
+     */
+    @Query("SELECT a FROM ArchivedTask a WHERE " +
+            "(:search IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            " LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+            "(:status IS NULL OR a.status = :status) AND " +
+            "(:priority IS NULL OR a.priority = :priority) AND " +
+            "(:dueDateFrom IS NULL OR a.dueDate >= :dueDateFrom) AND " +
+            "(:dueDateTo IS NULL OR a.dueDate <= :dueDateTo) AND " +
+            "(:allTagCount = 0 OR (SELECT COUNT(tag) FROM ArchivedTask x JOIN x.tags tag " +
+            "  WHERE x.id = a.id AND tag IN :allTags) = :allTagCount) AND " +
+            "(:anyTagCount = 0 OR EXISTS (SELECT 1 FROM ArchivedTask x JOIN x.tags tag " +
+            "  WHERE x.id = a.id AND tag IN :anyTags)) AND " +
+            "(:notTagCount = 0 OR NOT EXISTS (SELECT 1 FROM ArchivedTask x JOIN x.tags tag " +
+            "  WHERE x.id = a.id AND tag IN :notTags))")
+    Page<ArchivedTask> findArchivedWithFilters(@Param("search") String search,
+                                               @Param("status") TaskStatus status,
+                                               @Param("priority") TaskPriority priority,
+                                               @Param("dueDateFrom") LocalDate dueDateFrom,
+                                               @Param("dueDateTo") LocalDate dueDateTo,
+                                               @Param("allTags") Collection<String> allTags,
+                                               @Param("allTagCount") long allTagCount,
+                                               @Param("anyTags") Collection<String> anyTags,
+                                               @Param("anyTagCount") long anyTagCount,
+                                               @Param("notTags") Collection<String> notTags,
+                                               @Param("notTagCount") long notTagCount,
+                                               Pageable pageable);
+
+    /**
+     * Archived counterpart of {@code TaskRepository.countFacets}, under the
+     * filters of {@link #findArchivedWithFilters}. Each row is
+     * {@code [TaskStatus, TaskPriority, Integer bucket, Long count]}.
+     */
+    @Query("SELECT f.status, f.priority, f.dueBucket, COUNT(*) FROM (" +
+            " SELECT a.status AS status, a.priority AS priority," +
+            "  CASE WHEN a.dueDate IS NULL THEN 0" +
+            "   WHEN a.dueDate < :today THEN 1" +
+            "   WHEN a.dueDate = :today THEN 2" +
+            "   WHEN a.dueDate <= :upcomingEnd THEN 3" +
+            "   ELSE 4 END AS dueBucket" +
+            " FROM ArchivedTask a WHERE " +
+            " (:search IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "  LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+            " (:status IS NULL OR a.status = :status) AND " +
+            " (:priority IS NULL OR a.priority = :priority) AND " +
+            " (:dueDateFrom IS NULL OR a.dueDate >= :dueDateFrom) AND " +
+            " (:dueDateTo IS NULL OR a.dueDate <= :dueDateTo) AND " +
+            " (:allTagCount = 0 OR (SELECT COUNT(tag) FROM ArchivedTask x JOIN x.tags tag " +
+            "   WHERE x.id = a.id AND tag IN :allTags) = :allTagCount) AND " +
+            " (:anyTagCount = 0 OR EXISTS (SELECT 1 FROM ArchivedTask x JOIN x.tags tag " +
+            "   WHERE x.id = a.id AND tag IN :anyTags)) AND " +
+            " (:notTagCount = 0 OR NOT EXISTS (SELECT 1 FROM ArchivedTask x JOIN x.tags tag " +
+            "   WHERE x.id = a.id AND tag IN :notTags))" +
+            ") f GROUP BY f.status, f.priority, f.dueBucket")
+    List<Object[]> countArchivedFacets(@Param("search") String search,
+                                       @Param("status") TaskStatus status,
+                                       @Param("priority") TaskPriority priority,
+                                       @Param("dueDateFrom") LocalDate dueDateFrom,
+                                       @Param("dueDateTo") LocalDate dueDateTo,
+                                       @Param("allTags") Collection<String> allTags,
+                                       @Param("allTagCount") long allTagCount,
+                                       @Param("anyTags") Collection<String> anyTags,
+                                       @Param("anyTagCount") long anyTagCount,
+                                       @Param("notTags") Collection<String> notTags,
+                                       @Param("notTagCount") long notTagCount,
+                                       @Param("today") LocalDate today,
+                                       @Param("upcomingEnd") LocalDate upcomingEnd);
+}
@@ -0,0 +1,9 @@
+package com.taskflow.task.repository;
+
+import com.taskflow.task.entity.SavedFilter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SavedFilterRepository extends JpaRepository<SavedFilter, Long> {
+}
@@ -0,0 +1,77 @@
+package com.taskflow.task.repository;
+
+import com.taskflow.task.entity.TaskClosure;
+import com.taskflow.task.entity.TaskClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosureId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (:taskId, :taskId, 0)",
+            nativeQuery = true)
+    int insertSelf(@Param("taskId") Long taskId);
+
+    /**
+     * Link a new leaf to every ancestor of its parent (and the parent itself)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT c.ancestor_id, :taskId, c.depth + 1 FROM task_closure c WHERE c.descendant_id = :parentId",
+            nativeQuery = true)
+    int insertLeafPaths(@Param("taskId") Long taskId, @Param("parentId") Long parentId);
+
+    /**
+     * Link every node of a subtree to every ancestor of its new parent
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM task_closure p, task_closure s " +
+            "WHERE p.descendant_id = :parentId AND s.ancestor_id = :taskId",
+            nativeQuery = true)
+    int insertSubtreePaths(@Param("taskId") Long taskId, @Param("parentId") Long parentId);
+
+    /**
+     * Cut the paths between a subtree and the ancestors above its root
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_closure " +
+            "WHERE descendant_id IN (SELECT s.descendant_id FROM task_closure s WHERE s.ancestor_id = :taskId) " +
+            "AND ancestor_id IN (SELECT a.ancestor_id FROM task_closure a " +
+            "                    WHERE a.descendant_id = :taskId AND a.ancestor_id <> :taskId)",
+            nativeQuery = true)
+    int deleteAncestorPaths(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_closure WHERE descendant_id IN (:taskIds)", nativeQuery = true)
+    int deleteByDescendantIds(@Param("taskIds") List<Long> taskIds);
+
+    /**
+     * Add deltas to the rolled-up counters of a task's ancestors at
+     * {@code depth >= minDepth} (0 includes the task itself)
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET subtree_size = subtree_size + :sizeDelta, " +
+            "subtree_completed = subtree_completed + :completedDelta " +
+            "WHERE id IN (SELECT c.ancestor_id FROM task_closure c " +
+            "             WHERE c.descendant_id = :taskId AND c.depth >= :minDepth)",
+            nativeQuery = true)
+    int rollUp(@Param("taskId") Long taskId,
+               @Param("minDepth") int minDepth,
+               @Param("sizeDelta") int sizeDelta,
+               @Param("completedDelta") int completedDelta);
+
+    /**
+     * Strict descendants of a task, deepest first
+     */
+    @Query("SELECT c.id.descendantId FROM TaskClosure c " +
+            "WHERE c.id.ancestorId = :taskId AND c.depth > 0 ORDER BY c.depth DESC")
+    List<Long> findDescendantIdsDeepestFirst(@Param("taskId") Long taskId);
+}
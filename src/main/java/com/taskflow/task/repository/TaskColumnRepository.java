@@ -0,0 +1,33 @@
+package com.taskflow.task.repository;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Task queries whose selected columns are chosen per call, for lists that
+ * return only some fields. Part of {@link TaskRepository}.
+ */
+public interface TaskColumnRepository {
+    /**
+     * The given entity attributes of the tasks matching the list filters, as
+     * one row per task in attribute order. Only those columns are selected.
+     * Null arguments match everything; {@code ids} restricts to those tasks
+     * and {@code idAbove}/{@code idBelow} are exclusive ID bounds for keyset pages.
+     */
+    Page<Object[]> findTaskColumns(List<String> attributes,
+                                   String search,
+                                   TaskStatus status,
+                                   TaskPriority priority,
+                                   LocalDate dueDateFrom,
+                                   LocalDate dueDateTo,
+                                   Collection<Long> ids,
+                                   Long idAbove,
+                                   Long idBelow,
+                                   Pageable pageable);
+}
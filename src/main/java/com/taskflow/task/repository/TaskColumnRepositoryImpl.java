@@ -0,0 +1,97 @@
+package com.taskflow.task.repository;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria implementation of {@link TaskColumnRepository}, with the same
+ * predicate as the JPQL {@code findTasksWithFilters}
+ */
+class TaskColumnRepositoryImpl implements TaskColumnRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Object[]> findTaskColumns(List<String> attributes, String search, TaskStatus status,
+                                          TaskPriority priority, LocalDate dueDateFrom, LocalDate dueDateTo,
+                                          Collection<Long> ids, Long idAbove, Long idBelow, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Task> task = query.from(Task.class);
+        query.multiselect(attributes.stream().map(task::get).toArray(Selection[]::new));
+        query.where(predicates(cb, task, search, status, priority, dueDateFrom, dueDateTo, ids, idAbove, idBelow));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        TypedQuery<Object[]> rows = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            rows.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            rows.setMaxResults(pageable.getPageSize());
+        }
+        // Like the derived queries, the count is skipped when the page shows the total
+        return PageableExecutionUtils.getPage(rows.getResultList(), pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<Task> counted = count.from(Task.class);
+            count.select(cb.count(counted));
+            count.where(predicates(cb, counted, search, status, priority, dueDateFrom, dueDateTo, ids,
+                    idAbove, idBelow));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<Task> task, String search, TaskStatus status,
+                                          TaskPriority priority, LocalDate dueDateFrom, LocalDate dueDateTo,
+                                          Collection<Long> ids, Long idAbove, Long idBelow) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (search != null) {
+            String pattern = "%" + search.toLowerCase(Locale.ROOT) + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(task.get("title")), pattern),
+                    cb.like(cb.lower(task.get("description")), pattern)));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (priority != null) {
+            predicates.add(cb.equal(task.get("priority"), priority));
+        }
+        Expression<LocalDate> dueDate = task.get("dueDate");
+        if (dueDateFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, dueDateFrom));
+        }
+        if (dueDateTo != null) {
+            predicates.add(cb.lessThanOrEqualTo(dueDate, dueDateTo));
+        }
+        Expression<Long> id = task.get("id");
+        if (ids != null) {
+            predicates.add(id.in(ids));
+        }
+        if (idAbove != null) {
+            predicates.add(cb.greaterThan(id, idAbove));
+        }
+        if (idBelow != null) {
+            predicates.add(cb.lessThan(id, idBelow));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskflow.task.repository;
+
+import com.taskflow.task.entity.TaskDailyRollup;
+import com.taskflow.task.entity.TaskDailyRollupId;
+import com.taskflow.task.enums.TaskPriority;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollup, TaskDailyRollupId> {
+
+    List<TaskDailyRollup> findByIdDayBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Add to the counters of an existing row
+     *
+     * @return 1, or 0 if the row does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE TaskDailyRollup r SET " +
+            "r.createdCount = r.createdCount + :created, " +
+            "r.completedCount = r.completedCount + :completed, " +
+            "r.reopenedCount = r.reopenedCount + :reopened, " +
+            "r.deletedCount = r.deletedCount + :deleted, " +
+            "r.completionSeconds = r.completionSeconds + :completionSeconds " +
+            "WHERE r.id.day = :day AND r.id.priority = :priority")
+    int increment(@Param("day") LocalDate day, @Param("priority") TaskPriority priority,
+                  @Param("created") long created, @Param("completed") long completed,
+                  @Param("reopened") long reopened, @Param("deleted") long deleted,
+                  @Param("completionSeconds") long completionSeconds);
+
+    /**
+     * Insert an all-zero row unless it exists (PostgreSQL). A row inserted by a
+     * concurrent transaction is waited for and then skipped, so the caller's
+     * transaction is never aborted by a key conflict.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_daily_rollup " +
+            "(activity_date, priority, created_count, completed_count, reopened_count, deleted_count, completion_seconds) " +
+            "VALUES (:day, :priority, 0, 0, 0, 0, 0) " +
+            "ON CONFLICT (activity_date, priority) DO NOTHING",
+            nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("day") LocalDate day, @Param("priority") short priorityOrderValue);
+
+    /**
+     * {@link #insertEmptyIfAbsent} for databases without {@code ON CONFLICT}, e.g. H2
+     */
+    @Modifying
+    @Query(value = "MERGE INTO task_daily_rollup r " +
+            "USING (VALUES (CAST(:day AS DATE), CAST(:priority AS SMALLINT))) AS v (activity_date, priority) " +
+            "ON r.activity_date = v.activity_date AND r.priority = v.priority " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(activity_date, priority, created_count, completed_count, reopened_count, deleted_count, completion_seconds) " +
+            "VALUES (v.activity_date, v.priority, 0, 0, 0, 0, 0)",
+            nativeQuery = true)
+    int mergeEmpty(@Param("day") LocalDate day, @Param("priority") short priorityOrderValue);
+
+    /**
+     * (priority, created at, status, updated at) of every active task, for backfilling
+     */
+    @Query("SELECT t.priority, t.createdAt, t.status, t.updatedAt FROM Task t")
+    List<Object[]> findActiveTaskHistory();
+
+    /**
+     * (priority, created at, status, updated at) of every archived task, for backfilling
+     */
+    @Query("SELECT t.priority, t.createdAt, t.status, t.updatedAt FROM ArchivedTask t")
+    List<Object[]> findArchivedTaskHistory();
+}
@@ -0,0 +1,67 @@
+package com.taskflow.task.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Moves {@code task_id_blocks} past every task ID already in use before the
+ * application inserts anything.
+ *
+ * Liquibase changeset 013 does the same when it creates the sequence, but
+ * where the schema is maintained by {@code ddl-auto=update} instead, Hibernate
+ * creates the sequence starting at 1 and its first blocks would collide with
+ * existing and archived tasks. The sequence is only ever moved forward.
+ */
+@Component
+@Profile("!edge")
+// After the schema update, which may have just created the sequence
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class TaskIdSequenceSeeder {
+
+    // Moves the sequence only when the value nextval would return next is in use
+    private static final String SEED_SQL =
+            "SELECT setval('task_id_blocks', m.max_id + 1, false) " +
+            "FROM task_id_blocks s, pg_sequences p, (SELECT GREATEST(" +
+            "  (SELECT COALESCE(MAX(id), 0) FROM tasks)," +
+            "  (SELECT COALESCE(MAX(id), 0) FROM tasks_archive)) AS max_id) m " +
+            "WHERE p.schemaname = current_schema() AND p.sequencename = 'task_id_blocks' " +
+            "AND CASE WHEN s.is_called THEN s.last_value + p.increment_by ELSE s.last_value END <= m.max_id";
+
+    private final DataSource dataSource;
+
+    public TaskIdSequenceSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    void seed() {
+        if (!isPostgreSql()) {
+            log.debug("Task ID sequence seeding skipped: not PostgreSQL");
+            return;
+        }
+        List<Long> moved = new JdbcTemplate(dataSource).queryForList(SEED_SQL, Long.class);
+        if (!moved.isEmpty()) {
+            log.warn("Task ID sequence was behind existing tasks; next block now starts at {}", moved.get(0));
+        }
+    }
+
+    private boolean isPostgreSql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not detect the database for task ID seeding", e);
+        }
+    }
+}
@@ -5,16 +5,45 @@ import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskColumnRepository {
+    /**
+     * LIKE pattern matching the lower-cased {@code :search} literally anywhere in a text, for {@code ESCAPE '\'}
+     */
+    String LITERAL_SEARCH_PATTERN = "CONCAT('%', REPLACE(REPLACE(REPLACE(LOWER(:search), " +
+            "'\\', '\\\\'), '%', '\\%'), '_', '\\_'), '%')";
+
+    // Loads that back full responses read the lazy description in the same
+    // row (the entity graph); the rest, e.g. deletions and index refreshes, skip it
+
+    @Override
+    @EntityGraph(attributePaths = "description")
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "description")
+    Page<Task> findAll(Pageable pageable);
+
+    /**
+     * Like {@link #findAllById} but with the description
+     */
+    @EntityGraph(attributePaths = "description")
+    List<Task> findByIdIn(Collection<Long> ids);
+
     Page<Task> findByStatus(TaskStatus status, Pageable pageable);
 
     Page<Task> findByPriority(TaskPriority priority, Pageable pageable);
@@ -40,6 +69,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     long countByPriority(TaskPriority priority);
 
+    @EntityGraph(attributePaths = "description")
     @Query("SELECT t FROM Task t WHERE " +
             "(:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             " LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
@@ -54,8 +84,195 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
                                     @Param("dueDateTo") LocalDate dueDateTo,
                                     Pageable pageable);
 
+    /**
+     * Counts tasks matching the list filters grouped by status, priority and
+     * due bucket in a single aggregate. Bucket ordinals follow {@link com.taskflow.task.enums.DueBucket}.
+     * Each row is {@code [TaskStatus, TaskPriority, Integer bucket, Long count]}.
+     */
+    @Query("SELECT f.status, f.priority, f.dueBucket, COUNT(*) FROM (" +
+            " SELECT t.status AS status, t.priority AS priority," +
+            "  CASE WHEN t.dueDate IS NULL THEN 0" +
+            "   WHEN t.dueDate < :today THEN 1" +
+            "   WHEN t.dueDate = :today THEN 2" +
+            "   WHEN t.dueDate <= :upcomingEnd THEN 3" +
+            "   ELSE 4 END AS dueBucket" +
+            " FROM Task t WHERE " +
+            " (:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "  LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+            " (:status IS NULL OR t.status = :status) AND " +
+            " (:priority IS NULL OR t.priority = :priority) AND " +
+            " (:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom) AND " +
+            " (:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)" +
+            ") f GROUP BY f.status, f.priority, f.dueBucket")
+    List<Object[]> countFacets(@Param("search") String search,
+                               @Param("status") TaskStatus status,
+                               @Param("priority") TaskPriority priority,
+                               @Param("dueDateFrom") LocalDate dueDateFrom,
+                               @Param("dueDateTo") LocalDate dueDateTo,
+                               @Param("today") LocalDate today,
+                               @Param("upcomingEnd") LocalDate upcomingEnd);
+
+    @Query("SELECT t.id FROM Task t")
+    List<Long> findAllTaskIds();
+
+    /**
+     * Rows of [id, description] for the given tasks, for lists that return
+     * descriptions without loading them row by row
+     */
+    @Query("SELECT t.id, t.description FROM Task t WHERE t.id IN :ids")
+    List<Object[]> findDescriptions(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id, tag FROM Task t JOIN t.tags tag")
+    List<Object[]> findAllTaskTagPairs();
+
+    @Query("SELECT t.id, tag FROM Task t JOIN t.tags tag WHERE t.id IN :ids")
+    List<Object[]> findTaskTagPairs(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Rows of [id, status, priority, dueDate, createdAt, updatedAt] for every task
+     */
+    @Query("SELECT t.id, t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt FROM Task t")
+    List<Object[]> findAllTaskColumns();
+
+    @EntityGraph(attributePaths = "description")
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids AND " +
+            "(:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            " LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom) AND " +
+            "(:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)")
+    Page<Task> findTasksWithFiltersAndIdIn(@Param("search") String search,
+                                           @Param("status") TaskStatus status,
+                                           @Param("priority") TaskPriority priority,
+                                           @Param("dueDateFrom") LocalDate dueDateFrom,
+                                           @Param("dueDateTo") LocalDate dueDateTo,
+                                           @Param("ids") Collection<Long> ids,
+                                           Pageable pageable);
+
+    /**
+     * Column-filter matches with an ID strictly between the optional bounds,
+     * for keyset pages ordered by ID
+     */
+    @EntityGraph(attributePaths = "description")
+    @Query("SELECT t FROM Task t WHERE " +
+            "(:idAbove IS NULL OR t.id > :idAbove) AND " +
+            "(:idBelow IS NULL OR t.id < :idBelow) AND " +
+            "(:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            " LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom) AND " +
+            "(:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)")
+    Page<Task> findTasksWithFiltersInIdRange(@Param("search") String search,
+                                             @Param("status") TaskStatus status,
+                                             @Param("priority") TaskPriority priority,
+                                             @Param("dueDateFrom") LocalDate dueDateFrom,
+                                             @Param("dueDateTo") LocalDate dueDateTo,
+                                             @Param("idAbove") Long idAbove,
+                                             @Param("idBelow") Long idBelow,
+                                             Pageable pageable);
+
+    /**
+     * Column-filter matches as {@code [id, status, priority, dueDate]} rows in
+     * the requested order, for intersecting with an in-memory ID set
+     */
+    @Query("SELECT t.id, t.status, t.priority, t.dueDate FROM Task t WHERE " +
+            "(:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            " LOWER(t.description) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom) AND " +
+            "(:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)")
+    List<Object[]> findTaskRowsWithFilters(@Param("search") String search,
+                                           @Param("status") TaskStatus status,
+                                           @Param("priority") TaskPriority priority,
+                                           @Param("dueDateFrom") LocalDate dueDateFrom,
+                                           @Param("dueDateTo") LocalDate dueDateTo,
+                                           Sort sort);
+
+    /**
+     * Column-filter matches as {@code [id, title, status, priority, dueDate, createdAt, updatedAt]}
+     * rows, enough to place each task in any saved filter's sort order. The search is a
+     * literal substring: {@code %}, {@code _} and {@code \} in it are escaped, so the
+     * rows agree with the in-memory check saved filters apply to later changes.
+     */
+    @Query("SELECT t.id, t.title, t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt FROM Task t WHERE " +
+            "(:search IS NULL OR LOWER(t.title) LIKE " + LITERAL_SEARCH_PATTERN + " ESCAPE '\\' OR " +
+            " LOWER(t.description) LIKE " + LITERAL_SEARCH_PATTERN + " ESCAPE '\\') AND " +
+            "(:status IS NULL OR t.status = :status) AND " +
+            "(:priority IS NULL OR t.priority = :priority) AND " +
+            "(:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom) AND " +
+            "(:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)")
+    List<Object[]> findSavedFilterRows(@Param("search") String search,
+                                       @Param("status") TaskStatus status,
+                                       @Param("priority") TaskPriority priority,
+                                       @Param("dueDateFrom") LocalDate dueDateFrom,
+                                       @Param("dueDateTo") LocalDate dueDateTo);
+
+    /**
+     * Descendants of a task via one join on the closure table, nearest first.
+     * A null {@code maxDepth} returns the whole subtree.
+     */
+    @Query("SELECT t FROM TaskClosure c JOIN Task t ON t.id = c.id.descendantId " +
+            "WHERE c.id.ancestorId = :taskId AND c.depth > 0 AND " +
+            "(:maxDepth IS NULL OR c.depth <= :maxDepth) " +
+            "ORDER BY c.depth, t.id")
+    List<Task> findSubtree(@Param("taskId") Long taskId, @Param("maxDepth") Integer maxDepth);
+
+    /**
+     * Rolled-up counters of one task as a single {@code [subtreeSize, subtreeCompleted]} row
+     */
+    @Query("SELECT t.subtreeSize, t.subtreeCompleted FROM Task t WHERE t.id = :taskId")
+    List<Object[]> findSubtreeCounters(@Param("taskId") Long taskId);
+
+    @EntityGraph(attributePaths = "description")
     @Query("SELECT t FROM Task t WHERE t.priority = :priority AND t.status = :status")
     Page<Task> findByPriorityAndStatus(@Param("priority") TaskPriority priority,
                                        @Param("status") TaskStatus status,
                                        Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Lease those of {@code ids} that are pending and not actively claimed to
+     * {@code worker} until {@code until}. A row claimed concurrently by
+     * another instance is locked by that update and fails the condition once
+     * it commits, so each task goes to exactly one worker.
+     *
+     * @return the number of tasks claimed
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET claimed_by = :worker, claimed_until = :until " +
+            "WHERE id IN (:ids) AND status = 'PENDING' " +
+            "AND (claimed_until IS NULL OR claimed_until <= :now)",
+            nativeQuery = true)
+    int claimTasks(@Param("ids") Collection<Long> ids,
+                   @Param("worker") String worker,
+                   @Param("until") Instant until,
+                   @Param("now") Instant now);
+
+    /**
+     * Those of {@code ids} that the claim of {@code worker} until {@code until} went to
+     */
+    @Query(value = "SELECT id FROM tasks WHERE id IN (:ids) AND claimed_by = :worker AND claimed_until = :until",
+            nativeQuery = true)
+    List<Long> findIdsClaimedBy(@Param("ids") Collection<Long> ids,
+                                @Param("worker") String worker,
+                                @Param("until") Instant until);
+
+    /**
+     * Those of {@code ids} with an unexpired claim
+     */
+    @Query(value = "SELECT id FROM tasks WHERE id IN (:ids) AND claimed_until > :now", nativeQuery = true)
+    List<Long> findClaimedIds(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /**
+     * Give up {@code worker}'s unexpired claim on a task
+     *
+     * @return 0 if the worker did not hold one
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET claimed_by = NULL, claimed_until = NULL " +
+            "WHERE id = :id AND claimed_by = :worker AND claimed_until > :now",
+            nativeQuery = true)
+    int releaseClaim(@Param("id") Long id, @Param("worker") String worker, @Param("now") Instant now);
+}
@@ -0,0 +1,118 @@
+package com.taskflow.task.repository.edge;
+
+import com.taskflow.storage.LogStructuredTaskStore;
+import com.taskflow.task.entity.TaskClosure;
+import com.taskflow.task.entity.TaskClosureId;
+import com.taskflow.task.repository.TaskClosureRepository;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link TaskClosureRepository} for the edge profile.
+ *
+ * The embedded store indexes tasks by parent, so closure rows are derived
+ * from parent links instead of being stored: path inserts and deletes only
+ * change the parent link, and roll-ups walk the ancestor chain.
+ */
+public class LogStructuredTaskClosureRepository extends AbstractStoreRepository<TaskClosure, TaskClosureId>
+        implements TaskClosureRepository {
+
+    private final LogStructuredTaskStore store;
+
+    public LogStructuredTaskClosureRepository(LogStructuredTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public int insertSelf(Long taskId) {
+        return store.existsById(taskId) ? 1 : 0;
+    }
+
+    @Override
+    public int insertLeafPaths(Long taskId, Long parentId) {
+        // The parent link was stored with the task itself
+        return store.ancestorIds(taskId).size();
+    }
+
+    @Override
+    public int insertSubtreePaths(Long taskId, Long parentId) {
+        store.setParent(taskId, parentId);
+        return store.ancestorIds(taskId).size();
+    }
+
+    @Override
+    public int deleteAncestorPaths(Long taskId) {
+        int paths = store.ancestorIds(taskId).size();
+        store.setParent(taskId, null);
+        return paths;
+    }
+
+    @Override
+    public int deleteByDescendantIds(List<Long> taskIds) {
+        // Derived rows disappear with the tasks
+        return 0;
+    }
+
+    @Override
+    public int rollUp(Long taskId, int minDepth, int sizeDelta, int completedDelta) {
+        List<Long> chain = new ArrayList<>();
+        chain.add(taskId);
+        chain.addAll(store.ancestorIds(taskId));
+
+        int updated = 0;
+        for (int depth = minDepth; depth < chain.size(); depth++) {
+            store.adjustCounters(chain.get(depth), sizeDelta, completedDelta);
+            updated++;
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Long> findDescendantIdsDeepestFirst(Long taskId) {
+        List<Long> descendants = new ArrayList<>();
+        List<List<Long>> levels = store.descendantLevels(taskId, null);
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            descendants.addAll(levels.get(depth));
+        }
+        return descendants;
+    }
+
+    @Override
+    protected TaskClosureId idOf(TaskClosure entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public Optional<TaskClosure> findById(TaskClosureId id) {
+        if (!store.existsById(id.getDescendantId())) {
+            return Optional.empty();
+        }
+        if (id.getAncestorId().equals(id.getDescendantId())) {
+            return Optional.of(new TaskClosure(id, 0));
+        }
+        int depth = store.ancestorIds(id.getDescendantId()).indexOf(id.getAncestorId());
+        return depth < 0 ? Optional.empty() : Optional.of(new TaskClosure(id, depth + 1));
+    }
+
+    @Override
+    public <S extends TaskClosure> S save(S entity) {
+        throw derivedRows();
+    }
+
+    @Override
+    public List<TaskClosure> findAll(Sort sort) {
+        throw derivedRows();
+    }
+
+    @Override
+    public void deleteById(TaskClosureId id) {
+        throw derivedRows();
+    }
+
+    private static UnsupportedOperationException derivedRows() {
+        return new UnsupportedOperationException("Closure rows are derived from parent links in the embedded store");
+    }
+}
@@ -0,0 +1,339 @@
+package com.taskflow.task.repository.edge;
+
+import com.taskflow.storage.LogStructuredTaskStore;
+import com.taskflow.storage.TaskCriteria;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.repository.TaskRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link TaskRepository} backed by the embedded {@link LogStructuredTaskStore}
+ * instead of JPA, used by the edge profile. Each query method evaluates the
+ * same predicate as its JPQL counterpart.
+ */
+public class LogStructuredTaskRepository extends AbstractStoreRepository<Task, Long> implements TaskRepository {
+
+    private final LogStructuredTaskStore store;
+    // The store does not persist claims; the edge profile runs as a single
+    // process, so leases only need to hold for its lifetime
+    private final Map<Long, Claim> claims = new HashMap<>();
+
+    public LogStructuredTaskRepository(LogStructuredTaskStore store) {
+        this.store = store;
+    }
+
+    // CRUD
+
+    @Override
+    protected Long idOf(Task entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public <S extends Task> S save(S entity) {
+        store.save(entity);
+        return entity;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return store.findById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return store.existsById(id);
+    }
+
+    @Override
+    public List<Task> findAll(Sort sort) {
+        return store.find(TaskCriteria.ALL, sort);
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        return store.find(TaskCriteria.ALL, pageable);
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        List<Long> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return store.find(TaskCriteria.ALL.withIds(idList), Sort.unsorted());
+    }
+
+    @Override
+    public List<Task> findByIdIn(Collection<Long> ids) {
+        return store.find(TaskCriteria.ALL.withIds(ids), Sort.unsorted());
+    }
+
+    @Override
+    public long count() {
+        return store.count();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.delete(id);
+    }
+
+    // Derived and JPQL queries
+
+    @Override
+    public Page<Task> findByStatus(TaskStatus status, Pageable pageable) {
+        return store.find(TaskCriteria.filters(null, status, null, null, null), pageable);
+    }
+
+    @Override
+    public Page<Task> findByPriority(TaskPriority priority, Pageable pageable) {
+        return store.find(TaskCriteria.filters(null, null, priority, null, null), pageable);
+    }
+
+    @Override
+    public Page<Task> findByStatusAndPriority(TaskStatus status, TaskPriority priority, Pageable pageable) {
+        return store.find(TaskCriteria.filters(null, status, priority, null, null), pageable);
+    }
+
+    @Override
+    public Page<Task> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String search,
+                                                                                       Pageable pageable) {
+        return store.find(TaskCriteria.filters(search, null, null, null, null), pageable);
+    }
+
+    @Override
+    public List<Task> findOverdueTasks(LocalDate currentDate, TaskStatus status) {
+        return store.find(new TaskCriteria(null, status, null, null, null, currentDate, null), Sort.unsorted());
+    }
+
+    @Override
+    public Page<Task> findTasksDueBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return store.find(TaskCriteria.filters(null, null, null, startDate, endDate), pageable);
+    }
+
+    @Override
+    public long countByStatus(TaskStatus status) {
+        return store.count(TaskCriteria.filters(null, status, null, null, null));
+    }
+
+    @Override
+    public long countByPriority(TaskPriority priority) {
+        return store.count(TaskCriteria.filters(null, null, priority, null, null));
+    }
+
+    @Override
+    public Page<Task> findTasksWithFilters(String search, TaskStatus status, TaskPriority priority,
+                                           LocalDate dueDateFrom, LocalDate dueDateTo, Pageable pageable) {
+        return store.find(TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo), pageable);
+    }
+
+    @Override
+    public List<Object[]> countFacets(String search, TaskStatus status, TaskPriority priority,
+                                      LocalDate dueDateFrom, LocalDate dueDateTo,
+                                      LocalDate today, LocalDate upcomingEnd) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        store.forEach(TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo),
+                task -> counts.merge(List.of(task.getStatus(), task.getPriority(),
+                        dueBucket(task.getDueDate(), today, upcomingEnd)), 1L, Long::sum));
+
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[]{key.get(0), key.get(1), key.get(2), count}));
+        return rows;
+    }
+
+    @Override
+    public List<Long> findAllTaskIds() {
+        return store.project(TaskCriteria.ALL, Sort.unsorted(), Task::getId);
+    }
+
+    @Override
+    public List<Object[]> findDescriptions(Collection<Long> ids) {
+        return store.project(TaskCriteria.ALL.withIds(ids), Sort.unsorted(),
+                task -> new Object[]{task.getId(), task.getDescription()});
+    }
+
+    @Override
+    public List<Object[]> findAllTaskTagPairs() {
+        List<Object[]> pairs = new ArrayList<>();
+        store.forEach(TaskCriteria.ALL,
+                task -> task.getTags().forEach(tag -> pairs.add(new Object[]{task.getId(), tag})));
+        return pairs;
+    }
+
+    @Override
+    public List<Object[]> findTaskTagPairs(Collection<Long> ids) {
+        List<Object[]> pairs = new ArrayList<>();
+        store.forEach(TaskCriteria.ALL.withIds(ids),
+                task -> task.getTags().forEach(tag -> pairs.add(new Object[]{task.getId(), tag})));
+        return pairs;
+    }
+
+    @Override
+    public List<Object[]> findAllTaskColumns() {
+        return store.project(TaskCriteria.ALL, Sort.unsorted(), task -> new Object[]{task.getId(), task.getStatus(),
+                task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt()});
+    }
+
+    @Override
+    public Page<Task> findTasksWithFiltersAndIdIn(String search, TaskStatus status, TaskPriority priority,
+                                                  LocalDate dueDateFrom, LocalDate dueDateTo,
+                                                  Collection<Long> ids, Pageable pageable) {
+        return store.find(TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo).withIds(ids), pageable);
+    }
+
+    @Override
+    public Page<Task> findTasksWithFiltersInIdRange(String search, TaskStatus status, TaskPriority priority,
+                                                    LocalDate dueDateFrom, LocalDate dueDateTo,
+                                                    Long idAbove, Long idBelow, Pageable pageable) {
+        TaskCriteria criteria = TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo);
+        List<Long> inRange = store.project(criteria, Sort.unsorted(), Task::getId).stream()
+                .filter(id -> (idAbove == null || id > idAbove) && (idBelow == null || id < idBelow))
+                .toList();
+        return store.find(criteria.withIds(inRange), pageable);
+    }
+
+    @Override
+    public Page<Object[]> findTaskColumns(List<String> attributes, String search, TaskStatus status,
+                                          TaskPriority priority, LocalDate dueDateFrom, LocalDate dueDateTo,
+                                          Collection<Long> ids, Long idAbove, Long idBelow, Pageable pageable) {
+        TaskCriteria criteria = TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo).withIds(ids);
+        if (idAbove != null || idBelow != null) {
+            criteria = criteria.withIds(store.project(criteria, Sort.unsorted(), Task::getId).stream()
+                    .filter(id -> (idAbove == null || id > idAbove) && (idBelow == null || id < idBelow))
+                    .toList());
+        }
+        return store.find(criteria, pageable).map(task -> {
+            Object[] row = new Object[attributes.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = attribute(task, attributes.get(i));
+            }
+            return row;
+        });
+    }
+
+    @Override
+    public List<Object[]> findTaskRowsWithFilters(String search, TaskStatus status, TaskPriority priority,
+                                                  LocalDate dueDateFrom, LocalDate dueDateTo, Sort sort) {
+        return store.project(TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo), sort,
+                task -> new Object[]{task.getId(), task.getStatus(), task.getPriority(), task.getDueDate()});
+    }
+
+    @Override
+    public List<Object[]> findSavedFilterRows(String search, TaskStatus status, TaskPriority priority,
+                                              LocalDate dueDateFrom, LocalDate dueDateTo) {
+        return store.project(TaskCriteria.filters(search, status, priority, dueDateFrom, dueDateTo), Sort.unsorted(),
+                task -> new Object[]{task.getId(), task.getTitle(), task.getStatus(), task.getPriority(),
+                        task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt()});
+    }
+
+    @Override
+    public List<Task> findSubtree(Long taskId, Integer maxDepth) {
+        List<Task> subtree = new ArrayList<>();
+        for (List<Long> level : store.descendantLevels(taskId, maxDepth)) {
+            subtree.addAll(store.find(TaskCriteria.ALL.withIds(level), Sort.unsorted()));
+        }
+        return subtree;
+    }
+
+    @Override
+    public List<Object[]> findSubtreeCounters(Long taskId) {
+        return store.findById(taskId)
+                .map(task -> List.<Object[]>of(new Object[]{task.getSubtreeSize(), task.getSubtreeCompleted()}))
+                .orElse(List.of());
+    }
+
+    @Override
+    public Page<Task> findByPriorityAndStatus(TaskPriority priority, TaskStatus status, Pageable pageable) {
+        return store.find(TaskCriteria.filters(null, status, priority, null, null), pageable);
+    }
+
+    @Override
+    public int claimTasks(Collection<Long> ids, String worker, Instant until, Instant now) {
+        synchronized (claims) {
+            int claimed = 0;
+            for (Long id : ids) {
+                Claim held = claims.get(id);
+                boolean pending = store.findById(id).map(task -> task.getStatus() == TaskStatus.PENDING).orElse(false);
+                if (pending && (held == null || !held.until().isAfter(now))) {
+                    claims.put(id, new Claim(worker, until));
+                    claimed++;
+                }
+            }
+            return claimed;
+        }
+    }
+
+    @Override
+    public List<Long> findIdsClaimedBy(Collection<Long> ids, String worker, Instant until) {
+        synchronized (claims) {
+            return ids.stream().filter(id -> new Claim(worker, until).equals(claims.get(id))).toList();
+        }
+    }
+
+    @Override
+    public List<Long> findClaimedIds(Collection<Long> ids, Instant now) {
+        synchronized (claims) {
+            return ids.stream().filter(id -> claims.containsKey(id) && claims.get(id).until().isAfter(now)).toList();
+        }
+    }
+
+    @Override
+    public int releaseClaim(Long id, String worker, Instant now) {
+        synchronized (claims) {
+            Claim held = claims.get(id);
+            if (held == null || !held.worker().equals(worker) || !held.until().isAfter(now)) {
+                return 0;
+            }
+            claims.remove(id);
+            return 1;
+        }
+    }
+
+    private static Object attribute(Task task, String attribute) {
+        return switch (attribute) {
+            case "id" -> task.getId();
+            case "title" -> task.getTitle();
+            case "description" -> task.getDescription();
+            case "status" -> task.getStatus();
+            case "priority" -> task.getPriority();
+            case "dueDate" -> task.getDueDate();
+            case "parentId" -> task.getParentId();
+            case "subtreeSize" -> task.getSubtreeSize();
+            case "subtreeCompleted" -> task.getSubtreeCompleted();
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            default -> throw new IllegalArgumentException("Unknown task attribute: " + attribute);
+        };
+    }
+
+    /**
+     * Same buckets as the CASE expression in the JPQL countFacets
+     */
+    private static int dueBucket(LocalDate dueDate, LocalDate today, LocalDate upcomingEnd) {
+        if (dueDate == null) {
+            return 0;
+        }
+        if (dueDate.isBefore(today)) {
+            return 1;
+        }
+        if (dueDate.isEqual(today)) {
+            return 2;
+        }
+        return dueDate.isAfter(upcomingEnd) ? 4 : 3;
+    }
+
+    private record Claim(String worker, Instant until) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskflow.task.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for sharing identical concurrent reads in {@link CoalescingTaskService}
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a completed result is handed to new callers, unless a task
+     * changes first; zero shares only computations still in flight
+     */
+    private Duration resultTtl = Duration.ofSeconds(1);
+
+    /**
+     * Keys per read method above which stale results are swept
+     */
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,245 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.util.SingleFlight;
+import com.taskflow.task.dto.TaskBatchResponseDto;
+import com.taskflow.task.dto.TaskClaimDto;
+import com.taskflow.task.dto.TaskFacetsDto;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskProgressDto;
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskField;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskWriteVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@link TaskService} in front of {@link TaskServiceImpl} that coalesces
+ * identical concurrent reads.
+ *
+ * Callers asking for the same task, the same filters or the statistics while
+ * an equal call is running wait for that call instead of running their own
+ * query, and a completed result is reused for a short TTL. Every committed
+ * task change advances {@link TaskWriteVersion}, after which no earlier
+ * result or in-flight computation is handed to new callers. Writes and
+ * per-caller reads pass straight through.
+ */
+@Service
+@Primary
+public class CoalescingTaskService implements TaskService {
+
+    private final TaskServiceImpl delegate;
+    private final boolean enabled;
+
+    private final SingleFlight<Long, TaskResponseDto> taskById;
+    private final SingleFlight<FilterKey, Page<TaskResponseDto>> tasks;
+    private final SingleFlight<FacetsKey, TaskFacetsDto> facets;
+    private final SingleFlight<OverdueKey, List<TaskResponseDto>> overdueTasks;
+    private final SingleFlight<LocalDate, TaskStatisticsDto> statistics;
+
+    public CoalescingTaskService(TaskServiceImpl delegate, TaskWriteVersion writeVersion,
+                                 CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.enabled = properties.isEnabled();
+        this.taskById = register("getTaskById", writeVersion, properties, meterRegistry);
+        this.tasks = register("getTasks", writeVersion, properties, meterRegistry);
+        this.facets = register("getTaskFacets", writeVersion, properties, meterRegistry);
+        this.overdueTasks = register("getOverdueTasks", writeVersion, properties, meterRegistry);
+        this.statistics = register("getTaskStatistics", writeVersion, properties, meterRegistry);
+    }
+
+    // Coalesced reads
+
+    @Override
+    public TaskResponseDto getTaskById(Long id) {
+        return coalesce(taskById, id, () -> delegate.getTaskById(id));
+    }
+
+    @Override
+    public Page<TaskResponseDto> getTasks(TaskFilterDto filterDto) {
+        return coalesce(tasks, FilterKey.of(filterDto, LocalDate.now()), () -> delegate.getTasks(filterDto));
+    }
+
+    @Override
+    public TaskFacetsDto getTaskFacets(TaskFilterDto filterDto, Set<TaskFacet> facets) {
+        FacetsKey key = new FacetsKey(FilterKey.of(filterDto, LocalDate.now()), Set.copyOf(facets));
+        return coalesce(this.facets, key, () -> delegate.getTaskFacets(filterDto, facets));
+    }
+
+    @Override
+    public List<TaskResponseDto> getOverdueTasks() {
+        return coalesce(overdueTasks, new OverdueKey(LocalDate.now(), Integer.MAX_VALUE, null),
+                delegate::getOverdueTasks);
+    }
+
+    @Override
+    public List<TaskResponseDto> getOverdueTasks(int limit) {
+        return coalesce(overdueTasks, new OverdueKey(LocalDate.now(), limit, null),
+                () -> delegate.getOverdueTasks(limit));
+    }
+
+    @Override
+    public List<TaskResponseDto> getOverdueTasks(int limit, Set<TaskField> fields) {
+        return coalesce(overdueTasks, new OverdueKey(LocalDate.now(), limit, fields == null ? null : Set.copyOf(fields)),
+                () -> delegate.getOverdueTasks(limit, fields));
+    }
+
+    @Override
+    public TaskStatisticsDto getTaskStatistics() {
+        return coalesce(statistics, LocalDate.now(), delegate::getTaskStatistics);
+    }
+
+    // Pass-through
+
+    @Override
+    public TaskBatchResponseDto getTasksByIds(List<Long> ids) {
+        return delegate.getTasksByIds(ids);
+    }
+
+    @Override
+    public List<TaskResponseDto> getTasksInOrder(List<Long> ids, Set<TaskField> fields) {
+        return delegate.getTasksInOrder(ids, fields);
+    }
+
+    @Override
+    public List<TaskResponseDto> getSubtasks(Long id, Integer maxDepth) {
+        return delegate.getSubtasks(id, maxDepth);
+    }
+
+    @Override
+    public TaskProgressDto getTaskProgress(Long id) {
+        return delegate.getTaskProgress(id);
+    }
+
+    @Override
+    public List<TaskResponseDto> getNextTasks(int count) {
+        return delegate.getNextTasks(count);
+    }
+
+    @Override
+    public List<TaskClaimDto> claimNextTasks(int count, String worker, Duration lease) {
+        return delegate.claimNextTasks(count, worker, lease);
+    }
+
+    @Override
+    public boolean releaseTaskClaim(Long id, String worker) {
+        return delegate.releaseTaskClaim(id, worker);
+    }
+
+    @Override
+    public TaskResponseDto createTask(TaskRequestDto taskRequestDto) {
+        return delegate.createTask(taskRequestDto);
+    }
+
+    @Override
+    public TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto) {
+        return delegate.updateTask(id, taskRequestDto);
+    }
+
+    @Override
+    public void deleteTask(Long id) {
+        delegate.deleteTask(id);
+    }
+
+    @Override
+    public TaskResponseDto toggleTaskCompletion(Long id) {
+        return delegate.toggleTaskCompletion(id);
+    }
+
+    @Override
+    public TaskResponseDto moveTask(Long id, Long parentId) {
+        return delegate.moveTask(id, parentId);
+    }
+
+    private <K, V> V coalesce(SingleFlight<K, V> flight, K key, Supplier<V> read) {
+        return enabled ? flight.get(key, read) : read.get();
+    }
+
+    private static <K, V> SingleFlight<K, V> register(String method, TaskWriteVersion writeVersion,
+                                                      CoalescingProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        SingleFlight<K, V> flight = new SingleFlight<>(writeVersion::current, properties.getResultTtl(),
+                properties.getMaxEntries());
+
+        FunctionCounter.builder("taskflow.coalescing.calls", flight, SingleFlight::getExecuted)
+                .description("Coalesced task reads by outcome")
+                .tags("method", method, "outcome", "executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("taskflow.coalescing.calls", flight, SingleFlight::getJoined)
+                .tags("method", method, "outcome", "joined")
+                .register(meterRegistry);
+        FunctionCounter.builder("taskflow.coalescing.calls", flight, SingleFlight::getReused)
+                .tags("method", method, "outcome", "reused")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.coalescing.ratio", flight, CoalescingTaskService::coalescingRatio)
+                .description("Share of calls answered without running their own query")
+                .tags("method", method)
+                .register(meterRegistry);
+        return flight;
+    }
+
+    private static double coalescingRatio(SingleFlight<?, ?> flight) {
+        double shared = flight.getJoined() + flight.getReused();
+        double total = shared + flight.getExecuted();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    /**
+     * Filter values as the service reads them, with defaults applied; the
+     * date is part of the key because overdue and due-bucket results depend on it
+     */
+    private record FilterKey(String search, TaskStatus status, TaskPriority priority,
+                             LocalDate dueDateFrom, LocalDate dueDateTo, Boolean overdue,
+                             String sortBy, String sortDirection, int page, int size,
+                             String currentFilter, Set<String> tags, Set<String> anyTags,
+                             Set<String> notTags, boolean includeArchived, Set<TaskField> fields,
+                             Long afterId, LocalDate today) {
+
+        static FilterKey of(TaskFilterDto filterDto, LocalDate today) {
+            return new FilterKey(
+                    filterDto.getSearch() != null ? filterDto.getSearch().trim() : null,
+                    filterDto.getStatus(),
+                    filterDto.getPriority(),
+                    filterDto.getDueDateFrom(),
+                    filterDto.getDueDateTo(),
+                    filterDto.getOverdue(),
+                    filterDto.getSortBy(),
+                    filterDto.getSortDirection(),
+                    filterDto.getPage(),
+                    filterDto.getSize(),
+                    filterDto.getCurrentFilter(),
+                    copyOf(filterDto.getTags()),
+                    copyOf(filterDto.getAnyTags()),
+                    copyOf(filterDto.getNotTags()),
+                    filterDto.isIncludeArchived(),
+                    filterDto.getFields() == null ? null : Set.copyOf(filterDto.getFields()),
+                    filterDto.getAfterId(),
+                    today);
+        }
+
+        private static Set<String> copyOf(Set<String> values) {
+            return values == null || values.isEmpty() ? Set.of() : Collections.unmodifiableSet(new HashSet<>(values));
+        }
+    }
+
+    private record FacetsKey(FilterKey filters, Set<TaskFacet> facets) {
+    }
+
+    private record OverdueKey(LocalDate today, int limit, Set<TaskField> fields) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.task.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the dashboard aggregate in {@link TaskDashboardService}
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.dashboard")
+public class DashboardProperties {
+
+    /**
+     * Longest the dashboard waits for its parts; a shorter request deadline wins
+     */
+    private Duration timeout = Duration.ofSeconds(1);
+
+    /**
+     * Threads fetching dashboard parts, shared by all dashboard requests
+     */
+    private int threads = 8;
+
+    /**
+     * Most tasks a client may ask for in each list
+     */
+    private int maxLimit = 50;
+}
@@ -0,0 +1,149 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.exception.SavedFilterNotFoundException;
+import com.taskflow.common.util.TagUtil;
+import com.taskflow.task.converter.TagSetConverter;
+import com.taskflow.task.dto.SavedFilterDto;
+import com.taskflow.task.dto.SavedFilterRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.entity.SavedFilter;
+import com.taskflow.task.enums.TaskField;
+import com.taskflow.task.index.SavedFilterIndex;
+import com.taskflow.task.repository.SavedFilterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Saved task list filters. Results are served from the materialized lists
+ * of {@link SavedFilterIndex}; only the tasks on the requested page are read.
+ */
+@Service
+@Profile("!edge")
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SavedFilterService {
+
+    private static final Set<String> SORT_FIELDS = Set.of("title", "status", "priority", "dueDate", "createdAt",
+            "updatedAt");
+
+    private final SavedFilterRepository savedFilterRepository;
+    private final SavedFilterIndex savedFilterIndex;
+    private final TaskService taskService;
+
+    @Transactional
+    public SavedFilterDto createFilter(SavedFilterRequestDto request) {
+        log.info("Creating saved filter: {}", request.getName());
+
+        SavedFilter filter = new SavedFilter();
+        filter.setName(request.getName().trim());
+        filter.setSearch(request.getSearch() != null && !request.getSearch().isBlank()
+                ? request.getSearch().trim() : null);
+        filter.setStatus(request.getStatus());
+        filter.setPriority(request.getPriority());
+        filter.setDueDateFrom(request.getDueDateFrom());
+        filter.setDueDateTo(request.getDueDateTo());
+        filter.setDueWithinDays(request.getDueWithinDays());
+        filter.setOverdue(request.isOverdue());
+        filter.setTags(normalizeTags(request.getTags()));
+        filter.setAnyTags(normalizeTags(request.getAnyTags()));
+        filter.setNotTags(normalizeTags(request.getNotTags()));
+        if (request.getSortBy() != null) {
+            if (!SORT_FIELDS.contains(request.getSortBy())) {
+                throw new IllegalArgumentException("Cannot sort by " + request.getSortBy());
+            }
+            filter.setSortBy(request.getSortBy());
+        }
+        if (request.getSortDirection() != null) {
+            filter.setSortDirection(request.getSortDirection().toLowerCase(Locale.ROOT));
+        }
+
+        SavedFilter saved = savedFilterRepository.save(filter);
+        // Rebuilt with the new filter on the next read
+        savedFilterIndex.reset();
+        return mapEntityToDto(saved);
+    }
+
+    public List<SavedFilterDto> getFilters() {
+        return savedFilterRepository.findAll(Sort.by("id")).stream()
+                .map(this::mapEntityToDto)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteFilter(Long id) {
+        log.info("Deleting saved filter with ID: {}", id);
+        if (!savedFilterRepository.existsById(id)) {
+            throw new SavedFilterNotFoundException("Saved filter not found with ID: " + id);
+        }
+        savedFilterRepository.deleteById(id);
+        savedFilterIndex.reset();
+    }
+
+    /**
+     * One page of a saved filter's tasks, with only {@code fields} filled in;
+     * null fills in every field
+     */
+    public Page<TaskResponseDto> getTasks(Long id, int page, int size, Set<TaskField> fields) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must not be negative and size must be positive");
+        }
+        // Also catches filters deleted on another instance, whose lists are still loaded here
+        if (!savedFilterRepository.existsById(id)) {
+            throw new SavedFilterNotFoundException("Saved filter not found with ID: " + id);
+        }
+
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        SavedFilterIndex.Slice slice = savedFilterIndex.slice(id, offset, size).orElseGet(() -> {
+            // Created on another instance after the lists were loaded
+            savedFilterIndex.reset();
+            return savedFilterIndex.slice(id, offset, size)
+                    .orElseThrow(() -> new SavedFilterNotFoundException("Saved filter not found with ID: " + id));
+        });
+
+        List<TaskResponseDto> tasks = taskService.getTasksInOrder(slice.ids(), fields);
+        return new PageImpl<>(tasks, PageRequest.of(page, size), slice.total());
+    }
+
+    private Set<String> normalizeTags(Set<String> tags) {
+        Set<String> normalized = TagUtil.normalize(tags);
+        for (String tag : normalized) {
+            if (tag.contains(TagSetConverter.SEPARATOR)) {
+                throw new IllegalArgumentException("Saved filter tags must not contain '"
+                        + TagSetConverter.SEPARATOR + "': " + tag);
+            }
+        }
+        return normalized;
+    }
+
+    private SavedFilterDto mapEntityToDto(SavedFilter entity) {
+        SavedFilterDto dto = new SavedFilterDto();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setSearch(entity.getSearch());
+        dto.setStatus(entity.getStatus());
+        dto.setPriority(entity.getPriority());
+        dto.setDueDateFrom(entity.getDueDateFrom());
+        dto.setDueDateTo(entity.getDueDateTo());
+        dto.setDueWithinDays(entity.getDueWithinDays());
+        dto.setOverdue(entity.isOverdue());
+        dto.setTags(entity.getTags());
+        dto.setAnyTags(entity.getAnyTags());
+        dto.setNotTags(entity.getNotTags());
+        dto.setSortBy(entity.getSortBy());
+        dto.setSortDirection(entity.getSortDirection());
+        dto.setCreatedAt(entity.getCreatedAt());
+        return dto;
+    }
+}
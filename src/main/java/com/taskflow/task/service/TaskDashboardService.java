@@ -0,0 +1,143 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.deadline.Deadline;
+import com.taskflow.common.jdbc.QueryStats;
+import com.taskflow.task.dto.TaskDashboardDto;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds the home-screen dashboard in one call.
+ *
+ * The statistics, overdue, high-priority and recent-activity parts are
+ * independent, so each is fetched on its own pool thread, in its own
+ * transaction, through {@link TaskService} (and so through read coalescing
+ * and the in-memory indexes where those apply). All parts share one
+ * {@link Deadline}, which also bounds their connection waits and queries;
+ * a part not done by then is reported as incomplete instead of failing the
+ * whole response.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskDashboardService {
+
+    private final TaskService taskService;
+    private final DashboardProperties properties;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "task-dashboard-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public TaskDashboardDto getDashboard(int limit) {
+        log.info("Building dashboard with {} tasks per list", limit);
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + properties.getMaxLimit());
+        }
+
+        Deadline deadline = partsDeadline();
+        CompletableFuture<TaskService.TaskStatisticsDto> statistics = fetch(deadline, taskService::getTaskStatistics);
+        CompletableFuture<List<TaskResponseDto>> overdue = fetch(deadline, () -> taskService.getOverdueTasks(limit));
+        CompletableFuture<List<TaskResponseDto>> highPriority = fetch(deadline, () -> taskService.getTasks(
+                filter(TaskStatus.PENDING, TaskPriority.HIGH, "dueDate", "asc", limit)).getContent());
+        CompletableFuture<List<TaskResponseDto>> recent = fetch(deadline, () -> taskService.getTasks(
+                filter(null, null, "updatedAt", "desc", limit)).getContent());
+
+        TaskDashboardDto dashboard = new TaskDashboardDto();
+        dashboard.setStatistics(await(TaskDashboardDto.STATISTICS, statistics, deadline, dashboard, null));
+        dashboard.setOverdueTasks(await(TaskDashboardDto.OVERDUE, overdue, deadline, dashboard, List.of()));
+        dashboard.setHighPriorityTasks(
+                await(TaskDashboardDto.HIGH_PRIORITY, highPriority, deadline, dashboard, List.of()));
+        dashboard.setRecentTasks(await(TaskDashboardDto.RECENT, recent, deadline, dashboard, List.of()));
+        return dashboard;
+    }
+
+    /**
+     * The configured budget, or what is left of the request's deadline if that is sooner
+     */
+    private Deadline partsDeadline() {
+        Duration budget = properties.getTimeout();
+        Deadline request = Deadline.current();
+        if (request != null && request.remaining().compareTo(budget) < 0) {
+            budget = request.remaining();
+        }
+        return Deadline.after(budget);
+    }
+
+    private <T> CompletableFuture<T> fetch(Deadline deadline, Supplier<T> part) {
+        // The parts' statements count towards the request's statistics
+        QueryStats requestStats = QueryStats.current();
+        return CompletableFuture.supplyAsync(() -> {
+            Deadline.set(deadline);
+            QueryStats.set(requestStats);
+            try {
+                // Skip parts that queued behind other dashboards for too long
+                deadline.check();
+                return part.get();
+            } finally {
+                Deadline.clear();
+                QueryStats.clear();
+            }
+        }, executor);
+    }
+
+    private static <T> T await(String part, CompletableFuture<T> future, Deadline deadline,
+                               TaskDashboardDto dashboard, T fallback) {
+        try {
+            return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Dashboard part {} missed its {} ms budget", part, deadline.getTimeout().toMillis());
+        } catch (ExecutionException e) {
+            log.warn("Dashboard part {} failed: {}", part, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        future.cancel(false);
+        dashboard.getIncompleteParts().add(part);
+        return fallback;
+    }
+
+    private static TaskFilterDto filter(TaskStatus status, TaskPriority priority, String sortBy,
+                                        String sortDirection, int limit) {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setStatus(status);
+        filter.setPriority(priority);
+        filter.setSortBy(sortBy);
+        filter.setSortDirection(sortDirection);
+        filter.setPage(0);
+        filter.setSize(limit);
+        return filter;
+    }
+}
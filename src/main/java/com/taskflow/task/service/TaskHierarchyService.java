@@ -0,0 +1,121 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.exception.TaskNotFoundException;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.entity.TaskClosureId;
+import com.taskflow.task.repository.TaskClosureRepository;
+import com.taskflow.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the task_closure table and the rolled-up subtree counters.
+ *
+ * Every method runs inside the caller's transaction so the hierarchy never
+ * diverges from the tasks it describes. Each operation is a constant number
+ * of set-based statements, independent of tree depth.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class TaskHierarchyService {
+
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+
+    public void validateParent(Long parentId) {
+        if (parentId != null && !taskRepository.existsById(parentId)) {
+            throw new TaskNotFoundException("Parent task not found with ID: " + parentId);
+        }
+    }
+
+    /**
+     * Register a newly inserted task under its parent (if any)
+     */
+    public void attachNewTask(Task task) {
+        taskClosureRepository.insertSelf(task.getId());
+        if (task.getParentId() != null) {
+            taskClosureRepository.insertLeafPaths(task.getId(), task.getParentId());
+            taskClosureRepository.rollUp(task.getId(), 1, 1, task.isCompleted() ? 1 : 0);
+        }
+    }
+
+    /**
+     * Re-parent a task together with its whole subtree
+     */
+    public void move(Task task, Long newParentId) {
+        if (Objects.equals(task.getParentId(), newParentId)) {
+            return;
+        }
+        if (newParentId != null) {
+            validateParent(newParentId);
+            if (taskClosureRepository.existsById(new TaskClosureId(task.getId(), newParentId))) {
+                throw new IllegalArgumentException(
+                        "Task " + task.getId() + " cannot be moved under its own subtree");
+            }
+        }
+
+        // Read the counters from the table: bulk roll-ups bypass the persistence context
+        int[] counters = subtreeCounters(task.getId());
+        int size = counters[0];
+        int completed = counters[1];
+
+        if (task.getParentId() != null) {
+            taskClosureRepository.rollUp(task.getId(), 1, -size, -completed);
+            taskClosureRepository.deleteAncestorPaths(task.getId());
+        }
+        if (newParentId != null) {
+            taskClosureRepository.insertSubtreePaths(task.getId(), newParentId);
+            taskClosureRepository.rollUp(task.getId(), 1, size, completed);
+        }
+
+        log.info("Moved task {} from parent {} to parent {}", task.getId(), task.getParentId(), newParentId);
+        task.setParentId(newParentId);
+    }
+
+    /**
+     * Roll a status change of one task up to itself and all its ancestors
+     */
+    public void recordStatusChange(Task task, boolean wasCompleted) {
+        int delta = (task.isCompleted() ? 1 : 0) - (wasCompleted ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        taskClosureRepository.rollUp(task.getId(), 0, 0, delta);
+        // The counters are not updatable through the entity; keep the managed copy in step
+        task.setSubtreeCompleted(task.getSubtreeCompleted() + delta);
+    }
+
+    /**
+     * Detach a task's subtree from the hierarchy before it is deleted.
+     *
+     * @return the task's strict descendants, deepest first, which must be deleted with it
+     */
+    public List<Long> detachForDeletion(Long taskId) {
+        List<Long> descendantIds = taskClosureRepository.findDescendantIdsDeepestFirst(taskId);
+        int[] counters = subtreeCounters(taskId);
+        taskClosureRepository.rollUp(taskId, 1, -counters[0], -counters[1]);
+
+        List<Long> subtreeIds = new ArrayList<>(descendantIds);
+        subtreeIds.add(taskId);
+        taskClosureRepository.deleteByDescendantIds(subtreeIds);
+        return descendantIds;
+    }
+
+    private int[] subtreeCounters(Long taskId) {
+        List<Object[]> rows = taskRepository.findSubtreeCounters(taskId);
+        if (rows.isEmpty()) {
+            throw new TaskNotFoundException("Task not found with ID: " + taskId);
+        }
+        Object[] row = rows.get(0);
+        return new int[]{((Number) row[0]).intValue(), ((Number) row[1]).intValue()};
+    }
+}
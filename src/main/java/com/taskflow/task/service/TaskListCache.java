@@ -0,0 +1,120 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.cache.WTinyLfuCache;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskWriteVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Task list pages as ID lists plus the total match count, keyed by the
+ * normalized filters as {@link TaskServiceImpl} queries them.
+ *
+ * An entry is only served while the {@link TaskWriteVersion} it was read at
+ * is current: the version of its status for lists limited to one status,
+ * the global one otherwise. Stale entries are dropped on their next read,
+ * and the least valuable ones by W-TinyLFU once the size bound is reached.
+ */
+@Component
+@ConditionalOnProperty(prefix = "taskflow.list-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskListCache {
+
+    // Rough heap cost of an entry, its key and the cache's bookkeeping, excluding IDs and strings
+    private static final long ENTRY_OVERHEAD_BYTES = 320;
+    private static final long BYTES_PER_CHAR = 2;
+    private static final long BYTES_PER_TAG = 64;
+    // Sizes the frequency sketch for a typical 20-ID page
+    private static final long TYPICAL_ENTRY_BYTES = ENTRY_OVERHEAD_BYTES + 20 * Long.BYTES;
+
+    private final TaskWriteVersion writeVersion;
+    private final WTinyLfuCache<Key, Entry> cache;
+
+    public TaskListCache(TaskWriteVersion writeVersion, TaskListCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.writeVersion = writeVersion;
+        long maxBytes = properties.getMaxSize().toBytes();
+        this.cache = new WTinyLfuCache<>(maxBytes,
+                (int) Math.min(Integer.MAX_VALUE, maxBytes / TYPICAL_ENTRY_BYTES), TaskListCache::weigh);
+
+        FunctionCounter.builder("taskflow.list.cache.requests", cache, WTinyLfuCache::getHits)
+                .description("Task list cache reads by result")
+                .tags("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("taskflow.list.cache.requests", cache, WTinyLfuCache::getMisses)
+                .tags("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("taskflow.list.cache.evictions", cache, WTinyLfuCache::getEvictions)
+                .description("Task list cache entries evicted for space")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.list.cache.size", cache, WTinyLfuCache::weightedSize)
+                .description("Estimated memory of the cached task lists")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Version to store with a list read from now on
+     */
+    public long currentVersion(Key key) {
+        return writeVersion.current(key.status());
+    }
+
+    /**
+     * @return the cached list, or null if absent or written since
+     */
+    public Entry get(Key key) {
+        Entry entry = cache.get(key);
+        if (entry != null && entry.version() != currentVersion(key)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @param version {@link #currentVersion} taken before the list was read
+     */
+    public void put(Key key, long version, List<Long> ids, long total) {
+        long[] compact = new long[ids.size()];
+        for (int i = 0; i < compact.length; i++) {
+            compact[i] = ids.get(i);
+        }
+        cache.put(key, new Entry(compact, total, version));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static long weigh(Key key, Entry entry) {
+        long weight = ENTRY_OVERHEAD_BYTES + (long) entry.ids().length * Long.BYTES;
+        if (key.search() != null) {
+            weight += key.search().length() * BYTES_PER_CHAR;
+        }
+        return weight + (key.tags().size() + key.anyTags().size() + key.notTags().size()) * BYTES_PER_TAG;
+    }
+
+    /**
+     * Filters as the list query applies them: search trimmed and lower-cased
+     * (the query matches case-insensitively), effective status and priority,
+     * normalized tags and the resolved sort. Criteria that query ignores are
+     * left null, so equivalent requests share an entry.
+     */
+    public record Key(String search, TaskStatus status, TaskPriority priority,
+                      LocalDate dueDateFrom, LocalDate dueDateTo,
+                      Set<String> tags, Set<String> anyTags, Set<String> notTags,
+                      Sort sort, int page, int size) {
+    }
+
+    public record Entry(long[] ids, long total, long version) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskflow.task.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the task list result cache, {@link TaskListCache}
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.list-cache")
+public class TaskListCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Bound on the estimated memory of the cached ID lists and their keys
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+}
@@ -1,12 +1,20 @@
 package com.taskflow.task.service;
 
+import com.taskflow.task.dto.TaskBatchResponseDto;
+import com.taskflow.task.dto.TaskClaimDto;
+import com.taskflow.task.dto.TaskFacetsDto;
 import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskProgressDto;
 import com.taskflow.task.dto.TaskRequestDto;
 import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskField;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 public interface TaskService {
 
@@ -14,16 +22,48 @@ public interface TaskService {
 
     TaskResponseDto getTaskById(Long id);
 
+    TaskBatchResponseDto getTasksByIds(List<Long> ids);
+
+    /**
+     * Tasks in the order of {@code ids}, skipping IDs that no longer exist,
+     * with only {@code fields} filled in; null fills in every field
+     */
+    List<TaskResponseDto> getTasksInOrder(List<Long> ids, Set<TaskField> fields);
+
     TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto);
 
     void deleteTask(Long id);
 
     Page<TaskResponseDto> getTasks(TaskFilterDto filterDto);
 
+    TaskFacetsDto getTaskFacets(TaskFilterDto filterDto, Set<TaskFacet> facets);
+
     TaskResponseDto toggleTaskCompletion(Long id);
 
+    List<TaskResponseDto> getSubtasks(Long id, Integer maxDepth);
+
+    TaskProgressDto getTaskProgress(Long id);
+
+    TaskResponseDto moveTask(Long id, Long parentId);
+
     List<TaskResponseDto> getOverdueTasks();
 
+    /**
+     * The first {@code limit} overdue tasks, most overdue first
+     */
+    List<TaskResponseDto> getOverdueTasks(int limit);
+
+    /**
+     * Overdue tasks with only {@code fields} filled in; null fills in every field
+     */
+    List<TaskResponseDto> getOverdueTasks(int limit, Set<TaskField> fields);
+
+    List<TaskResponseDto> getNextTasks(int count);
+
+    List<TaskClaimDto> claimNextTasks(int count, String worker, Duration lease);
+
+    boolean releaseTaskClaim(Long id, String worker);
+
     TaskStatisticsDto getTaskStatistics();
 
     @Getter
@@ -1,24 +1,66 @@
 package com.taskflow.task.service;
 
+import com.taskflow.common.bitmap.RoaringBitmap;
 import com.taskflow.common.exception.TaskNotFoundException;
+import com.taskflow.common.timing.ServerTiming;
+import com.taskflow.common.timing.TimingPhase;
+import com.taskflow.common.util.TagUtil;
+import com.taskflow.task.archive.TaskArchiveService;
+import com.taskflow.task.dto.TaskBatchResponseDto;
+import com.taskflow.task.dto.TaskClaimDto;
+import com.taskflow.task.dto.TaskFacetsDto;
 import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskProgressDto;
 import com.taskflow.task.dto.TaskRequestDto;
 import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.entity.ArchivedTask;
 import com.taskflow.task.entity.Task;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskField;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.TaskCounts;
+import com.taskflow.task.index.TaskIdIndex;
 import com.taskflow.task.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -28,17 +70,51 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TaskServiceImpl implements TaskService {
 
+    /**
+     * Largest tag match set pushed down to SQL as an IN list; bigger sets are
+     * intersected in memory with the column-filter matches instead
+     */
+    private static final int TAG_ID_IN_LIMIT = 1000;
+
+    /**
+     * Largest ID list bound in one primary-key lookup
+     */
+    private static final int ID_LOOKUP_BATCH_SIZE = 1000;
+
+    /**
+     * Deepest row (offset + size) of a list including archived tasks; the
+     * merge reads that many rows from both tables
+     */
+    private static final int MAX_ARCHIVED_MERGE_ROWS = 10_000;
+
+    private static final Duration MAX_CLAIM_LEASE = Duration.ofHours(1);
+
     private final TaskRepository taskRepository;
+    private final TagIndex tagIndex;
+    private final ColumnarTaskIndex columnarIndex;
+    private final TaskIdIndex taskIdIndex;
+    private final NextUpIndex nextUpIndex;
+    private final TaskHierarchyService hierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
+    // Absent in the edge profile, which has no archive table
+    private final ObjectProvider<TaskArchiveService> archiveService;
+    // Absent when taskflow.list-cache.enabled is false
+    private final ObjectProvider<TaskListCache> listCache;
 
     @Override
     @Transactional
     public TaskResponseDto createTask(TaskRequestDto taskRequestDto) {
         log.info("Creating new task with title: {}", taskRequestDto.getTitle());
 
+        hierarchyService.validateParent(taskRequestDto.getParentId());
+
         Task task = new Task();
         mapDtoToEntity(taskRequestDto, task);
+        task.setParentId(taskRequestDto.getParentId());
 
         Task savedTask = taskRepository.save(task);
+        hierarchyService.attachNewTask(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(savedTask)));
         log.info("Task created successfully with ID: {}", savedTask.getId());
 
         return mapEntityToDto(savedTask);
@@ -48,12 +124,45 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponseDto getTaskById(Long id) {
         log.info("Fetching task with ID: {}", id);
 
+        if (!taskIdIndex.mightExist(id)) {
+            throw new TaskNotFoundException("Task not found with ID: " + id);
+        }
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
 
         return mapEntityToDto(task);
     }
 
+    @Override
+    public TaskBatchResponseDto getTasksByIds(List<Long> ids) {
+        log.info("Fetching {} tasks by ID", ids.size());
+
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        requestedIds.remove(null);
+        List<Long> uniqueIds = new ArrayList<>(requestedIds);
+        if (uniqueIds.size() > TaskBatchResponseDto.MAX_IDS) {
+            throw new IllegalArgumentException("At most " + TaskBatchResponseDto.MAX_IDS + " task IDs per request");
+        }
+
+        List<Task> found = new ArrayList<>(uniqueIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        Map<Long, Task> tasksById = findAllById(uniqueIds.stream().filter(taskIdIndex::mightExist).toList());
+        for (Long id : uniqueIds) {
+            Task task = tasksById.get(id);
+            if (task != null) {
+                found.add(task);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new TaskBatchResponseDto(mapEntitiesToDtos(found), missingIds);
+    }
+
+    @Override
+    public List<TaskResponseDto> getTasksInOrder(List<Long> ids, Set<TaskField> fields) {
+        return findDtosByIdInOrder(ids, fields);
+    }
+
     @Override
     @Transactional
     public TaskResponseDto updateTask(Long id, TaskRequestDto taskRequestDto) {
@@ -62,8 +171,12 @@ public class TaskServiceImpl implements TaskService {
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
 
+        TaskSnapshot before = TaskSnapshot.of(existingTask);
+        boolean wasCompleted = existingTask.isCompleted();
         mapDtoToEntity(taskRequestDto, existingTask);
         Task updatedTask = taskRepository.save(existingTask);
+        hierarchyService.recordStatusChange(updatedTask, wasCompleted);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(updatedTask)));
 
         log.info("Task updated successfully with ID: {}", updatedTask.getId());
         return mapEntityToDto(updatedTask);
@@ -74,12 +187,25 @@ public class TaskServiceImpl implements TaskService {
     public void deleteTask(Long id) {
         log.info("Deleting task with ID: {}", id);
 
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException("Task not found with ID: " + id);
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+
+        // Subtasks go with their parent, deepest first so parent_id never dangles
+        List<Long> descendantIds = hierarchyService.detachForDeletion(id);
+        if (!descendantIds.isEmpty()) {
+            Map<Long, Task> descendantsById = findAllById(descendantIds);
+            for (Long descendantId : descendantIds) {
+                Task descendant = descendantsById.get(descendantId);
+                if (descendant != null) {
+                    taskRepository.delete(descendant);
+                    eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.withoutDescription(descendant)));
+                }
+            }
         }
 
-        taskRepository.deleteById(id);
-        log.info("Task deleted successfully with ID: {}", id);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(task)));
+        log.info("Task deleted successfully with ID: {} ({} subtasks)", id, descendantIds.size());
     }
 
     @Override
@@ -87,32 +213,98 @@ public class TaskServiceImpl implements TaskService {
         log.info("Fetching tasks with filters: {}", filterDto);
 
         Pageable pageable = createPageable(filterDto);
-        Page<Task> taskPage;
-
-        try {
-            String searchQuery = filterDto.getSearch() != null ? filterDto.getSearch().trim() : null;
-
-            if ("high".equals(filterDto.getCurrentFilter()) && TaskPriority.HIGH.equals(filterDto.getPriority())) {
-                taskPage = taskRepository.findByPriorityAndStatus(
-                        TaskPriority.HIGH, TaskStatus.PENDING, pageable);
-            } else if (hasFilters(filterDto)) {
-                taskPage = taskRepository.findTasksWithFilters(
-                        searchQuery,
-                        filterDto.getStatus(),
-                        filterDto.getPriority(),
-                        filterDto.getDueDateFrom(),
-                        filterDto.getDueDateTo(),
-                        pageable
-                );
-            } else {
-                taskPage = taskRepository.findAll(pageable);
+        if (filterDto.isIncludeArchived() && pageable.getOffset() + pageable.getPageSize() > MAX_ARCHIVED_MERGE_ROWS) {
+            throw new IllegalArgumentException("Lists including archived tasks are limited to the first "
+                    + MAX_ARCHIVED_MERGE_ROWS + " rows");
+        }
+
+        if (filterDto.getAfterId() != null) {
+            return findTasksAfterCursor(filterDto);
+        }
+        TaskArchiveService archive = filterDto.isIncludeArchived() ? archiveService.getIfAvailable() : null;
+        if (archive != null) {
+            return findTasksIncludingArchived(filterDto, archive, pageable);
+        }
+        return findActiveTasksCached(filterDto, pageable);
+    }
+
+    @Override
+    public TaskFacetsDto getTaskFacets(TaskFilterDto filterDto, Set<TaskFacet> facets) {
+        log.info("Calculating facets {} for filters: {}", facets, filterDto);
+
+        TaskFacetsDto facetsDto = new TaskFacetsDto();
+        if (facets.isEmpty()) {
+            return facetsDto;
+        }
+
+        // Same predicate as getTasks, including the "high" shortcut and archived tasks
+        LocalDate today = LocalDate.now();
+        Map<TaskStatus, Long> statusCounts = zeroCounts(TaskStatus.class);
+        Map<TaskPriority, Long> priorityCounts = zeroCounts(TaskPriority.class);
+        Map<DueBucket, Long> dueCounts = zeroCounts(DueBucket.class);
+
+        if (filterDto.hasTagFilters()) {
+            RoaringBitmap tagMatches = evaluateTagFilters(filterDto);
+            List<Object[]> rows = tagMatches.isEmpty() ? List.of() : findTaskRows(filterDto, Sort.unsorted());
+            for (Object[] row : rows) {
+                if (tagMatches.contains(Math.toIntExact((Long) row[0]))) {
+                    statusCounts.merge((TaskStatus) row[1], 1L, Long::sum);
+                    priorityCounts.merge((TaskPriority) row[2], 1L, Long::sum);
+                    dueCounts.merge(DueBucket.of((LocalDate) row[3], today), 1L, Long::sum);
+                }
             }
+        } else if (listSearch(filterDto) == null) {
+            // Column filters only: answered by the columnar index without a query
+            TaskCounts counts = columnarIndex.count(
+                    effectiveStatus(filterDto),
+                    effectivePriority(filterDto),
+                    listDueDateFrom(filterDto),
+                    listDueDateTo(filterDto),
+                    today
+            );
+            statusCounts.putAll(counts.byStatus());
+            priorityCounts.putAll(counts.byPriority());
+            dueCounts.putAll(counts.byDueBucket());
+        } else {
+            List<Object[]> rows = taskRepository.countFacets(
+                    listSearch(filterDto),
+                    effectiveStatus(filterDto),
+                    effectivePriority(filterDto),
+                    listDueDateFrom(filterDto),
+                    listDueDateTo(filterDto),
+                    today,
+                    today.plusDays(DueBucket.UPCOMING_DAYS)
+            );
+            addFacetRows(rows, statusCounts, priorityCounts, dueCounts);
+        }
 
-            return taskPage.map(this::mapEntityToDto);
-        } catch (Exception e) {
-            log.error("Error fetching tasks: ", e);
-            return Page.empty(pageable);
+        TaskArchiveService archive = filterDto.isIncludeArchived() ? archiveService.getIfAvailable() : null;
+        if (archive != null) {
+            List<Object[]> rows = archive.countArchivedFacets(
+                    listSearch(filterDto),
+                    effectiveStatus(filterDto),
+                    effectivePriority(filterDto),
+                    listDueDateFrom(filterDto),
+                    listDueDateTo(filterDto),
+                    TagUtil.normalize(filterDto.getTags()),
+                    TagUtil.normalize(filterDto.getAnyTags()),
+                    TagUtil.normalize(filterDto.getNotTags()),
+                    today,
+                    today.plusDays(DueBucket.UPCOMING_DAYS)
+            );
+            addFacetRows(rows, statusCounts, priorityCounts, dueCounts);
+        }
+
+        if (facets.contains(TaskFacet.STATUS)) {
+            facetsDto.setStatus(statusCounts);
+        }
+        if (facets.contains(TaskFacet.PRIORITY)) {
+            facetsDto.setPriority(priorityCounts);
         }
+        if (facets.contains(TaskFacet.DUE)) {
+            facetsDto.setDue(dueCounts);
+        }
+        return facetsDto;
     }
 
     @Override
@@ -123,6 +315,8 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
 
+        TaskSnapshot before = TaskSnapshot.of(task);
+        boolean wasCompleted = task.isCompleted();
         if (task.getStatus() == TaskStatus.PENDING) {
             task.markAsCompleted();
         } else {
@@ -130,39 +324,138 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        hierarchyService.recordStatusChange(updatedTask, wasCompleted);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(updatedTask)));
         log.info("Task completion status toggled for ID: {} to status: {}",
                 id, updatedTask.getStatus());
 
         return mapEntityToDto(updatedTask);
     }
 
+    @Override
+    public List<TaskResponseDto> getSubtasks(Long id, Integer maxDepth) {
+        log.info("Fetching subtasks of task with ID: {} (maxDepth: {})", id, maxDepth);
+
+        if (!taskRepository.existsById(id)) {
+            throw new TaskNotFoundException("Task not found with ID: " + id);
+        }
+
+        return mapEntitiesToDtos(taskRepository.findSubtree(id, maxDepth));
+    }
+
+    @Override
+    public TaskProgressDto getTaskProgress(Long id) {
+        log.info("Fetching progress of task with ID: {}", id);
+
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+
+        return TaskProgressDto.of(task.getId(), task.getSubtreeSize(), task.getSubtreeCompleted());
+    }
+
+    @Override
+    @Transactional
+    public TaskResponseDto moveTask(Long id, Long parentId) {
+        log.info("Moving task with ID: {} under parent: {}", id, parentId);
+
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+
+        TaskSnapshot before = TaskSnapshot.of(task);
+        hierarchyService.move(task, parentId);
+        Task movedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(movedTask)));
+
+        return mapEntityToDto(movedTask);
+    }
+
     @Override
     public List<TaskResponseDto> getOverdueTasks() {
+        return getOverdueTasks(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<TaskResponseDto> getOverdueTasks(int limit) {
+        return getOverdueTasks(limit, null);
+    }
+
+    @Override
+    public List<TaskResponseDto> getOverdueTasks(int limit, Set<TaskField> fields) {
         log.info("Fetching overdue tasks");
 
-        List<Task> overdueTasks = taskRepository.findOverdueTasks(
-                LocalDate.now(), TaskStatus.PENDING);
+        // The columnar index selects the IDs; only the matching rows are read
+        long[] ids = columnarIndex.findOverdueIds(LocalDate.now());
+        List<Long> overdueIds = new ArrayList<>(Math.min(ids.length, limit));
+        for (int i = 0; i < ids.length && i < limit; i++) {
+            overdueIds.add(ids[i]);
+        }
+
+        return findDtosByIdInOrder(overdueIds, fields);
+    }
+
+    @Override
+    public List<TaskResponseDto> getNextTasks(int count) {
+        log.info("Fetching next {} tasks", count);
+        validateNextCount(count);
+
+        return mapEntitiesToDtos(findAllByIdInOrder(nextUnclaimed(count, new HashSet<>(), Instant.now())));
+    }
+
+    @Override
+    @Transactional
+    public List<TaskClaimDto> claimNextTasks(int count, String worker, Duration lease) {
+        log.info("Worker {} claiming next {} tasks for {}", worker, count, lease);
+        validateNextCount(count);
+        if (worker == null || worker.isBlank()) {
+            throw new IllegalArgumentException("Worker is required to claim tasks");
+        }
+        if (lease.isNegative() || lease.isZero() || lease.compareTo(MAX_CLAIM_LEASE) > 0) {
+            throw new IllegalArgumentException("Claim lease must be positive and at most " + MAX_CLAIM_LEASE);
+        }
 
-        return overdueTasks.stream()
-                .map(this::mapEntityToDto)
+        // Claims are found again by their exact expiry, so keep only what the column stores
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant leaseUntil = now.plus(lease);
+        List<Long> claimedIds = new ArrayList<>(count);
+        Set<Long> tried = new HashSet<>();
+        while (claimedIds.size() < count) {
+            List<Long> candidates = nextUnclaimed(count - claimedIds.size(), tried, now);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            // Another instance may claim a candidate between the check and this update; it
+            // is then skipped here and the next round asks for a replacement
+            if (taskRepository.claimTasks(candidates, worker, leaseUntil, now) > 0) {
+                Set<Long> won = new HashSet<>(taskRepository.findIdsClaimedBy(candidates, worker, leaseUntil));
+                candidates.stream().filter(won::contains).forEach(claimedIds::add);
+            }
+        }
+
+        return mapEntitiesToDtos(findAllByIdInOrder(claimedIds)).stream()
+                .map(task -> new TaskClaimDto(task, worker, leaseUntil))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    public boolean releaseTaskClaim(Long id, String worker) {
+        log.info("Worker {} releasing claim on task {}", worker, id);
+        return taskRepository.releaseClaim(id, worker, Instant.now()) == 1;
+    }
+
     @Override
     public TaskStatisticsDto getTaskStatistics() {
         log.info("Calculating task statistics");
 
-        long totalTasks = taskRepository.count();
-        long pendingTasks = taskRepository.countByStatus(TaskStatus.PENDING);
-        long completedTasks = taskRepository.countByStatus(TaskStatus.COMPLETED);
-        long highPriorityTasks = taskRepository.countByPriority(TaskPriority.HIGH);
-
-        List<Task> overdueTasks = taskRepository.findOverdueTasks(
-                LocalDate.now(), TaskStatus.PENDING);
-        long overdueTasksCount = overdueTasks.size();
+        // One scan of the columnar index, no database access
+        TaskCounts counts = columnarIndex.count(LocalDate.now());
 
-        return new TaskStatisticsDto(totalTasks, pendingTasks, completedTasks,
-                overdueTasksCount, highPriorityTasks);
+        return new TaskStatisticsDto(
+                counts.total(),
+                counts.count(TaskStatus.PENDING),
+                counts.count(TaskStatus.COMPLETED),
+                counts.count(TaskStatus.PENDING, DueBucket.PAST_DUE),
+                counts.count(TaskPriority.HIGH));
     }
 
     // Helper methods
@@ -173,20 +466,128 @@ public class TaskServiceImpl implements TaskService {
         entity.setStatus(dto.getStatus());
         entity.setPriority(dto.getPriority());
         entity.setDueDate(dto.getDueDate());
+        entity.getTags().clear();
+        entity.getTags().addAll(TagUtil.normalize(dto.getTags()));
     }
 
     private TaskResponseDto mapEntityToDto(Task entity) {
+        return mapEntityToDto(entity, entity.getDescription(), null);
+    }
+
+    /**
+     * Map tasks read as a list. List queries fetch the lazy description with
+     * the row; for any other query it is read for the whole list in one
+     * statement rather than row by row.
+     */
+    private List<TaskResponseDto> mapEntitiesToDtos(List<Task> entities) {
+        Map<Long, String> descriptions = findDescriptions(entities.stream()
+                .filter(entity -> !Hibernate.isPropertyInitialized(entity, "description"))
+                .toList());
+        List<TaskResponseDto> dtos = new ArrayList<>(entities.size());
+        for (Task entity : entities) {
+            String description = descriptions.containsKey(entity.getId())
+                    ? descriptions.get(entity.getId()) : entity.getDescription();
+            dtos.add(mapEntityToDto(entity, description, null));
+        }
+        return dtos;
+    }
+
+    /**
+     * Map rows of {@link TaskRepository#findTaskColumns} for {@code fields}.
+     * Each row fills a detached task, so derived fields such as overdue are
+     * computed as for a loaded one; tags are read only when requested.
+     */
+    private List<TaskResponseDto> mapColumnsToDtos(List<String> attributes, List<Object[]> rows,
+                                                   Set<TaskField> fields) {
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Task task = new Task();
+            for (int i = 0; i < row.length; i++) {
+                setAttribute(task, attributes.get(i), row[i]);
+            }
+            tasks.add(task);
+        }
+        if (fields.contains(TaskField.TAGS)) {
+            Map<Long, Task> tasksById = new HashMap<>();
+            tasks.forEach(task -> tasksById.put(task.getId(), task));
+            for (Object[] pair : findTagPairs(List.copyOf(tasksById.keySet()))) {
+                tasksById.get((Long) pair[0]).getTags().add((String) pair[1]);
+            }
+        }
+
+        List<TaskResponseDto> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(mapEntityToDto(task, task.getDescription(), fields));
+        }
+        return dtos;
+    }
+
+    private static void setAttribute(Task task, String attribute, Object value) {
+        switch (attribute) {
+            case "id" -> task.setId((Long) value);
+            case "title" -> task.setTitle((String) value);
+            case "description" -> task.setDescription((String) value);
+            case "status" -> task.setStatus((TaskStatus) value);
+            case "priority" -> task.setPriority((TaskPriority) value);
+            case "dueDate" -> task.setDueDate((LocalDate) value);
+            case "parentId" -> task.setParentId((Long) value);
+            case "subtreeSize" -> task.setSubtreeSize((Integer) value);
+            case "subtreeCompleted" -> task.setSubtreeCompleted((Integer) value);
+            case "createdAt" -> task.setCreatedAt((LocalDateTime) value);
+            case "updatedAt" -> task.setUpdatedAt((LocalDateTime) value);
+            default -> throw new IllegalArgumentException("Unknown task attribute: " + attribute);
+        }
+    }
+
+    private TaskResponseDto mapEntityToDto(Task entity, String description, Set<TaskField> fields) {
+        long start = ServerTiming.begin();
         TaskResponseDto dto = new TaskResponseDto();
         dto.setId(entity.getId());
         dto.setTitle(entity.getTitle());
-        dto.setDescription(entity.getDescription());
+        dto.setDescription(description);
         dto.setStatus(entity.getStatus());
         dto.setPriority(entity.getPriority());
         dto.setDueDate(entity.getDueDate());
+        if (TaskField.includes(fields, TaskField.TAGS)) {
+            dto.setTags(new TreeSet<>(entity.getTags()));
+        }
+        dto.setParentId(entity.getParentId());
+        dto.setSubtreeSize(entity.getSubtreeSize());
+        dto.setSubtreeCompleted(entity.getSubtreeCompleted());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
         dto.setOverdue(entity.isOverdue());
         dto.setCompleted(entity.isCompleted());
+        ServerTiming.end(TimingPhase.MAPPING, start);
+        return dto;
+    }
+
+    /**
+     * Map an archived task, leaving out the description and tags unless
+     * requested, like {@link #mapColumnsToDtos} does for active tasks
+     */
+    private TaskResponseDto mapArchivedToDto(ArchivedTask entity, Set<TaskField> fields) {
+        long start = ServerTiming.begin();
+        TaskResponseDto dto = new TaskResponseDto();
+        dto.setId(entity.getId());
+        dto.setTitle(entity.getTitle());
+        if (TaskField.includes(fields, TaskField.DESCRIPTION)) {
+            dto.setDescription(entity.getDescription());
+        }
+        dto.setStatus(entity.getStatus());
+        dto.setPriority(entity.getPriority());
+        dto.setDueDate(entity.getDueDate());
+        if (TaskField.includes(fields, TaskField.TAGS)) {
+            dto.setTags(new TreeSet<>(entity.getTags()));
+        }
+        // Only completed standalone tasks are archived
+        dto.setSubtreeSize(1);
+        dto.setSubtreeCompleted(1);
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setCompleted(true);
+        dto.setArchived(true);
+        ServerTiming.end(TimingPhase.MAPPING, start);
         return dto;
     }
 
@@ -202,7 +603,9 @@ public class TaskServiceImpl implements TaskService {
         // Map frontend field names to entity field names if needed
         String entityFieldName = mapSortField(sortBy);
 
-        return Sort.by(direction, entityFieldName);
+        // Priority is stored as its orderValue, so this sorts LOW < MEDIUM < HIGH.
+        // The id tie-breaker keeps pages stable and matches the composite indexes.
+        return Sort.by(direction, entityFieldName).and(Sort.by(direction, "id"));
     }
 
     private String mapSortField(String sortBy) {
@@ -217,6 +620,445 @@ public class TaskServiceImpl implements TaskService {
         };
     }
 
+    private Page<Task> findActiveTasks(TaskFilterDto filterDto, Pageable pageable) {
+        String searchQuery = normalizeSearch(filterDto);
+
+        if (filterDto.hasTagFilters()) {
+            return findTasksWithTagFilters(filterDto, searchQuery, pageable);
+        } else if (isHighPriorityFilter(filterDto)) {
+            return taskRepository.findByPriorityAndStatus(TaskPriority.HIGH, TaskStatus.PENDING, pageable);
+        } else if (hasFilters(filterDto)) {
+            return taskRepository.findTasksWithFilters(
+                    searchQuery,
+                    filterDto.getStatus(),
+                    filterDto.getPriority(),
+                    filterDto.getDueDateFrom(),
+                    filterDto.getDueDateTo(),
+                    pageable
+            );
+        }
+        return taskRepository.findAll(pageable);
+    }
+
+    /**
+     * Active tasks through the list cache; a hit reads only the page's rows by ID
+     */
+    private Page<TaskResponseDto> findActiveTasksCached(TaskFilterDto filterDto, Pageable pageable) {
+        TaskListCache cache = listCache.getIfAvailable();
+        if (cache == null) {
+            return findActiveTaskDtos(filterDto, pageable);
+        }
+
+        TaskListCache.Key key = listKey(filterDto, pageable);
+        TaskListCache.Entry cached = cache.get(key);
+        if (cached != null) {
+            List<Long> ids = Arrays.stream(cached.ids()).boxed().toList();
+            return new PageImpl<>(findDtosByIdInOrder(ids, filterDto.getFields()), pageable, cached.total());
+        }
+        // Taken before the query, so a write committed meanwhile invalidates the entry
+        long version = cache.currentVersion(key);
+        Page<TaskResponseDto> page = findActiveTaskDtos(filterDto, pageable);
+        cache.put(key, version, page.getContent().stream().map(TaskResponseDto::getId).toList(),
+                page.getTotalElements());
+        return page;
+    }
+
+    /**
+     * Active tasks as DTOs. With {@code fields}, only the columns those need
+     * are selected, through {@link TaskRepository#findTaskColumns}.
+     */
+    private Page<TaskResponseDto> findActiveTaskDtos(TaskFilterDto filterDto, Pageable pageable) {
+        Set<TaskField> fields = filterDto.getFields();
+        if (fields == null) {
+            Page<Task> page = findActiveTasks(filterDto, pageable);
+            return new PageImpl<>(mapEntitiesToDtos(page.getContent()), pageable, page.getTotalElements());
+        }
+
+        Collection<Long> ids = null;
+        if (filterDto.hasTagFilters()) {
+            RoaringBitmap tagMatches = evaluateTagFilters(filterDto);
+            if (tagMatches.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            if (tagMatches.cardinality() > TAG_ID_IN_LIMIT) {
+                List<Long> matchingIds = findTagMatchesInOrder(filterDto, tagMatches, pageable.getSort());
+                int from = (int) Math.min(pageable.getOffset(), matchingIds.size());
+                int to = Math.min(from + pageable.getPageSize(), matchingIds.size());
+                return new PageImpl<>(findDtosByIdInOrder(matchingIds.subList(from, to), fields), pageable,
+                        matchingIds.size());
+            }
+            List<Long> tagIds = new ArrayList<>(tagMatches.cardinality());
+            tagMatches.forEach(id -> tagIds.add((long) id));
+            ids = tagIds;
+        }
+        return findTaskColumns(filterDto, ids, null, null, pageable);
+    }
+
+    /**
+     * The {@code fields} columns of the tasks matching the filters, under the
+     * same criteria as {@link #findActiveTasks}
+     */
+    private Page<TaskResponseDto> findTaskColumns(TaskFilterDto filterDto, Collection<Long> ids, Long idAbove,
+                                                  Long idBelow, Pageable pageable) {
+        List<String> attributes = TaskField.attributesOf(filterDto.getFields());
+        Page<Object[]> rows = taskRepository.findTaskColumns(
+                attributes,
+                listSearch(filterDto),
+                effectiveStatus(filterDto),
+                effectivePriority(filterDto),
+                listDueDateFrom(filterDto),
+                listDueDateTo(filterDto),
+                ids,
+                idAbove,
+                idBelow,
+                pageable
+        );
+        return new PageImpl<>(mapColumnsToDtos(attributes, rows.getContent(), filterDto.getFields()), pageable,
+                rows.getTotalElements());
+    }
+
+    /**
+     * Keyset page for the createdAt sort. Block-allocated IDs follow creation
+     * order (see BlockIdOptimizer), so the page is read by ID from the cursor:
+     * nothing is skipped by offset, and tasks created meanwhile do not shift
+     * later pages. The total counts the tasks from the cursor on.
+     */
+    private Page<TaskResponseDto> findTasksAfterCursor(TaskFilterDto filterDto) {
+        if (!"createdAt".equals(mapSortField(filterDto.getSortBy()))) {
+            throw new IllegalArgumentException("afterId is only supported when sorting by createdAt");
+        }
+        if (filterDto.getPage() > 0 || filterDto.hasTagFilters() || filterDto.isIncludeArchived()) {
+            throw new IllegalArgumentException("afterId cannot be combined with page, tag filters or archived tasks");
+        }
+
+        boolean ascending = "asc".equalsIgnoreCase(filterDto.getSortDirection());
+        Long afterId = filterDto.getAfterId();
+        Pageable pageable = PageRequest.of(0, filterDto.getSize(),
+                Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "id"));
+        if (filterDto.getFields() != null) {
+            return findTaskColumns(filterDto, null, ascending ? afterId : null, ascending ? null : afterId,
+                    pageable);
+        }
+        Page<Task> page = taskRepository.findTasksWithFiltersInIdRange(
+                listSearch(filterDto),
+                effectiveStatus(filterDto),
+                effectivePriority(filterDto),
+                listDueDateFrom(filterDto),
+                listDueDateTo(filterDto),
+                ascending ? afterId : null,
+                ascending ? null : afterId,
+                pageable
+        );
+        return new PageImpl<>(mapEntitiesToDtos(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    /**
+     * Cache key with the criteria {@link #findActiveTasks} actually applies
+     */
+    private TaskListCache.Key listKey(TaskFilterDto filterDto, Pageable pageable) {
+        if (!filterDto.hasTagFilters() && isHighPriorityFilter(filterDto)) {
+            return new TaskListCache.Key(null, TaskStatus.PENDING, TaskPriority.HIGH, null, null,
+                    Set.of(), Set.of(), Set.of(), pageable.getSort(), pageable.getPageNumber(),
+                    pageable.getPageSize());
+        }
+        String search = normalizeSearch(filterDto);
+        return new TaskListCache.Key(
+                search != null ? search.toLowerCase(Locale.ROOT) : null,
+                effectiveStatus(filterDto),
+                effectivePriority(filterDto),
+                filterDto.getDueDateFrom(),
+                filterDto.getDueDateTo(),
+                Set.copyOf(TagUtil.normalize(filterDto.getTags())),
+                Set.copyOf(TagUtil.normalize(filterDto.getAnyTags())),
+                Set.copyOf(TagUtil.normalize(filterDto.getNotTags())),
+                pageable.getSort(),
+                pageable.getPageNumber(),
+                pageable.getPageSize());
+    }
+
+    /**
+     * Both tables are read in the same order, so the first offset + size rows
+     * of each are enough to merge the requested page; that window is capped
+     * at {@link #MAX_ARCHIVED_MERGE_ROWS}
+     */
+    private Page<TaskResponseDto> findTasksIncludingArchived(TaskFilterDto filterDto, TaskArchiveService archive,
+                                                             Pageable pageable) {
+        int window = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        Pageable head = PageRequest.of(0, window, pageable.getSort());
+
+        Page<TaskResponseDto> active = findActiveTaskDtos(filterDto, head);
+        Page<ArchivedTask> archived = archive.findArchived(
+                listSearch(filterDto),
+                effectiveStatus(filterDto),
+                effectivePriority(filterDto),
+                listDueDateFrom(filterDto),
+                listDueDateTo(filterDto),
+                TagUtil.normalize(filterDto.getTags()),
+                TagUtil.normalize(filterDto.getAnyTags()),
+                TagUtil.normalize(filterDto.getNotTags()),
+                head
+        );
+
+        List<TaskResponseDto> merged = new ArrayList<>(active.getNumberOfElements() + archived.getNumberOfElements());
+        merged.addAll(active.getContent());
+        archived.forEach(task -> merged.add(mapArchivedToDto(task, filterDto.getFields())));
+        merged.sort(dtoComparator(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable,
+                active.getTotalElements() + archived.getTotalElements());
+    }
+
+    /**
+     * In-memory equivalent of {@code sort} as applied by the database, with
+     * nulls last when ascending and first when descending
+     */
+    private Comparator<TaskResponseDto> dtoComparator(Sort sort) {
+        Comparator<TaskResponseDto> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<TaskResponseDto> byProperty = Comparator.comparing(
+                    sortKey(order.getProperty()), Comparator.nullsLast(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Function<TaskResponseDto, Comparable<Object>> sortKey(String property) {
+        Function<TaskResponseDto, Comparable> key = switch (property) {
+            case "priority" -> dto -> dto.getPriority() != null ? dto.getPriority().getOrderValue() : null;
+            case "status" -> dto -> dto.getStatus() != null ? dto.getStatus().name() : null;
+            case "dueDate" -> TaskResponseDto::getDueDate;
+            case "title" -> TaskResponseDto::getTitle;
+            case "updatedAt" -> TaskResponseDto::getUpdatedAt;
+            case "id" -> TaskResponseDto::getId;
+            default -> TaskResponseDto::getCreatedAt;
+        };
+        return (Function) key;
+    }
+
+    private Page<Task> findTasksWithTagFilters(TaskFilterDto filterDto, String searchQuery, Pageable pageable) {
+        RoaringBitmap tagMatches = evaluateTagFilters(filterDto);
+        if (tagMatches.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        if (tagMatches.cardinality() <= TAG_ID_IN_LIMIT) {
+            List<Long> ids = new ArrayList<>(tagMatches.cardinality());
+            tagMatches.forEach(id -> ids.add((long) id));
+            return taskRepository.findTasksWithFiltersAndIdIn(
+                    searchQuery,
+                    effectiveStatus(filterDto),
+                    effectivePriority(filterDto),
+                    filterDto.getDueDateFrom(),
+                    filterDto.getDueDateTo(),
+                    ids,
+                    pageable
+            );
+        }
+
+        List<Long> matchingIds = findTagMatchesInOrder(filterDto, tagMatches, pageable.getSort());
+        int from = (int) Math.min(pageable.getOffset(), matchingIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchingIds.size());
+        List<Task> content = findAllByIdInOrder(matchingIds.subList(from, to));
+
+        return new PageImpl<>(content, pageable, matchingIds.size());
+    }
+
+    /**
+     * Broad tag match: let SQL apply the column filters in sort order and
+     * intersect with the bitmap here rather than binding a huge IN list
+     */
+    private List<Long> findTagMatchesInOrder(TaskFilterDto filterDto, RoaringBitmap tagMatches, Sort sort) {
+        List<Long> matchingIds = new ArrayList<>();
+        for (Object[] row : findTaskRows(filterDto, sort)) {
+            Long id = (Long) row[0];
+            if (tagMatches.contains(Math.toIntExact(id))) {
+                matchingIds.add(id);
+            }
+        }
+        return matchingIds;
+    }
+
+    /**
+     * Tasks by ID as DTOs in the order of {@code ids}, reading only the
+     * columns {@code fields} need when given
+     */
+    private List<TaskResponseDto> findDtosByIdInOrder(List<Long> ids, Set<TaskField> fields) {
+        if (fields == null) {
+            return mapEntitiesToDtos(findAllByIdInOrder(ids));
+        }
+        List<String> attributes = TaskField.attributesOf(fields);
+        Map<Long, Object[]> rowsById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ID_LOOKUP_BATCH_SIZE, ids.size()));
+            taskRepository.findTaskColumns(attributes, null, null, null, null, null, batch, null, null,
+                    Pageable.unpaged()).forEach(row -> rowsById.put((Long) row[0], row));
+        }
+        List<Object[]> rows = ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return mapColumnsToDtos(attributes, rows, fields);
+    }
+
+    /**
+     * Load tasks by ID in batches, preserving the order of {@code ids} and
+     * skipping IDs that no longer exist
+     */
+    private List<Task> findAllByIdInOrder(List<Long> ids) {
+        Map<Long, Task> tasksById = findAllById(ids);
+        return ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Task> findAllById(List<Long> ids) {
+        Map<Long, Task> tasksById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ID_LOOKUP_BATCH_SIZE, ids.size()));
+            taskRepository.findByIdIn(batch).forEach(task -> tasksById.put(task.getId(), task));
+        }
+        return tasksById;
+    }
+
+    private List<Object[]> findTagPairs(List<Long> ids) {
+        List<Object[]> pairs = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_BATCH_SIZE) {
+            pairs.addAll(taskRepository.findTaskTagPairs(ids.subList(from, Math.min(from + ID_LOOKUP_BATCH_SIZE,
+                    ids.size()))));
+        }
+        return pairs;
+    }
+
+    private Map<Long, String> findDescriptions(List<Task> tasks) {
+        Map<Long, String> descriptions = new HashMap<>();
+        for (int from = 0; from < tasks.size(); from += ID_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = tasks.subList(from, Math.min(from + ID_LOOKUP_BATCH_SIZE, tasks.size())).stream()
+                    .map(Task::getId)
+                    .toList();
+            for (Object[] row : taskRepository.findDescriptions(batch)) {
+                descriptions.put((Long) row[0], (String) row[1]);
+            }
+        }
+        return descriptions;
+    }
+
+    /**
+     * The first {@code n} next-up candidates not in {@code tried} whose rows
+     * carry no unexpired claim. The index does not know about claims, so it
+     * is asked for growing batches until enough are free or it runs out;
+     * every candidate examined is added to {@code tried}.
+     */
+    private List<Long> nextUnclaimed(int n, Set<Long> tried, Instant now) {
+        List<Long> unclaimed = new ArrayList<>(n);
+        int batchSize = n;
+        while (unclaimed.size() < n) {
+            List<Long> candidates = nextUpIndex.peek(batchSize, tried);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Set<Long> claimed = new HashSet<>(taskRepository.findClaimedIds(candidates, now));
+            for (Long id : candidates) {
+                if (unclaimed.size() == n) {
+                    break;
+                }
+                tried.add(id);
+                if (!claimed.contains(id)) {
+                    unclaimed.add(id);
+                }
+            }
+            batchSize = Math.min(batchSize * 2, ID_LOOKUP_BATCH_SIZE);
+        }
+        return unclaimed;
+    }
+
+    private void validateNextCount(int count) {
+        if (count < 1 || count > TaskClaimDto.MAX_TASKS) {
+            throw new IllegalArgumentException("Task count must be between 1 and " + TaskClaimDto.MAX_TASKS);
+        }
+    }
+
+    private RoaringBitmap evaluateTagFilters(TaskFilterDto filterDto) {
+        return tagIndex.evaluate(
+                TagUtil.normalize(filterDto.getTags()),
+                TagUtil.normalize(filterDto.getAnyTags()),
+                TagUtil.normalize(filterDto.getNotTags())
+        );
+    }
+
+    private List<Object[]> findTaskRows(TaskFilterDto filterDto, Sort sort) {
+        return taskRepository.findTaskRowsWithFilters(
+                normalizeSearch(filterDto),
+                effectiveStatus(filterDto),
+                effectivePriority(filterDto),
+                filterDto.getDueDateFrom(),
+                filterDto.getDueDateTo(),
+                sort
+        );
+    }
+
+    private TaskStatus effectiveStatus(TaskFilterDto filterDto) {
+        return isHighPriorityFilter(filterDto) ? TaskStatus.PENDING : filterDto.getStatus();
+    }
+
+    private TaskPriority effectivePriority(TaskFilterDto filterDto) {
+        return isHighPriorityFilter(filterDto) ? TaskPriority.HIGH : filterDto.getPriority();
+    }
+
+    /**
+     * Whether the list is the "high" shortcut, which {@link #findActiveTasks}
+     * answers with pending high-priority tasks, ignoring search and due dates
+     */
+    private boolean isHighOnly(TaskFilterDto filterDto) {
+        return !filterDto.hasTagFilters() && isHighPriorityFilter(filterDto);
+    }
+
+    // Search and due-date criteria the list applies, i.e. none for the "high" shortcut
+
+    private String listSearch(TaskFilterDto filterDto) {
+        return isHighOnly(filterDto) ? null : normalizeSearch(filterDto);
+    }
+
+    private LocalDate listDueDateFrom(TaskFilterDto filterDto) {
+        return isHighOnly(filterDto) ? null : filterDto.getDueDateFrom();
+    }
+
+    private LocalDate listDueDateTo(TaskFilterDto filterDto) {
+        return isHighOnly(filterDto) ? null : filterDto.getDueDateTo();
+    }
+
+    private String normalizeSearch(TaskFilterDto filterDto) {
+        return filterDto.getSearch() != null ? filterDto.getSearch().trim() : null;
+    }
+
+    private boolean isHighPriorityFilter(TaskFilterDto filterDto) {
+        return "high".equals(filterDto.getCurrentFilter()) && TaskPriority.HIGH.equals(filterDto.getPriority());
+    }
+
+    /**
+     * Add {@code [TaskStatus, TaskPriority, Integer bucket, Long count]} rows to the facet counts
+     */
+    private static void addFacetRows(List<Object[]> rows, Map<TaskStatus, Long> statusCounts,
+                                     Map<TaskPriority, Long> priorityCounts, Map<DueBucket, Long> dueCounts) {
+        for (Object[] row : rows) {
+            long count = ((Number) row[3]).longValue();
+            statusCounts.merge((TaskStatus) row[0], count, Long::sum);
+            priorityCounts.merge((TaskPriority) row[1], count, Long::sum);
+            dueCounts.merge(DueBucket.values()[((Number) row[2]).intValue()], count, Long::sum);
+        }
+    }
+
+    private <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+
     private boolean hasFilters(TaskFilterDto filterDto) {
         return filterDto.getSearch() != null ||
                 filterDto.getStatus() != null ||
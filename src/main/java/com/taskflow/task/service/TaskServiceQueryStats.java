@@ -0,0 +1,34 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.jdbc.QueryStats;
+import com.taskflow.common.jdbc.QueryStatsMetrics;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Publishes the JDBC statistics of each {@link TaskServiceImpl} call.
+ *
+ * Ordered ahead of the transaction advice, so statements flushed on commit
+ * count towards the method that caused them.
+ */
+@Aspect
+@Order(0)
+@RequiredArgsConstructor
+public class TaskServiceQueryStats {
+
+    private final QueryStatsMetrics metrics;
+
+    @Around("execution(public * com.taskflow.task.service.TaskServiceImpl.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (QueryStats stats = QueryStats.open()) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                metrics.record("service", "TaskService." + joinPoint.getSignature().getName(), stats);
+            }
+        }
+    }
+}
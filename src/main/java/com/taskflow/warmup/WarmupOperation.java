@@ -0,0 +1,14 @@
+package com.taskflow.warmup;
+
+/**
+ * Read-only {@link com.taskflow.task.service.TaskService} calls replayed during warmup
+ */
+public enum WarmupOperation {
+    LIST_ALL,
+    LIST_FILTERED,
+    LIST_HIGH_PRIORITY,
+    SEARCH,
+    GET_BY_ID,
+    OVERDUE,
+    STATISTICS
+}
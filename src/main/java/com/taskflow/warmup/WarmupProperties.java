@@ -0,0 +1,52 @@
+package com.taskflow.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration for the startup warmup phase
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Hard upper bound on the time spent warming up before reporting ready
+     */
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    private int minRounds = 5;
+
+    private int maxRounds = 200;
+
+    /**
+     * Number of consecutive rounds whose mean latency must stay within
+     * {@link #stabilityThreshold} of the previous round
+     */
+    private int stableRounds = 3;
+
+    private double stabilityThreshold = 0.10;
+
+    /**
+     * Relative weight of each operation within one warmup round
+     */
+    private Map<WarmupOperation, Integer> mix = defaultMix();
+
+    private static Map<WarmupOperation, Integer> defaultMix() {
+        Map<WarmupOperation, Integer> mix = new EnumMap<>(WarmupOperation.class);
+        mix.put(WarmupOperation.LIST_ALL, 4);
+        mix.put(WarmupOperation.LIST_FILTERED, 2);
+        mix.put(WarmupOperation.LIST_HIGH_PRIORITY, 2);
+        mix.put(WarmupOperation.SEARCH, 1);
+        mix.put(WarmupOperation.GET_BY_ID, 2);
+        mix.put(WarmupOperation.OVERDUE, 1);
+        mix.put(WarmupOperation.STATISTICS, 2);
+        return mix;
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a warmup run, exposed as metrics
+ */
+@Getter
+@AllArgsConstructor
+public class WarmupResult {
+    private final int rounds;
+    private final long operations;
+    private final double firstRoundMillis;
+    private final double lastRoundMillis;
+    private final long elapsedMillis;
+    private final boolean stabilized;
+
+    /**
+     * Ratio of the first round's mean latency to the last one
+     */
+    public double getSpeedup() {
+        return lastRoundMillis > 0 ? firstRoundMillis / lastRoundMillis : 1.0;
+    }
+}
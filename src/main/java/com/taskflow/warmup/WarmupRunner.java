@@ -0,0 +1,219 @@
+package com.taskflow.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.service.TaskListCache;
+import com.taskflow.task.service.TaskService;
+import com.taskflow.task.service.TaskServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic mix of read-only {@link TaskService} calls before the
+ * application reports ready.
+ *
+ * Runners execute before {@code ApplicationReadyEvent}, so readiness stays at
+ * {@code REFUSING_TRAFFIC} until this returns: Hibernate query plans, Jackson
+ * serializers and JIT-compiled code are hot by the time the first real request
+ * is routed here.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "taskflow.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String SEARCH_TERM = "task";
+
+    // The implementation, not the coalescing front, so every call does real work;
+    // for the same reason the list cache is emptied before each operation
+    private final TaskServiceImpl taskService;
+    private final WarmupProperties properties;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<TaskListCache> listCache;
+
+    private Long sampleTaskId;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<WarmupOperation> round = buildRound(properties.getMix());
+        if (round.isEmpty()) {
+            log.info("Warmup skipped: empty operation mix");
+            return;
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long budgetNanos = properties.getTimeBudget().toNanos();
+        long start = System.nanoTime();
+
+        int rounds = 0;
+        int stableStreak = 0;
+        long operations = 0;
+        double firstRoundMillis = 0;
+        double previousRoundMillis = 0;
+        double lastRoundMillis = 0;
+        boolean stabilized = false;
+
+        log.info("Starting warmup: {} operations per round, budget {}", round.size(), properties.getTimeBudget());
+
+        while (rounds < properties.getMaxRounds() && System.nanoTime() - start < budgetNanos) {
+            long roundStart = System.nanoTime();
+            int failures = 0;
+
+            for (WarmupOperation operation : round) {
+                try {
+                    readOnly.executeWithoutResult(status -> {
+                        status.setRollbackOnly();
+                        execute(operation);
+                    });
+                } catch (Exception e) {
+                    failures++;
+                    log.debug("Warmup operation {} failed: {}", operation, e.getMessage());
+                }
+            }
+
+            if (failures == round.size()) {
+                log.warn("Warmup aborted: every operation in round {} failed", rounds + 1);
+                break;
+            }
+
+            rounds++;
+            operations += round.size();
+            lastRoundMillis = (System.nanoTime() - roundStart) / 1_000_000.0 / round.size();
+
+            if (rounds == 1) {
+                firstRoundMillis = lastRoundMillis;
+            } else if (Math.abs(lastRoundMillis - previousRoundMillis)
+                    <= previousRoundMillis * properties.getStabilityThreshold()) {
+                stableStreak++;
+            } else {
+                stableStreak = 0;
+            }
+            previousRoundMillis = lastRoundMillis;
+
+            if (rounds >= properties.getMinRounds() && stableStreak >= properties.getStableRounds()) {
+                stabilized = true;
+                break;
+            }
+        }
+
+        // Pages cached by the last round are not ones real traffic asked for
+        listCache.ifAvailable(TaskListCache::clear);
+
+        long elapsedNanos = System.nanoTime() - start;
+        WarmupResult result = new WarmupResult(rounds, operations, firstRoundMillis, lastRoundMillis,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), stabilized);
+        registerMetrics(result, elapsedNanos);
+
+        log.info("Warmup finished after {} rounds in {} ms (stabilized: {}, mean latency {} ms -> {} ms)",
+                rounds, result.getElapsedMillis(), stabilized,
+                String.format("%.3f", firstRoundMillis), String.format("%.3f", lastRoundMillis));
+    }
+
+    private void execute(WarmupOperation operation) {
+        listCache.ifAvailable(TaskListCache::clear);
+        Object result = switch (operation) {
+            case LIST_ALL -> {
+                List<TaskResponseDto> content = taskService.getTasks(new TaskFilterDto()).getContent();
+                if (sampleTaskId == null && !content.isEmpty()) {
+                    sampleTaskId = content.get(0).getId();
+                }
+                yield content;
+            }
+            case LIST_FILTERED -> {
+                TaskFilterDto filter = new TaskFilterDto();
+                filter.setStatus(TaskStatus.PENDING);
+                filter.setDueDateFrom(LocalDate.now().minusMonths(1));
+                filter.setSortBy("dueDate");
+                filter.setSortDirection("asc");
+                yield taskService.getTasks(filter);
+            }
+            case LIST_HIGH_PRIORITY -> {
+                TaskFilterDto filter = new TaskFilterDto();
+                filter.setPriority(TaskPriority.HIGH);
+                filter.setCurrentFilter("high");
+                filter.setSortBy("priority");
+                yield taskService.getTasks(filter);
+            }
+            case SEARCH -> {
+                TaskFilterDto filter = new TaskFilterDto();
+                filter.setSearch(SEARCH_TERM);
+                yield taskService.getTasks(filter);
+            }
+            case GET_BY_ID -> sampleTaskId != null ? taskService.getTaskById(sampleTaskId) : null;
+            case OVERDUE -> taskService.getOverdueTasks();
+            case STATISTICS -> taskService.getTaskStatistics();
+        };
+
+        if (result != null) {
+            try {
+                objectMapper.writeValueAsBytes(result);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize warmup result", e);
+            }
+        }
+    }
+
+    private List<WarmupOperation> buildRound(Map<WarmupOperation, Integer> mix) {
+        List<WarmupOperation> round = new ArrayList<>();
+        // LIST_ALL goes first so GET_BY_ID has an ID to look up
+        for (WarmupOperation operation : WarmupOperation.values()) {
+            int weight = mix.getOrDefault(operation, 0);
+            for (int i = 0; i < weight; i++) {
+                round.add(operation);
+            }
+        }
+        return round;
+    }
+
+    private void registerMetrics(WarmupResult result, long elapsedNanos) {
+        Timer.builder("taskflow.warmup.duration")
+                .description("Time spent warming up before reporting ready")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        Gauge.builder("taskflow.warmup.rounds", result, WarmupResult::getRounds)
+                .register(meterRegistry);
+        Gauge.builder("taskflow.warmup.operations", result, WarmupResult::getOperations)
+                .register(meterRegistry);
+        Gauge.builder("taskflow.warmup.latency.first", result, WarmupResult::getFirstRoundMillis)
+                .description("Mean operation latency of the first warmup round")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.warmup.latency.last", result, WarmupResult::getLastRoundMillis)
+                .description("Mean operation latency of the last warmup round")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.warmup.speedup", result, WarmupResult::getSpeedup)
+                .register(meterRegistry);
+        Gauge.builder("taskflow.warmup.stabilized", result, r -> r.isStabilized() ? 1 : 0)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,156 @@
+package com.taskflow.audit;
+
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTest {
+    @TempDir
+    Path directory;
+
+    private AuditProperties properties;
+    private AuditLog auditLog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new AuditProperties();
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofKilobytes(128));
+        auditLog = new AuditLog(properties);
+        auditLog.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLog.stop();
+    }
+
+    @Test
+    void shouldRecordCreateAndChangedFieldsOnly() throws InterruptedException {
+        // Given
+        TaskSnapshot created = snapshot(1L, "Write report", TaskStatus.PENDING);
+        TaskSnapshot completed = snapshot(1L, "Write report", TaskStatus.COMPLETED);
+
+        // When
+        auditLog.append(AuditRecord.of(TaskChangedEvent.created(created), 1_000));
+        auditLog.append(AuditRecord.of(TaskChangedEvent.updated(created, completed), 2_000));
+        auditLog.append(AuditRecord.of(TaskChangedEvent.deleted(1L), 3_000));
+        auditLog.flush();
+
+        // Then
+        List<AuditRecord> history = auditLog.history(1L, null, null);
+        assertThat(history).extracting(AuditRecord::changeType).containsExactly(
+                TaskChangedEvent.ChangeType.CREATED,
+                TaskChangedEvent.ChangeType.UPDATED,
+                TaskChangedEvent.ChangeType.DELETED);
+        assertThat(history.get(0).changes()).extracting(AuditRecord.FieldChange::field)
+                .contains(AuditField.TITLE, AuditField.STATUS, AuditField.PRIORITY, AuditField.TAGS);
+        assertThat(history.get(1).changes()).containsExactly(
+                new AuditRecord.FieldChange(AuditField.STATUS, "PENDING", "COMPLETED"));
+        assertThat(history.get(2).changes()).isEmpty();
+    }
+
+    @Test
+    void shouldRollSegmentsAndFilterByTaskAndTime() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 5_000; i++) {
+            long taskId = i % 10;
+            TaskSnapshot after = snapshot(taskId, "Task " + i, TaskStatus.PENDING);
+            auditLog.append(AuditRecord.of(TaskChangedEvent.created(after), 10_000L + i));
+        }
+        auditLog.flush();
+
+        // When
+        List<AuditRecord> all = auditLog.history(3L, null, null);
+        List<AuditRecord> range = auditLog.history(3L, Instant.ofEpochMilli(12_000), Instant.ofEpochMilli(12_099));
+
+        // Then
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(all).hasSize(500).allMatch(record -> record.taskId() == 3L);
+        assertThat(range).extracting(AuditRecord::timestamp)
+                .containsExactly(12_003L, 12_013L, 12_023L, 12_033L, 12_043L,
+                        12_053L, 12_063L, 12_073L, 12_083L, 12_093L);
+    }
+
+    @Test
+    void shouldRecoverAfterRestartAndDiscardTornTail() throws Exception {
+        // Given
+        auditLog.append(AuditRecord.of(TaskChangedEvent.created(snapshot(7L, "First", TaskStatus.PENDING)), 1_000));
+        auditLog.append(AuditRecord.of(TaskChangedEvent.created(snapshot(7L, "Second", TaskStatus.PENDING)), 2_000));
+        auditLog.flush();
+        auditLog.stop();
+        corruptLastRecordPayload();
+
+        // When
+        auditLog = new AuditLog(properties);
+        auditLog.start();
+        auditLog.append(AuditRecord.of(TaskChangedEvent.created(snapshot(7L, "Third", TaskStatus.PENDING)), 3_000));
+        auditLog.flush();
+
+        // Then
+        assertThat(auditLog.history(7L, null, null))
+                .extracting(record -> record.changes().get(0).newValue())
+                .containsExactly("First", "Third");
+    }
+
+    @Test
+    void shouldKeepTimestampsOrderedAcrossRestarts() throws Exception {
+        // Given
+        auditLog.append(AuditRecord.of(TaskChangedEvent.created(snapshot(8L, "Before", TaskStatus.PENDING)), 5_000));
+        auditLog.flush();
+        auditLog.stop();
+
+        // When
+        auditLog = new AuditLog(properties);
+        auditLog.start();
+        // E.g. the clock stepped back while the application was down
+        auditLog.append(AuditRecord.of(TaskChangedEvent.created(snapshot(8L, "After", TaskStatus.PENDING)), 4_000));
+        auditLog.flush();
+
+        // Then
+        assertThat(auditLog.history(8L, null, null)).extracting(AuditRecord::timestamp)
+                .containsExactly(5_000L, 5_000L);
+        assertThat(auditLog.history(8L, Instant.ofEpochMilli(5_000), null)).hasSize(2);
+    }
+
+    private void corruptLastRecordPayload() throws IOException {
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // Walk the frames to the start of the second record and flip a payload byte
+            int firstLength = file.readInt();
+            long secondPayload = 8L + firstLength + 8L;
+            file.seek(secondPayload + AuditRecord.TIMESTAMP_OFFSET + 8 + 2);
+            file.writeByte(0x7f);
+        }
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TaskSnapshot snapshot(Long id, String title, TaskStatus status) {
+        return new TaskSnapshot(id, title, null, status, TaskPriority.MEDIUM, null, null,
+                null, null, Set.of("audit"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskflow.common.bitmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoaringBitmapTest {
+
+    @Test
+    void shouldAddRemoveAndContainValues() {
+        // Given
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 5, 70_000, 5);
+
+        // When
+        bitmap.remove(5);
+
+        // Then
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(5)).isFalse();
+        assertThat(bitmap.contains(70_000)).isTrue();
+        assertThat(bitmap.toArray()).containsExactly(1, 70_000);
+    }
+
+    @Test
+    void shouldSwitchBetweenSparseAndDenseChunks() {
+        // Given
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 2);
+        }
+
+        // When
+        for (int i = 0; i < 9_000; i++) {
+            bitmap.remove(i * 2);
+        }
+
+        // Then
+        assertThat(bitmap.cardinality()).isEqualTo(1_000);
+        assertThat(bitmap.contains(18_000)).isTrue();
+        assertThat(bitmap.contains(17_998)).isFalse();
+    }
+
+    @Test
+    void shouldMatchBitSetForAndOrAndNot() {
+        // Given
+        Random random = new Random(42);
+        RoaringBitmap left = new RoaringBitmap();
+        RoaringBitmap right = new RoaringBitmap();
+        BitSet leftBits = new BitSet();
+        BitSet rightBits = new BitSet();
+        for (int i = 0; i < 50_000; i++) {
+            // Dense low range, sparse high range
+            int a = random.nextBoolean() ? random.nextInt(20_000) : random.nextInt(1_000_000);
+            int b = random.nextBoolean() ? random.nextInt(20_000) : random.nextInt(1_000_000);
+            left.add(a);
+            leftBits.set(a);
+            right.add(b);
+            rightBits.set(b);
+        }
+
+        // When
+        BitSet expectedAnd = (BitSet) leftBits.clone();
+        expectedAnd.and(rightBits);
+        BitSet expectedOr = (BitSet) leftBits.clone();
+        expectedOr.or(rightBits);
+        BitSet expectedAndNot = (BitSet) leftBits.clone();
+        expectedAndNot.andNot(rightBits);
+
+        // Then
+        assertThat(RoaringBitmap.and(left, right).toArray()).isEqualTo(expectedAnd.stream().toArray());
+        assertThat(RoaringBitmap.or(left, right).toArray()).isEqualTo(expectedOr.stream().toArray());
+        assertThat(RoaringBitmap.andNot(left, right).toArray()).isEqualTo(expectedAndNot.stream().toArray());
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskflow.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WTinyLfuCacheTest {
+
+    // Every entry weighs 100, so 1,000 fit
+    private final WTinyLfuCache<Integer, String> cache = new WTinyLfuCache<>(100_000, 1_000, (key, value) -> 100);
+
+    @Test
+    void shouldStayWithinMaximumWeight() {
+        // Given
+        for (int key = 0; key < 5_000; key++) {
+            cache.put(key, "value");
+        }
+
+        // When
+        long weight = cache.weightedSize();
+
+        // Then
+        assertThat(weight).isLessThanOrEqualTo(100_000);
+        assertThat(cache.size()).isEqualTo((int) (weight / 100));
+        assertThat(cache.getEvictions()).isPositive();
+    }
+
+    @Test
+    void shouldKeepPopularEntriesThroughOneOffScan() {
+        // Given
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 500; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, "popular");
+                }
+            }
+        }
+
+        // When
+        for (int key = 10_000; key < 15_000; key++) {
+            if (cache.get(key) == null) {
+                cache.put(key, "scan");
+            }
+        }
+
+        // Then
+        int kept = 0;
+        for (int key = 0; key < 500; key++) {
+            if (cache.get(key) != null) {
+                kept++;
+            }
+        }
+        // Plain LRU would keep none; a sketch collision can let the odd scan key win
+        assertThat(kept).isGreaterThanOrEqualTo(495);
+    }
+
+    @Test
+    void shouldNotKeepEntriesHeavierThanTheBound() {
+        // Given
+        WTinyLfuCache<String, long[]> bytes = new WTinyLfuCache<>(1_000, 10,
+                (key, value) -> (long) value.length * Long.BYTES);
+
+        // When
+        bytes.put("small", new long[10]);
+        bytes.put("huge", new long[1_000]);
+
+        // Then
+        assertThat(bytes.get("small")).hasSize(10);
+        assertThat(bytes.get("huge")).isNull();
+        assertThat(bytes.weightedSize()).isEqualTo(80);
+    }
+
+    @Test
+    void shouldReplaceAndInvalidateEntries() {
+        // Given
+        cache.put(1, "first");
+        cache.put(1, "second");
+
+        // When
+        String replaced = cache.get(1);
+        cache.invalidate(1);
+
+        // Then
+        assertThat(replaced).isEqualTo("second");
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.weightedSize()).isZero();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskflow.common.deadline;
+
+import com.taskflow.common.exception.DeadlineExceededException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineDataSourceTest {
+
+    private final DeadlineDataSource dataSource = new DeadlineDataSource(h2());
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void shouldLeaveStatementsUnboundedOutsideRequests() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            // Then
+            assertThat(statement.getQueryTimeout()).isZero();
+        }
+    }
+
+    @Test
+    void shouldApplyRemainingTimeAsQueryTimeout() throws Exception {
+        // Given
+        Deadline.set(Deadline.after(Duration.ofMillis(2500)));
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+
+            // Then
+            assertThat(statement.getQueryTimeout()).isBetween(1, 3);
+        }
+    }
+
+    @Test
+    void shouldRefuseConnectionOnceDeadlineHasPassed() {
+        // Given
+        Deadline.set(Deadline.after(Duration.ZERO));
+
+        // When & Then
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:deadline");
+        return h2;
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskflow.common.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineInterceptorTest {
+
+    private final DeadlineProperties properties = new DeadlineProperties();
+    private final DeadlineInterceptor interceptor = new DeadlineInterceptor(properties);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void shouldPreferHeaderOverHandlerDeadline() throws Exception {
+        // Given
+        request.addHeader("X-Request-Timeout", "750ms");
+
+        // When
+        interceptor.preHandle(request, response, handler("annotated"));
+
+        // Then
+        assertThat(Deadline.current().getTimeout()).isEqualTo(Duration.ofMillis(750));
+    }
+
+    @Test
+    void shouldUseHandlerDeadlineOrDefault() throws Exception {
+        // When
+        interceptor.preHandle(request, response, handler("annotated"));
+        Duration annotated = Deadline.current().getTimeout();
+        interceptor.preHandle(request, response, handler("plain"));
+        Duration plain = Deadline.current().getTimeout();
+
+        // Then
+        assertThat(annotated).isEqualTo(Duration.ofSeconds(2));
+        assertThat(plain).isEqualTo(properties.getDefaultTimeout());
+    }
+
+    @Test
+    void shouldCapRequestedTimeoutAndClearAfterCompletion() throws Exception {
+        // Given
+        request.addHeader("X-Request-Timeout", "10m");
+
+        // When
+        interceptor.preHandle(request, response, handler("plain"));
+        Duration capped = Deadline.current().getTimeout();
+        interceptor.afterCompletion(request, response, handler("plain"), null);
+
+        // Then
+        assertThat(capped).isEqualTo(properties.getMaxTimeout());
+        assertThat(Deadline.current()).isNull();
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+
+    public static class Handlers {
+
+        @RequestDeadline("2s")
+        public void annotated() {
+        }
+
+        public void plain() {
+        }
+    }
+}
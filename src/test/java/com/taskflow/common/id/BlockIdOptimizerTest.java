@@ -0,0 +1,113 @@
+package com.taskflow.common.id;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockIdOptimizerTest {
+
+    @Test
+    void shouldServeWholeBlockFromOneSequenceCall() {
+        // Given
+        SequenceStub sequence = new SequenceStub(101, 50);
+        BlockIdOptimizer optimizer = new BlockIdOptimizer(Long.class, 50);
+
+        // When
+        List<Serializable> ids = IntStream.range(0, 51).mapToObj(i -> optimizer.generate(sequence)).toList();
+
+        // Then
+        assertThat(ids.get(0)).isEqualTo(101L);
+        assertThat(ids.get(49)).isEqualTo(150L);
+        assertThat(ids.get(50)).isEqualTo(151L);
+        assertThat(sequence.calls).hasValue(2);
+    }
+
+    @Test
+    void shouldHandOutUniqueIdsAcrossThreads() throws Exception {
+        // Given
+        SequenceStub sequence = new SequenceStub(1, 10);
+        BlockIdOptimizer optimizer = new BlockIdOptimizer(Long.class, 10);
+        Set<Serializable> ids = ConcurrentHashMap.newKeySet();
+        Callable<Void> worker = () -> {
+            for (int i = 0; i < 1_000; i++) {
+                ids.add(optimizer.generate(sequence));
+            }
+            return null;
+        };
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (var result : executor.invokeAll(List.of(worker, worker, worker, worker,
+                    worker, worker, worker, worker))) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(ids).hasSize(8_000);
+        assertThat(sequence.calls).hasValue(800);
+    }
+
+    @Test
+    void shouldGiveUpABlockOnceItIsTooOld() {
+        // Given
+        SequenceStub sequence = new SequenceStub(1, 50);
+        AtomicLong nanos = new AtomicLong();
+        BlockIdOptimizer optimizer = new BlockIdOptimizer(Long.class, 50, Duration.ofMinutes(5), nanos::get);
+        optimizer.generate(sequence);
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        Serializable withinAge = optimizer.generate(sequence);
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        Serializable afterAge = optimizer.generate(sequence);
+
+        // Then
+        assertThat(withinAge).isEqualTo(2L);
+        assertThat(afterAge).isEqualTo(51L);
+        assertThat(sequence.calls).hasValue(2);
+    }
+
+    /** Sequence incrementing by the block size, as task_id_blocks does */
+    private static class SequenceStub implements AccessCallback {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicLong next;
+        final long increment;
+
+        SequenceStub(long start, long increment) {
+            this.next = new AtomicLong(start);
+            this.increment = increment;
+        }
+
+        @Override
+        public IntegralDataTypeHolder getNextValue() {
+            calls.incrementAndGet();
+            IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class);
+            value.initialize(next.getAndAdd(increment));
+            return value;
+        }
+
+        @Override
+        public String getTenantIdentifier() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskflow.common.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationBusTest {
+
+    private final LoopbackTransport network = new LoopbackTransport();
+    private final RecordingListener received = new RecordingListener();
+
+    private InvalidationBus sender;
+    private InvalidationBus receiver;
+
+    @BeforeEach
+    void setUp() {
+        InvalidationProperties properties = new InvalidationProperties();
+        properties.setMaxBatchSize(2);
+        properties.setMaxPendingKeys(5);
+        // Flushes and heartbeats are driven by the tests
+        properties.setBatchWindow(Duration.ofHours(1));
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+
+        sender = new InvalidationBus(properties, network);
+        receiver = new InvalidationBus(properties, network.join());
+        sender.start();
+        receiver.start();
+        receiver.subscribe(received);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sender.stop();
+        receiver.stop();
+    }
+
+    @Test
+    void shouldCoalesceKeysAndSplitThemIntoNumberedBatches() {
+        // Given
+        sender.publish(1);
+        sender.publish(2);
+        sender.publish(1);
+        sender.publish(3);
+
+        // When
+        sender.flush();
+
+        // Then
+        assertThat(received.batches).hasSize(2);
+        assertThat(received.keys()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(received.flushes).isZero();
+    }
+
+    @Test
+    void shouldFlushEverythingWhenMessagesWereMissed() {
+        // Given
+        receiver.receive(InvalidationMessage.keys("peer", 1, List.of(10L)));
+
+        // When
+        receiver.receive(InvalidationMessage.keys("peer", 3, List.of(30L)));
+        receiver.receive(InvalidationMessage.keys("peer", 4, List.of(40L)));
+
+        // Then
+        assertThat(received.keys()).containsExactlyInAnyOrder(10L, 40L);
+        assertThat(received.flushes).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDetectLostLastMessageFromHeartbeat() {
+        // Given
+        receiver.receive(InvalidationMessage.keys("peer", 1, List.of(10L)));
+        receiver.receive(InvalidationMessage.heartbeat("peer", 1));
+
+        // When
+        receiver.receive(InvalidationMessage.heartbeat("peer", 2));
+
+        // Then
+        assertThat(received.flushes).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSendOneFlushWhenTooManyKeysArePending() {
+        // Given
+        for (long key = 0; key < 20; key++) {
+            sender.publish(key);
+        }
+
+        // When
+        sender.flush();
+        sender.publish(99);
+        sender.flush();
+
+        // Then
+        assertThat(received.flushes).isEqualTo(1);
+        assertThat(received.keys()).containsExactly(99L);
+    }
+
+    private static class RecordingListener implements InvalidationListener {
+        final List<Set<Long>> batches = new ArrayList<>();
+        int flushes;
+
+        @Override
+        public void invalidate(Set<Long> keys) {
+            batches.add(keys);
+        }
+
+        @Override
+        public void invalidateAll() {
+            flushes++;
+        }
+
+        Set<Long> keys() {
+            Set<Long> keys = new HashSet<>();
+            batches.forEach(keys::addAll);
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskflow.common.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatsDataSourceTest {
+
+    private final SlowQueryProperties properties = new SlowQueryProperties();
+    private SlowQueryLog slowQueries;
+    private JdbcDataSource h2;
+    private QueryStatsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties.setThreshold(Duration.ZERO);
+        properties.setCapacity(4);
+        slowQueries = new SlowQueryLog(properties);
+
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:querystats;DB_CLOSE_DELAY=-1");
+        dataSource = new QueryStatsDataSource(h2, slowQueries);
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY, name VARCHAR(20))");
+            statement.execute("MERGE INTO item KEY (id) VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+    }
+
+    @Test
+    void shouldCountStatementsAndRowsInOpenScopes() throws Exception {
+        // Given
+        try (QueryStats request = QueryStats.open()) {
+            try (QueryStats call = QueryStats.open()) {
+
+                // When
+                readIdsAbove(1);
+                readIdsAbove(0);
+
+                // Then
+                assertThat(call.getStatements()).isEqualTo(2);
+                assertThat(call.getRows()).isEqualTo(5);
+            }
+            readIdsAbove(2);
+            assertThat(request.getStatements()).isEqualTo(3);
+            assertThat(request.getRows()).isEqualTo(6);
+        }
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    @Test
+    void shouldCaptureSlowStatementWithBindsAndRows() throws Exception {
+        // Given
+        slowQueries.clear();
+
+        // When
+        readIdsAbove(1);
+
+        // Then
+        assertThat(slowQueries.snapshot()).singleElement().satisfies(query -> {
+            assertThat(query.getSql()).isEqualTo("SELECT id FROM item WHERE id > ?");
+            assertThat(query.getBinds()).containsExactly("1");
+            assertThat(query.getRows()).isEqualTo(2);
+            assertThat(query.getOrigin()).isEqualTo(Thread.currentThread().getName());
+        });
+    }
+
+    @Test
+    void shouldKeepOnlyTruncatedCopiesOfLongBinds() throws Exception {
+        // Given
+        properties.setMaxBindLength(3);
+        slowQueries = new SlowQueryLog(properties);
+        dataSource = new QueryStatsDataSource(h2, slowQueries);
+
+        // When
+        readIdsNamed("abc");
+        readIdsNamed("abcdef");
+
+        // Then
+        assertThat(slowQueries.snapshot()).satisfiesExactly(
+                truncated -> {
+                    assertThat(truncated.getBinds()).containsExactly("abc...");
+                    assertThat(truncated.getBindValues()).isNull();
+                },
+                whole -> {
+                    assertThat(whole.getBinds()).containsExactly("abc");
+                    assertThat(whole.getBindValues()).containsExactly("abc");
+                });
+    }
+
+    @Test
+    void shouldKeepOnlyNewestStatementsInRing() throws Exception {
+        // Given
+        slowQueries.clear();
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            readIdsAbove(i);
+        }
+
+        // Then
+        assertThat(slowQueries.snapshot()).hasSize(4)
+                .extracting(query -> query.getBinds().get(0))
+                .containsExactly("5", "4", "3", "2");
+        long newest = slowQueries.snapshot().get(0).getId();
+        assertThat(slowQueries.find(newest)).isPresent();
+        assertThat(slowQueries.find(newest - 4)).isEmpty();
+    }
+
+    private void readIdsAbove(int id) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT id FROM item WHERE id > ?")) {
+            statement.setInt(1, id);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    rows.getInt(1);
+                }
+            }
+        }
+    }
+
+    private void readIdsNamed(String name) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT id FROM item WHERE name = ?")) {
+            statement.setString(1, name);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    rows.getInt(1);
+                }
+            }
+        }
+    }
+}
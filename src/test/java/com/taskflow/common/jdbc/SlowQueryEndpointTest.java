@@ -0,0 +1,34 @@
+package com.taskflow.common.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.web.ExposableWebEndpoint;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointsSupplier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"spring.jmx.enabled=true", "management.endpoints.web.exposure.include=*"})
+@ActiveProfiles("test")
+class SlowQueryEndpointTest {
+    @Autowired
+    private WebEndpointsSupplier webEndpoints;
+
+    @Autowired
+    private MBeanServer mBeanServer;
+
+    @Test
+    void shouldServeSlowQueriesOverJmxOnlyEvenWhenEveryWebEndpointIsExposed() throws Exception {
+        // When & Then
+        assertThat(webEndpoints.getEndpoints()).extracting(ExposableWebEndpoint::getEndpointId)
+                .contains(EndpointId.of("health"))
+                .doesNotContain(EndpointId.of("slowqueries"));
+        assertThat(mBeanServer.queryNames(
+                new ObjectName("org.springframework.boot:type=Endpoint,name=Slowqueries,*"), null)).isNotEmpty();
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflow.common.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most JDBC statements the annotated test method may execute, enforced by
+ * {@link SqlBudgetExtension}. Fixtures set up in {@code @BeforeEach} do not count.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int statements();
+}
@@ -0,0 +1,42 @@
+package com.taskflow.common.jdbc;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Fails a test annotated with {@link SqlBudget} when its body executes more
+ * statements than the budget allows.
+ *
+ * Statements are counted by {@link QueryStatsDataSource}, so the test's
+ * context must wrap its DataSource, e.g. by importing
+ * {@link QueryStatsDataSourcePostProcessor}. Only statements run on the test
+ * thread are counted.
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(SqlBudget.class)) {
+            context.getStore(NAMESPACE).put(context.getUniqueId(), QueryStats.open());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryStats.class);
+        if (stats == null) {
+            return;
+        }
+        stats.close();
+
+        int budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class).statements();
+        if (stats.getStatements() > budget) {
+            throw new AssertionError("SQL budget exceeded: " + context.getDisplayName() + " ran " + stats
+                    + ", budget is " + budget + " statements");
+        }
+    }
+}
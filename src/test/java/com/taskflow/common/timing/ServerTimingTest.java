@@ -0,0 +1,44 @@
+package com.taskflow.common.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.clear();
+    }
+
+    @Test
+    void shouldSkipClockWhenRequestIsNotTimed() {
+        // When
+        long start = ServerTiming.begin();
+        ServerTiming.end(TimingPhase.MAPPING, start);
+
+        // Then
+        assertThat(start).isZero();
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void shouldAccumulatePhasesIntoHeader() {
+        // Given
+        ServerTiming timing = ServerTiming.open();
+
+        // When
+        timing.add(TimingPhase.SERVICE, 4_250_000);
+        timing.add(TimingPhase.REPOSITORY, 1_000_000);
+        timing.add(TimingPhase.REPOSITORY, 2_100_000);
+        ServerTiming.end(TimingPhase.MAPPING, ServerTiming.begin());
+
+        // Then
+        assertThat(timing.getCount(TimingPhase.MAPPING)).isEqualTo(1);
+        assertThat(timing.toHeader())
+                .startsWith("service;dur=4.2;desc=\"TaskService calls\", "
+                        + "repo;dur=3.1;desc=\"Repository calls (2)\", mapping;dur=")
+                .doesNotContain("serialize");
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskflow.common.util;
+
+import com.taskflow.common.deadline.Deadline;
+import com.taskflow.common.exception.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final AtomicLong version = new AtomicLong();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+        // Given
+        SingleFlight<String, Integer> flight = new SingleFlight<>(version::get, Duration.ZERO, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> flight.get("stats", () -> {
+                computations.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        awaitCondition(() -> flight.getExecuted() + flight.getJoined() == 8);
+        release.countDown();
+
+        // Then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(computations).hasValue(1);
+        assertThat(flight.getJoined()).isEqualTo(7);
+        assertThat(flight.size()).isZero();
+    }
+
+    @Test
+    void shouldNotJoinComputationStartedBeforeWrite() throws Exception {
+        // Given
+        SingleFlight<String, Integer> flight = new SingleFlight<>(version::get, Duration.ofMinutes(1), 100);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> beforeWrite = executor.submit(() -> flight.get("stats", () -> {
+            await(release);
+            return 1;
+        }));
+        awaitCondition(() -> flight.getExecuted() == 1);
+
+        // When
+        version.incrementAndGet();
+        Integer afterWrite = flight.get("stats", () -> 2);
+        release.countDown();
+
+        // Then
+        assertThat(afterWrite).isEqualTo(2);
+        assertThat(beforeWrite.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(flight.get("stats", () -> 3)).isEqualTo(2);
+        assertThat(flight.getJoined()).isZero();
+        assertThat(flight.getReused()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReuseResultsUntilVersionChanges() {
+        // Given
+        SingleFlight<String, Integer> flight = new SingleFlight<>(version::get, Duration.ofMinutes(1), 100);
+        flight.get("stats", () -> 1);
+
+        // When
+        Integer cached = flight.get("stats", () -> 2);
+        version.incrementAndGet();
+        Integer recomputed = flight.get("stats", () -> 3);
+
+        // Then
+        assertThat(cached).isEqualTo(1);
+        assertThat(recomputed).isEqualTo(3);
+        assertThat(flight.getExecuted()).isEqualTo(2);
+        assertThat(flight.getReused()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReuseFailures() {
+        // Given
+        SingleFlight<Long, Integer> flight = new SingleFlight<>(version::get, Duration.ofMinutes(1), 100);
+
+        // When & Then
+        assertThatThrownBy(() -> flight.get(1L, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(flight.get(1L, () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldStopWaitingWhenCallerDeadlinePasses() throws Exception {
+        // Given
+        SingleFlight<String, Integer> flight = new SingleFlight<>(version::get, Duration.ZERO, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> slow = executor.submit(() -> flight.get("stats", () -> {
+            await(release);
+            return 1;
+        }));
+        awaitCondition(() -> flight.getExecuted() == 1);
+
+        // When & Then
+        Deadline.set(Deadline.after(Duration.ofMillis(50)));
+        try {
+            assertThatThrownBy(() -> flight.get("stats", () -> 2))
+                    .isInstanceOf(DeadlineExceededException.class);
+        } finally {
+            Deadline.clear();
+            release.countDown();
+        }
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSweepStaleEntriesAboveLimit() {
+        // Given
+        SingleFlight<Integer, Integer> flight = new SingleFlight<>(version::get, Duration.ofMinutes(1), 10);
+        for (int key = 0; key < 10; key++) {
+            flight.get(key, () -> 0);
+        }
+
+        // When
+        version.incrementAndGet();
+        flight.get(10, () -> 0);
+        flight.get(11, () -> 0);
+
+        // Then
+        assertThat(flight.size()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskflow.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClusterSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobLeaseProvider leases = new LocalJobLeaseProvider();
+
+    @Test
+    void shouldRunEachShardOncePerIntervalAcrossInstances() {
+        // Given
+        RecordingJob job = new RecordingJob(3);
+        ClusterScheduler first = new ClusterScheduler(List.of(job), leases, new SchedulerProperties(), meterRegistry);
+        ClusterScheduler second = new ClusterScheduler(List.of(job), leases, new SchedulerProperties(), meterRegistry);
+
+        // When
+        int ranFirst = first.runDueShards(job);
+        int ranSecond = second.runDueShards(job);
+
+        // Then
+        assertThat(ranFirst).isEqualTo(3);
+        assertThat(ranSecond).isZero();
+        assertThat(job.shards).extracting(JobShard::index).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(meterRegistry.get("taskflow.job.runtime").tag("job", "recording").tag("outcome", "success")
+                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("taskflow.job.lag").tag("job", "recording").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecordFailedRunsAndContinueWithOtherShards() {
+        // Given
+        RecordingJob job = new RecordingJob(2);
+        job.failing = true;
+        ClusterScheduler scheduler = new ClusterScheduler(List.of(job), leases, new SchedulerProperties(),
+                meterRegistry);
+
+        // When
+        int ran = scheduler.runDueShards(job);
+
+        // Then
+        assertThat(ran).isZero();
+        assertThat(job.shards).hasSize(2);
+        assertThat(meterRegistry.get("taskflow.job.runtime").tag("outcome", "failure").timer().count())
+                .isEqualTo(2);
+    }
+
+    private static class RecordingJob implements ClusterJob {
+        final List<JobShard> shards = new ArrayList<>();
+        final int shardCount;
+        boolean failing;
+
+        RecordingJob(int shardCount) {
+            this.shardCount = shardCount;
+        }
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public Duration getInterval() {
+            return Duration.ofHours(1);
+        }
+
+        @Override
+        public int getShards() {
+            return shardCount;
+        }
+
+        @Override
+        public void run(JobShard shard) {
+            shards.add(shard);
+            if (failing) {
+                throw new IllegalStateException("Job failed");
+            }
+        }
+    }
+}
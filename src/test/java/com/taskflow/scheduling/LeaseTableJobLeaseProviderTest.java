@@ -0,0 +1,70 @@
+package com.taskflow.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class LeaseTableJobLeaseProviderTest {
+    private static final Duration INTERVAL = Duration.ofMinutes(10);
+    private static final Duration LEASE_TIME = Duration.ofMinutes(30);
+
+    @Autowired
+    private DataSource dataSource;
+
+    private LeaseTableJobLeaseProvider first;
+    private LeaseTableJobLeaseProvider second;
+
+    @BeforeEach
+    void setUp() {
+        first = new LeaseTableJobLeaseProvider(dataSource, "first", LEASE_TIME);
+        second = new LeaseTableJobLeaseProvider(dataSource, "second", LEASE_TIME);
+    }
+
+    @Test
+    void shouldGrantOneLeasePerShardAndInterval() {
+        // Given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // When
+        Optional<JobLease> claimed = first.tryClaim("archive", JobShard.ALL, INTERVAL, now);
+        Optional<JobLease> whileRunning = second.tryClaim("archive", JobShard.ALL, INTERVAL, now);
+        claimed.orElseThrow().close();
+        Optional<JobLease> sameInterval = second.tryClaim("archive", JobShard.ALL, INTERVAL, now.plusSeconds(60));
+        Optional<JobLease> nextInterval = second.tryClaim("archive", JobShard.ALL, INTERVAL, now.plus(INTERVAL));
+
+        // Then
+        assertThat(claimed).isPresent();
+        assertThat(whileRunning).isEmpty();
+        assertThat(sameInterval).isEmpty();
+        assertThat(nextInterval).isPresent();
+        assertThat(nextInterval.get().getDueAt()).isEqualTo(now.plus(INTERVAL));
+    }
+
+    @Test
+    void shouldLetAnotherInstanceTakeOverAnExpiredLease() {
+        // Given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        first.tryClaim("archive", JobShard.ALL, INTERVAL, now).orElseThrow();
+
+        // When
+        Optional<JobLease> beforeExpiry = second.tryClaim("archive", JobShard.ALL, INTERVAL, now.plus(INTERVAL));
+        Optional<JobLease> afterExpiry = second.tryClaim("archive", JobShard.ALL, INTERVAL,
+                now.plus(INTERVAL).plus(LEASE_TIME));
+
+        // Then
+        assertThat(beforeExpiry).isEmpty();
+        assertThat(afterExpiry).isPresent();
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskflow.storage;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreTransactionManagerTest {
+    @TempDir
+    Path directory;
+
+    private StorageProperties properties;
+    private LogStructuredTaskStore store;
+    private TransactionTemplate transactions;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new StorageProperties();
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofKilobytes(256));
+        open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void shouldUndoEveryWriteOfARolledBackTransaction() throws IOException {
+        // Given
+        Task parent = store.save(task("Parent"));
+
+        // When
+        assertThatThrownBy(() -> transactions.executeWithoutResult(status -> {
+            Task child = store.save(task("Child"));
+            store.setParent(child.getId(), parent.getId());
+            store.adjustCounters(parent.getId(), 1, 0);
+            store.delete(parent.getId());
+            throw new IllegalStateException("attach failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(titles()).containsExactly("Parent");
+        assertThat(store.findById(parent.getId()).orElseThrow().getSubtreeSize()).isEqualTo(1);
+        reopen();
+        assertThat(titles()).containsExactly("Parent");
+    }
+
+    @Test
+    void shouldRollBackWhenAParticipatingCallIsMarkedRollbackOnly() throws IOException {
+        // When
+        assertThatThrownBy(() -> transactions.executeWithoutResult(outer -> {
+            store.save(task("Outer"));
+            transactions.executeWithoutResult(inner -> {
+                store.save(task("Inner"));
+                inner.setRollbackOnly();
+            });
+        })).isInstanceOf(UnexpectedRollbackException.class);
+        transactions.executeWithoutResult(status -> store.save(task("Committed")));
+
+        // Then
+        assertThat(titles()).containsExactly("Committed");
+        reopen();
+        assertThat(titles()).containsExactly("Committed");
+    }
+
+    @Test
+    void shouldHideUncommittedWritesFromReaders() throws Exception {
+        // Given
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+                transactions.executeWithoutResult(status -> {
+                    store.save(task("Pending"));
+                    written.countDown();
+                    await(read);
+                    status.setRollbackOnly();
+                }));
+        written.await(5, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<Long> count = CompletableFuture.supplyAsync(store::count);
+        Thread.sleep(100);
+        boolean readDuringTransaction = count.isDone();
+        read.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(readDuringTransaction).isFalse();
+        assertThat(count.get(5, TimeUnit.SECONDS)).isZero();
+    }
+
+    @Test
+    void shouldDiscardATransactionInterruptedBeforeItsCommit() throws IOException {
+        // Given
+        store.save(task("Before"));
+        store.beginExclusive();
+        try {
+            // Forces each record, as the OS may write back a mapped page at any time
+            store.save(task("Unfinished"));
+            store.close();
+        } finally {
+            store.endExclusive();
+        }
+
+        // When
+        open();
+        store.save(task("After"));
+        reopen();
+
+        // Then
+        assertThat(titles()).containsExactly("Before", "After");
+    }
+
+    private void open() throws IOException {
+        store = new LogStructuredTaskStore(properties);
+        store.open();
+        transactions = new TransactionTemplate(new StoreTransactionManager(store));
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        open();
+    }
+
+    private List<String> titles() {
+        return store.find(TaskCriteria.ALL, Sort.by("id"))
+                .stream().map(Task::getTitle).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        return task;
+    }
+}
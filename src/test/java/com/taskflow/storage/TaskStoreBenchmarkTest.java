@@ -0,0 +1,93 @@
+package com.taskflow.storage;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.repository.TaskRepository;
+import com.taskflow.task.repository.edge.LogStructuredTaskRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of the embedded store against the H2-backed JPA repository for
+ * the same workload. Run with {@code gradle benchmark}; excluded from {@code test}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskStoreBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskStoreBenchmarkTest.class);
+    private static final int TASKS = 20_000;
+    private static final int QUERIES = 2_000;
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private TaskRepository jpaRepository;
+
+    @Test
+    void compareThroughputWithH2() throws IOException {
+        StorageProperties properties = new StorageProperties();
+        properties.setDirectory(directory);
+
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(properties)) {
+            store.open();
+            TaskRepository storeRepository = new LogStructuredTaskRepository(store);
+
+            run("h2", jpaRepository);
+            run("store", storeRepository);
+
+            assertThat(storeRepository.count()).isEqualTo(jpaRepository.count());
+        }
+    }
+
+    private void run(String name, TaskRepository repository) {
+        measure(name, "insert", TASKS, i -> repository.save(task(i)));
+        measure(name, "findById", QUERIES, i -> repository.findById(1 + i % TASKS));
+        measure(name, "filter page", QUERIES, i -> repository.findTasksWithFilters(null,
+                TaskStatus.values()[(int) (i % TaskStatus.values().length)], TaskPriority.HIGH,
+                null, null, PageRequest.of(0, 20, Sort.by("dueDate"))));
+        measure(name, "countByStatus", QUERIES,
+                i -> repository.countByStatus(TaskStatus.values()[(int) (i % TaskStatus.values().length)]));
+        measure(name, "overdue", QUERIES / 10,
+                i -> repository.findOverdueTasks(LocalDate.now(), TaskStatus.PENDING));
+    }
+
+    private void measure(String name, String operation, int iterations, LongConsumer body) {
+        long start = System.nanoTime();
+        for (long i = 0; i < iterations; i++) {
+            body.accept(i);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.warn("{} {}: {} ops/s", String.format("%-6s", name), operation, Math.round(iterations / seconds));
+    }
+
+    private static Task task(long i) {
+        Task task = new Task();
+        task.setTitle("Task " + i);
+        task.setDescription("Benchmark task " + i);
+        task.setStatus(TaskStatus.values()[(int) (i % TaskStatus.values().length)]);
+        task.setPriority(TaskPriority.values()[(int) (i % TaskPriority.values().length)]);
+        task.setDueDate(LocalDate.now().plusDays(i % 60 - 10));
+        return task;
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskflow.task.analytics;
+
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.dto.TaskTrendDto;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.enums.TrendGranularity;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import com.taskflow.task.repository.TaskDailyRollupRepository;
+import com.taskflow.task.service.TaskHierarchyService;
+import com.taskflow.task.service.TaskService;
+import com.taskflow.task.service.TaskServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class, NextUpIndex.class,
+        TaskRollupUpdater.class, TaskTrendService.class, AnalyticsProperties.class})
+class TaskTrendServiceTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskTrendService trendService;
+
+    @Autowired
+    private TaskDailyRollupRepository rollupRepository;
+
+    @Test
+    void shouldCountChangesInTheirOwnTransaction() {
+        // Given
+        TaskResponseDto report = create("Report", TaskPriority.HIGH);
+        TaskResponseDto review = create("Review", TaskPriority.HIGH);
+        create("Chores", TaskPriority.LOW);
+
+        // When
+        taskService.toggleTaskCompletion(report.getId());
+        taskService.toggleTaskCompletion(review.getId());
+        taskService.toggleTaskCompletion(review.getId());
+        taskService.deleteTask(review.getId());
+        TaskTrendDto trends = trendService.getTrends(TODAY.minusDays(2), TODAY, TrendGranularity.DAY);
+
+        // Then
+        assertThat(trends.getBuckets()).hasSize(3);
+        TaskTrendDto.Bucket today = trends.getBuckets().get(2);
+        assertThat(today.getStart()).isEqualTo(TODAY);
+        assertThat(today.getCreated()).isEqualTo(3);
+        assertThat(today.getCompleted()).isEqualTo(2);
+        assertThat(today.getReopened()).isEqualTo(1);
+        assertThat(today.getDeleted()).isEqualTo(1);
+        assertThat(trends.getBuckets().get(0).getCreated()).isZero();
+        assertThat(trends.getAverageHoursToComplete()).containsOnlyKeys(TaskPriority.HIGH);
+        // Creating an existing row again is a no-op rather than a key violation
+        assertThat(rollupRepository.mergeEmpty(TODAY, (short) TaskPriority.HIGH.getOrderValue())).isZero();
+    }
+
+    @Test
+    void shouldBackfillFromExistingTasksAndGroupByWeek() {
+        // Given
+        TaskResponseDto report = create("Report", TaskPriority.MEDIUM);
+        create("Review", TaskPriority.LOW);
+        taskService.toggleTaskCompletion(report.getId());
+        rollupRepository.deleteAllInBatch();
+
+        // When
+        int rows = trendService.backfill();
+        TaskTrendDto trends = trendService.getTrends(TODAY.minusWeeks(2), TODAY, TrendGranularity.WEEK);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(trends.getBuckets()).hasSize(3);
+        TaskTrendDto.Bucket thisWeek = trends.getBuckets().get(2);
+        assertThat(thisWeek.getStart()).isEqualTo(TODAY.with(DayOfWeek.MONDAY));
+        assertThat(thisWeek.getCreated()).isEqualTo(2);
+        assertThat(thisWeek.getCompleted()).isEqualTo(1);
+        assertThat(trends.getAverageHoursToComplete()).containsOnlyKeys(TaskPriority.MEDIUM);
+    }
+
+    @Test
+    void shouldRejectInvalidRanges() {
+        // When & Then
+        assertThatThrownBy(() -> trendService.getTrends(TODAY, TODAY.minusDays(1), TrendGranularity.DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trendService.getTrends(TODAY.minusYears(3), TODAY, TrendGranularity.DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskResponseDto create(String title, TaskPriority priority) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(title);
+        request.setStatus(TaskStatus.PENDING);
+        request.setPriority(priority);
+        return taskService.createTask(request);
+    }
+}
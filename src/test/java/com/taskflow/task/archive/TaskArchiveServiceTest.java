@@ -0,0 +1,285 @@
+package com.taskflow.task.archive;
+
+import com.taskflow.scheduling.JobShard;
+import com.taskflow.task.dto.TaskFacetsDto;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.entity.ArchivedTask;
+import com.taskflow.task.entity.TaskClosureId;
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskField;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.repository.ArchivedTaskRepository;
+import com.taskflow.task.repository.TaskClosureRepository;
+import com.taskflow.task.repository.TaskRepository;
+import com.taskflow.task.service.TaskHierarchyService;
+import com.taskflow.task.service.TaskService;
+import com.taskflow.task.service.TaskServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class, NextUpIndex.class,
+        TaskArchiveService.class})
+class TaskArchiveServiceTest {
+    private static final LocalDateTime CUTOFF = LocalDateTime.now().minusDays(30);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiveService archiveService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskClosureRepository taskClosureRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldArchiveOnlyOldCompletedStandaloneTasks() {
+        // Given
+        TaskResponseDto oldCompleted = create("Old report", null, Set.of("finance"));
+        TaskResponseDto recentCompleted = create("Recent report", null, Set.of());
+        TaskResponseDto oldPending = create("Old pending", null, Set.of());
+        TaskResponseDto parent = create("Project", null, Set.of());
+        TaskResponseDto child = create("Step", parent.getId(), Set.of());
+        complete(oldCompleted, recentCompleted, parent, child);
+        age(oldCompleted, oldPending, parent, child);
+
+        // When
+        int archived = archiveService.archiveBatch(CUTOFF, 100, JobShard.ALL);
+        refresh();
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(taskRepository.existsById(oldCompleted.getId())).isFalse();
+        assertThat(taskClosureRepository.existsById(
+                new TaskClosureId(oldCompleted.getId(), oldCompleted.getId()))).isFalse();
+        assertThat(taskRepository.count()).isEqualTo(4);
+
+        ArchivedTask archivedTask = archivedTaskRepository.findById(oldCompleted.getId()).orElseThrow();
+        assertThat(archivedTask.getTitle()).isEqualTo("Old report");
+        assertThat(archivedTask.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(archivedTask.getPriority()).isEqualTo(TaskPriority.MEDIUM);
+        assertThat(archivedTask.getTags()).containsExactly("finance");
+        assertThat(archivedTask.getArchivedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldArchiveInBoundedBatches() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            TaskResponseDto task = create("Done " + i, null, Set.of());
+            complete(task);
+            age(task);
+        }
+
+        // When
+        int first = archiveService.archiveBatch(CUTOFF, 3, JobShard.ALL);
+        int second = archiveService.archiveBatch(CUTOFF, 3, JobShard.ALL);
+        int third = archiveService.archiveBatch(CUTOFF, 3, JobShard.ALL);
+
+        // Then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(2);
+        assertThat(third).isZero();
+        assertThat(archivedTaskRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldArchiveOnlyTasksOfTheGivenShard() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            TaskResponseDto task = create("Done " + i, null, Set.of());
+            complete(task);
+            age(task);
+        }
+        JobShard shard = new JobShard(1, 2);
+
+        // When
+        int archived = archiveService.archiveBatch(CUTOFF, 100, shard);
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        assertThat(archivedTaskRepository.findAll())
+                .extracting(ArchivedTask::getId)
+                .allMatch(shard::contains);
+    }
+
+    @Test
+    void shouldFilterArchiveByColumnsAndTags() {
+        // Given
+        TaskResponseDto tagged = create("Quarterly report", null, Set.of("finance", "q1"));
+        TaskResponseDto other = create("Quarterly review", null, Set.of("q1"));
+        complete(tagged, other);
+        age(tagged, other);
+        archiveService.archiveBatch(CUTOFF, 100, JobShard.ALL);
+        refresh();
+
+        // When
+        Page<ArchivedTask> allOf = archiveService.findArchived("quarterly", TaskStatus.COMPLETED, null, null, null,
+                Set.of("finance", "q1"), Set.of(), Set.of(), PageRequest.of(0, 10));
+        Page<ArchivedTask> none = archiveService.findArchived(null, null, null, null, null,
+                Set.of(), Set.of(), Set.of("q1"), PageRequest.of(0, 10));
+        Page<ArchivedTask> unfiltered = archiveService.findArchived(null, null, null, null, null,
+                null, null, null, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(allOf.getContent()).extracting(ArchivedTask::getId).containsExactly(tagged.getId());
+        assertThat(none.getContent()).isEmpty();
+        assertThat(unfiltered.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIncludeArchivedTasksOnlyWhenAsked() {
+        // Given
+        TaskResponseDto archivedTask = create("Shipped", null, Set.of());
+        complete(archivedTask);
+        age(archivedTask);
+        archiveService.archiveBatch(CUTOFF, 100, JobShard.ALL);
+        create("Open", null, Set.of());
+        refresh();
+
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setSortBy("title");
+        filter.setSortDirection("asc");
+
+        // When
+        Page<TaskResponseDto> activeOnly = taskService.getTasks(filter);
+        filter.setIncludeArchived(true);
+        Page<TaskResponseDto> withArchive = taskService.getTasks(filter);
+
+        // Then
+        assertThat(activeOnly.getContent()).extracting(TaskResponseDto::getTitle).containsExactly("Open");
+        assertThat(withArchive.getTotalElements()).isEqualTo(2);
+        assertThat(withArchive.getContent()).extracting(TaskResponseDto::getTitle).containsExactly("Open", "Shipped");
+        assertThat(withArchive.getContent().get(1).isArchived()).isTrue();
+    }
+
+    @Test
+    void shouldSelectTheSameFieldsForArchivedTasksAndCapDeepPages() {
+        // Given
+        TaskResponseDto archivedTask = create("Shipped", null, Set.of("release"));
+        complete(archivedTask);
+        age(archivedTask);
+        archiveService.archiveBatch(CUTOFF, 100, JobShard.ALL);
+        create("Open", null, Set.of("release"));
+        refresh();
+
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setIncludeArchived(true);
+        filter.setFields(EnumSet.of(TaskField.ID, TaskField.TITLE));
+        TaskFilterDto deepPage = new TaskFilterDto();
+        deepPage.setIncludeArchived(true);
+        deepPage.setPage(500);
+        deepPage.setSize(100);
+
+        // When
+        Page<TaskResponseDto> tasks = taskService.getTasks(filter);
+
+        // Then
+        assertThat(tasks.getContent()).hasSize(2).allSatisfy(task -> {
+            assertThat(task.getDescription()).isNull();
+            assertThat(task.getTags()).isNull();
+        });
+        assertThatThrownBy(() -> taskService.getTasks(deepPage)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCountArchivedTasksInFacetsWhenTheListIncludesThem() {
+        // Given
+        TaskResponseDto archivedTask = create("Shipped", null, Set.of("release"));
+        complete(archivedTask);
+        age(archivedTask);
+        archiveService.archiveBatch(CUTOFF, 100, JobShard.ALL);
+        create("Open", null, Set.of("release"));
+        create("Untagged", null, Set.of());
+        refresh();
+
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setIncludeArchived(true);
+        TaskFilterDto tagged = new TaskFilterDto();
+        tagged.setIncludeArchived(true);
+        tagged.setAnyTags(Set.of("release"));
+        Set<TaskFacet> facets = EnumSet.of(TaskFacet.STATUS, TaskFacet.DUE);
+
+        // When
+        Page<TaskResponseDto> all = taskService.getTasks(filter);
+        TaskFacetsDto allFacets = taskService.getTaskFacets(filter, facets);
+        Page<TaskResponseDto> release = taskService.getTasks(tagged);
+        TaskFacetsDto releaseFacets = taskService.getTaskFacets(tagged, facets);
+
+        // Then
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(allFacets.getStatus())
+                .containsEntry(TaskStatus.PENDING, 2L)
+                .containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(allFacets.getDue()).containsEntry(DueBucket.NO_DUE_DATE, 3L);
+        assertThat(release.getTotalElements()).isEqualTo(2);
+        assertThat(releaseFacets.getStatus())
+                .containsEntry(TaskStatus.PENDING, 1L)
+                .containsEntry(TaskStatus.COMPLETED, 1L);
+    }
+
+    private TaskResponseDto create(String title, Long parentId, Set<String> tags) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(title);
+        request.setDescription(title + " notes");
+        request.setStatus(TaskStatus.PENDING);
+        request.setPriority(TaskPriority.MEDIUM);
+        request.setTags(tags);
+        request.setParentId(parentId);
+        return taskService.createTask(request);
+    }
+
+    private void complete(TaskResponseDto... tasks) {
+        for (TaskResponseDto task : tasks) {
+            taskService.toggleTaskCompletion(task.getId());
+        }
+        refresh();
+    }
+
+    // Backdate the last change past the retention cutoff
+    private void age(TaskResponseDto... tasks) {
+        for (TaskResponseDto task : tasks) {
+            entityManager.createNativeQuery("UPDATE tasks SET updated_at = :updatedAt WHERE id = :id")
+                    .setParameter("updatedAt", CUTOFF.minusDays(1))
+                    .setParameter("id", task.getId())
+                    .executeUpdate();
+        }
+        refresh();
+    }
+
+    private void refresh() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskflow.task.archive;
+
+import com.taskflow.scheduling.JobShard;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+    @Mock
+    private TaskArchiveService archiveService;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    private ArchiveProperties properties;
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new ArchiveProperties();
+        properties.setBatchSize(10);
+        properties.setMaxBatchesPerRun(3);
+        properties.setBatchPause(Duration.ZERO);
+        archiver = new TaskArchiver(archiveService, properties, dataSource);
+
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        lenient().when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        lenient().when(dataSource.getMaximumPoolSize()).thenReturn(10);
+    }
+
+    @Test
+    void shouldStopWhenLastBatchIsPartial() {
+        // Given
+        when(archiveService.archiveBatch(any(LocalDateTime.class), eq(10), eq(JobShard.ALL))).thenReturn(10, 4);
+
+        // When
+        int archived = archiver.archiveCompletedTasks();
+
+        // Then
+        assertThat(archived).isEqualTo(14);
+        verify(archiveService, times(2)).archiveBatch(any(LocalDateTime.class), eq(10), eq(JobShard.ALL));
+    }
+
+    @Test
+    void shouldStopAtBatchBudget() {
+        // Given
+        when(archiveService.archiveBatch(any(LocalDateTime.class), eq(10), eq(JobShard.ALL))).thenReturn(10);
+
+        // When
+        int archived = archiver.archiveCompletedTasks();
+
+        // Then
+        assertThat(archived).isEqualTo(30);
+        verify(archiveService, times(3)).archiveBatch(any(LocalDateTime.class), eq(10), eq(JobShard.ALL));
+    }
+
+    @Test
+    void shouldYieldWhenForegroundUsesThePool() {
+        // Given
+        when(pool.getActiveConnections()).thenReturn(5);
+
+        // When
+        int archived = archiver.archiveCompletedTasks();
+
+        // Then
+        assertThat(archived).isZero();
+        verifyNoInteractions(archiveService);
+    }
+
+    @Test
+    void shouldYieldWhenRequestsWaitForConnections() {
+        // Given
+        when(archiveService.archiveBatch(any(LocalDateTime.class), eq(10), eq(JobShard.ALL))).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0, 2);
+
+        // When
+        int archived = archiver.archiveCompletedTasks();
+
+        // Then
+        assertThat(archived).isEqualTo(10);
+        verify(archiveService, times(1)).archiveBatch(any(LocalDateTime.class), eq(10), eq(JobShard.ALL));
+    }
+}
@@ -1,10 +1,19 @@
 package com.taskflow.task.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.common.exception.DeadlineExceededException;
+import com.taskflow.task.dto.TaskBatchRequestDto;
+import com.taskflow.task.dto.TaskBatchResponseDto;
+import com.taskflow.task.dto.TaskClaimDto;
+import com.taskflow.task.dto.TaskDashboardDto;
+import com.taskflow.task.dto.TaskFacetsDto;
 import com.taskflow.task.dto.TaskRequestDto;
 import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskField;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.service.TaskDashboardService;
 import com.taskflow.task.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,14 +28,19 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +58,9 @@ class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskDashboardService dashboardService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -104,6 +121,91 @@ class TaskControllerTest {
         verify(taskService).getTaskById(1L);
     }
 
+    @Test
+    void shouldReturnServiceUnavailableWhenDeadlineIsExceeded() throws Exception {
+        // Given
+        when(taskService.getTaskById(1L)).thenThrow(new DeadlineExceededException(Duration.ofMillis(200)));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/1").header("X-Request-Timeout", "200ms"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status", is(503)));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenTaskListDeadlineIsExceeded() throws Exception {
+        // Given
+        when(taskService.getTasks(any()))
+                .thenThrow(new DeadlineExceededException(Duration.ofMillis(1)));
+
+        // When & Then
+        mockMvc.perform(get("/tasks").header("X-Request-Timeout", "1ms"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status", is(503)));
+    }
+
+    @Test
+    void shouldGetTasksByIdsFromQueryString() throws Exception {
+        // Given
+        when(taskService.getTasksByIds(List.of(1L, 7L)))
+                .thenReturn(new TaskBatchResponseDto(List.of(taskResponseDto), List.of(7L)));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/batch").param("ids", "1,7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].id", is(1)))
+                .andExpect(jsonPath("$.missingIds[0]", is(7)));
+    }
+
+    @Test
+    void shouldGetTasksByIdsFromBody() throws Exception {
+        // Given
+        when(taskService.getTasksByIds(List.of(1L)))
+                .thenReturn(new TaskBatchResponseDto(List.of(taskResponseDto), List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBatchRequestDto(List.of(1L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title", is("Test Task")))
+                .andExpect(jsonPath("$.missingIds", hasSize(0)));
+    }
+
+    @Test
+    void shouldRejectEmptyBatchBody() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBatchRequestDto(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldClaimNextTasksForWorker() throws Exception {
+        // Given
+        Instant leaseExpiresAt = Instant.parse("2025-03-15T12:05:00Z");
+        when(taskService.claimNextTasks(2, "agent-1", Duration.ofMinutes(5)))
+                .thenReturn(List.of(new TaskClaimDto(taskResponseDto, "agent-1", leaseExpiresAt)));
+
+        // When & Then
+        mockMvc.perform(post("/tasks/next/claim").param("n", "2").param("worker", "agent-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].task.id", is(1)))
+                .andExpect(jsonPath("$[0].worker", is("agent-1")));
+    }
+
+    @Test
+    void shouldRejectReleaseOfTaskNotClaimedByWorker() throws Exception {
+        // Given
+        when(taskService.releaseTaskClaim(1L, "agent-2")).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(delete("/tasks/1/claim").param("worker", "agent-2"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void shouldUpdateTask() throws Exception {
         // Given
@@ -168,6 +270,25 @@ class TaskControllerTest {
         verify(taskService).getTasks(any());
     }
 
+    @Test
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        Page<TaskResponseDto> taskPage = new PageImpl<>(List.of(taskResponseDto), PageRequest.of(0, 20), 1);
+        when(taskService.getTasks(any())).thenReturn(taskPage);
+
+        // When & Then
+        mockMvc.perform(get("/tasks").param("fields", "title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(1)))
+                .andExpect(jsonPath("$.content[0].title", is("Test Task")))
+                .andExpect(jsonPath("$.content[0].status", is("PENDING")))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].createdAt").doesNotExist());
+
+        verify(taskService).getTasks(argThat(filter ->
+                filter.getFields().equals(EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS))));
+    }
+
     @Test
     void shouldToggleTaskCompletion() throws Exception {
         // Given
@@ -218,6 +339,26 @@ class TaskControllerTest {
         verify(taskService).getTaskStatistics();
     }
 
+    @Test
+    void shouldGetDashboard() throws Exception {
+        // Given
+        TaskDashboardDto dashboard = new TaskDashboardDto();
+        dashboard.setStatistics(new TaskService.TaskStatisticsDto(10, 6, 4, 1, 3));
+        dashboard.setHighPriorityTasks(List.of(taskResponseDto));
+        dashboard.getIncompleteParts().add(TaskDashboardDto.OVERDUE);
+        when(dashboardService.getDashboard(3)).thenReturn(dashboard);
+
+        // When & Then
+        mockMvc.perform(get("/tasks/dashboard").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statistics.totalTasks", is(10)))
+                .andExpect(jsonPath("$.highPriorityTasks", hasSize(1)))
+                .andExpect(jsonPath("$.overdueTasks", hasSize(0)))
+                .andExpect(jsonPath("$.incompleteParts[0]", is("overdueTasks")));
+
+        verify(dashboardService).getDashboard(3);
+    }
+
     @Test
     void shouldReturnBadRequestForInvalidTask() throws Exception {
         // Given
@@ -240,4 +381,32 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("TaskFlow API is running!"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetTasksWithFacets() throws Exception {
+        // Given
+        Page<TaskResponseDto> taskPage = new PageImpl<>(Arrays.asList(taskResponseDto), PageRequest.of(0, 20), 1);
+        TaskFacetsDto facets = new TaskFacetsDto();
+        facets.setStatus(Map.of(TaskStatus.PENDING, 1L, TaskStatus.COMPLETED, 0L));
+
+        when(taskService.getTasks(any())).thenReturn(taskPage);
+        when(taskService.getTaskFacets(any(), eq(EnumSet.of(TaskFacet.STATUS)))).thenReturn(facets);
+
+        // When & Then
+        mockMvc.perform(get("/tasks").param("facets", "status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.facets.status.PENDING", is(1)))
+                .andExpect(jsonPath("$.facets.priority").doesNotExist());
+    }
+
+    @Test
+    void shouldRejectUnknownFacet() throws Exception {
+        // Given
+        when(taskService.getTasks(any())).thenReturn(Page.empty());
+
+        // When & Then
+        mockMvc.perform(get("/tasks").param("facets", "colour"))
+                .andExpect(status().isBadRequest());
+    }
+}
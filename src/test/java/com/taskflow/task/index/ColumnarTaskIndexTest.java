@@ -0,0 +1,150 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarTaskIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private ColumnarTaskIndex index;
+    private Map<Long, TaskSnapshot> expected;
+
+    @BeforeEach
+    void setUp() {
+        index = new ColumnarTaskIndex(taskRepository);
+        // Small enough that every scan below is split across the fork-join pool
+        index.setParallelThreshold(64);
+
+        Random random = new Random(42);
+        expected = new LinkedHashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            TaskSnapshot task = randomTask(id, random);
+            expected.put(id, task);
+            rows.add(new Object[]{task.getId(), task.getStatus(), task.getPriority(), task.getDueDate(),
+                    task.getCreatedAt(), task.getUpdatedAt()});
+        }
+        when(taskRepository.findAllTaskColumns()).thenReturn(rows);
+    }
+
+    @Test
+    void shouldCountLikeRowByRowEvaluation() {
+        // When
+        TaskCounts counts = index.count(TODAY);
+
+        // Then
+        assertThat(counts.total()).isEqualTo(5_000);
+        assertMatchesExpected(counts, null, null, null, null);
+    }
+
+    @Test
+    void shouldApplyFiltersWithFacetSemantics() {
+        // Given
+        LocalDate from = TODAY.minusDays(5);
+        LocalDate to = TODAY.plusDays(10);
+
+        // When
+        TaskCounts counts = index.count(TaskStatus.PENDING, TaskPriority.HIGH, from, to, TODAY);
+
+        // Then
+        assertMatchesExpected(counts, TaskStatus.PENDING, TaskPriority.HIGH, from, to);
+        assertThat(counts.count(DueBucket.NO_DUE_DATE)).isZero();
+        assertThat(counts.count(TaskStatus.COMPLETED)).isZero();
+    }
+
+    @Test
+    void shouldStayInSyncWithCommittedChanges() {
+        // Given
+        index.count(TODAY);
+        Random random = new Random(7);
+
+        // When
+        for (long id = 1; id <= 1_000; id += 3) {
+            index.onTaskChanged(TaskChangedEvent.deleted(id));
+            expected.remove(id);
+        }
+        for (long id = 2; id <= 1_000; id += 3) {
+            TaskSnapshot before = expected.get(id);
+            TaskSnapshot after = randomTask(id, random);
+            index.onTaskChanged(TaskChangedEvent.updated(before, after));
+            expected.put(id, after);
+        }
+        for (long id = 5_001; id <= 5_200; id++) {
+            TaskSnapshot task = randomTask(id, random);
+            index.onTaskChanged(TaskChangedEvent.created(task));
+            expected.put(id, task);
+        }
+
+        // Then
+        assertThat(index.size()).isEqualTo(expected.size());
+        assertMatchesExpected(index.count(TODAY), null, null, null, null);
+    }
+
+    @Test
+    void shouldFindOverdueIdsOrderedByDueDate() {
+        // When
+        long[] overdueIds = index.findOverdueIds(TODAY);
+
+        // Then
+        List<Long> expectedIds = expected.values().stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING)
+                .filter(task -> task.getDueDate() != null && task.getDueDate().isBefore(TODAY))
+                .sorted((a, b) -> a.getDueDate().equals(b.getDueDate())
+                        ? a.getId().compareTo(b.getId())
+                        : a.getDueDate().compareTo(b.getDueDate()))
+                .map(TaskSnapshot::getId)
+                .toList();
+        assertThat(overdueIds).containsExactly(expectedIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private void assertMatchesExpected(TaskCounts counts, TaskStatus status, TaskPriority priority,
+                                       LocalDate from, LocalDate to) {
+        for (TaskStatus s : TaskStatus.values()) {
+            for (DueBucket bucket : DueBucket.values()) {
+                long count = expected.values().stream()
+                        .filter(task -> task.getStatus() == s)
+                        .filter(task -> status == null || task.getStatus() == status)
+                        .filter(task -> priority == null || task.getPriority() == priority)
+                        .filter(task -> from == null || (task.getDueDate() != null && !task.getDueDate().isBefore(from)))
+                        .filter(task -> to == null || (task.getDueDate() != null && !task.getDueDate().isAfter(to)))
+                        .filter(task -> DueBucket.of(task.getDueDate(), TODAY) == bucket)
+                        .count();
+                assertThat(counts.count(s, bucket)).as("%s / %s", s, bucket).isEqualTo(count);
+            }
+        }
+    }
+
+    private static TaskSnapshot randomTask(long id, Random random) {
+        LocalDate dueDate = random.nextInt(5) == 0 ? null : TODAY.plusDays(random.nextInt(40) - 20);
+        LocalDateTime createdAt = TODAY.atStartOfDay().minusHours(random.nextInt(1_000));
+        return new TaskSnapshot(id, "Task " + id, null,
+                TaskStatus.values()[random.nextInt(TaskStatus.values().length)],
+                TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                dueDate, null, createdAt, createdAt, Set.of());
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NextUpIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private NextUpIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NextUpIndex(taskRepository);
+    }
+
+    @Test
+    void shouldOrderByPriorityThenDueDateThenAge() {
+        // Given
+        when(taskRepository.findAllTaskColumns()).thenReturn(List.of(
+                row(1L, TaskStatus.PENDING, TaskPriority.LOW, TODAY, CREATED),
+                row(2L, TaskStatus.PENDING, TaskPriority.HIGH, null, CREATED),
+                row(3L, TaskStatus.PENDING, TaskPriority.HIGH, TODAY.plusDays(3), CREATED),
+                row(4L, TaskStatus.PENDING, TaskPriority.HIGH, TODAY.plusDays(3), CREATED.minusDays(1)),
+                row(5L, TaskStatus.COMPLETED, TaskPriority.HIGH, TODAY, CREATED),
+                row(6L, TaskStatus.PENDING, TaskPriority.MEDIUM, TODAY, CREATED)));
+
+        // When
+        List<Long> next = index.peek(10, Set.of());
+
+        // Then
+        assertThat(next).containsExactly(4L, 3L, 2L, 6L, 1L);
+        assertThat(index.peek(2, Set.of())).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void shouldFollowTaskChanges() {
+        // Given
+        when(taskRepository.findAllTaskColumns()).thenReturn(List.of(
+                row(1L, TaskStatus.PENDING, TaskPriority.LOW, TODAY, CREATED),
+                row(2L, TaskStatus.PENDING, TaskPriority.MEDIUM, TODAY, CREATED)));
+        index.peek(1, Set.of());
+
+        // When
+        Task raised = task(1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        index.onTaskChanged(TaskChangedEvent.updated(TaskSnapshot.of(task(1L, TaskStatus.PENDING, TaskPriority.LOW)),
+                TaskSnapshot.of(raised)));
+        index.onTaskChanged(TaskChangedEvent.updated(TaskSnapshot.of(task(2L, TaskStatus.PENDING, TaskPriority.MEDIUM)),
+                TaskSnapshot.of(task(2L, TaskStatus.COMPLETED, TaskPriority.MEDIUM))));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(task(3L, TaskStatus.PENDING, TaskPriority.LOW))));
+
+        // Then
+        assertThat(index.peek(10, Set.of())).containsExactly(1L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipTheGivenTasks() {
+        // Given
+        when(taskRepository.findAllTaskColumns()).thenReturn(List.of(
+                row(1L, TaskStatus.PENDING, TaskPriority.HIGH, TODAY, CREATED),
+                row(2L, TaskStatus.PENDING, TaskPriority.MEDIUM, TODAY, CREATED),
+                row(3L, TaskStatus.PENDING, TaskPriority.LOW, TODAY, CREATED)));
+
+        // When
+        List<Long> next = index.peek(2, Set.of(1L));
+
+        // Then
+        assertThat(next).containsExactly(2L, 3L);
+        assertThat(index.peek(2, Set.of(1L, 2L, 3L))).isEmpty();
+    }
+
+    private static Object[] row(Long id, TaskStatus status, TaskPriority priority, LocalDate dueDate,
+                                LocalDateTime createdAt) {
+        return new Object[]{id, status, priority, dueDate, createdAt, createdAt};
+    }
+
+    private static Task task(Long id, TaskStatus status, TaskPriority priority) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(TODAY);
+        task.setCreatedAt(CREATED);
+        return task;
+    }
+}
@@ -0,0 +1,163 @@
+package com.taskflow.task.index;
+
+import com.taskflow.common.bitmap.RoaringBitmap;
+import com.taskflow.task.entity.SavedFilter;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.SavedFilterRepository;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SavedFilterIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private SavedFilterRepository savedFilterRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TagIndex tagIndex;
+
+    private SavedFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SavedFilterIndex(savedFilterRepository, taskRepository, tagIndex);
+    }
+
+    @Test
+    void shouldKeepMatchesSortedAsTasksChange() {
+        // Given
+        SavedFilter highPending = filter(7L, TaskStatus.PENDING, TaskPriority.HIGH);
+        highPending.setSortBy("dueDate");
+        highPending.setSortDirection("asc");
+        when(savedFilterRepository.findAll()).thenReturn(List.of(highPending));
+        when(taskRepository.findSavedFilterRows(isNull(), eq(TaskStatus.PENDING), eq(TaskPriority.HIGH),
+                isNull(), isNull())).thenReturn(List.of(
+                row(1L, TODAY.plusDays(5)),
+                row(2L, null),
+                row(3L, TODAY.plusDays(1))));
+        assertThat(index.slice(7L, 0, 10)).get().extracting(SavedFilterIndex.Slice::ids)
+                .isEqualTo(List.of(3L, 1L, 2L));
+
+        // When
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(
+                task(4L, TaskStatus.PENDING, TaskPriority.HIGH, TODAY.plusDays(3)))));
+        index.onTaskChanged(TaskChangedEvent.updated(null, TaskSnapshot.of(
+                task(3L, TaskStatus.COMPLETED, TaskPriority.HIGH, TODAY.plusDays(1)))));
+        index.onTaskChanged(TaskChangedEvent.updated(null, TaskSnapshot.of(
+                task(2L, TaskStatus.PENDING, TaskPriority.HIGH, TODAY))));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(
+                task(5L, TaskStatus.PENDING, TaskPriority.LOW, TODAY))));
+
+        // Then
+        SavedFilterIndex.Slice all = index.slice(7L, 0, 10).orElseThrow();
+        assertThat(all.ids()).containsExactly(2L, 4L, 1L);
+        assertThat(all.total()).isEqualTo(3);
+        assertThat(index.slice(7L, 1, 1).orElseThrow().ids()).containsExactly(4L);
+        assertThat(index.slice(7L, 5, 10).orElseThrow().ids()).isEmpty();
+        assertThat(index.slice(8L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldApplySearchAndTagCriteria() {
+        // Given
+        SavedFilter filter = filter(1L, null, null);
+        filter.setSearch("Release");
+        filter.setTags(Set.of("backend"));
+        filter.setNotTags(Set.of("blocked"));
+        when(savedFilterRepository.findAll()).thenReturn(List.of(filter));
+        when(taskRepository.findSavedFilterRows(eq("release"), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(List.of(row(1L, TODAY), row(2L, TODAY)));
+        when(tagIndex.evaluate(any(), any(), any())).thenReturn(RoaringBitmap.of(2));
+        assertThat(index.slice(1L, 0, 10).orElseThrow().ids()).containsExactly(2L);
+
+        // When
+        Task tagged = task(3L, TaskStatus.PENDING, TaskPriority.LOW, TODAY);
+        tagged.setDescription("Prepare the RELEASE notes");
+        tagged.setTags(Set.of("backend"));
+        Task blocked = task(4L, TaskStatus.PENDING, TaskPriority.LOW, TODAY);
+        blocked.setTitle("Release");
+        blocked.setTags(Set.of("backend", "blocked"));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(tagged)));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(blocked)));
+        index.onTaskChanged(TaskChangedEvent.deleted(2L));
+
+        // Then
+        assertThat(index.slice(1L, 0, 10).orElseThrow().ids()).containsExactly(3L);
+    }
+
+    @Test
+    void shouldResolveRelativeDueDatesAgainstTheDay() {
+        // Given
+        SavedFilter overdue = filter(1L, null, null);
+        overdue.setOverdue(true);
+        SavedFilter dueThisWeek = filter(2L, null, TaskPriority.HIGH);
+        dueThisWeek.setDueWithinDays(7);
+        dueThisWeek.setDueDateTo(TODAY.plusDays(3));
+        SavedFilter overdueCompleted = filter(3L, TaskStatus.COMPLETED, null);
+        overdueCompleted.setOverdue(true);
+
+        // When
+        SavedFilterCriteria overdueCriteria = SavedFilterCriteria.of(overdue, TODAY);
+        SavedFilterCriteria dueCriteria = SavedFilterCriteria.of(dueThisWeek, TODAY);
+        SavedFilterCriteria nextDayCriteria = SavedFilterCriteria.of(overdue, TODAY.plusDays(1));
+
+        // Then
+        assertThat(overdueCriteria.status()).isEqualTo(TaskStatus.PENDING);
+        assertThat(overdueCriteria.dueDateTo()).isEqualTo(TODAY.minusDays(1));
+        assertThat(overdueCriteria.matches(TaskSnapshot.of(task(1L, TaskStatus.PENDING, TaskPriority.LOW, TODAY))))
+                .isFalse();
+        assertThat(nextDayCriteria.matches(TaskSnapshot.of(task(1L, TaskStatus.PENDING, TaskPriority.LOW, TODAY))))
+                .isTrue();
+        assertThat(dueCriteria.dueDateFrom()).isEqualTo(TODAY);
+        assertThat(dueCriteria.dueDateTo()).isEqualTo(TODAY.plusDays(3));
+        assertThat(SavedFilterCriteria.of(overdueCompleted, TODAY).matchesNothing()).isTrue();
+    }
+
+    private static SavedFilter filter(Long id, TaskStatus status, TaskPriority priority) {
+        SavedFilter filter = new SavedFilter();
+        filter.setId(id);
+        filter.setName("Filter " + id);
+        filter.setStatus(status);
+        filter.setPriority(priority);
+        return filter;
+    }
+
+    private static Object[] row(Long id, LocalDate dueDate) {
+        return new Object[]{id, "Task " + id, TaskStatus.PENDING, TaskPriority.HIGH, dueDate, CREATED, CREATED};
+    }
+
+    private static Task task(Long id, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(CREATED);
+        return task;
+    }
+}
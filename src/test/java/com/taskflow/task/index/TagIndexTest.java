@@ -0,0 +1,74 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagIndexTest {
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagIndex(taskRepository);
+        when(taskRepository.findAllTaskIds()).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findAllTaskTagPairs()).thenReturn(List.of(
+                new Object[]{1L, "backend"},
+                new Object[]{1L, "urgent"},
+                new Object[]{2L, "backend"}));
+        index.tagCount();
+    }
+
+    @Test
+    void shouldMoveTaskBetweenTheTagsOfItsPreviousAndNewState() {
+        // When
+        index.onTaskChanged(TaskChangedEvent.updated(
+                TaskSnapshot.of(task(1L, Set.of("backend", "urgent"))),
+                TaskSnapshot.of(task(1L, Set.of("backend", "frontend")))));
+
+        // Then
+        assertThat(index.evaluate(Set.of("backend"), null, null).toArray()).containsExactly(1, 2);
+        assertThat(index.evaluate(Set.of("frontend"), null, null).toArray()).containsExactly(1);
+        assertThat(index.evaluate(Set.of("urgent"), null, null).isEmpty()).isTrue();
+        assertThat(index.tagCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRemoveFromEveryTagWhenThePreviousStateIsUnknown() {
+        // When
+        index.onTaskChanged(TaskChangedEvent.updated(null, TaskSnapshot.of(task(1L, Set.of()))));
+        index.onTaskChanged(TaskChangedEvent.deleted(2L));
+
+        // Then
+        assertThat(index.evaluate(Set.of("backend"), null, null).isEmpty()).isTrue();
+        assertThat(index.evaluate(null, null, null).toArray()).containsExactly(1);
+        assertThat(index.tagCount()).isZero();
+    }
+
+    private static Task task(Long id, Set<String> tags) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setTags(tags);
+        return task;
+    }
+}
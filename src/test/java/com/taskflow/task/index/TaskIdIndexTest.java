@@ -0,0 +1,148 @@
+package com.taskflow.task.index;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIdIndexTest {
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final MutableClock clock = new MutableClock();
+    private TaskIdIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskIdIndex(taskRepository, clock);
+    }
+
+    @Test
+    void shouldRejectOnlyIdsKnownNotToExist() {
+        // Given
+        when(taskRepository.findAllTaskIds()).thenReturn(List.of(1L, 2L, 5L));
+        index.mightExist(1L);
+        clock.advance(TaskIdIndex.SETTLE_TIME.plusSeconds(1));
+
+        // When & Then
+        assertThat(index.mightExist(1L)).isTrue();
+        assertThat(index.mightExist(5L)).isTrue();
+        assertThat(index.mightExist(3L)).isFalse();
+        assertThat(index.mightExist(0L)).isFalse();
+        assertThat(index.mightExist(-7L)).isFalse();
+        assertThat(index.mightExist(null)).isFalse();
+        // Possibly created after the index last heard of a task
+        assertThat(index.mightExist(6L)).isTrue();
+        assertThat(index.mightExist(Integer.MAX_VALUE + 1L)).isTrue();
+    }
+
+    @Test
+    void shouldAcceptUnknownIdsBelowTheHighestUntilTheirBlocksAreGivenUp() {
+        // Given
+        when(taskRepository.findAllTaskIds()).thenReturn(List.of(1L, 101L));
+        index.mightExist(1L);
+        clock.advance(TaskIdIndex.SETTLE_TIME.minusSeconds(30));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(task(151L))));
+
+        // When
+        boolean fromOpenBlock = index.mightExist(2L);
+        clock.advance(Duration.ofSeconds(31));
+        boolean fromSettledBlock = index.mightExist(2L);
+
+        // Then
+        // Another instance may still be handing out its block starting at 1
+        assertThat(fromOpenBlock).isTrue();
+        assertThat(fromSettledBlock).isFalse();
+        assertThat(index.mightExist(120L)).isTrue();
+    }
+
+    @Test
+    void shouldFollowCreatesAndRemovals() {
+        // Given
+        when(taskRepository.findAllTaskIds()).thenReturn(List.of(1L, 2L, 5L));
+        index.mightExist(1L);
+
+        // When
+        index.onTaskChanged(TaskChangedEvent.deleted(2L));
+        index.onTaskChanged(TaskChangedEvent.archived(5L));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(task(9L))));
+
+        // Then
+        assertThat(index.mightExist(2L)).isFalse();
+        assertThat(index.mightExist(5L)).isFalse();
+        assertThat(index.mightExist(9L)).isTrue();
+        assertThat(index.mightExist(7L)).isTrue();
+        clock.advance(TaskIdIndex.SETTLE_TIME.plusSeconds(1));
+        assertThat(index.mightExist(7L)).isFalse();
+    }
+
+    @Test
+    void shouldSkipRefreshedTasksChangedLocallyDuringTheRead() {
+        // Given
+        when(taskRepository.findAllTaskIds()).thenReturn(List.of(1L, 2L));
+        index.mightExist(1L);
+        index.beginRefresh();
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(task(3L))));
+
+        // When
+        Set<Long> skipped = index.completeRefresh(List.of(
+                TaskChangedEvent.deleted(2L),
+                TaskChangedEvent.deleted(3L)));
+
+        // Then
+        assertThat(skipped).containsExactly(3L);
+        assertThat(index.mightExist(2L)).isFalse();
+        assertThat(index.mightExist(3L)).isTrue();
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        return task;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-03-15T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
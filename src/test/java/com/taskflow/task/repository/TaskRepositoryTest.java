@@ -1,8 +1,14 @@
 package com.taskflow.task.repository;
 
+import com.taskflow.task.entity.SavedFilter;
 import com.taskflow.task.entity.Task;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.index.SavedFilterIndex;
+import com.taskflow.task.index.TagIndex;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,9 +16,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +34,9 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private SavedFilterRepository savedFilterRepository;
+
     private Task testTask;
 
     @BeforeEach
@@ -139,4 +150,146 @@ class TaskRepositoryTest {
         assertThat(pendingCount).isEqualTo(1);
         assertThat(completedCount).isEqualTo(1);
     }
+
+    @Test
+    void shouldSortByPriorityOrderValue() {
+        // Given
+        for (TaskPriority priority : List.of(TaskPriority.LOW, TaskPriority.HIGH, TaskPriority.MEDIUM)) {
+            Task task = new Task();
+            task.setTitle(priority.getDisplayName() + " Task");
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(priority);
+            entityManager.persistAndFlush(task);
+        }
+
+        // When
+        Page<Task> tasks = taskRepository.findAll(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "priority")));
+
+        // Then
+        assertThat(tasks.getContent())
+                .extracting(Task::getPriority)
+                .containsExactly(TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW);
+    }
+
+    @Test
+    void shouldCountFacetsInOneGroupedQuery() {
+        // Given
+        entityManager.persistAndFlush(testTask); // PENDING, HIGH, due tomorrow
+
+        Task overdueTask = new Task();
+        overdueTask.setTitle("Overdue Task");
+        overdueTask.setStatus(TaskStatus.PENDING);
+        overdueTask.setPriority(TaskPriority.HIGH);
+        overdueTask.setDueDate(LocalDate.now().minusDays(3));
+        entityManager.persistAndFlush(overdueTask);
+
+        Task completedTask = new Task();
+        completedTask.setTitle("Completed Task");
+        completedTask.setStatus(TaskStatus.COMPLETED);
+        completedTask.setPriority(TaskPriority.LOW);
+        entityManager.persistAndFlush(completedTask);
+
+        LocalDate today = LocalDate.now();
+
+        // When
+        List<Object[]> rows = taskRepository.countFacets(
+                null, null, TaskPriority.HIGH, null, null, today, today.plusDays(7));
+
+        // Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row[0]).isEqualTo(TaskStatus.PENDING);
+            assertThat(row[1]).isEqualTo(TaskPriority.HIGH);
+            assertThat(((Number) row[3]).longValue()).isEqualTo(1L);
+        });
+        assertThat(rows).extracting(row -> ((Number) row[2]).intValue())
+                .containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    void shouldSelectOnlyTheRequestedColumns() {
+        // Given
+        Task savedTask = entityManager.persistAndFlush(testTask);
+        Task otherTask = new Task();
+        otherTask.setTitle("Other Task");
+        otherTask.setStatus(TaskStatus.COMPLETED);
+        otherTask.setPriority(TaskPriority.LOW);
+        entityManager.persistAndFlush(otherTask);
+
+        // When
+        Page<Object[]> rows = taskRepository.findTaskColumns(List.of("id", "title", "dueDate"),
+                "test", TaskStatus.PENDING, null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("id")));
+        Page<Object[]> ids = taskRepository.findTaskColumns(List.of("id"),
+                null, null, null, null, null, null, savedTask.getId(), null, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(rows.getTotalElements()).isEqualTo(1);
+        assertThat(rows.getContent().get(0))
+                .containsExactly(savedTask.getId(), "Test Task", testTask.getDueDate());
+        assertThat(ids.getContent()).hasSize(1);
+        assertThat(ids.getContent().get(0)).containsExactly(otherTask.getId());
+    }
+
+    @Test
+    void shouldLeaveDescriptionUnloadedUnlessAnEntityGraphFetchesIt() {
+        // Given
+        Long id = entityManager.persistAndFlush(testTask).getId();
+        entityManager.clear();
+
+        // When
+        Task listed = taskRepository.findAllById(List.of(id)).get(0);
+        entityManager.clear();
+        Task fetched = taskRepository.findById(id).orElseThrow();
+
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(listed, "description")).isFalse();
+        assertThat(Hibernate.isPropertyInitialized(fetched, "description")).isTrue();
+    }
+
+    @Test
+    void shouldMatchSavedFilterSearchesLiterallyAtLoadAndOnChange() {
+        // Given
+        Long percent = entityManager.persistAndFlush(task("Raise budget by 50%")).getId();
+        entityManager.persistAndFlush(task("Ship 500 units"));
+        Long underscore = entityManager.persistAndFlush(task("Rename job_id")).getId();
+        entityManager.persistAndFlush(task("Rename jobsid"));
+        Long percentFilter = entityManager.persistAndFlush(savedFilter("50%")).getId();
+        Long underscoreFilter = entityManager.persistAndFlush(savedFilter("b_i")).getId();
+        SavedFilterIndex index = new SavedFilterIndex(savedFilterRepository, taskRepository,
+                new TagIndex(taskRepository));
+        assertThat(index.slice(percentFilter, 0, 10).orElseThrow().ids()).containsExactly(percent);
+        assertThat(index.slice(underscoreFilter, 0, 10).orElseThrow().ids()).containsExactly(underscore);
+
+        // When
+        Task added = entityManager.persistAndFlush(task("Cut 50% of the costs"));
+        Task lookalike = entityManager.persistAndFlush(task("Plan 5000 runs, abbie"));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(added)));
+        index.onTaskChanged(TaskChangedEvent.created(TaskSnapshot.of(lookalike)));
+
+        // Then
+        assertThat(index.slice(percentFilter, 0, 10).orElseThrow().ids())
+                .containsExactlyInAnyOrder(percent, added.getId());
+        assertThat(index.slice(underscoreFilter, 0, 10).orElseThrow().ids()).containsExactly(underscore);
+        assertThat(taskRepository.findSavedFilterRows("50%", null, null, null, null))
+                .extracting(row -> row[0])
+                .containsExactlyInAnyOrder(percent, added.getId());
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        return task;
+    }
+
+    private static SavedFilter savedFilter(String search) {
+        SavedFilter filter = new SavedFilter();
+        filter.setName("Search " + search);
+        filter.setSearch(search);
+        filter.setCreatedAt(LocalDateTime.now());
+        return filter;
+    }
 }
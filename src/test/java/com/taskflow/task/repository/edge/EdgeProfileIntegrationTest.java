@@ -0,0 +1,81 @@
+package com.taskflow.task.repository.edge;
+
+import com.taskflow.task.dto.TaskProgressDto;
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.repository.TaskRepository;
+import com.taskflow.task.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application with the edge profile, where no DataSource exists,
+ * and drives the service layer against the embedded store.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "edge"})
+class EdgeProfileIntegrationTest {
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("taskflow.storage.directory", directory::toString);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void shouldServeTasksAndHierarchyFromEmbeddedStore() {
+        // Given
+        assertThat(taskRepository).isInstanceOf(LogStructuredTaskRepository.class);
+        TaskResponseDto parent = taskService.createTask(request("Release", null));
+        TaskResponseDto child = taskService.createTask(request("Write notes", parent.getId()));
+        taskService.createTask(request("Tag build", child.getId()));
+
+        // When
+        taskService.toggleTaskCompletion(child.getId());
+        TaskProgressDto progress = taskService.getTaskProgress(parent.getId());
+
+        // Then
+        assertThat(progress.getTotalTasks()).isEqualTo(3);
+        assertThat(progress.getCompletedTasks()).isEqualTo(1);
+        assertThat(taskService.getSubtasks(parent.getId(), null))
+                .extracting(TaskResponseDto::getTitle)
+                .containsExactly("Write notes", "Tag build");
+
+        // When
+        taskService.deleteTask(parent.getId());
+
+        // Then
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    private TaskRequestDto request(String title, Long parentId) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(title);
+        request.setStatus(TaskStatus.PENDING);
+        request.setPriority(TaskPriority.MEDIUM);
+        request.setDueDate(LocalDate.now().plusDays(2));
+        request.setTags(Set.of("edge"));
+        request.setParentId(parentId);
+        return request;
+    }
+}
@@ -0,0 +1,312 @@
+package com.taskflow.task.repository.edge;
+
+import com.taskflow.storage.LogStructuredTaskStore;
+import com.taskflow.storage.StorageProperties;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@code TaskRepositoryTest} scenarios against the embedded store,
+ * plus its recovery and compaction behaviour
+ */
+class LogStructuredTaskRepositoryTest {
+    @TempDir
+    Path directory;
+
+    private StorageProperties properties;
+    private LogStructuredTaskStore store;
+    private LogStructuredTaskRepository taskRepository;
+
+    private Task testTask;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new StorageProperties();
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofKilobytes(256));
+        open();
+
+        testTask = new Task();
+        testTask.setTitle("Test Task");
+        testTask.setDescription("Test Description");
+        testTask.setStatus(TaskStatus.PENDING);
+        testTask.setPriority(TaskPriority.HIGH);
+        testTask.setDueDate(LocalDate.now().plusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void shouldSaveAndFindTask() {
+        // Given
+        Task savedTask = taskRepository.save(testTask);
+
+        // When
+        Task foundTask = taskRepository.findById(savedTask.getId()).orElse(null);
+
+        // Then
+        assertThat(foundTask).isNotNull();
+        assertThat(foundTask.getTitle()).isEqualTo("Test Task");
+        assertThat(foundTask.getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(foundTask.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(foundTask.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldFindTasksByStatus() {
+        // Given
+        taskRepository.save(testTask);
+        taskRepository.save(task("Completed Task", TaskStatus.COMPLETED, TaskPriority.LOW, null));
+
+        // When
+        Page<Task> pendingTasks = taskRepository.findByStatus(TaskStatus.PENDING, PageRequest.of(0, 10));
+        Page<Task> completedTasks = taskRepository.findByStatus(TaskStatus.COMPLETED, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(pendingTasks.getContent()).hasSize(1);
+        assertThat(pendingTasks.getContent().get(0).getTitle()).isEqualTo("Test Task");
+
+        assertThat(completedTasks.getContent()).hasSize(1);
+        assertThat(completedTasks.getContent().get(0).getTitle()).isEqualTo("Completed Task");
+    }
+
+    @Test
+    void shouldFindOverdueTasks() {
+        // Given
+        taskRepository.save(task("Overdue Task", TaskStatus.PENDING, TaskPriority.HIGH, LocalDate.now().minusDays(1)));
+        taskRepository.save(testTask); // Future due date
+
+        // When
+        List<Task> overdueTasks = taskRepository.findOverdueTasks(LocalDate.now(), TaskStatus.PENDING);
+
+        // Then
+        assertThat(overdueTasks).hasSize(1);
+        assertThat(overdueTasks.get(0).getTitle()).isEqualTo("Overdue Task");
+    }
+
+    @Test
+    void shouldSearchTasksByTitleAndDescription() {
+        // Given
+        taskRepository.save(testTask);
+        Task anotherTask = task("Different Title", TaskStatus.PENDING, TaskPriority.MEDIUM, null);
+        anotherTask.setDescription("Test content in description");
+        taskRepository.save(anotherTask);
+
+        // When
+        Page<Task> searchResults = taskRepository
+                .findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase("test", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(searchResults.getContent()).hasSize(2);
+    }
+
+    @Test
+    void shouldCountTasksByStatus() {
+        // Given
+        taskRepository.save(testTask);
+        taskRepository.save(task("Completed Task", TaskStatus.COMPLETED, TaskPriority.LOW, null));
+
+        // When
+        long pendingCount = taskRepository.countByStatus(TaskStatus.PENDING);
+        long completedCount = taskRepository.countByStatus(TaskStatus.COMPLETED);
+
+        // Then
+        assertThat(pendingCount).isEqualTo(1);
+        assertThat(completedCount).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSortByPriorityOrderValue() {
+        // Given
+        for (TaskPriority priority : List.of(TaskPriority.LOW, TaskPriority.HIGH, TaskPriority.MEDIUM)) {
+            taskRepository.save(task(priority.getDisplayName() + " Task", TaskStatus.PENDING, priority, null));
+        }
+
+        // When
+        Page<Task> tasks = taskRepository.findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "priority")));
+
+        // Then
+        assertThat(tasks.getContent())
+                .extracting(Task::getPriority)
+                .containsExactly(TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW);
+    }
+
+    @Test
+    void shouldCountFacetsInOneGroupedQuery() {
+        // Given
+        taskRepository.save(testTask); // PENDING, HIGH, due tomorrow
+        taskRepository.save(task("Overdue Task", TaskStatus.PENDING, TaskPriority.HIGH, LocalDate.now().minusDays(3)));
+        taskRepository.save(task("Completed Task", TaskStatus.COMPLETED, TaskPriority.LOW, null));
+        LocalDate today = LocalDate.now();
+
+        // When
+        List<Object[]> rows = taskRepository.countFacets(
+                null, null, TaskPriority.HIGH, null, null, today, today.plusDays(7));
+
+        // Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row[0]).isEqualTo(TaskStatus.PENDING);
+            assertThat(row[1]).isEqualTo(TaskPriority.HIGH);
+            assertThat(((Number) row[3]).longValue()).isEqualTo(1L);
+        });
+        assertThat(rows).extracting(row -> ((Number) row[2]).intValue())
+                .containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    void shouldPageFilteredResultsWithStableOrder() {
+        // Given
+        for (int i = 0; i < 25; i++) {
+            taskRepository.save(task("Task " + i, TaskStatus.PENDING, TaskPriority.MEDIUM,
+                    LocalDate.now().plusDays(i % 5)));
+        }
+
+        // When
+        Page<Task> page = taskRepository.findTasksWithFilters(null, TaskStatus.PENDING, null,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(3),
+                PageRequest.of(1, 10, Sort.by("dueDate").and(Sort.by("id"))));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(15);
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allMatch(task -> task.getDueDate().equals(LocalDate.now().plusDays(3)));
+    }
+
+    @Test
+    void shouldRecoverStateByReplayingTheLog() throws IOException {
+        // Given
+        Task saved = taskRepository.save(testTask);
+        saved.setTags(Set.of("edge", "wal"));
+        saved.markAsCompleted();
+        taskRepository.save(saved);
+        Task deleted = taskRepository.save(task("Deleted Task", TaskStatus.PENDING, TaskPriority.LOW, null));
+        taskRepository.deleteById(deleted.getId());
+
+        // When
+        reopen();
+
+        // Then
+        assertThat(taskRepository.count()).isEqualTo(1);
+        Task recovered = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(recovered.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(recovered.getTags()).containsExactlyInAnyOrder("edge", "wal");
+        assertThat(recovered.getDueDate()).isEqualTo(testTask.getDueDate());
+        // IDs are never reused, even for deleted tasks
+        assertThat(taskRepository.save(task("New Task", TaskStatus.PENDING, TaskPriority.LOW, null)).getId())
+                .isGreaterThan(deleted.getId());
+    }
+
+    @Test
+    void shouldCompactIntoSnapshotAndReplayLaterWrites() throws IOException {
+        // Given
+        for (int i = 0; i < 2_000; i++) {
+            taskRepository.save(task("Task " + i, TaskStatus.PENDING, TaskPriority.MEDIUM, null));
+        }
+        taskRepository.deleteAllById(List.of(1L, 2L, 3L));
+
+        // When
+        store.compact();
+        taskRepository.save(task("After snapshot", TaskStatus.COMPLETED, TaskPriority.HIGH, null));
+        reopen();
+
+        // Then
+        assertThat(files(".wal")).hasSize(1);
+        assertThat(files(".snap")).hasSize(1);
+        assertThat(taskRepository.count()).isEqualTo(1_998);
+        assertThat(taskRepository.countByStatus(TaskStatus.COMPLETED)).isEqualTo(1);
+        assertThat(taskRepository.existsById(1L)).isFalse();
+    }
+
+    @Test
+    void shouldDiscardTornTailOnRecovery() throws IOException {
+        // Given
+        taskRepository.save(task("First", TaskStatus.PENDING, TaskPriority.LOW, null));
+        taskRepository.save(task("Second", TaskStatus.PENDING, TaskPriority.LOW, null));
+        store.close();
+        try (RandomAccessFile file = new RandomAccessFile(files(".wal").get(0).toFile(), "rw")) {
+            int firstLength = file.readInt();
+            // Flip a byte inside the second record's payload
+            file.seek(8L + firstLength + 8L + 20L);
+            file.writeByte(0x7f);
+        }
+
+        // When
+        open();
+        taskRepository.save(task("Third", TaskStatus.PENDING, TaskPriority.LOW, null));
+        reopen();
+
+        // Then
+        assertThat(taskRepository.findAll()).extracting(Task::getTitle).containsExactly("First", "Third");
+    }
+
+    @Test
+    void shouldSelectOnlyTheRequestedColumns() {
+        // Given
+        Task savedTask = taskRepository.save(testTask);
+        Task otherTask = taskRepository.save(task("Other Task", TaskStatus.COMPLETED, TaskPriority.LOW, null));
+
+        // When
+        Page<Object[]> rows = taskRepository.findTaskColumns(List.of("id", "title", "dueDate"),
+                "test", TaskStatus.PENDING, null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("id")));
+        Page<Object[]> ids = taskRepository.findTaskColumns(List.of("id"),
+                null, null, null, null, null, null, savedTask.getId(), null, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(rows.getTotalElements()).isEqualTo(1);
+        assertThat(rows.getContent().get(0))
+                .containsExactly(savedTask.getId(), "Test Task", testTask.getDueDate());
+        assertThat(ids.getContent()).hasSize(1);
+        assertThat(ids.getContent().get(0)).containsExactly(otherTask.getId());
+    }
+
+    private void open() throws IOException {
+        store = new LogStructuredTaskStore(properties);
+        store.open();
+        taskRepository = new LogStructuredTaskRepository(store);
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        open();
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private Task task(String title, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
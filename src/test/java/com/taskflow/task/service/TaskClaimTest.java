@@ -0,0 +1,148 @@
+package com.taskflow.task.service;
+
+import com.taskflow.task.dto.TaskClaimDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Claims are made in the database, so they hold against workers on other
+ * instances, which share the table but not the next-up index
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class,
+        NextUpIndex.class})
+class TaskClaimTest {
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NextUpIndex nextUpIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        nextUpIndex.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSkipTasksClaimedByAnotherInstance() {
+        // Given
+        List<Long> ids = save(TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                taskRepository.claimTasks(List.of(ids.get(0)), "other-node-worker", now.plus(LEASE), now));
+
+        // When
+        List<TaskClaimDto> claimed = taskService.claimNextTasks(1, "worker-a", LEASE);
+
+        // Then
+        assertThat(claimed).extracting(claim -> claim.getTask().getId()).containsExactly(ids.get(1));
+        assertThat(taskService.getNextTasks(3)).extracting(TaskResponseDto::getId).containsExactly(ids.get(2));
+        assertThat(taskRepository.findById(ids.get(1)).orElseThrow().getClaimedBy()).isEqualTo("worker-a");
+    }
+
+    @Test
+    void shouldReleaseOnlyTheHoldersClaim() {
+        // Given
+        List<Long> ids = save(TaskPriority.HIGH);
+        taskService.claimNextTasks(1, "worker-a", LEASE);
+
+        // When
+        boolean releasedByOther = taskService.releaseTaskClaim(ids.get(0), "worker-b");
+        boolean releasedByHolder = taskService.releaseTaskClaim(ids.get(0), "worker-a");
+
+        // Then
+        assertThat(releasedByOther).isFalse();
+        assertThat(releasedByHolder).isTrue();
+        assertThat(taskService.claimNextTasks(1, "worker-b", LEASE))
+                .extracting(claim -> claim.getTask().getId()).containsExactly(ids.get(0));
+    }
+
+    @Test
+    void shouldNeverHandOutTheSameTaskTwice() throws Exception {
+        // Given
+        TaskPriority[] priorities = new TaskPriority[100];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = TaskPriority.values()[i % 3];
+        }
+        List<Long> ids = save(priorities);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<List<TaskClaimDto>>> results = new ArrayList<>();
+        for (int worker = 0; worker < 10; worker++) {
+            String name = "worker-" + worker;
+            results.add(executor.submit(() -> taskService.claimNextTasks(10, name, LEASE)));
+        }
+        Set<Long> claimed = new HashSet<>();
+        int total = 0;
+        for (Future<List<TaskClaimDto>> result : results) {
+            List<TaskClaimDto> claims = result.get();
+            claims.forEach(claim -> claimed.add(claim.getTask().getId()));
+            total += claims.size();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(total).isEqualTo(ids.size());
+        assertThat(claimed).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(taskService.getNextTasks(10)).isEmpty();
+    }
+
+    private List<Long> save(TaskPriority... priorities) {
+        List<Task> tasks = new ArrayList<>();
+        for (TaskPriority priority : priorities) {
+            Task task = new Task();
+            task.setTitle("Task " + tasks.size());
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(priority);
+            tasks.add(task);
+        }
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+}
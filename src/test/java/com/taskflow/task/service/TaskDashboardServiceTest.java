@@ -0,0 +1,121 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.exception.DeadlineExceededException;
+import com.taskflow.task.dto.TaskDashboardDto;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDashboardServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private final DashboardProperties properties = new DashboardProperties();
+    private TaskDashboardService dashboardService;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        properties.setTimeout(Duration.ofMillis(300));
+        dashboardService = new TaskDashboardService(taskService, properties);
+        dashboardService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        dashboardService.stop();
+    }
+
+    @Test
+    void shouldFetchAllPartsTogether() {
+        // Given
+        TaskResponseDto task = task(1L);
+        when(taskService.getTaskStatistics()).thenReturn(new TaskService.TaskStatisticsDto(1, 1, 0, 1, 1));
+        when(taskService.getOverdueTasks(5)).thenReturn(List.of(task));
+        when(taskService.getTasks(any(TaskFilterDto.class))).thenReturn(new PageImpl<>(List.of(task)));
+
+        // When
+        TaskDashboardDto dashboard = dashboardService.getDashboard(5);
+
+        // Then
+        assertThat(dashboard.getStatistics().getTotalTasks()).isEqualTo(1);
+        assertThat(dashboard.getOverdueTasks()).containsExactly(task);
+        assertThat(dashboard.getHighPriorityTasks()).containsExactly(task);
+        assertThat(dashboard.getRecentTasks()).containsExactly(task);
+        assertThat(dashboard.getIncompleteParts()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnPartialDashboardWhenPartMissesBudget() {
+        // Given
+        when(taskService.getTaskStatistics()).thenReturn(new TaskService.TaskStatisticsDto(1, 1, 0, 1, 1));
+        when(taskService.getOverdueTasks(5)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(task(1L));
+        });
+        when(taskService.getTasks(any(TaskFilterDto.class))).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        long start = System.nanoTime();
+        TaskDashboardDto dashboard = dashboardService.getDashboard(5);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(dashboard.getStatistics()).isNotNull();
+        assertThat(dashboard.getOverdueTasks()).isEmpty();
+        assertThat(dashboard.getIncompleteParts()).containsExactly(
+                TaskDashboardDto.OVERDUE, TaskDashboardDto.HIGH_PRIORITY, TaskDashboardDto.RECENT);
+        assertThat(elapsedMillis).isLessThan(2000);
+    }
+
+    @Test
+    void shouldMarkListPartsIncompleteWhenTheirQueriesTimeOut() {
+        // Given
+        when(taskService.getTaskStatistics()).thenReturn(new TaskService.TaskStatisticsDto(1, 1, 0, 1, 1));
+        when(taskService.getOverdueTasks(5)).thenReturn(List.of(task(1L)));
+        when(taskService.getTasks(any(TaskFilterDto.class)))
+                .thenThrow(new DeadlineExceededException(properties.getTimeout()));
+
+        // When
+        TaskDashboardDto dashboard = dashboardService.getDashboard(5);
+
+        // Then
+        assertThat(dashboard.getOverdueTasks()).hasSize(1);
+        assertThat(dashboard.getHighPriorityTasks()).isEmpty();
+        assertThat(dashboard.getRecentTasks()).isEmpty();
+        assertThat(dashboard.getIncompleteParts())
+                .containsExactly(TaskDashboardDto.HIGH_PRIORITY, TaskDashboardDto.RECENT);
+    }
+
+    @Test
+    void shouldRejectLimitAboveMaximum() {
+        // When & Then
+        assertThatThrownBy(() -> dashboardService.getDashboard(properties.getMaxLimit() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TaskResponseDto task(Long id) {
+        TaskResponseDto task = new TaskResponseDto();
+        task.setId(id);
+        return task;
+    }
+}
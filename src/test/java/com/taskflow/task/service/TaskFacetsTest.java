@@ -0,0 +1,114 @@
+package com.taskflow.task.service;
+
+import com.taskflow.task.dto.TaskFacetsDto;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskFacet;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import com.taskflow.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Facet counts are taken under the same criteria as the list they are shown with
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class,
+        NextUpIndex.class})
+class TaskFacetsTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ColumnarTaskIndex columnarIndex;
+
+    @BeforeEach
+    void setUp() {
+        columnarIndex.reset();
+        LocalDate today = LocalDate.now();
+        save("Alpha", TaskStatus.PENDING, TaskPriority.HIGH, today.minusDays(1));
+        save("Beta", TaskStatus.PENDING, TaskPriority.HIGH, today.plusDays(10));
+        save("Alpha done", TaskStatus.COMPLETED, TaskPriority.HIGH, today.minusDays(1));
+        save("Alpha low", TaskStatus.PENDING, TaskPriority.LOW, today.minusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void shouldCountTheHighShortcutLikeItsListWithSearchAndDueDates() {
+        // Given
+        TaskFilterDto filterDto = highShortcut();
+        filterDto.setSearch("alpha");
+        filterDto.setDueDateTo(LocalDate.now());
+
+        // When
+        Page<TaskResponseDto> page = taskService.getTasks(filterDto);
+        TaskFacetsDto facets = taskService.getTaskFacets(filterDto, EnumSet.of(TaskFacet.STATUS));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(total(facets)).isEqualTo(page.getTotalElements());
+    }
+
+    @Test
+    void shouldCountTheHighShortcutLikeItsListWithDueDatesOnly() {
+        // Given
+        TaskFilterDto filterDto = highShortcut();
+        filterDto.setDueDateTo(LocalDate.now());
+
+        // When
+        Page<TaskResponseDto> page = taskService.getTasks(filterDto);
+        TaskFacetsDto facets = taskService.getTaskFacets(filterDto, EnumSet.of(TaskFacet.STATUS));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(total(facets)).isEqualTo(page.getTotalElements());
+    }
+
+    private static TaskFilterDto highShortcut() {
+        TaskFilterDto filterDto = new TaskFilterDto();
+        filterDto.setCurrentFilter("high");
+        filterDto.setPriority(TaskPriority.HIGH);
+        return filterDto;
+    }
+
+    private static long total(TaskFacetsDto facets) {
+        return facets.getStatus().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private void save(String title, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        taskRepository.save(task);
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskflow.task.service;
+
+import com.taskflow.task.dto.TaskProgressDto;
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.repository.TaskClosureRepository;
+import com.taskflow.task.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class, NextUpIndex.class})
+class TaskHierarchyServiceTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskClosureRepository taskClosureRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldRollUpProgressWhenLeafIsToggled() {
+        // Given
+        TaskResponseDto root = create("Project", null);
+        TaskResponseDto child = create("Milestone", root.getId());
+        TaskResponseDto leaf = create("Step", child.getId());
+        create("Other step", child.getId());
+
+        // When
+        taskService.toggleTaskCompletion(leaf.getId());
+        refresh();
+
+        // Then
+        TaskProgressDto rootProgress = taskService.getTaskProgress(root.getId());
+        assertThat(rootProgress.getTotalTasks()).isEqualTo(4);
+        assertThat(rootProgress.getCompletedTasks()).isEqualTo(1);
+        assertThat(rootProgress.getPercentComplete()).isEqualTo(25.0);
+        assertThat(taskService.getTaskProgress(child.getId()).getCompletedTasks()).isEqualTo(1);
+        assertThat(taskService.getTaskProgress(leaf.getId()).getPercentComplete()).isEqualTo(100.0);
+    }
+
+    @Test
+    void shouldListSubtreeNearestFirst() {
+        // Given
+        TaskResponseDto root = create("Project", null);
+        TaskResponseDto child = create("Milestone", root.getId());
+        TaskResponseDto leaf = create("Step", child.getId());
+
+        // When
+        List<TaskResponseDto> all = taskService.getSubtasks(root.getId(), null);
+        List<TaskResponseDto> direct = taskService.getSubtasks(root.getId(), 1);
+
+        // Then
+        assertThat(all).extracting(TaskResponseDto::getId).containsExactly(child.getId(), leaf.getId());
+        assertThat(direct).extracting(TaskResponseDto::getId).containsExactly(child.getId());
+    }
+
+    @Test
+    void shouldMoveSubtreeAndAdjustBothAncestries() {
+        // Given
+        TaskResponseDto oldRoot = create("Old project", null);
+        TaskResponseDto newRoot = create("New project", null);
+        TaskResponseDto child = create("Milestone", oldRoot.getId());
+        TaskResponseDto leaf = create("Step", child.getId());
+        taskService.toggleTaskCompletion(leaf.getId());
+
+        // When
+        taskService.moveTask(child.getId(), newRoot.getId());
+        refresh();
+
+        // Then
+        assertThat(taskService.getTaskProgress(oldRoot.getId()).getTotalTasks()).isEqualTo(1);
+        assertThat(taskService.getTaskProgress(oldRoot.getId()).getCompletedTasks()).isZero();
+        assertThat(taskService.getTaskProgress(newRoot.getId()).getTotalTasks()).isEqualTo(3);
+        assertThat(taskService.getTaskProgress(newRoot.getId()).getCompletedTasks()).isEqualTo(1);
+        assertThat(taskService.getSubtasks(newRoot.getId(), null))
+                .extracting(TaskResponseDto::getId).containsExactly(child.getId(), leaf.getId());
+        assertThat(taskService.getSubtasks(oldRoot.getId(), null)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectMoveUnderOwnDescendant() {
+        // Given
+        TaskResponseDto root = create("Project", null);
+        TaskResponseDto child = create("Milestone", root.getId());
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.moveTask(root.getId(), child.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDeleteSubtreeAndRollDownAncestors() {
+        // Given
+        TaskResponseDto root = create("Project", null);
+        TaskResponseDto child = create("Milestone", root.getId());
+        TaskResponseDto leaf = create("Step", child.getId());
+
+        // When
+        taskService.deleteTask(child.getId());
+        refresh();
+
+        // Then
+        assertThat(taskRepository.existsById(leaf.getId())).isFalse();
+        assertThat(taskService.getTaskProgress(root.getId()).getTotalTasks()).isEqualTo(1);
+        assertThat(taskClosureRepository.count()).isEqualTo(1);
+    }
+
+    private TaskResponseDto create(String title, Long parentId) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(title);
+        request.setStatus(TaskStatus.PENDING);
+        request.setPriority(TaskPriority.MEDIUM);
+        request.setParentId(parentId);
+        return taskService.createTask(request);
+    }
+
+    // Counters are maintained by bulk updates; drop stale managed copies
+    private void refresh() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
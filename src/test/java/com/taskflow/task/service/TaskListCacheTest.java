@@ -0,0 +1,75 @@
+package com.taskflow.task.service;
+
+import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.event.TaskSnapshot;
+import com.taskflow.task.event.TaskWriteVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListCacheTest {
+
+    private final TaskWriteVersion writeVersion = new TaskWriteVersion();
+    private final TaskListCache cache = new TaskListCache(writeVersion, new TaskListCacheProperties(),
+            new SimpleMeterRegistry());
+
+    @Test
+    void shouldServeListUntilATaskWithItsStatusChanges() {
+        // Given
+        TaskListCache.Key pending = key(TaskStatus.PENDING);
+        TaskListCache.Key all = key(null);
+        cache.put(pending, cache.currentVersion(pending), List.of(3L, 1L), 2);
+        cache.put(all, cache.currentVersion(all), List.of(3L, 2L, 1L), 3);
+
+        // When
+        writeVersion.onTaskChanged(TaskChangedEvent.updated(
+                TaskSnapshot.of(task(2L, TaskStatus.COMPLETED)), TaskSnapshot.of(task(2L, TaskStatus.COMPLETED))));
+
+        // Then
+        TaskListCache.Entry hit = cache.get(pending);
+        assertThat(hit).isNotNull();
+        assertThat(hit.ids()).containsExactly(3L, 1L);
+        assertThat(hit.total()).isEqualTo(2);
+        assertThat(cache.get(all)).isNull();
+
+        writeVersion.onTaskChanged(TaskChangedEvent.updated(
+                TaskSnapshot.of(task(2L, TaskStatus.COMPLETED)), TaskSnapshot.of(task(2L, TaskStatus.PENDING))));
+        assertThat(cache.get(pending)).isNull();
+    }
+
+    @Test
+    void shouldNotStoreListReadBeforeAWrite() {
+        // Given
+        TaskListCache.Key pending = key(TaskStatus.PENDING);
+        long version = cache.currentVersion(pending);
+
+        // When
+        writeVersion.advance();
+        cache.put(pending, version, List.of(1L), 1);
+
+        // Then
+        assertThat(cache.get(pending)).isNull();
+    }
+
+    private static TaskListCache.Key key(TaskStatus status) {
+        return new TaskListCache.Key(null, status, null, null, null, Set.of(), Set.of(), Set.of(),
+                Sort.by(Sort.Direction.DESC, "createdAt"), 0, 20);
+    }
+
+    private static Task task(Long id, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setPriority(TaskPriority.MEDIUM);
+        return task;
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskflow.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.common.jdbc.QueryStats;
+import com.taskflow.common.jdbc.QueryStatsDataSourcePostProcessor;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskField;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Response bytes and rows read for a full task page against a sparse one
+ * ({@code fields=title,status,priority,dueDate}). Run with
+ * {@code gradle benchmark}; excluded from {@code test}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class,
+        NextUpIndex.class, QueryStatsDataSourcePostProcessor.class})
+class TaskListPayloadBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskListPayloadBenchmarkTest.class);
+    private static final int TASKS = 2_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int DESCRIPTION_LENGTH = 600;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void compareFullAndSparsePages() throws Exception {
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(task(i));
+        }
+        Set<TaskField> sparse = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS,
+                TaskField.PRIORITY, TaskField.DUE_DATE);
+
+        long fullBytes = measure("full", null);
+        long sparseBytes = measure("sparse", sparse);
+
+        log.warn("description bytes not read per sparse page: {}", PAGE_SIZE * DESCRIPTION_LENGTH);
+        log.warn("response bytes saved per page: {} ({}%)", fullBytes - sparseBytes,
+                Math.round(100.0 * (fullBytes - sparseBytes) / fullBytes));
+        assertThat(sparseBytes).isLessThan(fullBytes);
+    }
+
+    private long measure(String name, Set<TaskField> fields) throws Exception {
+        int pages = TASKS / PAGE_SIZE;
+        long bytes = 0;
+        long start = System.nanoTime();
+        try (QueryStats stats = QueryStats.open()) {
+            for (int page = 0; page < pages; page++) {
+                TaskFilterDto filter = new TaskFilterDto();
+                filter.setPage(page);
+                filter.setSize(PAGE_SIZE);
+                filter.setFields(fields);
+                Page<TaskResponseDto> result = taskService.getTasks(filter);
+                Object body = fields == null ? result : result.map(task -> TaskField.select(task, fields));
+                bytes += objectMapper.writeValueAsBytes(body).length;
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / pages;
+            log.warn("{} page: {} bytes, {} statements, {} rows, {} ms", String.format("%-6s", name),
+                    bytes / pages, stats.getStatements() / pages, stats.getRows() / pages,
+                    String.format("%.2f", millis));
+        }
+        return bytes / pages;
+    }
+
+    private static TaskRequestDto task(int i) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle("Task " + i);
+        request.setDescription("d".repeat(DESCRIPTION_LENGTH));
+        request.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        request.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+        request.setDueDate(LocalDate.now().plusDays(i % 60 - 10));
+        request.setTags(Set.of("tag" + i % 7));
+        return request;
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskflow.task.service;
+
+import com.taskflow.common.jdbc.QueryStatsDataSourcePostProcessor;
+import com.taskflow.common.jdbc.SqlBudget;
+import com.taskflow.common.jdbc.SqlBudgetExtension;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskRequestDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.enums.TaskField;
+import com.taskflow.task.enums.TaskPriority;
+import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.TaskIdIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets of the main TaskService operations; a change that adds
+ * queries per call fails here
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskServiceImpl.class, TaskHierarchyService.class, TagIndex.class, ColumnarTaskIndex.class, TaskIdIndex.class,
+        NextUpIndex.class, QueryStatsDataSourcePostProcessor.class})
+@ExtendWith(SqlBudgetExtension.class)
+class TaskServiceSqlBudgetTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private TaskResponseDto parent;
+    private TaskResponseDto child;
+
+    @BeforeEach
+    void setUp() {
+        parent = create("Release", LocalDate.now().minusDays(1));
+        child = create("Changelog", LocalDate.now().minusDays(2));
+        taskService.moveTask(child.getId(), parent.getId());
+        for (int i = 0; i < 5; i++) {
+            create("Chore " + i, null);
+        }
+        // Load the in-memory indexes, which happens once per process rather than per call
+        taskService.getTaskStatistics();
+        taskService.getTaskById(parent.getId());
+    }
+
+    @Test
+    @SqlBudget(statements = 0)
+    void shouldAnswerStatisticsFromMemory() {
+        // When
+        TaskService.TaskStatisticsDto statistics = taskService.getTaskStatistics();
+
+        // Then
+        assertThat(statistics.getTotalTasks()).isGreaterThanOrEqualTo(7);
+    }
+
+    @Test
+    @SqlBudget(statements = 2)
+    void shouldGetTaskById() {
+        // When
+        TaskResponseDto task = taskService.getTaskById(parent.getId());
+
+        // Then
+        assertThat(task.getTags()).containsExactly("work");
+    }
+
+    @Test
+    @SqlBudget(statements = 2)
+    void shouldGetFilteredPageWithoutQueryPerRow() {
+        // Given
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setPriority(TaskPriority.HIGH);
+        filter.setSize(50);
+
+        // When
+        Page<TaskResponseDto> page = taskService.getTasks(filter);
+
+        // Then
+        assertThat(page.getContent()).allSatisfy(task -> {
+            assertThat(task.getDescription()).startsWith("Details of");
+            assertThat(task.getTags()).contains("work");
+        });
+    }
+
+    @Test
+    @SqlBudget(statements = 1)
+    void shouldReadOnlyTheTaskRowsForSparsePage() {
+        // Given
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setPriority(TaskPriority.HIGH);
+        filter.setSize(50);
+        filter.setFields(EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS, TaskField.DUE_DATE));
+
+        // When
+        Page<TaskResponseDto> page = taskService.getTasks(filter);
+
+        // Then
+        assertThat(page.getContent()).isNotEmpty().allSatisfy(task -> {
+            assertThat(task.getTitle()).isNotNull();
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.PENDING);
+            assertThat(task.getDescription()).isNull();
+            assertThat(task.getTags()).isNull();
+        });
+    }
+
+    @Test
+    @SqlBudget(statements = 2)
+    void shouldGetOverdueTasks() {
+        // When
+        List<TaskResponseDto> overdue = taskService.getOverdueTasks();
+
+        // Then
+        assertThat(overdue).extracting(TaskResponseDto::getId).contains(child.getId(), parent.getId());
+    }
+
+    @Test
+    @SqlBudget(statements = 2)
+    void shouldReadTagsOfSparseOverdueTasksInOneStatement() {
+        // When
+        List<TaskResponseDto> overdue = taskService.getOverdueTasks(Integer.MAX_VALUE,
+                EnumSet.of(TaskField.ID, TaskField.OVERDUE, TaskField.TAGS));
+
+        // Then
+        assertThat(overdue).extracting(TaskResponseDto::getId).contains(child.getId(), parent.getId());
+        assertThat(overdue).allSatisfy(task -> {
+            assertThat(task.isOverdue()).isTrue();
+            assertThat(task.getTags()).containsExactly("work");
+            assertThat(task.getTitle()).isNull();
+        });
+    }
+
+    @Test
+    @SqlBudget(statements = 12)
+    void shouldDeleteTaskWithSubtasks() {
+        // When
+        taskService.deleteTask(parent.getId());
+
+        // Then
+        assertThat(taskService.getTasksByIds(List.of(parent.getId(), child.getId())).getTasks()).isEmpty();
+    }
+
+    private TaskResponseDto create(String title, LocalDate dueDate) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(title);
+        request.setStatus(TaskStatus.PENDING);
+        request.setPriority(TaskPriority.HIGH);
+        request.setDescription("Details of " + title);
+        request.setDueDate(dueDate);
+        request.setTags(Set.of("work"));
+        return taskService.createTask(request);
+    }
+}
@@ -1,12 +1,23 @@
 package com.taskflow.task.service;
 
+import com.taskflow.common.bitmap.RoaringBitmap;
 import com.taskflow.common.exception.TaskNotFoundException;
+import com.taskflow.task.archive.TaskArchiveService;
+import com.taskflow.task.dto.TaskBatchResponseDto;
 import com.taskflow.task.dto.TaskFilterDto;
 import com.taskflow.task.dto.TaskRequestDto;
 import com.taskflow.task.dto.TaskResponseDto;
 import com.taskflow.task.entity.Task;
+import com.taskflow.task.enums.DueBucket;
+import com.taskflow.task.enums.TaskField;
 import com.taskflow.task.enums.TaskPriority;
 import com.taskflow.task.enums.TaskStatus;
+import com.taskflow.task.event.TaskChangedEvent;
+import com.taskflow.task.index.ColumnarTaskIndex;
+import com.taskflow.task.index.NextUpIndex;
+import com.taskflow.task.index.TagIndex;
+import com.taskflow.task.index.TaskCounts;
+import com.taskflow.task.index.TaskIdIndex;
 import com.taskflow.task.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,21 +25,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +56,30 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TagIndex tagIndex;
+
+    @Mock
+    private ColumnarTaskIndex columnarIndex;
+
+    @Mock
+    private TaskIdIndex taskIdIndex;
+
+    @Mock
+    private NextUpIndex nextUpIndex;
+
+    @Mock
+    private TaskHierarchyService hierarchyService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<TaskArchiveService> archiveService;
+
+    @Mock
+    private ObjectProvider<TaskListCache> listCache;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -60,6 +104,8 @@ class TaskServiceTest {
         taskRequestDto.setStatus(TaskStatus.PENDING);
         taskRequestDto.setPriority(TaskPriority.HIGH);
         taskRequestDto.setDueDate(LocalDate.now().plusDays(1));
+
+        lenient().when(taskIdIndex.mightExist(anyLong())).thenReturn(true);
     }
 
     @Test
@@ -95,6 +141,39 @@ class TaskServiceTest {
         verify(taskRepository).findById(1L);
     }
 
+    @Test
+    void shouldGetTasksByIdsInRequestOrder() {
+        // Given
+        Task otherTask = new Task();
+        otherTask.setId(3L);
+        otherTask.setTitle("Other Task");
+        otherTask.setStatus(TaskStatus.PENDING);
+        otherTask.setPriority(TaskPriority.LOW);
+        when(taskRepository.findByIdIn(List.of(3L, 2L, 1L))).thenReturn(List.of(testTask, otherTask));
+
+        // When
+        TaskBatchResponseDto result = taskService.getTasksByIds(List.of(3L, 2L, 1L, 3L));
+
+        // Then
+        assertThat(result.getTasks()).extracting(TaskResponseDto::getId).containsExactly(3L, 1L);
+        assertThat(result.getMissingIds()).containsExactly(2L);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldRejectTooManyIdsInBatch() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= TaskBatchResponseDto.MAX_IDS + 1; id++) {
+            ids.add(id);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTasksByIds(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void shouldThrowExceptionWhenTaskNotFound() {
         // Given
@@ -106,6 +185,18 @@ class TaskServiceTest {
                 .hasMessage("Task not found with ID: 1");
     }
 
+    @Test
+    void shouldNotQueryDatabaseForIdsKnownNotToExist() {
+        // Given
+        when(taskIdIndex.mightExist(42L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTaskById(42L))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessage("Task not found with ID: 42");
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void shouldUpdateTask() {
         // Given
@@ -130,20 +221,22 @@ class TaskServiceTest {
     @Test
     void shouldDeleteTask() {
         // Given
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
 
         // When
         taskService.deleteTask(1L);
 
         // Then
-        verify(taskRepository).existsById(1L);
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).delete(testTask);
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.ChangeType.DELETED
+                        && event.getBefore().getPriority() == TaskPriority.HIGH));
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentTask() {
         // Given
-        when(taskRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> taskService.deleteTask(1L))
@@ -219,6 +312,74 @@ class TaskServiceTest {
         verify(taskRepository, never()).findTasksWithFilters(any(), any(), any(), any(), any(), any(Pageable.class));
     }
 
+    @Test
+    void shouldReadThePageAfterTheCursorById() {
+        // Given
+        when(taskRepository.findTasksWithFiltersInIdRange(
+                any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(testTask), PageRequest.of(0, 20), 1));
+        TaskFilterDto filterDto = new TaskFilterDto();
+        filterDto.setStatus(TaskStatus.PENDING);
+        filterDto.setAfterId(51L);
+
+        // When
+        Page<TaskResponseDto> result = taskService.getTasks(filterDto);
+
+        // Then
+        assertThat(result.getContent()).extracting(TaskResponseDto::getId).containsExactly(1L);
+        verify(taskRepository).findTasksWithFiltersInIdRange(isNull(), eq(TaskStatus.PENDING), isNull(), isNull(),
+                isNull(), isNull(), eq(51L), eq(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"))));
+    }
+
+    @Test
+    void shouldApplyTheHighShortcutToCursorPagesWithAndWithoutFields() {
+        // Given
+        when(taskRepository.findTasksWithFiltersInIdRange(
+                any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        when(taskRepository.findTaskColumns(
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        TaskFilterDto filterDto = new TaskFilterDto();
+        filterDto.setCurrentFilter("high");
+        filterDto.setPriority(TaskPriority.HIGH);
+        filterDto.setSearch("release");
+        filterDto.setDueDateTo(LocalDate.now());
+        filterDto.setAfterId(51L);
+
+        // When
+        taskService.getTasks(filterDto);
+        filterDto.setFields(EnumSet.of(TaskField.ID, TaskField.TITLE));
+        taskService.getTasks(filterDto);
+
+        // Then
+        verify(taskRepository).findTasksWithFiltersInIdRange(isNull(), eq(TaskStatus.PENDING),
+                eq(TaskPriority.HIGH), isNull(), isNull(), isNull(), eq(51L), any(Pageable.class));
+        verify(taskRepository).findTaskColumns(any(), isNull(), eq(TaskStatus.PENDING), eq(TaskPriority.HIGH),
+                isNull(), isNull(), isNull(), isNull(), eq(51L), any(Pageable.class));
+    }
+
+    @Test
+    void shouldRejectCursorForOtherSorts() {
+        // Given
+        TaskFilterDto filterDto = new TaskFilterDto();
+        filterDto.setSortBy("title");
+        filterDto.setAfterId(51L);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTasks(filterDto)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPropagateQueryTimeoutInsteadOfReturningEmptyPage() {
+        // Given
+        when(taskRepository.findAll(any(Pageable.class))).thenThrow(new QueryTimeoutException("canceled"));
+        TaskFilterDto filterDto = new TaskFilterDto();
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTasks(filterDto)).isInstanceOf(QueryTimeoutException.class);
+    }
+
     @Test
     void shouldToggleTaskCompletion() {
         // Given
@@ -245,13 +406,14 @@ class TaskServiceTest {
         overdueTask.setCreatedAt(LocalDateTime.now());
         overdueTask.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findOverdueTasks(any(LocalDate.class), eq(TaskStatus.PENDING)))
-                .thenReturn(Arrays.asList(overdueTask));
+        when(columnarIndex.findOverdueIds(any(LocalDate.class))).thenReturn(new long[]{2L});
+        when(taskRepository.findByIdIn(List.of(2L))).thenReturn(Arrays.asList(overdueTask));
 
         // When
         List<TaskResponseDto> result = taskService.getOverdueTasks();
 
         // Then
+        verify(taskRepository, never()).findOverdueTasks(any(), any());
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTitle()).isEqualTo("Overdue Task");
         assertThat(result.get(0).isOverdue()).isTrue();
@@ -260,21 +422,74 @@ class TaskServiceTest {
     @Test
     void shouldGetTaskStatistics() {
         // Given
-        when(taskRepository.count()).thenReturn(10L);
-        when(taskRepository.countByStatus(TaskStatus.PENDING)).thenReturn(6L);
-        when(taskRepository.countByStatus(TaskStatus.COMPLETED)).thenReturn(4L);
-        when(taskRepository.countByPriority(TaskPriority.HIGH)).thenReturn(3L);
-        when(taskRepository.findOverdueTasks(any(LocalDate.class), eq(TaskStatus.PENDING)))
-                .thenReturn(Arrays.asList(testTask));
+        TaskCounts counts = mock(TaskCounts.class);
+        when(counts.total()).thenReturn(10L);
+        when(counts.count(TaskStatus.PENDING)).thenReturn(6L);
+        when(counts.count(TaskStatus.COMPLETED)).thenReturn(4L);
+        when(counts.count(TaskPriority.HIGH)).thenReturn(3L);
+        when(counts.count(TaskStatus.PENDING, DueBucket.PAST_DUE)).thenReturn(1L);
+        when(columnarIndex.count(any(LocalDate.class))).thenReturn(counts);
 
         // When
         TaskService.TaskStatisticsDto result = taskService.getTaskStatistics();
 
         // Then
+        verifyNoInteractions(taskRepository);
         assertThat(result.getTotalTasks()).isEqualTo(10L);
         assertThat(result.getPendingTasks()).isEqualTo(6L);
         assertThat(result.getCompletedTasks()).isEqualTo(4L);
         assertThat(result.getHighPriorityTasks()).isEqualTo(3L);
         assertThat(result.getOverdueTasks()).isEqualTo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPublishChangeEventWhenTaskCreated() {
+        // Given
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.createTask(taskRequestDto);
+
+        // Then
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void shouldResolveTagFiltersThroughTagIndex() {
+        // Given
+        when(tagIndex.evaluate(Set.of("backend", "urgent"), Set.of(), Set.of("blocked")))
+                .thenReturn(RoaringBitmap.of(1, 7));
+        when(taskRepository.findTasksWithFiltersAndIdIn(
+                any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(testTask)));
+
+        TaskFilterDto filterDto = new TaskFilterDto();
+        filterDto.setTags(Set.of("Backend", "urgent"));
+        filterDto.setNotTags(Set.of("blocked"));
+
+        // When
+        Page<TaskResponseDto> result = taskService.getTasks(filterDto);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(taskRepository).findTasksWithFiltersAndIdIn(
+                any(), any(), any(), any(), any(), eq(Arrays.asList(1L, 7L)), any(Pageable.class));
+        verify(taskRepository, never()).findTasksWithFilters(any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void shouldReturnEmptyPageWhenNoTaskMatchesTags() {
+        // Given
+        when(tagIndex.evaluate(any(), any(), any())).thenReturn(new RoaringBitmap());
+
+        TaskFilterDto filterDto = new TaskFilterDto();
+        filterDto.setAnyTags(Set.of("missing"));
+
+        // When
+        Page<TaskResponseDto> result = taskService.getTasks(filterDto);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(taskRepository);
+    }
+}
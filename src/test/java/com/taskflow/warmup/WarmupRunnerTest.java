@@ -0,0 +1,107 @@
+package com.taskflow.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.task.dto.TaskFilterDto;
+import com.taskflow.task.dto.TaskResponseDto;
+import com.taskflow.task.service.TaskListCache;
+import com.taskflow.task.service.TaskServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private TaskServiceImpl taskService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<TaskListCache> listCacheProvider;
+
+    @Mock
+    private TaskListCache listCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WarmupProperties properties = new WarmupProperties();
+
+    private WarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        runner = new WarmupRunner(taskService, properties, transactionManager,
+                new ObjectMapper().findAndRegisterModules(), meterRegistry, listCacheProvider);
+    }
+
+    @Test
+    void shouldReplayTheMixAgainstTheImplementationWithAnEmptyListCache() {
+        // Given
+        Map<WarmupOperation, Integer> mix = new EnumMap<>(WarmupOperation.class);
+        mix.put(WarmupOperation.LIST_ALL, 1);
+        mix.put(WarmupOperation.GET_BY_ID, 1);
+        properties.setMix(mix);
+        properties.setMinRounds(1);
+        properties.setMaxRounds(3);
+        properties.setStableRounds(10);
+        TaskResponseDto task = new TaskResponseDto();
+        task.setId(42L);
+        when(taskService.getTasks(any(TaskFilterDto.class)))
+                .thenReturn(new PageImpl<>(List.of(task), PageRequest.of(0, 20), 1));
+        when(taskService.getTaskById(42L)).thenReturn(task);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TaskListCache>>getArgument(0).accept(listCache);
+            return null;
+        }).when(listCacheProvider).ifAvailable(any());
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(taskService, times(3)).getTasks(any(TaskFilterDto.class));
+        verify(taskService, times(3)).getTaskById(42L);
+        // Before each of the six operations and once at the end
+        verify(listCache, times(7)).clear();
+        assertThat(meterRegistry.get("taskflow.warmup.rounds").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("taskflow.warmup.operations").gauge().value()).isEqualTo(6);
+        assertThat(meterRegistry.get("taskflow.warmup.stabilized").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldStopWhenEveryOperationOfARoundFails() {
+        // Given
+        properties.setMix(Map.of(WarmupOperation.STATISTICS, 2));
+        when(taskService.getTaskStatistics()).thenThrow(new IllegalStateException("database down"));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(taskService, times(2)).getTaskStatistics();
+        assertThat(meterRegistry.get("taskflow.warmup.rounds").gauge().value()).isZero();
+        assertThat(meterRegistry.get("taskflow.warmup.stabilized").gauge().value()).isZero();
+    }
+}